@@ -1,6 +1,7 @@
 package io.distributechsolutions.hris;
 
 import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.theme.Theme;
 
 import org.springframework.boot.SpringApplication;
@@ -13,6 +14,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * and some desktop browsers.
  *
  */
+@Push
 @SpringBootApplication
 @Theme(value = "whiz-services-hris")
 public class Application implements AppShellConfigurator {
@@ -0,0 +1,45 @@
+package io.distributechsolutions.hris.configs;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class PayrollConfig {
+    /**
+     * The single-threaded executor that runs the payroll jobs off the request thread, one run at a time.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor payrollJobExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(1);
+        threadPoolTaskExecutor.setMaxPoolSize(1);
+        threadPoolTaskExecutor.setQueueCapacity(10);
+        threadPoolTaskExecutor.setThreadNamePrefix("payroll-job-");
+        threadPoolTaskExecutor.initialize();
+
+        return threadPoolTaskExecutor;
+    }
+
+    /**
+     * The bounded worker pool where the payroll engine computes the employee chunks in parallel.
+     * When the queue is full, the submitting thread runs the chunk itself so no chunk is ever dropped.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor payrollWorkerExecutor(@Value("${payroll.engine.worker-count:4}") int workerCount,
+                                                        @Value("${payroll.engine.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(workerCount);
+        threadPoolTaskExecutor.setMaxPoolSize(workerCount);
+        threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
+        threadPoolTaskExecutor.setThreadNamePrefix("payroll-worker-");
+        threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolTaskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        threadPoolTaskExecutor.initialize();
+
+        return threadPoolTaskExecutor;
+    }
+}
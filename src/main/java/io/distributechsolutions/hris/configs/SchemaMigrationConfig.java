@@ -0,0 +1,95 @@
+package io.distributechsolutions.hris.configs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Brings the data of an existing database in line with the current schema. The migrations run once every bean is
+ * created, which is after Hibernate has updated the tables and before the web server accepts any request, and each of
+ * them checks whether it is still needed so they can run on every startup.
+ */
+@Configuration
+public class SchemaMigrationConfig implements SmartInitializingSingleton {
+    private final Logger logger = LoggerFactory.getLogger(SchemaMigrationConfig.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SchemaMigrationConfig(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            this.addEmployeePayrollCutOffConstraint();
+            this.moveTimesheetImagesOutOfTimesheetTable();
+        });
+    }
+
+    /**
+     * Adds the unique constraint on the employee and cut-off dates of the employee payroll, which the payroll upsert
+     * relies on. Hibernate can't add it while a cut-off of an employee was generated more than once by a previous
+     * version, so the duplicates are removed first, keeping the most recently updated record of each cut-off.
+     */
+    private void addEmployeePayrollCutOffConstraint() {
+        Integer constraintCount = jdbcTemplate.queryForObject("""
+                                                              SELECT COUNT(*) FROM pg_constraint
+                                                              WHERE conname = 'uk_employee_payroll_employee_cut_off'
+                                                              """, Integer.class);
+
+        if (constraintCount != null && constraintCount > 0) {
+            return;
+        }
+
+        int deletedCount = jdbcTemplate.update("""
+                                               DELETE FROM sg_hris_employee_payroll ep
+                                               USING (SELECT id, ROW_NUMBER() OVER (PARTITION BY employee_id, cut_off_from_date, cut_off_to_date
+                                                                                    ORDER BY date_and_time_updated DESC, date_and_time_created DESC, id) AS row_number
+                                                      FROM sg_hris_employee_payroll) ranked_payroll
+                                               WHERE ep.id = ranked_payroll.id
+                                                 AND ranked_payroll.row_number > 1
+                                               """);
+        jdbcTemplate.execute("""
+                             ALTER TABLE sg_hris_employee_payroll
+                             ADD CONSTRAINT uk_employee_payroll_employee_cut_off UNIQUE (employee_id, cut_off_from_date, cut_off_to_date)
+                             """);
+
+        logger.info(String.format("%s duplicate employee payroll record(s) removed and the cut-off constraint is added.", deletedCount));
+    }
+
+    /**
+     * Moves the images that are still stored in the timesheet table by a previous version into the image table.
+     * Each image keeps the id of its timesheet, which the timesheet then references, and the old column is dropped
+     * so that the timesheet rows no longer carry the image bytes.
+     */
+    private void moveTimesheetImagesOutOfTimesheetTable() {
+        Integer legacyColumnCount = jdbcTemplate.queryForObject("""
+                                                               SELECT COUNT(*) FROM information_schema.columns
+                                                               WHERE table_name = 'sg_hris_employee_timesheet'
+                                                                 AND column_name = 'timesheet_log_image'
+                                                               """, Integer.class);
+
+        if (legacyColumnCount == null || legacyColumnCount == 0) {
+            return;
+        }
+
+        int movedImageCount = jdbcTemplate.update("""
+                                                  INSERT INTO sg_hris_employee_timesheet_image (id, timesheet_image_data, created_by, date_and_time_created,
+                                                                                                updated_by, date_and_time_updated)
+                                                  SELECT id, timesheet_log_image, created_by, date_and_time_created, updated_by, date_and_time_updated
+                                                  FROM sg_hris_employee_timesheet
+                                                  WHERE timesheet_log_image IS NOT NULL
+                                                  """);
+        jdbcTemplate.update("UPDATE sg_hris_employee_timesheet SET timesheet_log_image_id = id WHERE timesheet_log_image IS NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE sg_hris_employee_timesheet DROP COLUMN timesheet_log_image");
+
+        logger.info(String.format("%s employee's timesheet image(s) moved to the timesheet image table.", movedImageCount));
+    }
+}
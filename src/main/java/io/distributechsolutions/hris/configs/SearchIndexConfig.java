@@ -0,0 +1,140 @@
+package io.distributechsolutions.hris.configs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Creates the PostgreSQL trigram (pg_trgm) GIN indexes behind the search boxes. The searches match the lower case
+ * value of each column with LIKE '%...%', which a B-tree index can't serve, while a trigram index on the same
+ * LOWER(column) expression can. The indexes are created once and skipped on the next startups. They are built with
+ * CREATE INDEX CONCURRENTLY, so the tables stay writable while the indexes of a large existing table are being built.
+ *
+ * The extension also provides the WORD_SIMILARITY function that ranks the employee and timesheet text searches. It
+ * needs a privileged database user to be created, so whether it is installed is checked before the web server starts,
+ * and the searches fall back to their unranked queries without it.
+ */
+@Configuration
+public class SearchIndexConfig implements SmartInitializingSingleton {
+    // The index name and the table and LOWER(column) expression that it covers.
+    private static final Map<String, String> TRIGRAM_INDEXES = Map.ofEntries(
+            Map.entry("idx_trgm_employee_number", "sg_hris_employee (LOWER(employee_number) gin_trgm_ops)"),
+            Map.entry("idx_trgm_employee_last_name", "sg_hris_employee (LOWER(last_name) gin_trgm_ops)"),
+            Map.entry("idx_trgm_employee_first_name", "sg_hris_employee (LOWER(first_name) gin_trgm_ops)"),
+            Map.entry("idx_trgm_employee_middle_name", "sg_hris_employee (LOWER(middle_name) gin_trgm_ops)"),
+            Map.entry("idx_trgm_user_account_username", "sg_hris_user_account (LOWER(username) gin_trgm_ops)"),
+            Map.entry("idx_trgm_user_account_email_address", "sg_hris_user_account (LOWER(email_address) gin_trgm_ops)"),
+            Map.entry("idx_trgm_employee_shift_schedule", "sg_hris_employee_shift_schedule (LOWER(shift_schedule) gin_trgm_ops)"),
+            Map.entry("idx_trgm_allowance_code", "sg_hris_allowance_benefits (LOWER(allowance_code) gin_trgm_ops)"),
+            Map.entry("idx_trgm_allowance_type", "sg_hris_allowance_benefits (LOWER(allowance_type) gin_trgm_ops)"),
+            Map.entry("idx_trgm_leave_benefits_code", "sg_hris_leave_benefits (LOWER(leave_code) gin_trgm_ops)"),
+            Map.entry("idx_trgm_leave_benefits_type", "sg_hris_leave_benefits (LOWER(leave_type) gin_trgm_ops)"),
+            Map.entry("idx_trgm_loan_deduction_type", "sg_hris_loan_deduction (LOWER(loan_type) gin_trgm_ops)"),
+            Map.entry("idx_trgm_loan_deduction_description", "sg_hris_loan_deduction (LOWER(loan_description) gin_trgm_ops)"),
+            Map.entry("idx_trgm_department_code", "sg_hris_department (LOWER(department_code) gin_trgm_ops)"),
+            Map.entry("idx_trgm_department_name", "sg_hris_department (LOWER(department_name) gin_trgm_ops)"),
+            Map.entry("idx_trgm_position_code", "sg_hris_position (LOWER(position_code) gin_trgm_ops)"),
+            Map.entry("idx_trgm_position_name", "sg_hris_position (LOWER(position_name) gin_trgm_ops)"),
+            Map.entry("idx_trgm_calendar_holiday_description", "sg_hris_calendar_holidays (LOWER(holiday_description) gin_trgm_ops)")
+    );
+
+    private final Logger logger = LoggerFactory.getLogger(SearchIndexConfig.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean trigramExtensionInstalled;
+
+    public SearchIndexConfig(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Checks if the pg_trgm extension is installed, so the text searches can be ranked with WORD_SIMILARITY.
+     *
+     * @return True if the extension is installed.
+     */
+    public boolean isTrigramExtensionInstalled() {
+        return trigramExtensionInstalled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        } catch (DataAccessException exception) {
+            logger.warn("The pg_trgm extension could not be created: ".concat(exception.getMessage()));
+        }
+
+        // The extension may have been installed by a database administrator even if this user can't create it.
+        Integer extensionCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_extension WHERE extname = 'pg_trgm'", Integer.class);
+        trigramExtensionInstalled = extensionCount != null && extensionCount > 0;
+
+        if (!trigramExtensionInstalled) {
+            // The searches still work without the extension, but unranked and without the trigram indexes.
+            logger.warn("The pg_trgm extension is not installed. The text searches are not ranked and the search indexes are not created.");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchIndexes() {
+        if (!trigramExtensionInstalled) {
+            return;
+        }
+
+        // CREATE INDEX CONCURRENTLY can't run inside a transaction block, so the indexes are built on one connection
+        // that is switched to auto-commit for the duration of the build.
+        int createdIndexCount = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            int indexCount = 0;
+
+            connection.setAutoCommit(true);
+
+            try (Statement statement = connection.createStatement();
+                 PreparedStatement invalidIndexStatement = connection.prepareStatement("""
+                                                                                        SELECT COUNT(*) FROM pg_index i
+                                                                                        JOIN pg_class c ON c.oid = i.indexrelid
+                                                                                        WHERE c.relname = ? AND NOT i.indisvalid
+                                                                                        """)) {
+                for (Map.Entry<String, String> trigramIndex : TRIGRAM_INDEXES.entrySet()) {
+                    String indexName = trigramIndex.getKey();
+
+                    try {
+                        // A concurrent build that failed or was interrupted leaves an invalid index behind, which
+                        // IF NOT EXISTS would skip on every startup, so it is dropped and built again.
+                        invalidIndexStatement.setString(1, indexName);
+
+                        try (ResultSet resultSet = invalidIndexStatement.executeQuery()) {
+                            if (resultSet.next() && resultSet.getInt(1) > 0) {
+                                logger.warn(String.format("The search index %s is invalid and will be rebuilt.", indexName));
+                                statement.execute("DROP INDEX CONCURRENTLY IF EXISTS ".concat(indexName));
+                            }
+                        }
+
+                        statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS ".concat(indexName).concat(" ON ").concat(trigramIndex.getValue().replace(" (", " USING gin (")));
+                        indexCount++;
+                    } catch (SQLException exception) {
+                        logger.warn(String.format("The search index %s could not be created: %s", indexName, exception.getMessage()));
+                    }
+                }
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+
+            return indexCount;
+        });
+
+        logger.info(String.format("%s of %s search index(es) are in place.", createdIndexCount, TRIGRAM_INDEXES.size()));
+    }
+}
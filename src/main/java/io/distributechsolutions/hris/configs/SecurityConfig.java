@@ -1,13 +1,21 @@
 package io.distributechsolutions.hris.configs;
 
 import com.vaadin.flow.spring.security.VaadinWebSecurity;
+import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.services.impls.admin.BoundedPasswordEncoder;
+import io.distributechsolutions.hris.services.impls.admin.CachedUserDetailsService;
 import io.distributechsolutions.hris.views.common.LoginView;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -19,33 +27,78 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 @EnableWebSecurity
 @Configuration
 public class SecurityConfig extends VaadinWebSecurity {
-    @Bean
-    public DataSource configureDataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName("org.postgresql.Driver");
-        dataSource.setUrl("jdbc:postgresql://localhost:5432/sg-hris");
-        dataSource.setUsername("postgres");
-        dataSource.setPassword("p@$$w0rd");
-
-        return dataSource;
-    }
+    private final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
 
+    /**
+     * Loads the user accounts for the login from the application's pooled data source, and caches them until the user
+     * record is changed or the cached account is older than the time to live.
+     */
     @Bean
-    public UserDetailsService jdbcUserDetailsService() {
+    public UserDetailsService jdbcUserDetailsService(DataSource dataSource,
+                                                     UserService userService,
+                                                     @Value("${security.user-details-cache.time-to-live-seconds:300}") long timeToLiveSeconds) {
         String usersByUsernameQuery = "SELECT username, password, is_account_active FROM sg_hris_user_account WHERE username = ? AND is_account_active = true";
         String rolesByUsernameQuery = "SELECT username, role FROM sg_hris_user_account WHERE username = ? AND is_account_active = true";
 
         JdbcUserDetailsManager jdbcUserDetailsManager = new JdbcUserDetailsManager();
-        jdbcUserDetailsManager.setDataSource(this.configureDataSource());
+        jdbcUserDetailsManager.setDataSource(dataSource);
         jdbcUserDetailsManager.setUsersByUsernameQuery(usersByUsernameQuery);
         jdbcUserDetailsManager.setAuthoritiesByUsernameQuery(rolesByUsernameQuery);
 
-        return jdbcUserDetailsManager;
+        return new CachedUserDetailsService(jdbcUserDetailsManager, userService, Duration.ofSeconds(timeToLiveSeconds));
+    }
+
+    /**
+     * The bounded executor where the passwords are hashed and verified, so the bcrypt work of a burst of logins or
+     * account creations can't take the CPU away from the request threads. Its queue and pool usage are published as
+     * the executor.* metrics (name = passwordHashingExecutor) at /actuator/metrics.
+     *
+     * A queued hash waits for every hash ahead of it, so the queue only holds as many hashes as the workers can finish
+     * within the timeout, going by the time of one hash at the configured bcrypt strength on this machine. A hash that
+     * doesn't fit is rejected right away instead of timing out after its caller has already waited.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(@Value("${security.password-hashing.worker-count:2}") int workerCount,
+                                                          @Value("${security.password-hashing.bcrypt-strength:12}") int bcryptStrength,
+                                                          @Value("${security.password-hashing.timeout-seconds:10}") long timeoutSeconds) {
+        long hashMillis = this.measureHashMillis(bcryptStrength);
+        int queueCapacity = (int) Math.max(0, workerCount * (timeoutSeconds * 1000 / hashMillis - 1));
+
+        logger.info(String.format("A password hash takes %s ms, so the password hashing queue holds %s hash(es).", hashMillis, queueCapacity));
+
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(workerCount);
+        threadPoolTaskExecutor.setMaxPoolSize(workerCount);
+        threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
+        threadPoolTaskExecutor.setThreadNamePrefix("password-hashing-");
+        threadPoolTaskExecutor.initialize();
+
+        return threadPoolTaskExecutor;
     }
 
+    /**
+     * The single password encoder of the application, used by the login and by the user account and password change
+     * forms. The bcrypt hashing runs on the password hashing executor.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(@Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+                                           @Value("${security.password-hashing.bcrypt-strength:12}") int bcryptStrength,
+                                           @Value("${security.password-hashing.timeout-seconds:10}") long timeoutSeconds) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), passwordHashingExecutor, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    /**
+     * Returns the time of one bcrypt hash at the given strength. The first hash warms up the hashing code and is not
+     * counted.
+     */
+    private long measureHashMillis(int bcryptStrength) {
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        bCryptPasswordEncoder.encode("password-hashing-benchmark");
+
+        long startTime = System.currentTimeMillis();
+        bCryptPasswordEncoder.encode("password-hashing-benchmark");
+
+        return Math.max(1, System.currentTimeMillis() - startTime);
     }
 
     @Override
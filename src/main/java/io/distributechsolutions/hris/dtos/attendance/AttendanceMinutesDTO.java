@@ -0,0 +1,21 @@
+package io.distributechsolutions.hris.dtos.attendance;
+
+/**
+ * The attendance of an employee over a range of days, in minutes per day. The element at index 0 of each array is the
+ * first day of the range, and a day is the day that the shift started on.
+ *
+ * @param workedMinutes - The regular minutes worked within the shift, up to the shift hours less the late and
+ *                        undertime minutes. Zero on a rest day.
+ * @param overtimeMinutes - The minutes worked after the end of the shift, or beyond eight hours without a shift.
+ * @param restDayMinutes - The minutes worked on a rest day, up to the shift hours.
+ * @param lateMinutes - The minutes between the start of the shift and the first time in of a working day.
+ * @param undertimeMinutes - The minutes between the last time out of a working day and the end of the shift.
+ * @param nightDifferentialMinutes - The minutes worked between 10 PM and 6 AM.
+ */
+public record AttendanceMinutesDTO(int[] workedMinutes,
+                                   int[] overtimeMinutes,
+                                   int[] restDayMinutes,
+                                   int[] lateMinutes,
+                                   int[] undertimeMinutes,
+                                   int[] nightDifferentialMinutes) {
+}
@@ -0,0 +1,12 @@
+package io.distributechsolutions.hris.dtos.attendance;
+
+import java.util.UUID;
+
+/**
+ * A read-only projection that pairs an employee number with the employee's id and the id of the employee's
+ * active shift schedule. The shift schedule id is null when the employee has no active shift.
+ */
+public record EmployeeActiveShiftDTO(String employeeNumber,
+                                     UUID employeeId,
+                                     UUID shiftScheduleId) {
+}
@@ -5,6 +5,7 @@ import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.UUID;
 
 public class EmployeeTimesheetDTO extends BaseDTO {
     private EmployeeDTO employeeDTO;
@@ -12,6 +13,7 @@ public class EmployeeTimesheetDTO extends BaseDTO {
     private LocalTime logTime;
     private String logDetail;
     private byte[] logImage;
+    private UUID logImageId;
     private String status;
     private EmployeeShiftScheduleDTO shiftScheduleDTO;
 
@@ -55,6 +57,14 @@ public class EmployeeTimesheetDTO extends BaseDTO {
         this.logImage = logImage;
     }
 
+    public UUID getLogImageId() {
+        return logImageId;
+    }
+
+    public void setLogImageId(UUID logImageId) {
+        this.logImageId = logImageId;
+    }
+
     public String getStatus() {
         return status;
     }
@@ -0,0 +1,8 @@
+package io.distributechsolutions.hris.dtos.attendance;
+
+/**
+ * A row of the timesheet import that has not been imported, with the reason why.
+ */
+public record EmployeeTimesheetImportErrorDTO(long rowNumber,
+                                              String message) {
+}
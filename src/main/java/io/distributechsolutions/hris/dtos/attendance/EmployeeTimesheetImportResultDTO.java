@@ -0,0 +1,13 @@
+package io.distributechsolutions.hris.dtos.attendance;
+
+import java.util.List;
+
+/**
+ * The result of a timesheet import. The error list only keeps the first errors of a large file,
+ * while the error row count covers every row that has not been imported.
+ */
+public record EmployeeTimesheetImportResultDTO(long totalRowCount,
+                                               long importedRowCount,
+                                               long errorRowCount,
+                                               List<EmployeeTimesheetImportErrorDTO> errors) {
+}
@@ -0,0 +1,24 @@
+package io.distributechsolutions.hris.dtos.attendance;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * A read-only projection of the employee's timesheet record that only carries the columns shown in the timesheet
+ * list. The log image is only referenced by its id and streamed when a row is opened, and the full timesheet
+ * data transfer object is loaded by its id when a row is edited or approved.
+ */
+public record EmployeeTimesheetListDTO(UUID id,
+                                       String employeeNumber,
+                                       String firstName,
+                                       String middleName,
+                                       String lastName,
+                                       String suffix,
+                                       LocalDate logDate,
+                                       String shiftSchedule,
+                                       LocalTime logTime,
+                                       String logDetail,
+                                       String status,
+                                       UUID logImageId) {
+}
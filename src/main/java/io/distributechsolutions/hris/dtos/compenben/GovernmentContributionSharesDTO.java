@@ -0,0 +1,64 @@
+package io.distributechsolutions.hris.dtos.compenben;
+
+import java.math.BigDecimal;
+
+/**
+ * The monthly employee and employer shares of the SSS, PhilHealth and HDMF contributions of one compensation. The
+ * shares of a contribution type are null when no schedule of that type is effective yet.
+ */
+public class GovernmentContributionSharesDTO {
+    private BigDecimal sssEmployeeShareAmount;
+    private BigDecimal sssEmployerShareAmount;
+    private BigDecimal philhealthEmployeeShareAmount;
+    private BigDecimal philhealthEmployerShareAmount;
+    private BigDecimal hdmfEmployeeShareAmount;
+    private BigDecimal hdmfEmployerShareAmount;
+
+    public BigDecimal getSssEmployeeShareAmount() {
+        return sssEmployeeShareAmount;
+    }
+
+    public void setSssEmployeeShareAmount(BigDecimal sssEmployeeShareAmount) {
+        this.sssEmployeeShareAmount = sssEmployeeShareAmount;
+    }
+
+    public BigDecimal getSssEmployerShareAmount() {
+        return sssEmployerShareAmount;
+    }
+
+    public void setSssEmployerShareAmount(BigDecimal sssEmployerShareAmount) {
+        this.sssEmployerShareAmount = sssEmployerShareAmount;
+    }
+
+    public BigDecimal getPhilhealthEmployeeShareAmount() {
+        return philhealthEmployeeShareAmount;
+    }
+
+    public void setPhilhealthEmployeeShareAmount(BigDecimal philhealthEmployeeShareAmount) {
+        this.philhealthEmployeeShareAmount = philhealthEmployeeShareAmount;
+    }
+
+    public BigDecimal getPhilhealthEmployerShareAmount() {
+        return philhealthEmployerShareAmount;
+    }
+
+    public void setPhilhealthEmployerShareAmount(BigDecimal philhealthEmployerShareAmount) {
+        this.philhealthEmployerShareAmount = philhealthEmployerShareAmount;
+    }
+
+    public BigDecimal getHdmfEmployeeShareAmount() {
+        return hdmfEmployeeShareAmount;
+    }
+
+    public void setHdmfEmployeeShareAmount(BigDecimal hdmfEmployeeShareAmount) {
+        this.hdmfEmployeeShareAmount = hdmfEmployeeShareAmount;
+    }
+
+    public BigDecimal getHdmfEmployerShareAmount() {
+        return hdmfEmployerShareAmount;
+    }
+
+    public void setHdmfEmployerShareAmount(BigDecimal hdmfEmployerShareAmount) {
+        this.hdmfEmployerShareAmount = hdmfEmployerShareAmount;
+    }
+}
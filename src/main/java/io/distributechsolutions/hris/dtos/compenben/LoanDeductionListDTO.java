@@ -0,0 +1,22 @@
+package io.distributechsolutions.hris.dtos.compenben;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A read-only projection of the employee's loan deduction record that only carries the columns shown in the
+ * loan deduction list. The full loan deduction data transfer object is loaded by its id once a row is opened.
+ */
+public record LoanDeductionListDTO(UUID id,
+                                   String employeeNumber,
+                                   String firstName,
+                                   String lastName,
+                                   String suffix,
+                                   String loanType,
+                                   String loanDescription,
+                                   LocalDate loanStartDate,
+                                   LocalDate loanEndDate,
+                                   BigDecimal loanAmount,
+                                   BigDecimal monthlyDeduction) {
+}
@@ -0,0 +1,20 @@
+package io.distributechsolutions.hris.dtos.compenben;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * A read-only projection of the employee's rates record that only carries the columns shown in the rates list.
+ * The full rates data transfer object is loaded by its id once a row is opened.
+ */
+public record RatesListDTO(UUID id,
+                           String employeeNumber,
+                           String firstName,
+                           String middleName,
+                           String lastName,
+                           String suffix,
+                           String rateType,
+                           BigDecimal basicCompensationRate,
+                           BigDecimal dailyCompensationRate,
+                           BigDecimal hourlyCompensationRate) {
+}
@@ -25,6 +25,9 @@ public class EmployeePayrollDTO extends BaseDTO {
     private BigDecimal sssDeductionAmount;
     private BigDecimal hdmfDeductionAmount;
     private BigDecimal philhealthDeductionAmount;
+    private BigDecimal sssEmployerShareAmount;
+    private BigDecimal hdmfEmployerShareAmount;
+    private BigDecimal philhealthEmployerShareAmount;
     private BigDecimal withholdingTaxDeductionAmount;
     private BigDecimal totalLoanDeductionAmount;
     private BigDecimal otherDeductionAmount;
@@ -173,6 +176,30 @@ public class EmployeePayrollDTO extends BaseDTO {
         this.philhealthDeductionAmount = philhealthDeductionAmount;
     }
 
+    public BigDecimal getSssEmployerShareAmount() {
+        return sssEmployerShareAmount;
+    }
+
+    public void setSssEmployerShareAmount(BigDecimal sssEmployerShareAmount) {
+        this.sssEmployerShareAmount = sssEmployerShareAmount;
+    }
+
+    public BigDecimal getHdmfEmployerShareAmount() {
+        return hdmfEmployerShareAmount;
+    }
+
+    public void setHdmfEmployerShareAmount(BigDecimal hdmfEmployerShareAmount) {
+        this.hdmfEmployerShareAmount = hdmfEmployerShareAmount;
+    }
+
+    public BigDecimal getPhilhealthEmployerShareAmount() {
+        return philhealthEmployerShareAmount;
+    }
+
+    public void setPhilhealthEmployerShareAmount(BigDecimal philhealthEmployerShareAmount) {
+        this.philhealthEmployerShareAmount = philhealthEmployerShareAmount;
+    }
+
     public BigDecimal getWithholdingTaxDeductionAmount() {
         return withholdingTaxDeductionAmount;
     }
@@ -0,0 +1,60 @@
+package io.distributechsolutions.hris.dtos.payroll;
+
+import java.time.LocalDate;
+
+public class PayPeriodDTO {
+    private String payrollFrequency;
+    private int cutOffId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int workingDays;
+    private int holidayCount;
+
+    public String getPayrollFrequency() {
+        return payrollFrequency;
+    }
+
+    public void setPayrollFrequency(String payrollFrequency) {
+        this.payrollFrequency = payrollFrequency;
+    }
+
+    public int getCutOffId() {
+        return cutOffId;
+    }
+
+    public void setCutOffId(int cutOffId) {
+        this.cutOffId = cutOffId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public int getWorkingDays() {
+        return workingDays;
+    }
+
+    public void setWorkingDays(int workingDays) {
+        this.workingDays = workingDays;
+    }
+
+    public int getHolidayCount() {
+        return holidayCount;
+    }
+
+    public void setHolidayCount(int holidayCount) {
+        this.holidayCount = holidayCount;
+    }
+}
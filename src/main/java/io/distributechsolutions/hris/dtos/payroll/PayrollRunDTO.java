@@ -0,0 +1,99 @@
+package io.distributechsolutions.hris.dtos.payroll;
+
+import io.distributechsolutions.hris.dtos.BaseDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class PayrollRunDTO extends BaseDTO {
+    private LocalDate cutOffFromDate;
+    private LocalDate cutOffToDate;
+    private String payrollFrequency;
+    private String runStatus;
+    private Integer totalEmployeeCount;
+    private Integer processedEmployeeCount;
+    private Integer failedEmployeeCount;
+    private LocalDateTime dateAndTimeStarted;
+    private LocalDateTime dateAndTimeFinished;
+    private String errorMessage;
+
+    public LocalDate getCutOffFromDate() {
+        return cutOffFromDate;
+    }
+
+    public void setCutOffFromDate(LocalDate cutOffFromDate) {
+        this.cutOffFromDate = cutOffFromDate;
+    }
+
+    public LocalDate getCutOffToDate() {
+        return cutOffToDate;
+    }
+
+    public void setCutOffToDate(LocalDate cutOffToDate) {
+        this.cutOffToDate = cutOffToDate;
+    }
+
+    public String getPayrollFrequency() {
+        return payrollFrequency;
+    }
+
+    public void setPayrollFrequency(String payrollFrequency) {
+        this.payrollFrequency = payrollFrequency;
+    }
+
+    public String getRunStatus() {
+        return runStatus;
+    }
+
+    public void setRunStatus(String runStatus) {
+        this.runStatus = runStatus;
+    }
+
+    public Integer getTotalEmployeeCount() {
+        return totalEmployeeCount;
+    }
+
+    public void setTotalEmployeeCount(Integer totalEmployeeCount) {
+        this.totalEmployeeCount = totalEmployeeCount;
+    }
+
+    public Integer getProcessedEmployeeCount() {
+        return processedEmployeeCount;
+    }
+
+    public void setProcessedEmployeeCount(Integer processedEmployeeCount) {
+        this.processedEmployeeCount = processedEmployeeCount;
+    }
+
+    public Integer getFailedEmployeeCount() {
+        return failedEmployeeCount;
+    }
+
+    public void setFailedEmployeeCount(Integer failedEmployeeCount) {
+        this.failedEmployeeCount = failedEmployeeCount;
+    }
+
+    public LocalDateTime getDateAndTimeStarted() {
+        return dateAndTimeStarted;
+    }
+
+    public void setDateAndTimeStarted(LocalDateTime dateAndTimeStarted) {
+        this.dateAndTimeStarted = dateAndTimeStarted;
+    }
+
+    public LocalDateTime getDateAndTimeFinished() {
+        return dateAndTimeFinished;
+    }
+
+    public void setDateAndTimeFinished(LocalDateTime dateAndTimeFinished) {
+        this.dateAndTimeFinished = dateAndTimeFinished;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,17 @@
+package io.distributechsolutions.hris.dtos.profile;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A read-only projection of the employee record that only carries the columns shown in the employee list.
+ * The full employee data transfer object is loaded by its id once a row is opened.
+ */
+public record EmployeeListDTO(UUID id,
+                              String employeeNumber,
+                              String firstName,
+                              String middleName,
+                              String lastName,
+                              String suffix,
+                              LocalDate dateHired) {
+}
@@ -8,7 +8,8 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sg_hris_employee_leave_filing")
+@Table(name = "sg_hris_employee_leave_filing",
+       indexes = {@Index(name = "idx_employee_leave_filing_approver_status", columnList = "assigned_approver_employee_id, leave_status")})
 public class EmployeeLeaveFiling extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "leave_benefits_id", referencedColumnName = "id", nullable = false)
@@ -7,9 +7,13 @@ import jakarta.persistence.*;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "sg_hris_employee_timesheet")
+@Table(name = "sg_hris_employee_timesheet",
+       indexes = {@Index(name = "idx_employee_timesheet_status_log_date", columnList = "timesheet_status, timesheet_log_date"),
+                  @Index(name = "idx_employee_timesheet_employee_log_date", columnList = "employee_id, timesheet_log_date"),
+                  @Index(name = "idx_employee_timesheet_shift_schedule", columnList = "employee_shift_schedule_id")})
 public class EmployeeTimesheet extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", referencedColumnName = "id", nullable = false)
@@ -24,9 +28,9 @@ public class EmployeeTimesheet extends BaseEntity {
     @Column(name = "timesheet_log_detail", length = 10, nullable = false)
     private String logDetail;
 
-    @Lob
-    @Column(name = "timesheet_log_image", nullable = false)
-    private byte[] logImage;
+    // The captured image is kept in its own table so that the timesheet rows never carry the image bytes.
+    @Column(name = "timesheet_log_image_id")
+    private UUID logImageId;
 
     @Column(name = "timesheet_status", length = 10, nullable = false)
     private String status;
@@ -67,12 +71,12 @@ public class EmployeeTimesheet extends BaseEntity {
         this.logDetail = logDetail;
     }
 
-    public byte[] getLogImage() {
-        return logImage;
+    public UUID getLogImageId() {
+        return logImageId;
     }
 
-    public void setLogImage(byte[] logImage) {
-        this.logImage = logImage;
+    public void setLogImageId(UUID logImageId) {
+        this.logImageId = logImageId;
     }
 
     public String getStatus() {
@@ -0,0 +1,21 @@
+package io.distributechsolutions.hris.entities.attendance;
+
+import io.distributechsolutions.hris.entities.BaseEntity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "sg_hris_employee_timesheet_image")
+public class EmployeeTimesheetImage extends BaseEntity {
+    @Lob
+    @Column(name = "timesheet_image_data", nullable = false)
+    private byte[] imageData;
+
+    public byte[] getImageData() {
+        return imageData;
+    }
+
+    public void setImageData(byte[] imageData) {
+        this.imageData = imageData;
+    }
+}
@@ -0,0 +1,119 @@
+package io.distributechsolutions.hris.entities.compenben;
+
+import io.distributechsolutions.hris.entities.BaseEntity;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One bracket of an effective-dated SSS, PhilHealth or HDMF contribution schedule. The brackets of a contribution type
+ * that share an effective date make up one version of its schedule, and a monthly compensation falls in the bracket
+ * with the highest minimum compensation that it reaches. The share of a bracket is its fixed amount plus its rate of the
+ * compensation, where the compensation is first kept between the minimum and maximum compensation basis (the floor
+ * and ceiling of the premium).
+ */
+@Entity
+@Table(name = "sg_hris_government_contribution_bracket",
+       uniqueConstraints = @UniqueConstraint(name = "uk_government_contribution_bracket_type_date_compensation",
+                                             columnNames = {"contribution_type", "effective_date", "minimum_compensation"}))
+public class GovernmentContributionBracket extends BaseEntity {
+    @Column(name = "contribution_type", length = 25, nullable = false)
+    private String contributionType;
+
+    @Column(name = "effective_date", nullable = false)
+    private LocalDate effectiveDate;
+
+    @Column(name = "minimum_compensation", nullable = false)
+    private BigDecimal minimumCompensation;
+
+    @Column(name = "employee_share_amount", nullable = false)
+    private BigDecimal employeeShareAmount;
+
+    @Column(name = "employer_share_amount", nullable = false)
+    private BigDecimal employerShareAmount;
+
+    @Column(name = "employee_share_rate", precision = 7, scale = 4, nullable = false)
+    private BigDecimal employeeShareRate;
+
+    @Column(name = "employer_share_rate", precision = 7, scale = 4, nullable = false)
+    private BigDecimal employerShareRate;
+
+    @Column(name = "minimum_compensation_basis")
+    private BigDecimal minimumCompensationBasis;
+
+    @Column(name = "maximum_compensation_basis")
+    private BigDecimal maximumCompensationBasis;
+
+    public String getContributionType() {
+        return contributionType;
+    }
+
+    public void setContributionType(String contributionType) {
+        this.contributionType = contributionType;
+    }
+
+    public LocalDate getEffectiveDate() {
+        return effectiveDate;
+    }
+
+    public void setEffectiveDate(LocalDate effectiveDate) {
+        this.effectiveDate = effectiveDate;
+    }
+
+    public BigDecimal getMinimumCompensation() {
+        return minimumCompensation;
+    }
+
+    public void setMinimumCompensation(BigDecimal minimumCompensation) {
+        this.minimumCompensation = minimumCompensation;
+    }
+
+    public BigDecimal getEmployeeShareAmount() {
+        return employeeShareAmount;
+    }
+
+    public void setEmployeeShareAmount(BigDecimal employeeShareAmount) {
+        this.employeeShareAmount = employeeShareAmount;
+    }
+
+    public BigDecimal getEmployerShareAmount() {
+        return employerShareAmount;
+    }
+
+    public void setEmployerShareAmount(BigDecimal employerShareAmount) {
+        this.employerShareAmount = employerShareAmount;
+    }
+
+    public BigDecimal getEmployeeShareRate() {
+        return employeeShareRate;
+    }
+
+    public void setEmployeeShareRate(BigDecimal employeeShareRate) {
+        this.employeeShareRate = employeeShareRate;
+    }
+
+    public BigDecimal getEmployerShareRate() {
+        return employerShareRate;
+    }
+
+    public void setEmployerShareRate(BigDecimal employerShareRate) {
+        this.employerShareRate = employerShareRate;
+    }
+
+    public BigDecimal getMinimumCompensationBasis() {
+        return minimumCompensationBasis;
+    }
+
+    public void setMinimumCompensationBasis(BigDecimal minimumCompensationBasis) {
+        this.minimumCompensationBasis = minimumCompensationBasis;
+    }
+
+    public BigDecimal getMaximumCompensationBasis() {
+        return maximumCompensationBasis;
+    }
+
+    public void setMaximumCompensationBasis(BigDecimal maximumCompensationBasis) {
+        this.maximumCompensationBasis = maximumCompensationBasis;
+    }
+}
@@ -8,7 +8,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "sg_hris_employee_payroll")
+@Table(name = "sg_hris_employee_payroll",
+       uniqueConstraints = @UniqueConstraint(name = "uk_employee_payroll_employee_cut_off",
+                                             columnNames = {"employee_id", "cut_off_from_date", "cut_off_to_date"}))
 public class EmployeePayroll extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", referencedColumnName = "id", nullable = false)
@@ -65,6 +67,16 @@ public class EmployeePayroll extends BaseEntity {
     @Column(name = "philhealth_deduction_amount", nullable = false)
     private BigDecimal philhealthDeductionAmount;
 
+    // The employer shares are not deducted from the employee's pay. They are kept for the remittance of the contributions.
+    @Column(name = "sss_employer_share_amount")
+    private BigDecimal sssEmployerShareAmount;
+
+    @Column(name = "hdmf_employer_share_amount")
+    private BigDecimal hdmfEmployerShareAmount;
+
+    @Column(name = "philhealth_employer_share_amount")
+    private BigDecimal philhealthEmployerShareAmount;
+
     @Column(name = "withholding_tax_deduction_amount", nullable = false)
     private BigDecimal withholdingTaxDeductionAmount;
 
@@ -218,6 +230,30 @@ public class EmployeePayroll extends BaseEntity {
         this.philhealthDeductionAmount = philhealthDeductionAmount;
     }
 
+    public BigDecimal getSssEmployerShareAmount() {
+        return sssEmployerShareAmount;
+    }
+
+    public void setSssEmployerShareAmount(BigDecimal sssEmployerShareAmount) {
+        this.sssEmployerShareAmount = sssEmployerShareAmount;
+    }
+
+    public BigDecimal getHdmfEmployerShareAmount() {
+        return hdmfEmployerShareAmount;
+    }
+
+    public void setHdmfEmployerShareAmount(BigDecimal hdmfEmployerShareAmount) {
+        this.hdmfEmployerShareAmount = hdmfEmployerShareAmount;
+    }
+
+    public BigDecimal getPhilhealthEmployerShareAmount() {
+        return philhealthEmployerShareAmount;
+    }
+
+    public void setPhilhealthEmployerShareAmount(BigDecimal philhealthEmployerShareAmount) {
+        this.philhealthEmployerShareAmount = philhealthEmployerShareAmount;
+    }
+
     public BigDecimal getWithholdingTaxDeductionAmount() {
         return withholdingTaxDeductionAmount;
     }
@@ -0,0 +1,121 @@
+package io.distributechsolutions.hris.entities.payroll;
+
+import io.distributechsolutions.hris.entities.BaseEntity;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "sg_hris_payroll_run")
+public class PayrollRun extends BaseEntity {
+    @Column(name = "cut_off_from_date", nullable = false)
+    private LocalDate cutOffFromDate;
+
+    @Column(name = "cut_off_to_date", nullable = false)
+    private LocalDate cutOffToDate;
+
+    @Column(name = "payroll_frequency", length = 25)
+    private String payrollFrequency;
+
+    @Column(name = "run_status", length = 15, nullable = false)
+    private String runStatus;
+
+    @Column(name = "total_employee_count", nullable = false)
+    private Integer totalEmployeeCount;
+
+    @Column(name = "processed_employee_count", nullable = false)
+    private Integer processedEmployeeCount;
+
+    @Column(name = "failed_employee_count", nullable = false)
+    private Integer failedEmployeeCount;
+
+    @Column(name = "date_and_time_started")
+    private LocalDateTime dateAndTimeStarted;
+
+    @Column(name = "date_and_time_finished")
+    private LocalDateTime dateAndTimeFinished;
+
+    @Column(name = "error_message", length = 2000)
+    private String errorMessage;
+
+    public LocalDate getCutOffFromDate() {
+        return cutOffFromDate;
+    }
+
+    public void setCutOffFromDate(LocalDate cutOffFromDate) {
+        this.cutOffFromDate = cutOffFromDate;
+    }
+
+    public LocalDate getCutOffToDate() {
+        return cutOffToDate;
+    }
+
+    public void setCutOffToDate(LocalDate cutOffToDate) {
+        this.cutOffToDate = cutOffToDate;
+    }
+
+    public String getPayrollFrequency() {
+        return payrollFrequency;
+    }
+
+    public void setPayrollFrequency(String payrollFrequency) {
+        this.payrollFrequency = payrollFrequency;
+    }
+
+    public String getRunStatus() {
+        return runStatus;
+    }
+
+    public void setRunStatus(String runStatus) {
+        this.runStatus = runStatus;
+    }
+
+    public Integer getTotalEmployeeCount() {
+        return totalEmployeeCount;
+    }
+
+    public void setTotalEmployeeCount(Integer totalEmployeeCount) {
+        this.totalEmployeeCount = totalEmployeeCount;
+    }
+
+    public Integer getProcessedEmployeeCount() {
+        return processedEmployeeCount;
+    }
+
+    public void setProcessedEmployeeCount(Integer processedEmployeeCount) {
+        this.processedEmployeeCount = processedEmployeeCount;
+    }
+
+    public Integer getFailedEmployeeCount() {
+        return failedEmployeeCount;
+    }
+
+    public void setFailedEmployeeCount(Integer failedEmployeeCount) {
+        this.failedEmployeeCount = failedEmployeeCount;
+    }
+
+    public LocalDateTime getDateAndTimeStarted() {
+        return dateAndTimeStarted;
+    }
+
+    public void setDateAndTimeStarted(LocalDateTime dateAndTimeStarted) {
+        this.dateAndTimeStarted = dateAndTimeStarted;
+    }
+
+    public LocalDateTime getDateAndTimeFinished() {
+        return dateAndTimeFinished;
+    }
+
+    public void setDateAndTimeFinished(LocalDateTime dateAndTimeFinished) {
+        this.dateAndTimeFinished = dateAndTimeFinished;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
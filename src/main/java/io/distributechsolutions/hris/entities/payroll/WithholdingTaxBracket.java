@@ -0,0 +1,73 @@
+package io.distributechsolutions.hris.entities.payroll;
+
+import io.distributechsolutions.hris.entities.BaseEntity;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One bracket of an effective-dated withholding tax table. The brackets of a payroll frequency (Weekly, Semi-Monthly,
+ * Monthly or Annual) that share an effective date make up one version of its table. The tax of a taxable compensation
+ * is the base tax of its bracket plus the excess rate of the part of the compensation above the bracket's minimum.
+ */
+@Entity
+@Table(name = "sg_hris_withholding_tax_bracket",
+       uniqueConstraints = @UniqueConstraint(name = "uk_withholding_tax_bracket_frequency_date_compensation",
+                                             columnNames = {"payroll_frequency", "effective_date", "minimum_taxable_compensation"}))
+public class WithholdingTaxBracket extends BaseEntity {
+    @Column(name = "payroll_frequency", length = 25, nullable = false)
+    private String payrollFrequency;
+
+    @Column(name = "effective_date", nullable = false)
+    private LocalDate effectiveDate;
+
+    @Column(name = "minimum_taxable_compensation", nullable = false)
+    private BigDecimal minimumTaxableCompensation;
+
+    @Column(name = "base_tax_amount", nullable = false)
+    private BigDecimal baseTaxAmount;
+
+    @Column(name = "excess_tax_rate", precision = 7, scale = 4, nullable = false)
+    private BigDecimal excessTaxRate;
+
+    public String getPayrollFrequency() {
+        return payrollFrequency;
+    }
+
+    public void setPayrollFrequency(String payrollFrequency) {
+        this.payrollFrequency = payrollFrequency;
+    }
+
+    public LocalDate getEffectiveDate() {
+        return effectiveDate;
+    }
+
+    public void setEffectiveDate(LocalDate effectiveDate) {
+        this.effectiveDate = effectiveDate;
+    }
+
+    public BigDecimal getMinimumTaxableCompensation() {
+        return minimumTaxableCompensation;
+    }
+
+    public void setMinimumTaxableCompensation(BigDecimal minimumTaxableCompensation) {
+        this.minimumTaxableCompensation = minimumTaxableCompensation;
+    }
+
+    public BigDecimal getBaseTaxAmount() {
+        return baseTaxAmount;
+    }
+
+    public void setBaseTaxAmount(BigDecimal baseTaxAmount) {
+        this.baseTaxAmount = baseTaxAmount;
+    }
+
+    public BigDecimal getExcessTaxRate() {
+        return excessTaxRate;
+    }
+
+    public void setExcessTaxRate(BigDecimal excessTaxRate) {
+        this.excessTaxRate = excessTaxRate;
+    }
+}
@@ -3,9 +3,13 @@ package io.distributechsolutions.hris.entities.reference;
 import io.distributechsolutions.hris.entities.BaseEntity;
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDate;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "sg_hris_calendar_holidays")
 public class CalendarHolidays extends BaseEntity {
 
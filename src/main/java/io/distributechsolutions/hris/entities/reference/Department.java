@@ -4,8 +4,11 @@ import io.distributechsolutions.hris.entities.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "sg_hris_department")
 public class Department extends BaseEntity {
     @Column(name = "department_code", length = 10, nullable = false, unique = true)
@@ -4,8 +4,11 @@ import io.distributechsolutions.hris.entities.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "sg_hris_position")
 public class Position extends BaseEntity {
     @Column(name = "position_code", length = 10, nullable = false, unique = true)
@@ -2,9 +2,13 @@ package io.distributechsolutions.hris.entities.reference;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.io.Serializable;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "sg_hris_ref_region")
 public class Region implements Serializable {
     @Id
@@ -1,17 +1,27 @@
 package io.distributechsolutions.hris.repositories.admin;
 
 import io.distributechsolutions.hris.entities.admin.User;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<User> findAll(Pageable pageable);
+
     @Query("SELECT u FROM User u WHERE u.username = :param")
     User findByUsername(@Param("param") String username);
 
+    @EntityGraph(attributePaths = {"employee"})
     @Query("""
            SELECT u FROM User u
            WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :param, '%'))
@@ -22,13 +32,39 @@ public interface UserRepository extends JpaRepository<User, UUID> {
            OR LOWER(u.employee.gender) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(u.emailAddress) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(u.role) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY u.username ASC
            """)
-    List<User> findByStringParameter(@Param("param") String parameter);
+    List<User> findByStringParameter(@Param("param") String parameter, Pageable pageable);
 
+    @Query("""
+           SELECT COUNT(u) FROM User u
+           WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(u.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(u.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(u.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(u.employee.suffix) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(u.employee.gender) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(u.emailAddress) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(u.role) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String parameter);
+
+    @EntityGraph(attributePaths = {"employee"})
     @Query("""
            SELECT u FROM User u
            WHERE u.accountActive = :param
            OR u.passwordChanged = :param
+           ORDER BY u.username ASC
            """)
-    List<User> findByBooleanParameter(@Param("param") boolean param);
+    List<User> findByBooleanParameter(@Param("param") boolean param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(u) FROM User u
+           WHERE u.accountActive = :param
+           OR u.passwordChanged = :param
+           """)
+    long countByBooleanParameter(@Param("param") boolean param);
+
+    @Query("SELECT DISTINCT u.employee.id FROM User u WHERE u.role IN :roles")
+    List<UUID> findEmployeeIdsByRoles(@Param("roles") Collection<String> roles);
 }
@@ -3,17 +3,27 @@ package io.distributechsolutions.hris.repositories.attendance;
 import io.distributechsolutions.hris.entities.attendance.EmployeeLeaveFiling;
 import io.distributechsolutions.hris.entities.profile.Employee;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface EmployeeLeaveFilingRepository extends JpaRepository<EmployeeLeaveFiling, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"leaveBenefits", "leaveBenefits.employee", "assignedApproverEmployee"})
+    Page<EmployeeLeaveFiling> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"leaveBenefits", "leaveBenefits.employee", "assignedApproverEmployee"})
     @Query("SELECT elf FROM EmployeeLeaveFiling elf WHERE elf.leaveBenefits.employee = :param ORDER BY elf.leaveDateAndTimeFrom DESC")
     List<EmployeeLeaveFiling> findByEmployee(@Param("param") Employee employee);
 
+    @EntityGraph(attributePaths = {"leaveBenefits", "leaveBenefits.employee", "assignedApproverEmployee"})
     @Query("""
            SELECT elf FROM EmployeeLeaveFiling elf 
            WHERE elf.leaveStatus = :leaveStatusParam
@@ -22,13 +32,77 @@ public interface EmployeeLeaveFilingRepository extends JpaRepository<EmployeeLea
            """)
     List<EmployeeLeaveFiling> findByStatusAndAssignedApproverEmployee(@Param("leaveStatusParam") String leaveStatus, @Param("employeeParam") Employee employee);
 
+    @Query("""
+           SELECT COUNT(elf) FROM EmployeeLeaveFiling elf
+           WHERE elf.assignedApproverEmployee.id = :employeeId
+           AND elf.leaveStatus = :leaveStatus
+           """)
+    long countByStatusAndAssignedApproverEmployeeId(@Param("leaveStatus") String leaveStatus, @Param("employeeId") UUID employeeId);
+
+    @EntityGraph(attributePaths = {"leaveBenefits", "leaveBenefits.employee", "assignedApproverEmployee"})
     @Query("""
            SELECT elf FROM EmployeeLeaveFiling elf
            WHERE LOWER(elf.leaveBenefits.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(elf.leaveBenefits.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(elf.leaveBenefits.leaveCode) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(elf.leaveBenefits.leaveType) LIKE LOWER(CONCAT('%', :param, '%'))
-           OR LOWER(elf.leaveStatus) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY elf.leaveDateAndTimeFrom DESC
+           """)
+    List<EmployeeLeaveFiling> findByStringParameter(@Param("param") String parameter, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(elf) FROM EmployeeLeaveFiling elf
+           WHERE LOWER(elf.leaveBenefits.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(elf.leaveBenefits.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(elf.leaveBenefits.leaveCode) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(elf.leaveBenefits.leaveType) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String parameter);
+
+    @EntityGraph(attributePaths = {"leaveBenefits", "leaveBenefits.employee", "assignedApproverEmployee"})
+    @Query("""
+           SELECT elf FROM EmployeeLeaveFiling elf
+           WHERE elf.leaveStatus = :leaveStatus
+           ORDER BY elf.leaveDateAndTimeFrom DESC
+           """)
+    List<EmployeeLeaveFiling> findByLeaveStatus(@Param("leaveStatus") String leaveStatus, Pageable pageable);
+
+    @Query("SELECT COUNT(elf) FROM EmployeeLeaveFiling elf WHERE elf.leaveStatus = :leaveStatus")
+    long countByLeaveStatus(@Param("leaveStatus") String leaveStatus);
+
+    @EntityGraph(attributePaths = {"leaveBenefits", "leaveBenefits.employee", "assignedApproverEmployee"})
+    @Query("""
+           SELECT elf FROM EmployeeLeaveFiling elf
+           WHERE elf.leaveDateAndTimeFrom < :dayEnd
+             AND elf.leaveDateAndTimeTo >= :dayStart
+           ORDER BY elf.leaveDateAndTimeFrom DESC
+           """)
+    List<EmployeeLeaveFiling> findByLeaveDate(@Param("dayStart") LocalDateTime dayStart, @Param("dayEnd") LocalDateTime dayEnd, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(elf) FROM EmployeeLeaveFiling elf
+           WHERE elf.leaveDateAndTimeFrom < :dayEnd
+             AND elf.leaveDateAndTimeTo >= :dayStart
+           """)
+    long countByLeaveDate(@Param("dayStart") LocalDateTime dayStart, @Param("dayEnd") LocalDateTime dayEnd);
+
+    @EntityGraph(attributePaths = {"leaveBenefits", "leaveBenefits.employee", "assignedApproverEmployee"})
+    @Query("""
+           SELECT elf FROM EmployeeLeaveFiling elf
+           WHERE LOWER(elf.leaveBenefits.employee.employeeNumber) LIKE CONCAT(LOWER(:employeeNumber), '%')
+           ORDER BY elf.leaveDateAndTimeFrom DESC
+           """)
+    List<EmployeeLeaveFiling> findByEmployeeNumber(@Param("employeeNumber") String employeeNumber, Pageable pageable);
+
+    @Query("SELECT COUNT(elf) FROM EmployeeLeaveFiling elf WHERE LOWER(elf.leaveBenefits.employee.employeeNumber) LIKE CONCAT(LOWER(:employeeNumber), '%')")
+    long countByEmployeeNumber(@Param("employeeNumber") String employeeNumber);
+
+    @Query("""
+           SELECT elf.leaveBenefits.employee.id, elf.leaveDateAndTimeFrom, elf.leaveDateAndTimeTo
+           FROM EmployeeLeaveFiling elf
+           WHERE elf.leaveStatus = 'APPROVED'
+             AND elf.leaveDateAndTimeFrom < :rangeEnd
+             AND elf.leaveDateAndTimeTo >= :rangeStart
            """)
-    List<EmployeeLeaveFiling> findByStringParameter(@Param("param") String parameter);
+    List<Object[]> findApprovedLeavesByDateRange(@Param("rangeStart") LocalDateTime rangeStart, @Param("rangeEnd") LocalDateTime rangeEnd);
 }
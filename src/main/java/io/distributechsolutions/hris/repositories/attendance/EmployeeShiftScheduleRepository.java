@@ -1,10 +1,67 @@
 package io.distributechsolutions.hris.repositories.attendance;
 
+import io.distributechsolutions.hris.dtos.attendance.EmployeeActiveShiftDTO;
 import io.distributechsolutions.hris.entities.attendance.EmployeeShiftSchedule;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 public interface EmployeeShiftScheduleRepository extends JpaRepository<EmployeeShiftSchedule, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<EmployeeShiftSchedule> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee"})
+    @Query("""
+           SELECT ess FROM EmployeeShiftSchedule ess
+           WHERE LOWER(ess.employee.employeeNumber) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ess.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ess.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ess.shiftSchedule) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY ess.employee.lastName ASC, ess.employee.firstName ASC, ess.activeShift DESC
+           """)
+    List<EmployeeShiftSchedule> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(ess) FROM EmployeeShiftSchedule ess
+           WHERE LOWER(ess.employee.employeeNumber) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ess.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ess.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ess.shiftSchedule) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
+
+    @Query("""
+           SELECT new io.distributechsolutions.hris.dtos.attendance.EmployeeActiveShiftDTO(e.employeeNumber, e.id, ess.id)
+           FROM Employee e
+           LEFT JOIN EmployeeShiftSchedule ess ON ess.employee = e AND ess.activeShift = true
+           """)
+    List<EmployeeActiveShiftDTO> findEmployeeActiveShifts();
+
+    @Query("""
+           SELECT ess.employee.id, ess.shiftScheduledDays, ess.shiftStartTime, ess.shiftEndTime, ess.shiftHours
+           FROM EmployeeShiftSchedule ess
+           WHERE ess.activeShift = true
+             AND ess.employee.id IN (SELECT et.employee.id FROM EmployeeTimesheet et
+                                     WHERE et.status = 'APPROVED'
+                                       AND et.logDate BETWEEN :startDate AND :endDate)
+           ORDER BY ess.employee.id ASC, ess.dateAndTimeCreated DESC, ess.id ASC
+           """)
+    List<Object[]> findActiveShiftsByEmployeesWithApprovedTimesheet(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("""
+           SELECT ess.shiftScheduledDays, ess.shiftStartTime, ess.shiftEndTime, ess.shiftHours
+           FROM EmployeeShiftSchedule ess
+           WHERE ess.employee.id = :employeeId
+             AND ess.activeShift = true
+           """)
+    List<Object[]> findActiveShiftByEmployeeId(@Param("employeeId") UUID employeeId);
 }
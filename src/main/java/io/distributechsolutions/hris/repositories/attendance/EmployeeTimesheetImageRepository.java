@@ -0,0 +1,14 @@
+package io.distributechsolutions.hris.repositories.attendance;
+
+import io.distributechsolutions.hris.entities.attendance.EmployeeTimesheetImage;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+public interface EmployeeTimesheetImageRepository extends JpaRepository<EmployeeTimesheetImage, UUID> {
+    @Query("SELECT eti.imageData FROM EmployeeTimesheetImage eti WHERE eti.id = :id")
+    byte[] findImageDataById(@Param("id") UUID id);
+}
@@ -1,40 +1,247 @@
 package io.distributechsolutions.hris.repositories.attendance;
 
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetListDTO;
 import io.distributechsolutions.hris.entities.profile.Employee;
 import io.distributechsolutions.hris.entities.attendance.EmployeeTimesheet;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface EmployeeTimesheetRepository extends JpaRepository<EmployeeTimesheet, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee", "shiftSchedule", "shiftSchedule.employee"})
+    Page<EmployeeTimesheet> findAll(Pageable pageable);
+
+    @Query(value = """
+           SELECT new io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetListDTO(et.id, e.employeeNumber, e.firstName, e.middleName,
+                                                                                            e.lastName, e.suffix, et.logDate, ss.shiftSchedule,
+                                                                                            et.logTime, et.logDetail, et.status, et.logImageId)
+           FROM EmployeeTimesheet et
+           JOIN et.employee e
+           JOIN et.shiftSchedule ss
+           WHERE et.status = :status
+           ORDER BY et.logDate DESC, et.logTime DESC, et.id ASC
+           """,
+           countQuery = """
+           SELECT COUNT(et)
+           FROM EmployeeTimesheet et
+           WHERE et.status = :status
+           """)
+    Page<EmployeeTimesheetListDTO> findTimesheetListByStatus(@Param("status") String status, Pageable pageable);
+
+    @Query(value = """
+           SELECT new io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetListDTO(et.id, e.employeeNumber, e.firstName, e.middleName,
+                                                                                            e.lastName, e.suffix, et.logDate, ss.shiftSchedule,
+                                                                                            et.logTime, et.logDetail, et.status, et.logImageId)
+           FROM EmployeeTimesheet et
+           JOIN et.employee e
+           JOIN et.shiftSchedule ss
+           WHERE et.status = :status
+             AND et.logDate BETWEEN :startDate AND :endDate
+           ORDER BY et.logDate DESC, et.logTime DESC, et.id ASC
+           """,
+           countQuery = """
+           SELECT COUNT(et)
+           FROM EmployeeTimesheet et
+           WHERE et.status = :status
+             AND et.logDate BETWEEN :startDate AND :endDate
+           """)
+    Page<EmployeeTimesheetListDTO> findTimesheetListByStatusAndLogDateRange(@Param("status") String status,
+                                                                           @Param("startDate") LocalDate startDate,
+                                                                           @Param("endDate") LocalDate endDate,
+                                                                           Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(et)
+           FROM EmployeeTimesheet et
+           WHERE et.status = :status
+           """)
+    long countTimesheetByStatus(@Param("status") String status);
+
+    @Query("""
+           SELECT COUNT(et)
+           FROM EmployeeTimesheet et
+           WHERE et.status = :status
+             AND et.logDate BETWEEN :startDate AND :endDate
+           """)
+    long countTimesheetByStatusAndLogDateRange(@Param("status") String status,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+
+    @Query("""
+           SELECT et.id
+           FROM EmployeeTimesheet et
+           WHERE et.status IN :statuses
+           ORDER BY et.logDate DESC, et.logTime DESC
+           """)
+    List<UUID> findTimesheetIdsByStatuses(@Param("statuses") List<String> statuses, Pageable pageable);
+
+    @Query("SELECT COUNT(et) FROM EmployeeTimesheet et WHERE et.status IN :statuses")
+    long countTimesheetByStatuses(@Param("statuses") List<String> statuses);
+
+    @Query("""
+           SELECT et.id
+           FROM EmployeeTimesheet et
+           WHERE et.status IN :statuses
+             AND et.logDate = :logDate
+           ORDER BY et.logTime DESC
+           """)
+    List<UUID> findTimesheetIdsByLogDate(@Param("statuses") List<String> statuses,
+                                         @Param("logDate") LocalDate logDate,
+                                         Pageable pageable);
+
+    @Query("SELECT COUNT(et) FROM EmployeeTimesheet et WHERE et.status IN :statuses AND et.logDate = :logDate")
+    long countTimesheetByLogDate(@Param("statuses") List<String> statuses, @Param("logDate") LocalDate logDate);
+
+    @Query("""
+           SELECT et.id
+           FROM EmployeeTimesheet et
+           WHERE et.status IN :statuses
+             AND et.logTime BETWEEN :timeFrom AND :timeTo
+           ORDER BY et.logDate DESC, et.logTime DESC
+           """)
+    List<UUID> findTimesheetIdsByLogTimeRange(@Param("statuses") List<String> statuses,
+                                              @Param("timeFrom") LocalTime timeFrom,
+                                              @Param("timeTo") LocalTime timeTo,
+                                              Pageable pageable);
+
+    @Query("SELECT COUNT(et) FROM EmployeeTimesheet et WHERE et.status IN :statuses AND et.logTime BETWEEN :timeFrom AND :timeTo")
+    long countTimesheetByLogTimeRange(@Param("statuses") List<String> statuses,
+                                      @Param("timeFrom") LocalTime timeFrom,
+                                      @Param("timeTo") LocalTime timeTo);
+
+    @Query("""
+           SELECT et.id
+           FROM EmployeeTimesheet et
+           JOIN et.employee e
+           WHERE et.status IN :statuses
+             AND LOWER(e.employeeNumber) LIKE CONCAT(LOWER(:employeeNumber), '%')
+           ORDER BY et.logDate DESC, et.logTime DESC
+           """)
+    List<UUID> findTimesheetIdsByEmployeeNumber(@Param("statuses") List<String> statuses,
+                                                @Param("employeeNumber") String employeeNumber,
+                                                Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(et)
+           FROM EmployeeTimesheet et
+           JOIN et.employee e
+           WHERE et.status IN :statuses
+             AND LOWER(e.employeeNumber) LIKE CONCAT(LOWER(:employeeNumber), '%')
+           """)
+    long countTimesheetByEmployeeNumber(@Param("statuses") List<String> statuses, @Param("employeeNumber") String employeeNumber);
+
+    /**
+     * Returns the ids of the timesheets with one of the given statuses that match the free text search parameter, best
+     * employee name match first and then the latest log first. The employees and shift schedules are matched through
+     * their trigram indexes before they are joined to the timesheets by the employee and shift schedule ids.
+     */
+    @Query(value = """
+           SELECT et.id
+           FROM sg_hris_employee_timesheet et
+           JOIN sg_hris_employee e ON e.id = et.employee_id
+           WHERE et.timesheet_status IN (:statuses)
+             AND (et.employee_id IN (SELECT se.id FROM sg_hris_employee se
+                                     WHERE LOWER(se.last_name) LIKE '%' || LOWER(:param) || '%'
+                                        OR LOWER(se.first_name) LIKE '%' || LOWER(:param) || '%'
+                                        OR LOWER(se.middle_name) LIKE '%' || LOWER(:param) || '%')
+                  OR et.employee_shift_schedule_id IN (SELECT ss.id FROM sg_hris_employee_shift_schedule ss
+                                                       WHERE LOWER(ss.shift_schedule) LIKE '%' || LOWER(:param) || '%')
+                  OR LOWER(et.timesheet_log_detail) = LOWER(:param))
+           ORDER BY WORD_SIMILARITY(LOWER(:param), LOWER(CONCAT_WS(' ', e.first_name, e.middle_name, e.last_name))) DESC,
+                    et.timesheet_log_date DESC, et.timesheet_log_time DESC
+           """, nativeQuery = true)
+    List<UUID> findTimesheetIdsByText(@Param("statuses") List<String> statuses,
+                                      @Param("param") String param,
+                                      Pageable pageable);
+
+    /**
+     * The same search as findTimesheetIdsByText, sorted by the latest log first instead of the best employee name match,
+     * for a database without the pg_trgm extension.
+     */
+    @Query(value = """
+           SELECT et.id
+           FROM sg_hris_employee_timesheet et
+           WHERE et.timesheet_status IN (:statuses)
+             AND (et.employee_id IN (SELECT se.id FROM sg_hris_employee se
+                                     WHERE LOWER(se.last_name) LIKE '%' || LOWER(:param) || '%'
+                                        OR LOWER(se.first_name) LIKE '%' || LOWER(:param) || '%'
+                                        OR LOWER(se.middle_name) LIKE '%' || LOWER(:param) || '%')
+                  OR et.employee_shift_schedule_id IN (SELECT ss.id FROM sg_hris_employee_shift_schedule ss
+                                                       WHERE LOWER(ss.shift_schedule) LIKE '%' || LOWER(:param) || '%')
+                  OR LOWER(et.timesheet_log_detail) = LOWER(:param))
+           ORDER BY et.timesheet_log_date DESC, et.timesheet_log_time DESC, et.id ASC
+           """, nativeQuery = true)
+    List<UUID> findTimesheetIdsByTextUnranked(@Param("statuses") List<String> statuses,
+                                              @Param("param") String param,
+                                              Pageable pageable);
+
+    @Query(value = """
+           SELECT COUNT(*)
+           FROM sg_hris_employee_timesheet et
+           WHERE et.timesheet_status IN (:statuses)
+             AND (et.employee_id IN (SELECT se.id FROM sg_hris_employee se
+                                     WHERE LOWER(se.last_name) LIKE '%' || LOWER(:param) || '%'
+                                        OR LOWER(se.first_name) LIKE '%' || LOWER(:param) || '%'
+                                        OR LOWER(se.middle_name) LIKE '%' || LOWER(:param) || '%')
+                  OR et.employee_shift_schedule_id IN (SELECT ss.id FROM sg_hris_employee_shift_schedule ss
+                                                       WHERE LOWER(ss.shift_schedule) LIKE '%' || LOWER(:param) || '%')
+                  OR LOWER(et.timesheet_log_detail) = LOWER(:param))
+           """, nativeQuery = true)
+    long countTimesheetByText(@Param("statuses") List<String> statuses, @Param("param") String param);
+
+    @EntityGraph(attributePaths = {"employee", "shiftSchedule", "shiftSchedule.employee"})
     @Query("""
            SELECT et
            FROM EmployeeTimesheet et
-           WHERE LOWER(et.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
-              OR LOWER(et.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
-              OR LOWER(et.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
-              OR LOWER(et.shiftSchedule) LIKE LOWER(CONCAT('%', :param, '%'))
-              OR LOWER(et.logDetail) LIKE LOWER(CONCAT('%', :param, '%'))
-              OR LOWER(et.status) LIKE LOWER(CONCAT('%', :param, '%'))
-              OR FUNCTION('TO_CHAR', et.logDate, 'YYYY-MM-DD') LIKE CONCAT('%', :param, '%')
-              OR FUNCTION('TO_CHAR', et.logTime, 'hh:mm:ss a') LIKE CONCAT('%', :param, '%')
+           WHERE et.id IN :ids
+           """)
+    List<EmployeeTimesheet> findTimesheetsByIds(@Param("ids") List<UUID> ids);
+
+    @Query("""
+           SELECT new io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetListDTO(et.id, e.employeeNumber, e.firstName, e.middleName,
+                                                                                            e.lastName, e.suffix, et.logDate, ss.shiftSchedule,
+                                                                                            et.logTime, et.logDetail, et.status, et.logImageId)
+           FROM EmployeeTimesheet et
+           JOIN et.employee e
+           JOIN et.shiftSchedule ss
+           WHERE et.id IN :ids
            """)
-    List<EmployeeTimesheet> findTimesheetByStringParameter(@Param("param") String param);
+    List<EmployeeTimesheetListDTO> findTimesheetListByIds(@Param("ids") List<UUID> ids);
 
+    @EntityGraph(attributePaths = {"employee", "shiftSchedule", "shiftSchedule.employee"})
     @Query("SELECT et FROM EmployeeTimesheet et WHERE et.employee = :employeeParam")
     List<EmployeeTimesheet> findTimesheetByEmployee(@Param("employeeParam") Employee employee);
 
     @Query("""
-           SELECT et
+           SELECT et.employee.id, et.logDate, et.logTime, et.logDetail
            FROM EmployeeTimesheet et
            WHERE et.status = 'APPROVED'
              AND et.logDate BETWEEN :startDate AND :endDate
-           ORDER BY et.employee.lastName ASC, et.logDate ASC
+             AND et.logTime IS NOT NULL
+           ORDER BY et.employee.id ASC, et.logDate ASC, et.logTime ASC
+           """)
+    List<Object[]> findApprovedPunchesByLogDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("""
+           SELECT et.logDate, et.logTime, et.logDetail
+           FROM EmployeeTimesheet et
+           WHERE et.employee.id = :employeeId
+             AND et.status = 'APPROVED'
+             AND et.logDate BETWEEN :startDate AND :endDate
+             AND et.logTime IS NOT NULL
+           ORDER BY et.logDate ASC, et.logTime ASC
            """)
-    List<EmployeeTimesheet> findTimesheetByLogDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    List<Object[]> findApprovedPunchesByEmployeeIdAndLogDateRange(@Param("employeeId") UUID employeeId,
+                                                                  @Param("startDate") LocalDate startDate,
+                                                                  @Param("endDate") LocalDate endDate);
 }
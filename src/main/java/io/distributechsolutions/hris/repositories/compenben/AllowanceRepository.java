@@ -2,6 +2,10 @@ package io.distributechsolutions.hris.repositories.compenben;
 
 import io.distributechsolutions.hris.entities.compenben.Allowance;
 import io.distributechsolutions.hris.entities.profile.Employee;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +14,11 @@ import java.util.List;
 import java.util.UUID;
 
 public interface AllowanceRepository extends JpaRepository<Allowance, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<Allowance> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee"})
     @Query("""
            SELECT a FROM Allowance a
            WHERE LOWER(a.allowanceCode) LIKE LOWER(CONCAT('%', :param, '%'))
@@ -17,9 +26,23 @@ public interface AllowanceRepository extends JpaRepository<Allowance, UUID> {
            OR LOWER(a.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(a.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(a.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY a.employee.lastName ASC, a.employee.firstName ASC, a.allowanceCode ASC, a.id ASC
            """)
-    public List<Allowance> findByStringParameter(@Param("param") String parameter);
+    List<Allowance> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(a) FROM Allowance a
+           WHERE LOWER(a.allowanceCode) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(a.allowanceType) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(a.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(a.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(a.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
 
     @Query("SELECT SUM(a.allowanceAmount) FROM Allowance a WHERE a.employee = :param")
     public Object findSumOfAllowanceByEmployee(@Param("param") Employee employee);
+
+    @Query("SELECT a.employee.id, SUM(a.allowanceAmount) FROM Allowance a GROUP BY a.employee.id")
+    public List<Object[]> findSumOfAllowanceGroupedByEmployee();
 }
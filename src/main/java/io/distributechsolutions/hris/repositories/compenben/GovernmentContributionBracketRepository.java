@@ -0,0 +1,17 @@
+package io.distributechsolutions.hris.repositories.compenben;
+
+import io.distributechsolutions.hris.entities.compenben.GovernmentContributionBracket;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface GovernmentContributionBracketRepository extends JpaRepository<GovernmentContributionBracket, UUID> {
+    @Query("""
+           SELECT gcb FROM GovernmentContributionBracket gcb
+           ORDER BY gcb.contributionType ASC, gcb.effectiveDate ASC, gcb.minimumCompensation ASC
+           """)
+    List<GovernmentContributionBracket> findAllOrderedBySchedule();
+}
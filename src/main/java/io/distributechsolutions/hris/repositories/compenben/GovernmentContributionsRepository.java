@@ -2,19 +2,47 @@ package io.distributechsolutions.hris.repositories.compenben;
 
 import io.distributechsolutions.hris.entities.compenben.GovernmentContributions;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 public interface GovernmentContributionsRepository extends JpaRepository<GovernmentContributions, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<GovernmentContributions> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee"})
     @Query("""
            SELECT gc FROM GovernmentContributions gc
            WHERE LOWER(gc.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(gc.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(gc.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY gc.employee.lastName ASC, gc.employee.firstName ASC
+           """)
+    List<GovernmentContributions> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(gc) FROM GovernmentContributions gc
+           WHERE LOWER(gc.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(gc.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(gc.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
+
+    @Query("""
+           SELECT gc FROM GovernmentContributions gc
+           JOIN FETCH gc.employee
+           WHERE gc.employee.id IN (SELECT r.employee.id FROM Rates r
+                                    WHERE r.employee.id IN (SELECT et.employee.id FROM EmployeeTimesheet et
+                                                            WHERE et.status = 'APPROVED'
+                                                              AND et.logDate BETWEEN :startDate AND :endDate))
            """)
-    List<GovernmentContributions> findByStringParameter(@Param("param") String param);
+    List<GovernmentContributions> findByEmployeesWithApprovedTimesheet(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
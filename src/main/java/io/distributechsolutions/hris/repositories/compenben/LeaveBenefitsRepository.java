@@ -3,6 +3,9 @@ package io.distributechsolutions.hris.repositories.compenben;
 import io.distributechsolutions.hris.entities.compenben.LeaveBenefits;
 import io.distributechsolutions.hris.entities.profile.Employee;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,25 +14,58 @@ import java.util.List;
 import java.util.UUID;
 
 public interface LeaveBenefitsRepository extends JpaRepository<LeaveBenefits, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<LeaveBenefits> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee"})
     @Query("""
            SELECT lb FROM LeaveBenefits lb
            WHERE LOWER(lb.leaveCode) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(lb.leaveType) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(lb.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(lb.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY lb.employee.lastName ASC, lb.employee.firstName ASC, lb.leaveCode ASC, lb.id ASC
            """)
-    List<LeaveBenefits> findByStringParameter(@Param("param") String param);
+    List<LeaveBenefits> findByStringParameter(@Param("param") String param, Pageable pageable);
 
+    @Query("""
+           SELECT COUNT(lb) FROM LeaveBenefits lb
+           WHERE LOWER(lb.leaveCode) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(lb.leaveType) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(lb.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(lb.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
+
+    @EntityGraph(attributePaths = {"employee"})
     @Query("""
            SELECT lb FROM LeaveBenefits lb
            WHERE lb.leaveForYear = :param
            OR lb.leaveCount = :param
+           ORDER BY lb.employee.lastName ASC, lb.employee.firstName ASC, lb.leaveCode ASC, lb.id ASC
+           """)
+    List<LeaveBenefits> findByIntegerParameter(@Param("param") Integer param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(lb) FROM LeaveBenefits lb
+           WHERE lb.leaveForYear = :param
+           OR lb.leaveCount = :param
+           """)
+    long countByIntegerParameter(@Param("param") Integer param);
+
+    @EntityGraph(attributePaths = {"employee"})
+    @Query("""
+           SELECT lb FROM LeaveBenefits lb
+           WHERE lb.leaveActive = :param
+           ORDER BY lb.employee.lastName ASC, lb.employee.firstName ASC, lb.leaveCode ASC, lb.id ASC
            """)
-    List<LeaveBenefits> findByIntegerParameter(@Param("param") Integer param);
+    List<LeaveBenefits> findByBooleanParameter(@Param("param") boolean param, Pageable pageable);
 
-    @Query("SELECT lb FROM LeaveBenefits lb WHERE lb.leaveActive = :param")
-    List<LeaveBenefits> findByBooleanParameter(@Param("param") boolean param);
+    @Query("SELECT COUNT(lb) FROM LeaveBenefits lb WHERE lb.leaveActive = :param")
+    long countByBooleanParameter(@Param("param") boolean param);
 
+    @EntityGraph(attributePaths = {"employee"})
     @Query("SELECT lb FROM LeaveBenefits lb WHERE lb.employee = :param AND lb.leaveActive = true")
     List<LeaveBenefits> findByEmployee(@Param("param") Employee employee);
 }
@@ -1,15 +1,25 @@
 package io.distributechsolutions.hris.repositories.compenben;
 
+import io.distributechsolutions.hris.dtos.compenben.LoanDeductionListDTO;
 import io.distributechsolutions.hris.entities.compenben.LoanDeduction;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 public interface LoanDeductionRepository extends JpaRepository<LoanDeduction, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<LoanDeduction> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee"})
     @Query("""
            SELECT ld FROM LoanDeduction ld
            WHERE LOWER(ld.loanType) LIKE LOWER(CONCAT('%', :param, '%'))
@@ -17,6 +27,50 @@ public interface LoanDeductionRepository extends JpaRepository<LoanDeduction, UU
            OR LOWER(ld.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(ld.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(ld.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY ld.employee.lastName ASC, ld.employee.firstName ASC, ld.loanStartDate DESC
+           """)
+    List<LoanDeduction> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(ld) FROM LoanDeduction ld
+           WHERE LOWER(ld.loanType) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ld.loanDescription) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ld.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ld.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ld.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
+
+    @Query("""
+           SELECT new io.distributechsolutions.hris.dtos.compenben.LoanDeductionListDTO(ld.id, e.employeeNumber, e.firstName, e.lastName, e.suffix,
+                                                                                       ld.loanType, ld.loanDescription, ld.loanStartDate,
+                                                                                       ld.loanEndDate, ld.loanAmount, ld.monthlyDeduction)
+           FROM LoanDeduction ld
+           JOIN ld.employee e
+           ORDER BY e.lastName ASC, e.firstName ASC, ld.loanStartDate DESC
+           """)
+    List<LoanDeductionListDTO> findLoanDeductionList(Pageable pageable);
+
+    @Query("""
+           SELECT new io.distributechsolutions.hris.dtos.compenben.LoanDeductionListDTO(ld.id, e.employeeNumber, e.firstName, e.lastName, e.suffix,
+                                                                                       ld.loanType, ld.loanDescription, ld.loanStartDate,
+                                                                                       ld.loanEndDate, ld.loanAmount, ld.monthlyDeduction)
+           FROM LoanDeduction ld
+           JOIN ld.employee e
+           WHERE LOWER(ld.loanType) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ld.loanDescription) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(e.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(e.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(e.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY e.lastName ASC, e.firstName ASC, ld.loanStartDate DESC
+           """)
+    List<LoanDeductionListDTO> findLoanDeductionListByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee"})
+    @Query("""
+           SELECT ld FROM LoanDeduction ld
+           WHERE ld.loanStartDate <= :endDate
+             AND ld.loanEndDate >= :startDate
            """)
-    List<LoanDeduction> findByStringParameter(@Param("param") String param);
+    List<LoanDeduction> findActiveByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
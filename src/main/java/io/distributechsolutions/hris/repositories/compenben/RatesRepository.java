@@ -1,25 +1,78 @@
 package io.distributechsolutions.hris.repositories.compenben;
 
+import io.distributechsolutions.hris.dtos.compenben.RatesListDTO;
 import io.distributechsolutions.hris.entities.compenben.Rates;
-
 import io.distributechsolutions.hris.entities.profile.Employee;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 public interface RatesRepository extends JpaRepository<Rates, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<Rates> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee"})
     @Query("""
            SELECT r FROM Rates r
            WHERE LOWER(r.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(r.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(r.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(r.rateType) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY r.employee.lastName ASC, r.employee.firstName ASC
            """)
-    List<Rates> findByStringParameter(@Param("param") String param);
+    List<Rates> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(r) FROM Rates r
+           WHERE LOWER(r.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(r.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(r.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(r.rateType) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
+
+    @Query("""
+           SELECT new io.distributechsolutions.hris.dtos.compenben.RatesListDTO(r.id, e.employeeNumber, e.firstName, e.middleName, e.lastName,
+                                                                               e.suffix, r.rateType, r.basicCompensationRate,
+                                                                               r.dailyCompensationRate, r.hourlyCompensationRate)
+           FROM Rates r
+           JOIN r.employee e
+           ORDER BY e.lastName ASC, e.firstName ASC
+           """)
+    List<RatesListDTO> findRatesList(Pageable pageable);
+
+    @Query("""
+           SELECT new io.distributechsolutions.hris.dtos.compenben.RatesListDTO(r.id, e.employeeNumber, e.firstName, e.middleName, e.lastName,
+                                                                               e.suffix, r.rateType, r.basicCompensationRate,
+                                                                               r.dailyCompensationRate, r.hourlyCompensationRate)
+           FROM Rates r
+           JOIN r.employee e
+           WHERE LOWER(e.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(e.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(e.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(r.rateType) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY e.lastName ASC, e.firstName ASC
+           """)
+    List<RatesListDTO> findRatesListByStringParameter(@Param("param") String param, Pageable pageable);
 
     @Query("SELECT r FROM Rates r WHERE r.employee = :employee")
     Rates findByEmployee(@Param("employee") Employee employee);
+
+    @Query("""
+           SELECT r FROM Rates r
+           JOIN FETCH r.employee
+           WHERE r.employee.id IN (SELECT et.employee.id FROM EmployeeTimesheet et
+                                   WHERE et.status = 'APPROVED'
+                                     AND et.logDate BETWEEN :startDate AND :endDate)
+           """)
+    List<Rates> findByEmployeesWithApprovedTimesheet(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
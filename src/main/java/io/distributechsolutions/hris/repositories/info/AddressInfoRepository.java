@@ -2,6 +2,10 @@ package io.distributechsolutions.hris.repositories.info;
 
 import io.distributechsolutions.hris.entities.info.AddressInfo;
 import io.distributechsolutions.hris.entities.profile.Employee;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +14,45 @@ import java.util.List;
 import java.util.UUID;
 
 public interface AddressInfoRepository extends JpaRepository<AddressInfo, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee", "barangay", "municipality", "province", "region"})
+    Page<AddressInfo> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee", "barangay", "municipality", "province", "region"})
     @Query("SELECT ai FROM AddressInfo ai WHERE ai.employee = :param")
     List<AddressInfo> findByEmployee(@Param("param") Employee employee);
+
+    @EntityGraph(attributePaths = {"employee", "barangay", "municipality", "province", "region"})
+    @Query("""
+           SELECT ai FROM AddressInfo ai
+           LEFT JOIN ai.barangay b
+           LEFT JOIN ai.municipality m
+           LEFT JOIN ai.province p
+           WHERE LOWER(ai.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ai.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ai.addressType) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ai.addressDetail) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ai.streetName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(b.barangayDescription) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(m.municipalityDescription) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(p.provinceDescription) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY ai.employee.lastName ASC, ai.employee.firstName ASC, ai.addressType ASC, ai.id ASC
+           """)
+    List<AddressInfo> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(ai) FROM AddressInfo ai
+           LEFT JOIN ai.barangay b
+           LEFT JOIN ai.municipality m
+           LEFT JOIN ai.province p
+           WHERE LOWER(ai.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ai.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ai.addressType) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ai.addressDetail) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ai.streetName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(b.barangayDescription) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(m.municipalityDescription) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(p.provinceDescription) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
 }
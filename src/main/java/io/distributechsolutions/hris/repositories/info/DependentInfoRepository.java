@@ -2,6 +2,10 @@ package io.distributechsolutions.hris.repositories.info;
 
 import io.distributechsolutions.hris.entities.info.DependentInfo;
 import io.distributechsolutions.hris.entities.profile.Employee;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +14,31 @@ import java.util.List;
 import java.util.UUID;
 
 public interface DependentInfoRepository extends JpaRepository<DependentInfo, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<DependentInfo> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee"})
     @Query("SELECT di FROM DependentInfo di WHERE di.employee = :param")
     List<DependentInfo> findByEmployee(@Param("param") Employee employee);
+
+    @EntityGraph(attributePaths = {"employee"})
+    @Query("""
+           SELECT di FROM DependentInfo di
+           WHERE LOWER(di.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(di.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(di.fullName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(di.relationship) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY di.employee.lastName ASC, di.employee.firstName ASC, di.fullName ASC, di.id ASC
+           """)
+    List<DependentInfo> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(di) FROM DependentInfo di
+           WHERE LOWER(di.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(di.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(di.fullName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(di.relationship) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
 }
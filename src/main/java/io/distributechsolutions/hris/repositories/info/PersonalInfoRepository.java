@@ -3,13 +3,43 @@ package io.distributechsolutions.hris.repositories.info;
 import io.distributechsolutions.hris.entities.info.PersonalInfo;
 import io.distributechsolutions.hris.entities.profile.Employee;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface PersonalInfoRepository extends JpaRepository<PersonalInfo, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<PersonalInfo> findAll(Pageable pageable);
+
     @Query("SELECT pi FROM PersonalInfo pi WHERE pi.employee = :param")
     PersonalInfo findByEmployee(@Param("param") Employee employee);
+
+    @EntityGraph(attributePaths = {"employee"})
+    @Query("""
+           SELECT pi FROM PersonalInfo pi
+           WHERE LOWER(pi.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pi.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pi.placeOfBirth) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pi.maritalStatus) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pi.emailAddress) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY pi.employee.lastName ASC, pi.employee.firstName ASC, pi.id ASC
+           """)
+    List<PersonalInfo> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(pi) FROM PersonalInfo pi
+           WHERE LOWER(pi.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pi.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pi.placeOfBirth) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pi.maritalStatus) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pi.emailAddress) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
 }
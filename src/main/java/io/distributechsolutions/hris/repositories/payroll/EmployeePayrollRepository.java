@@ -1,9 +1,67 @@
 package io.distributechsolutions.hris.repositories.payroll;
 
 import io.distributechsolutions.hris.entities.payroll.EmployeePayroll;
+import io.distributechsolutions.hris.entities.profile.Employee;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
-public interface EmployeePayrollRepository extends JpaRepository<EmployeePayroll, UUID> {
+public interface EmployeePayrollRepository extends JpaRepository<EmployeePayroll, UUID>, EmployeePayrollRepositoryCustom {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<EmployeePayroll> findAll(Pageable pageable);
+
+    @Query("""
+           SELECT ep FROM EmployeePayroll ep
+           WHERE ep.employee = :employee
+             AND ep.cutOffFromDate = :cutOffFromDate
+             AND ep.cutOffToDate = :cutOffToDate
+           """)
+    EmployeePayroll findByEmployeeAndCutOff(@Param("employee") Employee employee,
+                                            @Param("cutOffFromDate") LocalDate cutOffFromDate,
+                                            @Param("cutOffToDate") LocalDate cutOffToDate);
+
+    /**
+     * Returns the employee ID, the taxable compensation and the withheld tax of the cut-offs that end within the given
+     * dates, summed per employee. The taxable compensation is the gross pay less the employee's mandatory contributions.
+     */
+    @Query("""
+           SELECT ep.employee.id,
+                  SUM(ep.totalGrossPayAmount - ep.sssDeductionAmount - ep.hdmfDeductionAmount - ep.philhealthDeductionAmount),
+                  SUM(ep.withholdingTaxDeductionAmount)
+           FROM EmployeePayroll ep
+           WHERE ep.cutOffToDate >= :fromDate
+             AND ep.cutOffToDate < :toDate
+           GROUP BY ep.employee.id
+           """)
+    List<Object[]> findSumOfTaxableCompensationAndWithholdingTaxGroupedByEmployee(@Param("fromDate") LocalDate fromDate,
+                                                                                  @Param("toDate") LocalDate toDate);
+
+    @EntityGraph(attributePaths = {"employee"})
+    @Query("""
+           SELECT ep FROM EmployeePayroll ep
+           WHERE LOWER(ep.employee.employeeNumber) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ep.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ep.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ep.payrollFrequency) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY ep.cutOffToDate DESC, ep.employee.lastName ASC, ep.employee.firstName ASC, ep.id ASC
+           """)
+    List<EmployeePayroll> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(ep) FROM EmployeePayroll ep
+           WHERE LOWER(ep.employee.employeeNumber) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ep.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ep.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ep.payrollFrequency) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
 }
@@ -0,0 +1,15 @@
+package io.distributechsolutions.hris.repositories.payroll;
+
+import io.distributechsolutions.hris.entities.payroll.EmployeePayroll;
+
+import java.util.List;
+
+public interface EmployeePayrollRepositoryCustom {
+    /**
+     * Inserts the employee payroll records, or overwrites the existing records that have the same employee and cut-off dates.
+     *
+     * @param employeePayrollList - The employee payroll records to insert or overwrite.
+     * @return The number of inserted or overwritten records.
+     */
+    int upsertAll(List<EmployeePayroll> employeePayrollList);
+}
@@ -0,0 +1,109 @@
+package io.distributechsolutions.hris.repositories.payroll;
+
+import io.distributechsolutions.hris.entities.payroll.EmployeePayroll;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes employee payroll records with PostgreSQL's INSERT ... ON CONFLICT, keyed by the employee and cut-off dates,
+ * so a cut-off can be generated again without duplicating its records.
+ */
+public class EmployeePayrollRepositoryCustomImpl implements EmployeePayrollRepositoryCustom {
+    private static final String[] COLUMNS = {
+            "id", "employee_id", "cut_off_from_date", "cut_off_to_date", "payroll_frequency",
+            "basic_pay_amount", "allowance_pay_amount", "absent_deduction_amount", "late_or_undertime_deduction_amount",
+            "rest_day_overtime_pay_amount", "night_differential_pay_amount", "leave_pay_amount",
+            "regular_holiday_pay_amount", "special_holiday_pay_amount", "adjustment_pay_amount", "total_gross_pay_amount",
+            "sss_deduction_amount", "hdmf_deduction_amount", "philhealth_deduction_amount",
+            "sss_employer_share_amount", "hdmf_employer_share_amount", "philhealth_employer_share_amount",
+            "withholding_tax_deduction_amount", "total_loan_deduction_amount", "other_deduction_amount",
+            "created_by", "date_and_time_created", "updated_by", "date_and_time_updated"
+    };
+
+    // The columns that are kept from the existing record when it is overwritten.
+    private static final List<String> PRESERVED_COLUMNS = List.of("id", "employee_id", "cut_off_from_date", "cut_off_to_date",
+                                                                  "created_by", "date_and_time_created");
+
+    // PostgreSQL allows at most 32767 bind parameters per statement.
+    private static final int MAX_ROWS_PER_STATEMENT = 32767 / COLUMNS.length;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeePayrollRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int upsertAll(List<EmployeePayroll> employeePayrollList) {
+        int upsertedCount = 0;
+
+        for (int fromIndex = 0; fromIndex < employeePayrollList.size(); fromIndex += MAX_ROWS_PER_STATEMENT) {
+            List<EmployeePayroll> employeePayrollChunk = employeePayrollList.subList(fromIndex, Math.min(fromIndex + MAX_ROWS_PER_STATEMENT, employeePayrollList.size()));
+            List<Object> parameters = new ArrayList<>(employeePayrollChunk.size() * COLUMNS.length);
+
+            for (EmployeePayroll employeePayroll : employeePayrollChunk) {
+                parameters.add(employeePayroll.getId() != null ? employeePayroll.getId() : UUID.randomUUID());
+                parameters.add(employeePayroll.getEmployee().getId());
+                parameters.add(employeePayroll.getCutOffFromDate());
+                parameters.add(employeePayroll.getCutOffToDate());
+                parameters.add(employeePayroll.getPayrollFrequency());
+                parameters.add(employeePayroll.getBasicPayAmount());
+                parameters.add(employeePayroll.getAllowancePayAmount());
+                parameters.add(employeePayroll.getAbsentDeductionAmount());
+                parameters.add(employeePayroll.getLateOrUndertimeDeductionAmount());
+                parameters.add(employeePayroll.getRestDayOvertimePayAmount());
+                parameters.add(employeePayroll.getNightDifferentialPayAmount());
+                parameters.add(employeePayroll.getLeavePayAmount());
+                parameters.add(employeePayroll.getRegularHolidayPayAmount());
+                parameters.add(employeePayroll.getSpecialHolidayPayAmount());
+                parameters.add(employeePayroll.getAdjustmentPayAmount());
+                parameters.add(employeePayroll.getTotalGrossPayAmount());
+                parameters.add(employeePayroll.getSssDeductionAmount());
+                parameters.add(employeePayroll.getHdmfDeductionAmount());
+                parameters.add(employeePayroll.getPhilhealthDeductionAmount());
+                parameters.add(employeePayroll.getSssEmployerShareAmount());
+                parameters.add(employeePayroll.getHdmfEmployerShareAmount());
+                parameters.add(employeePayroll.getPhilhealthEmployerShareAmount());
+                parameters.add(employeePayroll.getWithholdingTaxDeductionAmount());
+                parameters.add(employeePayroll.getTotalLoanDeductionAmount());
+                parameters.add(employeePayroll.getOtherDeductionAmount());
+                parameters.add(employeePayroll.getCreatedBy());
+                parameters.add(employeePayroll.getDateAndTimeCreated());
+                parameters.add(employeePayroll.getUpdatedBy());
+                parameters.add(employeePayroll.getDateAndTimeUpdated());
+            }
+
+            upsertedCount += jdbcTemplate.update(this.buildUpsertStatement(employeePayrollChunk.size()), parameters.toArray());
+        }
+
+        return upsertedCount;
+    }
+
+    /**
+     * Returns a single multi-row INSERT ... ON CONFLICT statement for the given number of rows.
+     */
+    private String buildUpsertStatement(int rowCount) {
+        String rowPlaceholders = "(".concat(String.join(", ", Collections.nCopies(COLUMNS.length, "?"))).concat(")");
+
+        StringBuilder upsertStatement = new StringBuilder("INSERT INTO sg_hris_employee_payroll (")
+                .append(String.join(", ", COLUMNS))
+                .append(") VALUES ")
+                .append(String.join(", ", Collections.nCopies(rowCount, rowPlaceholders)))
+                .append(" ON CONFLICT (employee_id, cut_off_from_date, cut_off_to_date) DO UPDATE SET ");
+
+        List<String> updateAssignments = new ArrayList<>();
+
+        for (String column : COLUMNS) {
+            if (!PRESERVED_COLUMNS.contains(column)) {
+                updateAssignments.add(column.concat(" = EXCLUDED.").concat(column));
+            }
+        }
+
+        return upsertStatement.append(String.join(", ", updateAssignments)).toString();
+    }
+}
@@ -0,0 +1,36 @@
+package io.distributechsolutions.hris.repositories.payroll;
+
+import io.distributechsolutions.hris.entities.payroll.PayrollRun;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, UUID> {
+    @Query("SELECT pr FROM PayrollRun pr ORDER BY pr.dateAndTimeCreated DESC")
+    List<PayrollRun> findLatestPayrollRuns(Pageable pageable);
+
+    @Query("SELECT pr FROM PayrollRun pr WHERE pr.runStatus IN :runStatuses")
+    List<PayrollRun> findByRunStatuses(@Param("runStatuses") List<String> runStatuses);
+
+    @Query("""
+           SELECT pr FROM PayrollRun pr
+           WHERE LOWER(pr.runStatus) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pr.payrollFrequency) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pr.createdBy) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY pr.dateAndTimeCreated DESC
+           """)
+    List<PayrollRun> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(pr) FROM PayrollRun pr
+           WHERE LOWER(pr.runStatus) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pr.payrollFrequency) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(pr.createdBy) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
+}
@@ -0,0 +1,17 @@
+package io.distributechsolutions.hris.repositories.payroll;
+
+import io.distributechsolutions.hris.entities.payroll.WithholdingTaxBracket;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface WithholdingTaxBracketRepository extends JpaRepository<WithholdingTaxBracket, UUID> {
+    @Query("""
+           SELECT wtb FROM WithholdingTaxBracket wtb
+           ORDER BY wtb.payrollFrequency ASC, wtb.effectiveDate ASC, wtb.minimumTaxableCompensation ASC
+           """)
+    List<WithholdingTaxBracket> findAllOrderedByTable();
+}
@@ -2,6 +2,9 @@ package io.distributechsolutions.hris.repositories.profile;
 
 import io.distributechsolutions.hris.entities.profile.EmployeeDepartment;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +13,11 @@ import java.util.List;
 import java.util.UUID;
 
 public interface EmployeeDepartmentRepository extends JpaRepository<EmployeeDepartment, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee", "department"})
+    Page<EmployeeDepartment> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee", "department"})
     @Query("""
            SELECT ed FROM EmployeeDepartment ed
            WHERE LOWER(ed.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
@@ -17,9 +25,28 @@ public interface EmployeeDepartmentRepository extends JpaRepository<EmployeeDepa
            OR LOWER(ed.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(ed.department.code) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(ed.department.name) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY ed.employee.lastName ASC, ed.employee.firstName ASC, ed.id ASC
+           """)
+    List<EmployeeDepartment> findByStringParameter(@Param("param") String parameter, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(ed) FROM EmployeeDepartment ed
+           WHERE LOWER(ed.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.department.code) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.department.name) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String parameter);
+
+    @EntityGraph(attributePaths = {"employee", "department"})
+    @Query("""
+           SELECT ed FROM EmployeeDepartment ed
+           WHERE ed.currentDepartment = :param
+           ORDER BY ed.employee.lastName ASC, ed.employee.firstName ASC, ed.id ASC
            """)
-    List<EmployeeDepartment> findByStringParameter(@Param("param") String parameter);
+    List<EmployeeDepartment> findByBooleanParameter(@Param("param") boolean param, Pageable pageable);
 
-    @Query("SELECT ed FROM EmployeeDepartment ed WHERE ed.currentDepartment = :param")
-    List<EmployeeDepartment> findByBooleanParameter(@Param("param") boolean param);
+    @Query("SELECT COUNT(ed) FROM EmployeeDepartment ed WHERE ed.currentDepartment = :param")
+    long countByBooleanParameter(@Param("param") boolean param);
 }
@@ -2,6 +2,10 @@ package io.distributechsolutions.hris.repositories.profile;
 
 import io.distributechsolutions.hris.entities.profile.Employee;
 import io.distributechsolutions.hris.entities.profile.EmployeeDocument;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +14,35 @@ import java.util.List;
 import java.util.UUID;
 
 public interface EmployeeDocumentRepository extends JpaRepository<EmployeeDocument, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee"})
+    Page<EmployeeDocument> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee"})
     @Query("SELECT ed FROM EmployeeDocument ed WHERE ed.employee = :param")
     List<EmployeeDocument> getByEmployee(@Param("param") Employee employee);
+
+    @EntityGraph(attributePaths = {"employee"})
+    @Query("""
+           SELECT ed FROM EmployeeDocument ed
+           WHERE LOWER(ed.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.documentType) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.fileName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.fileType) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.remarks) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY ed.employee.lastName ASC, ed.employee.firstName ASC, ed.documentType ASC, ed.id ASC
+           """)
+    List<EmployeeDocument> findByStringParameter(@Param("param") String param, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(ed) FROM EmployeeDocument ed
+           WHERE LOWER(ed.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.documentType) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.fileName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.fileType) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ed.remarks) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String param);
 }
@@ -2,6 +2,9 @@ package io.distributechsolutions.hris.repositories.profile;
 
 import io.distributechsolutions.hris.entities.profile.EmployeePosition;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +13,11 @@ import java.util.List;
 import java.util.UUID;
 
 public interface EmployeePositionRepository extends JpaRepository<EmployeePosition, UUID> {
+    @Override
+    @EntityGraph(attributePaths = {"employee", "position"})
+    Page<EmployeePosition> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"employee", "position"})
     @Query("""
            SELECT ep FROM EmployeePosition ep
            WHERE LOWER(ep.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
@@ -17,9 +25,28 @@ public interface EmployeePositionRepository extends JpaRepository<EmployeePositi
            OR LOWER(ep.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(ep.position.code) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(ep.position.name) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY ep.employee.lastName ASC, ep.employee.firstName ASC, ep.id ASC
+           """)
+    List<EmployeePosition> findByStringParameter(@Param("param") String parameter, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(ep) FROM EmployeePosition ep
+           WHERE LOWER(ep.employee.firstName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ep.employee.middleName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ep.employee.lastName) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ep.position.code) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(ep.position.name) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String parameter);
+
+    @EntityGraph(attributePaths = {"employee", "position"})
+    @Query("""
+           SELECT ep FROM EmployeePosition ep
+           WHERE ep.currentPosition = :param
+           ORDER BY ep.employee.lastName ASC, ep.employee.firstName ASC, ep.id ASC
            """)
-    List<EmployeePosition> findByStringParameter(@Param("param") String parameter);
+    List<EmployeePosition> findByBooleanParameter(@Param("param") boolean param, Pageable pageable);
 
-    @Query("SELECT ep FROM EmployeePosition ep WHERE ep.currentPosition = :param")
-    List<EmployeePosition> findByBooleanParameter(@Param("param") boolean param);
+    @Query("SELECT COUNT(ep) FROM EmployeePosition ep WHERE ep.currentPosition = :param")
+    long countByBooleanParameter(@Param("param") boolean param);
 }
@@ -1,25 +1,92 @@
 package io.distributechsolutions.hris.repositories.profile;
 
+import io.distributechsolutions.hris.dtos.profile.EmployeeListDTO;
 import io.distributechsolutions.hris.entities.profile.Employee;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
 
     @Query("""
-           SELECT e FROM Employee e WHERE
-           LOWER(e.employeeNumber) LIKE LOWER(CONCAT('%', :param, '%')) OR
-           LOWER(e.lastName) LIKE LOWER(CONCAT('%', :param, '%')) OR
-           LOWER(e.firstName) LIKE LOWER(CONCAT('%', :param, '%')) OR
-           LOWER(e.middleName) LIKE LOWER(CONCAT('%', :param, '%')) OR
-           LOWER(e.gender) LIKE LOWER(CONCAT('%', :param, '%'))
+           SELECT new io.distributechsolutions.hris.dtos.profile.EmployeeListDTO(e.id, e.employeeNumber, e.firstName, e.middleName,
+                                                                                e.lastName, e.suffix, e.dateHired)
+           FROM Employee e
+           ORDER BY e.lastName ASC, e.firstName ASC
            """)
-    List<Employee> findEmployeesByParameter(@Param("param") String param);
+    List<EmployeeListDTO> findEmployeeList(Pageable pageable);
+
+    @Query("""
+           SELECT e.id FROM Employee e
+           WHERE LOWER(e.employeeNumber) LIKE CONCAT(LOWER(:employeeNumber), '%')
+           ORDER BY e.employeeNumber ASC
+           """)
+    List<UUID> findEmployeeIdsByEmployeeNumber(@Param("employeeNumber") String employeeNumber, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM Employee e WHERE LOWER(e.employeeNumber) LIKE CONCAT(LOWER(:employeeNumber), '%')")
+    long countByEmployeeNumber(@Param("employeeNumber") String employeeNumber);
+
+    @Query("""
+           SELECT e.id FROM Employee e
+           WHERE e.dateHired = :dateHired
+           ORDER BY e.lastName ASC, e.firstName ASC
+           """)
+    List<UUID> findEmployeeIdsByDateHired(@Param("dateHired") LocalDate dateHired, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM Employee e WHERE e.dateHired = :dateHired")
+    long countByDateHired(@Param("dateHired") LocalDate dateHired);
+
+    /**
+     * Returns the ids of the employees that match the free text search parameter, best match first, one page at a time. The LOWER(column) LIKE
+     * predicates are served by the trigram indexes of {@link io.distributechsolutions.hris.configs.SearchIndexConfig}.
+     */
+    @Query(value = """
+           SELECT e.id FROM sg_hris_employee e
+           WHERE LOWER(e.employee_number) LIKE '%' || LOWER(:param) || '%'
+              OR LOWER(e.last_name) LIKE '%' || LOWER(:param) || '%'
+              OR LOWER(e.first_name) LIKE '%' || LOWER(:param) || '%'
+              OR LOWER(e.middle_name) LIKE '%' || LOWER(:param) || '%'
+           ORDER BY WORD_SIMILARITY(LOWER(:param), LOWER(CONCAT_WS(' ', e.employee_number, e.first_name, e.middle_name, e.last_name))) DESC,
+                    e.last_name ASC, e.first_name ASC
+           """, nativeQuery = true)
+    List<UUID> findEmployeeIdsByText(@Param("param") String param, Pageable pageable);
+
+    /**
+     * The same search as findEmployeeIdsByText, sorted by name instead of the best match, for a database without the
+     * pg_trgm extension.
+     */
+    @Query(value = """
+           SELECT e.id FROM sg_hris_employee e
+           WHERE LOWER(e.employee_number) LIKE '%' || LOWER(:param) || '%'
+              OR LOWER(e.last_name) LIKE '%' || LOWER(:param) || '%'
+              OR LOWER(e.first_name) LIKE '%' || LOWER(:param) || '%'
+              OR LOWER(e.middle_name) LIKE '%' || LOWER(:param) || '%'
+           ORDER BY e.last_name ASC, e.first_name ASC, e.id ASC
+           """, nativeQuery = true)
+    List<UUID> findEmployeeIdsByTextUnranked(@Param("param") String param, Pageable pageable);
+
+    @Query(value = """
+           SELECT COUNT(*) FROM sg_hris_employee e
+           WHERE LOWER(e.employee_number) LIKE '%' || LOWER(:param) || '%'
+              OR LOWER(e.last_name) LIKE '%' || LOWER(:param) || '%'
+              OR LOWER(e.first_name) LIKE '%' || LOWER(:param) || '%'
+              OR LOWER(e.middle_name) LIKE '%' || LOWER(:param) || '%'
+           """, nativeQuery = true)
+    long countByText(@Param("param") String param);
+
+    @Query("""
+           SELECT new io.distributechsolutions.hris.dtos.profile.EmployeeListDTO(e.id, e.employeeNumber, e.firstName, e.middleName,
+                                                                                e.lastName, e.suffix, e.dateHired)
+           FROM Employee e
+           WHERE e.id IN :ids
+           """)
+    List<EmployeeListDTO> findEmployeeListByIds(@Param("ids") List<UUID> ids);
 
     @Query(value = """
             SELECT she.* FROM sg_hris_employee she
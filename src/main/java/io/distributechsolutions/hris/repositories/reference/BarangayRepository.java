@@ -2,13 +2,24 @@ package io.distributechsolutions.hris.repositories.reference;
 
 import io.distributechsolutions.hris.entities.reference.Barangay;
 
+import jakarta.persistence.QueryHint;
+
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface BarangayRepository extends JpaRepository<Barangay, Long> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<Barangay> findAll(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT b FROM Barangay b WHERE b.municipalityCode = :param")
     List<Barangay> findBarangaysByMunicipalityCode(@Param("param") Long municipalityCode);
 }
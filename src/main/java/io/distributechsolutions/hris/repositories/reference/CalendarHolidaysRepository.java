@@ -1,19 +1,41 @@
 package io.distributechsolutions.hris.repositories.reference;
 
 import io.distributechsolutions.hris.entities.reference.CalendarHolidays;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 public interface CalendarHolidaysRepository extends JpaRepository<CalendarHolidays, UUID> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<CalendarHolidays> findAll(Pageable pageable);
+
     @Query("""
            SELECT ch FROM CalendarHolidays ch WHERE
            LOWER(ch.holidayType) LIKE LOWER(CONCAT('%', :param, '%')) OR
            LOWER(ch.holidayDescription) LIKE LOWER(CONCAT('%', :param, '%')) OR
-           CAST(ch.holidayYear AS STRING) LIKE LOWER(CONCAT('%', :param, '%')) 
+           CAST(ch.holidayYear AS STRING) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY ch.holidayDate DESC
            """)
-    List<CalendarHolidays> findByStringParameter(@Param("param") String parameter);
+    List<CalendarHolidays> findByStringParameter(@Param("param") String parameter, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(ch) FROM CalendarHolidays ch WHERE
+           LOWER(ch.holidayType) LIKE LOWER(CONCAT('%', :param, '%')) OR
+           LOWER(ch.holidayDescription) LIKE LOWER(CONCAT('%', :param, '%')) OR
+           CAST(ch.holidayYear AS STRING) LIKE LOWER(CONCAT('%', :param, '%'))
+           """)
+    long countByStringParameter(@Param("param") String parameter);
+
+    @Query("SELECT ch.holidayDate, ch.holidayType FROM CalendarHolidays ch WHERE ch.holidayDate BETWEEN :fromDate AND :toDate")
+    List<Object[]> findHolidayDatesAndTypesByDateRange(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 }
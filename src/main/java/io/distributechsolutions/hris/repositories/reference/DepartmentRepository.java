@@ -1,18 +1,35 @@
 package io.distributechsolutions.hris.repositories.reference;
 
 import io.distributechsolutions.hris.entities.reference.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface DepartmentRepository extends JpaRepository<Department, UUID> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<Department> findAll(Pageable pageable);
+
     @Query("""
            SELECT d FROM Department d
            WHERE LOWER(d.code) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(d.name) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY d.name ASC
+           """)
+    List<Department> findByStringParameter(@Param("param") String parameter, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(d) FROM Department d
+           WHERE LOWER(d.code) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(d.name) LIKE LOWER(CONCAT('%', :param, '%'))
            """)
-    List<Department> findByStringParameter(@Param("param") String parameter);
+    long countByStringParameter(@Param("param") String parameter);
 }
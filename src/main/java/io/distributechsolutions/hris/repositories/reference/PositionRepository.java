@@ -1,18 +1,35 @@
 package io.distributechsolutions.hris.repositories.reference;
 
 import io.distributechsolutions.hris.entities.reference.Position;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface PositionRepository extends JpaRepository<Position, UUID> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<Position> findAll(Pageable pageable);
+
     @Query("""
            SELECT p FROM Position p
            WHERE LOWER(p.code) LIKE LOWER(CONCAT('%', :param, '%'))
            OR LOWER(p.name) LIKE LOWER(CONCAT('%', :param, '%'))
+           ORDER BY p.name ASC
+           """)
+    List<Position> findByStringParameter(@Param("param") String parameter, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(p) FROM Position p
+           WHERE LOWER(p.code) LIKE LOWER(CONCAT('%', :param, '%'))
+           OR LOWER(p.name) LIKE LOWER(CONCAT('%', :param, '%'))
            """)
-    List<Position> findByStringParameter(@Param("param") String parameter);
+    long countByStringParameter(@Param("param") String parameter);
 }
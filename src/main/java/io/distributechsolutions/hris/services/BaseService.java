@@ -1,5 +1,6 @@
 package io.distributechsolutions.hris.services;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -18,6 +19,23 @@ public interface BaseService<T> {
     @Transactional
     List<T> getAll(int page, int pageSize);
 
+    /**
+     * Returns a page of the records that match the search parameter, so a search never loads more records than
+     * the grid shows.
+     *
+     * @param param - The search parameter.
+     * @param pageable - The page number and page size.
+     * @return The matching records of the page.
+     */
     @Transactional
-    List<T> findByParameter(String param);
+    List<T> findByParameter(String param, Pageable pageable);
+
+    /**
+     * Returns the number of records that match the search parameter, which is the size of a lazy search grid.
+     *
+     * @param param - The search parameter.
+     * @return The number of matching records.
+     */
+    @Transactional
+    long countByParameter(String param);
 }
@@ -0,0 +1,46 @@
+package io.distributechsolutions.hris.services.admin;
+
+import io.distributechsolutions.hris.dtos.admin.UserDTO;
+import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
+
+/**
+ * The authenticated user of the current session, shared by the main layout and all the views. The user record is
+ * loaded once when the user logs in and is only reloaded after it is saved or deleted, instead of being looked up
+ * again by each view on every navigation.
+ */
+public interface AuthenticatedUserService {
+    /**
+     * Returns the user record of the authenticated user. The returned record is shared by the whole session.
+     *
+     * @return The user record, or null if there is no authenticated user.
+     */
+    UserDTO getUserDTO();
+
+    /**
+     * Returns the employee record of the authenticated user.
+     *
+     * @return The employee record, or null if there is no authenticated user.
+     */
+    EmployeeDTO getEmployeeDTO();
+
+    /**
+     * Returns the username of the authenticated user.
+     *
+     * @return The username, or null if there is no authenticated user.
+     */
+    String getUsername();
+
+    /**
+     * Returns the role of the authenticated user, such as ROLE_ADMIN or ROLE_EMPLOYEE.
+     *
+     * @return The role, or null if there is no authenticated user.
+     */
+    String getRole();
+
+    /**
+     * Returns whether the authenticated user has a role that can be assigned as the approver of a leave filing.
+     *
+     * @return Whether the authenticated user is an approver.
+     */
+    boolean isApprover();
+}
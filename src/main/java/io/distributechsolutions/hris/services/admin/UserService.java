@@ -7,4 +7,13 @@ import org.springframework.transaction.annotation.Transactional;
 public interface UserService extends BaseService<UserDTO> {
     @Transactional
     UserDTO getByUsername(String username);
+
+    /**
+     * Returns the revision of the user record with the username. The revision changes each time a user record with
+     * that username is saved or deleted, which tells the holders of a copy of the user record that it is stale.
+     *
+     * @param username - The username.
+     * @return The revision of the user record, or zero if it has not changed since the application started.
+     */
+    long getRevisionByUsername(String username);
 }
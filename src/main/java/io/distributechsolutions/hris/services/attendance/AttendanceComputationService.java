@@ -0,0 +1,45 @@
+package io.distributechsolutions.hris.services.attendance;
+
+import io.distributechsolutions.hris.dtos.attendance.AttendanceMinutesDTO;
+import io.distributechsolutions.hris.services.reference.HolidayCalendarService;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Pairs the IN and OUT punches of an employee against the employee's shift and splits the time between each pair into
+ * worked, overtime, rest day, late, undertime and night differential minutes per day. A pair belongs to the day whose
+ * shift start is nearest to its time in, so the time out of a night shift can fall on the next day.
+ */
+public interface AttendanceComputationService {
+    /**
+     * Computes the attendance minutes of one employee from punches that are sorted by date and time. The punches are
+     * given as minutes from the start of the first day, so the payroll run can pass them without creating any objects.
+     *
+     * @param dayTypes - The day types of the range, as returned by HolidayCalendarService.classifyDays.
+     * @param shiftStartTime - The start time of the shift, or null if the employee has no shift.
+     * @param shiftEndTime - The end time of the shift, which is on the next day if it is not after the start time.
+     * @param shiftHours - The paid hours of the shift, or zero to use the hours between its start and end time.
+     * @param punchMinutes - The minutes of each punch from 12 AM of the first day of the range.
+     * @param timeIns - True for each punch that is a time in, false for a time out.
+     * @param punchCount - The number of punches in the arrays.
+     * @return The attendance minutes of each day of the range.
+     */
+    AttendanceMinutesDTO computeAttendanceMinutes(HolidayCalendarService.DayType[] dayTypes,
+                                                  LocalTime shiftStartTime,
+                                                  LocalTime shiftEndTime,
+                                                  int shiftHours,
+                                                  int[] punchMinutes,
+                                                  boolean[] timeIns,
+                                                  int punchCount);
+
+    /**
+     * Computes the attendance minutes of one day from the approved punches and the active shift of the employee.
+     *
+     * @param employeeId - The ID of the employee.
+     * @param logDate - The date of the shift.
+     * @return The attendance minutes, where each array has the single day.
+     */
+    AttendanceMinutesDTO previewAttendanceMinutes(UUID employeeId, LocalDate logDate);
+}
@@ -14,4 +14,14 @@ public interface EmployeeLeaveFilingService extends BaseService<EmployeeLeaveFil
 
     @Transactional
     List<EmployeeLeaveFilingDTO> getByLeaveStatusAndAssignedApproverEmployeeDTO(String leaveStatus, EmployeeDTO assignedApproverEmployeeDTO);
+
+    /**
+     * Returns the number of pending leave filings that are assigned to the approver, which is shown as the badge of the
+     * leave approvals menu. The count of each approver is cached until a leave filing of that approver is saved or deleted.
+     *
+     * @param assignedApproverEmployeeDTO - The approver.
+     * @return The number of pending leave filings of the approver.
+     */
+    @Transactional
+    long countPendingByAssignedApproverEmployeeDTO(EmployeeDTO assignedApproverEmployeeDTO);
 }
@@ -0,0 +1,31 @@
+package io.distributechsolutions.hris.services.attendance;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface EmployeeTimesheetImageService {
+    /**
+     * Stores the captured image of a timesheet punch in its own record.
+     *
+     * @param imageData - The image bytes.
+     * @param createdBy - The username of the user who captured the image.
+     * @return The id of the stored image, which is referenced by the timesheet record.
+     */
+    @Transactional
+    UUID saveImage(byte[] imageData, String createdBy);
+
+    /**
+     * Returns a stream of the stored image. The image bytes are only read when this method is called,
+     * so the timesheet queries never load them.
+     *
+     * @param id - The id of the stored image.
+     * @return The image stream, or an empty stream when the image does not exist.
+     */
+    @Transactional(readOnly = true)
+    InputStream getImageStream(UUID id);
+
+    @Transactional
+    void deleteImage(UUID id);
+}
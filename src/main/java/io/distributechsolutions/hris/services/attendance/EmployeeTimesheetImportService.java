@@ -0,0 +1,21 @@
+package io.distributechsolutions.hris.services.attendance;
+
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetImportResultDTO;
+
+import java.io.InputStream;
+
+public interface EmployeeTimesheetImportService {
+    /**
+     * Imports the timesheet punches of a biometric CSV export as pending timesheets. Each row has the log date
+     * (yyyy/MM/dd), the employee number, the log time (H:mm or H:mm:ss) and the log detail (IN or OUT).
+     * A first row that does not start with a date is treated as the header.
+     *
+     * The file is read one row at a time and the valid rows are saved in chunks, where every chunk is saved in
+     * its own transaction. Invalid rows are skipped and reported in the result.
+     *
+     * @param inputStream - The CSV file input stream.
+     * @param importedBy - The username of the user who imported the file.
+     * @return The number of imported rows and the rows that have not been imported.
+     */
+    EmployeeTimesheetImportResultDTO importTimesheets(InputStream inputStream, String importedBy);
+}
@@ -1,18 +1,74 @@
 package io.distributechsolutions.hris.services.attendance;
 
 import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetDTO;
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetListDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.services.BaseService;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface EmployeeTimesheetService extends BaseService<EmployeeTimesheetDTO> {
+    /**
+     * Saves the records in JDBC batches, flushing and clearing the persistence context after every batch.
+     *
+     * @param objects - The records to save.
+     */
+    @Transactional
+    void saveAll(List<EmployeeTimesheetDTO> objects);
+
     @Transactional
     List<EmployeeTimesheetDTO> findByEmployeeDTO(EmployeeDTO employeeDTO);
 
+    /**
+     * Returns a page of the timesheet list projection with the given status, which only carries the columns shown
+     * in the timesheet list and leaves out the log image. The log date range is optional, the page is filtered by
+     * the log date only when both the start and end dates are given.
+     *
+     * @param status - The timesheet status.
+     * @param startDate - The start of the log date range, or null.
+     * @param endDate - The end of the log date range, or null.
+     * @param pageable - The page number, page size and sort order.
+     * @return The page of timesheet list projections with the total number of matching records.
+     */
+    @Transactional
+    Page<EmployeeTimesheetListDTO> getTimesheetListByStatus(String status, LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    /**
+     * Returns the number of timesheets with the given status within the optional log date range. This is used by
+     * the lazy timesheet grid to know its size without loading the records.
+     *
+     * @param status - The timesheet status.
+     * @param startDate - The start of the log date range, or null.
+     * @param endDate - The end of the log date range, or null.
+     * @return The number of matching timesheets.
+     */
+    @Transactional
+    long countTimesheetByStatus(String status, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the timesheet list projections with the given status that matches the given search parameter.
+     *
+     * @param status - The timesheet status.
+     * @param param - The search parameter.
+     * @param pageable - The page number and page size.
+     * @return The timesheet list projections of the page.
+     */
+    @Transactional
+    List<EmployeeTimesheetListDTO> findTimesheetListByStatusAndParameter(String status, String param, Pageable pageable);
+
+    /**
+     * Returns the number of timesheets with the given status that match the given search parameter, which is the size
+     * of the lazy timesheet grid while searching.
+     *
+     * @param status - The timesheet status.
+     * @param param - The search parameter.
+     * @return The number of matching timesheets.
+     */
     @Transactional
-    List<EmployeeTimesheetDTO> findByLogDateRange(LocalDate startDate, LocalDate endDate);
+    long countTimesheetByStatusAndParameter(String status, String param);
 }
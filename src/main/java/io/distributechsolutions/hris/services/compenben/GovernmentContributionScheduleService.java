@@ -0,0 +1,28 @@
+package io.distributechsolutions.hris.services.compenben;
+
+import io.distributechsolutions.hris.dtos.compenben.GovernmentContributionSharesDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The effective-dated SSS, PhilHealth and HDMF contribution schedules, built from the government contribution bracket
+ * table. The schedules are held in memory, so computing the shares of a compensation never queries the database.
+ */
+public interface GovernmentContributionScheduleService {
+    /**
+     * Reloads the schedules from the government contribution bracket table. Call this after the brackets are changed.
+     */
+    void reloadSchedules();
+
+    /**
+     * Returns the monthly employee and employer shares of a monthly compensation, using the version of each schedule
+     * that is effective on the given date.
+     *
+     * @param effectiveDate - The date that the schedules must be effective on, such as the end of a cut-off.
+     * @param monthlyCompensation - The monthly compensation of the employee.
+     * @return The monthly shares. The shares of a contribution type are null if none of its schedules is effective on
+     *         the date.
+     */
+    GovernmentContributionSharesDTO getMonthlyShares(LocalDate effectiveDate, BigDecimal monthlyCompensation);
+}
@@ -1,7 +1,29 @@
 package io.distributechsolutions.hris.services.compenben;
 
 import io.distributechsolutions.hris.dtos.compenben.LoanDeductionDTO;
+import io.distributechsolutions.hris.dtos.compenben.LoanDeductionListDTO;
 import io.distributechsolutions.hris.services.BaseService;
 
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
 public interface LoanDeductionService extends BaseService<LoanDeductionDTO> {
+    /**
+     * Returns a page of the loan deduction list projection, which only carries the columns shown in the loan deduction list.
+     *
+     * @param page - The page number.
+     * @param pageSize - The number of records per page.
+     * @return The loan deduction list projections.
+     */
+    List<LoanDeductionListDTO> getLoanDeductionList(int page, int pageSize);
+
+    /**
+     * Returns the loan deduction list projections that matches the given search parameter.
+     *
+     * @param param - The search parameter.
+     * @param pageable - The page to be returned. The matching records are counted by {@link #countByParameter(String)}.
+     * @return The loan deduction list projections.
+     */
+    List<LoanDeductionListDTO> findLoanDeductionListByParameter(String param, Pageable pageable);
 }
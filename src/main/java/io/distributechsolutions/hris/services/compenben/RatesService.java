@@ -1,9 +1,32 @@
 package io.distributechsolutions.hris.services.compenben;
 
 import io.distributechsolutions.hris.dtos.compenben.RatesDTO;
+import io.distributechsolutions.hris.dtos.compenben.RatesListDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.services.BaseService;
 
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
 public interface RatesService extends BaseService<RatesDTO> {
     RatesDTO findByEmployeeDTO(EmployeeDTO employeeDTO);
+
+    /**
+     * Returns a page of the rates list projection, which only carries the columns shown in the rates list.
+     *
+     * @param page - The page number.
+     * @param pageSize - The number of records per page.
+     * @return The rates list projections.
+     */
+    List<RatesListDTO> getRatesList(int page, int pageSize);
+
+    /**
+     * Returns the rates list projections that matches the given search parameter.
+     *
+     * @param param - The search parameter.
+     * @param pageable - The page to be returned. The matching records are counted by {@link #countByParameter(String)}.
+     * @return The rates list projections.
+     */
+    List<RatesListDTO> findRatesListByParameter(String param, Pageable pageable);
 }
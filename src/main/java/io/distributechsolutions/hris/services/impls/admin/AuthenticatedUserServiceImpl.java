@@ -0,0 +1,86 @@
+package io.distributechsolutions.hris.services.impls.admin;
+
+import com.vaadin.flow.spring.annotation.VaadinSessionScope;
+
+import io.distributechsolutions.hris.dtos.admin.UserDTO;
+import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
+import io.distributechsolutions.hris.services.admin.AuthenticatedUserService;
+import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.utils.SecurityUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+@Service
+@VaadinSessionScope
+public class AuthenticatedUserServiceImpl implements AuthenticatedUserService {
+    // The same roles as EmployeeDirectoryServiceImpl, whose employees can be assigned as leave approvers.
+    private static final Set<String> APPROVER_ROLES = Set.of("ROLE_HR_MANAGER", "ROLE_MANAGER", "ROLE_HR_SUPERVISOR", "ROLE_SUPERVISOR");
+
+    private final Logger logger = LoggerFactory.getLogger(AuthenticatedUserServiceImpl.class);
+
+    private final UserService userService;
+
+    // The user record of the session and the revision that it was loaded at. Only the session's own requests use them.
+    private String username;
+    private UserDTO userDTO;
+    private long userRevision;
+
+    public AuthenticatedUserServiceImpl(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public synchronized UserDTO getUserDTO() {
+        UserDetails authenticatedUser = SecurityUtil.getAuthenticatedUser();
+
+        if (authenticatedUser == null) {
+            username = null;
+            userDTO = null;
+
+            return null;
+        }
+
+        if (userDTO == null ||
+                !authenticatedUser.getUsername().equals(username) ||
+                userService.getRevisionByUsername(username) != userRevision) {
+            username = authenticatedUser.getUsername();
+
+            // The revision is read before the user record, so a change that is committed in between is reloaded next time.
+            userRevision = userService.getRevisionByUsername(username);
+            userDTO = userService.getByUsername(username);
+
+            logger.info("Loaded the authenticated user ".concat(username).concat(" into the session."));
+        }
+
+        return userDTO;
+    }
+
+    @Override
+    public EmployeeDTO getEmployeeDTO() {
+        UserDTO authenticatedUserDTO = this.getUserDTO();
+        return authenticatedUserDTO != null ? authenticatedUserDTO.getEmployeeDTO() : null;
+    }
+
+    @Override
+    public String getUsername() {
+        UserDTO authenticatedUserDTO = this.getUserDTO();
+        return authenticatedUserDTO != null ? authenticatedUserDTO.getUsername() : null;
+    }
+
+    @Override
+    public String getRole() {
+        UserDTO authenticatedUserDTO = this.getUserDTO();
+        return authenticatedUserDTO != null ? authenticatedUserDTO.getRole() : null;
+    }
+
+    @Override
+    public boolean isApprover() {
+        String role = this.getRole();
+        return role != null && APPROVER_ROLES.contains(role);
+    }
+}
@@ -0,0 +1,82 @@
+package io.distributechsolutions.hris.services.impls.admin;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * A password encoder that hashes and verifies the passwords on a bounded executor instead of the calling thread.
+ * A bcrypt hash costs a few hundred milliseconds of CPU, so a burst of logins or account creations would otherwise
+ * take the CPU away from the request threads. The caller still waits for its own result, but only as many hashes
+ * as the executor has threads run at the same time, and a hash that can't be queued fails fast. The executor's queue
+ * is sized so that a queued hash finishes within the timeout, which only guards against a machine that slowed down.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder passwordEncoder;
+    private final Executor hashingExecutor;
+    private final long timeoutMillis;
+
+    public BoundedPasswordEncoder(PasswordEncoder passwordEncoder,
+                                  Executor hashingExecutor,
+                                  Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.hashingExecutor = hashingExecutor;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return this.runBounded(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return this.runBounded(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Runs the hashing on the executor and waits for its result. The failures are thrown as an authentication service
+     * exception, which fails a login with an error instead of reporting the password as wrong.
+     *
+     * @param hashing - The hashing to be run.
+     * @return The result of the hashing.
+     */
+    private <T> T runBounded(Supplier<T> hashing) {
+        CompletableFuture<T> hashingFuture;
+
+        try {
+            hashingFuture = CompletableFuture.supplyAsync(hashing, hashingExecutor);
+        } catch (RejectedExecutionException exception) {
+            throw new AuthenticationServiceException("Too many passwords are being processed at the moment. Please try again.", exception);
+        }
+
+        try {
+            return hashingFuture.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("The password processing was interrupted.", exception);
+        } catch (TimeoutException exception) {
+            hashingFuture.cancel(true);
+            throw new AuthenticationServiceException("The password processing took too long. Please try again.", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new AuthenticationServiceException("The password processing has failed.", exception.getCause());
+        }
+    }
+}
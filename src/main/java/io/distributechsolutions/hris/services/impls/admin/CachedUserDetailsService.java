@@ -0,0 +1,78 @@
+package io.distributechsolutions.hris.services.impls.admin;
+
+import io.distributechsolutions.hris.services.admin.UserService;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A user details service that caches the user accounts loaded by another user details service, so a login or a
+ * repeated authentication doesn't query the user account table each time. A cached account is reloaded once
+ * {@link UserService} has saved or deleted the user record with its username (such as a change of role, password or
+ * active flag), or once it is older than the time to live, which covers the changes made outside the application.
+ * Unknown usernames are never cached.
+ */
+public class CachedUserDetailsService implements UserDetailsService {
+    private final UserDetailsService userDetailsService;
+    private final UserService userService;
+    private final long timeToLiveNanos;
+
+    private final Map<String, CachedUserDetails> cachedUserDetailsMap = new ConcurrentHashMap<>();
+
+    public CachedUserDetailsService(UserDetailsService userDetailsService,
+                                    UserService userService,
+                                    Duration timeToLive) {
+        this.userDetailsService = userDetailsService;
+        this.userService = userService;
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        CachedUserDetails cachedUserDetails = cachedUserDetailsMap.get(username);
+
+        if (cachedUserDetails == null ||
+                cachedUserDetails.revision() != userService.getRevisionByUsername(username) ||
+                System.nanoTime() - cachedUserDetails.loadedAtNanos() > timeToLiveNanos) {
+            // The revision is read before the account, so a change that is committed in between is reloaded next time.
+            long revision = userService.getRevisionByUsername(username);
+
+            try {
+                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                cachedUserDetails = new CachedUserDetails(userDetails.getUsername(),
+                                                          userDetails.getPassword(),
+                                                          userDetails.isEnabled(),
+                                                          List.copyOf(userDetails.getAuthorities()),
+                                                          revision,
+                                                          System.nanoTime());
+                cachedUserDetailsMap.put(username, cachedUserDetails);
+            } catch (UsernameNotFoundException exception) {
+                cachedUserDetailsMap.remove(username);
+                throw exception;
+            }
+        }
+
+        // A new user is returned each time, since the authentication erases the password of the user that it is given.
+        return User.withUsername(cachedUserDetails.username())
+                   .password(cachedUserDetails.password())
+                   .disabled(!cachedUserDetails.enabled())
+                   .authorities(cachedUserDetails.authorities())
+                   .build();
+    }
+
+    private record CachedUserDetails(String username,
+                                     String password,
+                                     boolean enabled,
+                                     List<GrantedAuthority> authorities,
+                                     long revision,
+                                     long loadedAtNanos) {
+    }
+}
@@ -5,19 +5,25 @@ import io.distributechsolutions.hris.entities.admin.User;
 import io.distributechsolutions.hris.repositories.admin.UserRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
 import io.distributechsolutions.hris.services.admin.UserService;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class UserServiceImpl implements UserService {
@@ -25,11 +31,18 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeDirectoryService employeeDirectoryService;
+
+    // The revision of each user record that has changed since the application started, keyed by its username.
+    private final Map<String, Long> revisionByUsername = new ConcurrentHashMap<>();
+    private final AtomicLong revisionSequence = new AtomicLong();
 
     public UserServiceImpl(UserRepository userRepository,
-                           EmployeeRepository employeeRepository) {
+                           EmployeeRepository employeeRepository,
+                           EmployeeDirectoryService employeeDirectoryService) {
         this.userRepository = userRepository;
         this.employeeRepository = employeeRepository;
+        this.employeeDirectoryService = employeeDirectoryService;
     }
 
     @Override
@@ -40,6 +53,9 @@ public class UserServiceImpl implements UserService {
         if (object.getId() != null) {
             user = userRepository.getReferenceById(object.getId());
             logMessage = "User record with id ".concat(object.getId().toString()).concat(" is successfully updated.");
+
+            // The username may be changed, so the copies held under the previous username are stale as well.
+            this.incrementRevisionAfterCommit(user.getUsername());
         } else {
             user = new User();
             user.setCreatedBy(object.getCreatedBy());
@@ -58,6 +74,10 @@ public class UserServiceImpl implements UserService {
         user.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
 
         userRepository.save(user);
+        this.incrementRevisionAfterCommit(object.getUsername());
+
+        // The role of the user account decides whether its employee is listed as an approver.
+        employeeDirectoryService.refreshApprovers();
         logger.info(logMessage);
     }
 
@@ -69,7 +89,7 @@ public class UserServiceImpl implements UserService {
         UserDTO userDTO = new UserDTO();
 
         userDTO.setId(user.getId());
-        userDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(user.getEmployee().getId()));
+        userDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(user.getEmployee()));
         userDTO.setUsername(user.getUsername());
         userDTO.setPassword(user.getPassword());
         userDTO.setRole(user.getRole());
@@ -93,7 +113,9 @@ public class UserServiceImpl implements UserService {
 
             String id = object.getId().toString();
             User user = userRepository.getReferenceById(object.getId());
+            this.incrementRevisionAfterCommit(user.getUsername());
             userRepository.delete(user);
+            employeeDirectoryService.refreshApprovers();
 
             logger.info("User record with id ".concat(id).concat(" is successfully deleted."));
         }
@@ -108,13 +130,11 @@ public class UserServiceImpl implements UserService {
         List<UserDTO> userDTOList = new ArrayList<>();
 
         if (!userList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (User user : userList) {
                 UserDTO userDTO = new UserDTO();
 
                 userDTO.setId(user.getId());
-                userDTO.setEmployeeDTO(employeeService.getById(user.getEmployee().getId()));
+                userDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(user.getEmployee()));
                 userDTO.setUsername(user.getUsername());
                 userDTO.setPassword(user.getPassword());
                 userDTO.setRole(user.getRole());
@@ -136,28 +156,26 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<UserDTO> findByParameter(String param) {
+    public List<UserDTO> findByParameter(String param, Pageable pageable) {
         List<UserDTO> userDTOList = new ArrayList<>();
         List<User> userList = null;
 
         logger.info("Retrieving user records with search parameter '%".concat(param).concat("%' from the database."));
 
         if (param.equalsIgnoreCase("Yes") || param.equalsIgnoreCase("No")) {
-            userList = userRepository.findByBooleanParameter(param.equalsIgnoreCase("Yes"));
+            userList = userRepository.findByBooleanParameter(param.equalsIgnoreCase("Yes"), pageable);
         } else {
-            userList = userRepository.findByStringParameter(param);
+            userList = userRepository.findByStringParameter(param, pageable);
         }
 
         if (!userList.isEmpty()) {
             logger.info("User records with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (User user : userList) {
                 UserDTO userDTO = new UserDTO();
 
                 userDTO.setId(user.getId());
-                userDTO.setEmployeeDTO(employeeService.getById(user.getEmployee().getId()));
+                userDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(user.getEmployee()));
                 userDTO.setUsername(user.getUsername());
                 userDTO.setPassword(user.getPassword());
                 userDTO.setRole(user.getRole());
@@ -176,15 +194,30 @@ public class UserServiceImpl implements UserService {
         return userDTOList;
     }
 
+    @Override
+    public long countByParameter(String param) {
+        if (param.equalsIgnoreCase("Yes") || param.equalsIgnoreCase("No")) {
+            return userRepository.countByBooleanParameter(param.equalsIgnoreCase("Yes"));
+        }
+
+        return userRepository.countByStringParameter(param);
+    }
+
     @Override
     public UserDTO getByUsername(String username) {
         logger.info("Retrieving user record with username ".concat(username));
 
         User user = userRepository.findByUsername(username);
+
+        if (user == null) {
+            logger.warn("User record with username ".concat(username).concat(" does not exist."));
+            return null;
+        }
+
         UserDTO userDTO = new UserDTO();
 
         userDTO.setId(user.getId());
-        userDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(user.getEmployee().getId()));
+        userDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(user.getEmployee()));
         userDTO.setUsername(user.getUsername());
         userDTO.setPassword(user.getPassword());
         userDTO.setRole(user.getRole());
@@ -200,4 +233,28 @@ public class UserServiceImpl implements UserService {
 
         return userDTO;
     }
+
+    @Override
+    public long getRevisionByUsername(String username) {
+        return revisionByUsername.getOrDefault(username, 0L);
+    }
+
+    /**
+     * Gives the user record with the username a new revision once the current transaction is committed, so a holder of
+     * a copy of the user record only reloads it when the change can already be read.
+     *
+     * @param username - The username of the saved or deleted user record.
+     */
+    private void incrementRevisionAfterCommit(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revisionByUsername.put(username, revisionSequence.incrementAndGet());
+                }
+            });
+        } else {
+            revisionByUsername.put(username, revisionSequence.incrementAndGet());
+        }
+    }
 }
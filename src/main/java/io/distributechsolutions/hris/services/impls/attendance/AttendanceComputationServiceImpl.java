@@ -0,0 +1,185 @@
+package io.distributechsolutions.hris.services.impls.attendance;
+
+import io.distributechsolutions.hris.dtos.attendance.AttendanceMinutesDTO;
+import io.distributechsolutions.hris.repositories.attendance.EmployeeShiftScheduleRepository;
+import io.distributechsolutions.hris.repositories.attendance.EmployeeTimesheetRepository;
+import io.distributechsolutions.hris.services.attendance.AttendanceComputationService;
+import io.distributechsolutions.hris.services.payroll.PayCalendarService;
+import io.distributechsolutions.hris.services.reference.HolidayCalendarService;
+import io.distributechsolutions.hris.utils.PayrollComputationUtil;
+
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class AttendanceComputationServiceImpl implements AttendanceComputationService {
+    private static final int MINUTES_PER_DAY = 1440;
+
+    // The paid minutes of a day for an employee without a shift.
+    private static final int STANDARD_WORK_MINUTES = 480;
+
+    // The night differential covers 10 PM until 6 AM of the next day.
+    private static final int NIGHT_DIFFERENTIAL_START_MINUTE = 1320;
+    private static final int NIGHT_DIFFERENTIAL_END_MINUTE = 360;
+
+    private final EmployeeShiftScheduleRepository employeeShiftScheduleRepository;
+    private final EmployeeTimesheetRepository employeeTimesheetRepository;
+    private final HolidayCalendarService holidayCalendarService;
+    private final PayCalendarService payCalendarService;
+
+    public AttendanceComputationServiceImpl(EmployeeShiftScheduleRepository employeeShiftScheduleRepository,
+                                            EmployeeTimesheetRepository employeeTimesheetRepository,
+                                            HolidayCalendarService holidayCalendarService,
+                                            PayCalendarService payCalendarService) {
+        this.employeeShiftScheduleRepository = employeeShiftScheduleRepository;
+        this.employeeTimesheetRepository = employeeTimesheetRepository;
+        this.holidayCalendarService = holidayCalendarService;
+        this.payCalendarService = payCalendarService;
+    }
+
+    @Override
+    public AttendanceMinutesDTO computeAttendanceMinutes(HolidayCalendarService.DayType[] dayTypes,
+                                                         LocalTime shiftStartTime,
+                                                         LocalTime shiftEndTime,
+                                                         int shiftHours,
+                                                         int[] punchMinutes,
+                                                         boolean[] timeIns,
+                                                         int punchCount) {
+        int dayCount = dayTypes.length;
+        int[] workedMinutes = new int[dayCount];
+        int[] overtimeMinutes = new int[dayCount];
+        int[] restDayMinutes = new int[dayCount];
+        int[] lateMinutes = new int[dayCount];
+        int[] undertimeMinutes = new int[dayCount];
+        int[] nightDifferentialMinutes = new int[dayCount];
+        int[] firstTimeIns = new int[dayCount];
+        int[] lastTimeOuts = new int[dayCount];
+
+        Arrays.fill(firstTimeIns, Integer.MAX_VALUE);
+        Arrays.fill(lastTimeOuts, Integer.MIN_VALUE);
+
+        // A shift whose end time is not after its start time ends on the next day.
+        boolean hasShift = shiftStartTime != null && shiftEndTime != null;
+        int shiftStartMinute = hasShift ? shiftStartTime.toSecondOfDay() / 60 : 0;
+        int shiftMinutes = hasShift ? Math.floorMod(shiftEndTime.toSecondOfDay() / 60 - shiftStartMinute - 1, MINUTES_PER_DAY) + 1 : MINUTES_PER_DAY;
+        int paidMinutes = shiftHours > 0 ? Math.min(shiftHours * 60, shiftMinutes) : (hasShift ? shiftMinutes : STANDARD_WORK_MINUTES);
+
+        // Pair each time in with the next time out. A repeated time in keeps the first one, and a time out without a time
+        // in is skipped.
+        boolean hasTimeIn = false;
+        int timeIn = 0;
+
+        for (int i = 0; i < punchCount; i++) {
+            if (timeIns[i]) {
+                if (!hasTimeIn) {
+                    hasTimeIn = true;
+                    timeIn = punchMinutes[i];
+                }
+
+                continue;
+            }
+
+            if (!hasTimeIn) {
+                continue;
+            }
+
+            hasTimeIn = false;
+            int timeOut = punchMinutes[i];
+            int day = hasShift ? Math.floorDiv(timeIn - shiftStartMinute + MINUTES_PER_DAY / 2, MINUTES_PER_DAY) : Math.floorDiv(timeIn, MINUTES_PER_DAY);
+
+            // The pairs of the days outside the range belong to the previous or next cut-off.
+            if (timeOut <= timeIn || day < 0 || day >= dayCount) {
+                continue;
+            }
+
+            if (hasShift) {
+                int shiftStart = day * MINUTES_PER_DAY + shiftStartMinute;
+                int shiftEnd = shiftStart + shiftMinutes;
+
+                workedMinutes[day] += Math.max(0, Math.min(timeOut, shiftEnd) - Math.max(timeIn, shiftStart));
+                overtimeMinutes[day] += Math.max(0, timeOut - Math.max(timeIn, shiftEnd));
+            } else {
+                workedMinutes[day] += timeOut - timeIn;
+            }
+
+            firstTimeIns[day] = Math.min(firstTimeIns[day], timeIn);
+            lastTimeOuts[day] = Math.max(lastTimeOuts[day], timeOut);
+            nightDifferentialMinutes[day] += this.getNightDifferentialMinutes(timeIn, timeOut);
+        }
+
+        for (int day = 0; day < dayCount; day++) {
+            if (hasShift) {
+                if (dayTypes[day] == HolidayCalendarService.DayType.REGULAR_DAY && firstTimeIns[day] != Integer.MAX_VALUE) {
+                    int shiftStart = day * MINUTES_PER_DAY + shiftStartMinute;
+
+                    lateMinutes[day] = Math.min(Math.max(0, firstTimeIns[day] - shiftStart), paidMinutes);
+                    undertimeMinutes[day] = Math.min(Math.max(0, shiftStart + shiftMinutes - lastTimeOuts[day]), paidMinutes - lateMinutes[day]);
+                }
+
+                // The minutes within the shift beyond its paid minutes are its break, which is not paid.
+                workedMinutes[day] = Math.min(workedMinutes[day], paidMinutes - lateMinutes[day] - undertimeMinutes[day]);
+            } else if (workedMinutes[day] > paidMinutes) {
+                // Without a shift, the minutes beyond a standard work day are overtime.
+                overtimeMinutes[day] += workedMinutes[day] - paidMinutes;
+                workedMinutes[day] = paidMinutes;
+            }
+
+            if (dayTypes[day] == HolidayCalendarService.DayType.REST_DAY) {
+                restDayMinutes[day] = workedMinutes[day];
+                workedMinutes[day] = 0;
+            }
+        }
+
+        return new AttendanceMinutesDTO(workedMinutes, overtimeMinutes, restDayMinutes, lateMinutes, undertimeMinutes, nightDifferentialMinutes);
+    }
+
+    @Override
+    public AttendanceMinutesDTO previewAttendanceMinutes(UUID employeeId, LocalDate logDate) {
+        List<Object[]> shiftRows = employeeShiftScheduleRepository.findActiveShiftByEmployeeId(employeeId);
+        Object[] shiftRow = shiftRows.isEmpty() ? null : shiftRows.get(0);
+        int scheduledDays = shiftRow != null ? PayrollComputationUtil.getScheduledDays((String) shiftRow[0]) : payCalendarService.getScheduledDays();
+
+        // The punches of the day before and after are included, so a night shift is paired with both of its punches.
+        List<Object[]> punchRows = employeeTimesheetRepository.findApprovedPunchesByEmployeeIdAndLogDateRange(employeeId, logDate.minusDays(1), logDate.plusDays(1));
+        int[] punchMinutes = new int[punchRows.size()];
+        boolean[] timeIns = new boolean[punchRows.size()];
+        long logEpochDay = logDate.toEpochDay();
+
+        for (int i = 0; i < punchRows.size(); i++) {
+            Object[] punchRow = punchRows.get(i);
+            punchMinutes[i] = (int) (((LocalDate) punchRow[0]).toEpochDay() - logEpochDay) * MINUTES_PER_DAY + ((LocalTime) punchRow[1]).toSecondOfDay() / 60;
+            timeIns[i] = "IN".equals(punchRow[2]);
+        }
+
+        return this.computeAttendanceMinutes(holidayCalendarService.classifyDays(logDate, logDate, scheduledDays),
+                                             shiftRow != null ? (LocalTime) shiftRow[1] : null,
+                                             shiftRow != null ? (LocalTime) shiftRow[2] : null,
+                                             shiftRow != null && shiftRow[3] != null ? ((Number) shiftRow[3]).intValue() : 0,
+                                             punchMinutes,
+                                             timeIns,
+                                             punchRows.size());
+    }
+
+    /**
+     * Returns the minutes between a time in and a time out that fall between 10 PM and 6 AM of any night.
+     */
+    private int getNightDifferentialMinutes(int timeIn, int timeOut) {
+        int nightDifferentialMinutes = 0;
+        int minutesBeforeMidnight = MINUTES_PER_DAY - NIGHT_DIFFERENTIAL_START_MINUTE;
+        int nightLength = minutesBeforeMidnight + NIGHT_DIFFERENTIAL_END_MINUTE;
+
+        // The night that ends on day k starts at 10 PM of day k - 1. Start from the last night that starts by the time in.
+        int nightStart = Math.floorDiv(timeIn + minutesBeforeMidnight, MINUTES_PER_DAY) * MINUTES_PER_DAY - minutesBeforeMidnight;
+
+        for (; nightStart < timeOut; nightStart += MINUTES_PER_DAY) {
+            nightDifferentialMinutes += Math.max(0, Math.min(timeOut, nightStart + nightLength) - Math.max(timeIn, nightStart));
+        }
+
+        return nightDifferentialMinutes;
+    }
+}
@@ -6,22 +6,25 @@ import io.distributechsolutions.hris.entities.attendance.EmployeeLeaveFiling;
 import io.distributechsolutions.hris.repositories.compenben.LeaveBenefitsRepository;
 import io.distributechsolutions.hris.repositories.attendance.EmployeeLeaveFilingRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
-import io.distributechsolutions.hris.services.compenben.LeaveBenefitsService;
 import io.distributechsolutions.hris.services.attendance.EmployeeLeaveFilingService;
-import io.distributechsolutions.hris.services.impls.compenben.LeaveBenefitsServiceImpl;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
+import io.distributechsolutions.hris.utils.SearchUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingService {
@@ -31,6 +34,9 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
     private final LeaveBenefitsRepository leaveBenefitsRepository;
     private final EmployeeRepository employeeRepository;
 
+    // The number of pending leave filings of each approver, evicted once a leave filing of the approver is committed.
+    private final Map<UUID, Long> pendingCountByApproverId = new ConcurrentHashMap<>();
+
     public EmployeeLeaveFilingServiceImpl(EmployeeLeaveFilingRepository employeeLeaveFilingRepository,
                                           LeaveBenefitsRepository leaveBenefitsRepository,
                                           EmployeeRepository employeeRepository) {
@@ -46,6 +52,9 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
 
         if (object.getId() != null) {
             employeeLeaveFiling = employeeLeaveFilingRepository.getReferenceById(object.getId());
+
+            // The leave filing may be moved to another approver, whose pending count changes as well.
+            this.evictPendingCountAfterCommit(employeeLeaveFiling.getAssignedApproverEmployee().getId());
             logMessage = "Employee's leave filing record with id ".concat(object.getId().toString()).concat(" is successfully updated.");
         } else {
             employeeLeaveFiling = new EmployeeLeaveFiling();
@@ -65,6 +74,8 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
         employeeLeaveFiling.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
 
         employeeLeaveFilingRepository.save(employeeLeaveFiling);
+        this.evictPendingCountAfterCommit(object.getAssignedApproverEmployeeDTO().getId());
+
         logger.info(logMessage);
     }
 
@@ -76,8 +87,8 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
         EmployeeLeaveFilingDTO employeeLeaveFilingDTO = new EmployeeLeaveFilingDTO();
 
         employeeLeaveFilingDTO.setId(employeeLeaveFiling.getId());
-        employeeLeaveFilingDTO.setLeaveBenefitsDTO(new LeaveBenefitsServiceImpl(leaveBenefitsRepository, employeeRepository).getById(employeeLeaveFiling.getLeaveBenefits().getId()));
-        employeeLeaveFilingDTO.setAssignedApproverEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(employeeLeaveFiling.getAssignedApproverEmployee().getId()));
+        employeeLeaveFilingDTO.setLeaveBenefitsDTO(DTOMapperUtil.toLeaveBenefitsDTO(employeeLeaveFiling.getLeaveBenefits()));
+        employeeLeaveFilingDTO.setAssignedApproverEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeLeaveFiling.getAssignedApproverEmployee()));
         employeeLeaveFilingDTO.setLeaveDateAndTimeFrom(employeeLeaveFiling.getLeaveDateAndTimeFrom());
         employeeLeaveFilingDTO.setLeaveDateAndTimeTo(employeeLeaveFiling.getLeaveDateAndTimeTo());
         employeeLeaveFilingDTO.setLeaveCount(employeeLeaveFiling.getLeaveCount());
@@ -99,6 +110,7 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
 
             String id = object.getId().toString();
             EmployeeLeaveFiling employeeLeaveFiling = employeeLeaveFilingRepository.getReferenceById(object.getId());
+            this.evictPendingCountAfterCommit(employeeLeaveFiling.getAssignedApproverEmployee().getId());
             employeeLeaveFilingRepository.delete(employeeLeaveFiling);
 
             logger.info("Employee's leave filing record with id ".concat(id).concat(" is successfully deleted."));
@@ -114,15 +126,12 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
         List<EmployeeLeaveFilingDTO> employeeLeaveFilingDTOList = new ArrayList<>();
 
         if (!employeeLeaveFilingList.isEmpty()) {
-            LeaveBenefitsService leaveBenefitsService = new LeaveBenefitsServiceImpl(leaveBenefitsRepository, employeeRepository);
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (EmployeeLeaveFiling employeeLeaveFiling : employeeLeaveFilingList) {
                 EmployeeLeaveFilingDTO employeeLeaveFilingDTO = new EmployeeLeaveFilingDTO();
 
                 employeeLeaveFilingDTO.setId(employeeLeaveFiling.getId());
-                employeeLeaveFilingDTO.setLeaveBenefitsDTO(leaveBenefitsService.getById(employeeLeaveFiling.getLeaveBenefits().getId()));
-                employeeLeaveFilingDTO.setAssignedApproverEmployeeDTO(employeeService.getById(employeeLeaveFiling.getAssignedApproverEmployee().getId()));
+                employeeLeaveFilingDTO.setLeaveBenefitsDTO(DTOMapperUtil.toLeaveBenefitsDTO(employeeLeaveFiling.getLeaveBenefits()));
+                employeeLeaveFilingDTO.setAssignedApproverEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeLeaveFiling.getAssignedApproverEmployee()));
                 employeeLeaveFilingDTO.setLeaveDateAndTimeFrom(employeeLeaveFiling.getLeaveDateAndTimeFrom());
                 employeeLeaveFilingDTO.setLeaveDateAndTimeTo(employeeLeaveFiling.getLeaveDateAndTimeTo());
                 employeeLeaveFilingDTO.setLeaveCount(employeeLeaveFiling.getLeaveCount());
@@ -143,24 +152,21 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
     }
 
     @Override
-    public List<EmployeeLeaveFilingDTO> findByParameter(String param) {
+    public List<EmployeeLeaveFilingDTO> findByParameter(String param, Pageable pageable) {
         logger.info("Retrieving employee leave filings with search parameter '%".concat(param).concat("%' from the database."));
 
         List<EmployeeLeaveFilingDTO> employeeLeaveFilingDTOList = new ArrayList<>();
-        List<EmployeeLeaveFiling> employeeLeaveFilingList = employeeLeaveFilingRepository.findByStringParameter(param);
+        List<EmployeeLeaveFiling> employeeLeaveFilingList = this.findLeaveFilingsBySearchParameter(param, pageable);
 
         if (!employeeLeaveFilingList.isEmpty()) {
             logger.info("Employee leave filings with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
-            LeaveBenefitsService leaveBenefitsService = new LeaveBenefitsServiceImpl(leaveBenefitsRepository, employeeRepository);
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (EmployeeLeaveFiling employeeLeaveFiling : employeeLeaveFilingList) {
                 EmployeeLeaveFilingDTO employeeLeaveFilingDTO = new EmployeeLeaveFilingDTO();
 
                 employeeLeaveFilingDTO.setId(employeeLeaveFiling.getId());
-                employeeLeaveFilingDTO.setLeaveBenefitsDTO(leaveBenefitsService.getById(employeeLeaveFiling.getLeaveBenefits().getId()));
-                employeeLeaveFilingDTO.setAssignedApproverEmployeeDTO(employeeService.getById(employeeLeaveFiling.getAssignedApproverEmployee().getId()));
+                employeeLeaveFilingDTO.setLeaveBenefitsDTO(DTOMapperUtil.toLeaveBenefitsDTO(employeeLeaveFiling.getLeaveBenefits()));
+                employeeLeaveFilingDTO.setAssignedApproverEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeLeaveFiling.getAssignedApproverEmployee()));
                 employeeLeaveFilingDTO.setLeaveDateAndTimeFrom(employeeLeaveFiling.getLeaveDateAndTimeFrom());
                 employeeLeaveFilingDTO.setLeaveDateAndTimeTo(employeeLeaveFiling.getLeaveDateAndTimeTo());
                 employeeLeaveFilingDTO.setLeaveCount(employeeLeaveFiling.getLeaveCount());
@@ -180,6 +186,18 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
         return employeeLeaveFilingDTOList;
     }
 
+    @Override
+    public long countByParameter(String param) {
+        SearchUtil.SearchTerm searchTerm = SearchUtil.parseSearchTerm(param);
+
+        return switch (searchTerm.type()) {
+            case DATE -> employeeLeaveFilingRepository.countByLeaveDate(searchTerm.date().atStartOfDay(), searchTerm.date().plusDays(1).atStartOfDay());
+            case STATUS -> employeeLeaveFilingRepository.countByLeaveStatus(searchTerm.text());
+            case EMPLOYEE_NUMBER -> employeeLeaveFilingRepository.countByEmployeeNumber(searchTerm.text());
+            default -> employeeLeaveFilingRepository.countByStringParameter(searchTerm.text());
+        };
+    }
+
     @Override
     public List<EmployeeLeaveFilingDTO> getByEmployeeDTO(EmployeeDTO employeeDTO) {
         logger.info("Retrieving employee leave filings with UUID ".concat(employeeDTO.getId().toString()).concat(" from the database."));
@@ -190,15 +208,12 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
         if (!employeeLeaveFilingList.isEmpty()) {
             logger.info("Employee leave filings with UUID ".concat(employeeDTO.getId().toString()).concat(" has successfully retrieved."));
 
-            LeaveBenefitsService leaveBenefitsService = new LeaveBenefitsServiceImpl(leaveBenefitsRepository, employeeRepository);
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (EmployeeLeaveFiling employeeLeaveFiling : employeeLeaveFilingList) {
                 EmployeeLeaveFilingDTO employeeLeaveFilingDTO = new EmployeeLeaveFilingDTO();
 
                 employeeLeaveFilingDTO.setId(employeeLeaveFiling.getId());
-                employeeLeaveFilingDTO.setLeaveBenefitsDTO(leaveBenefitsService.getById(employeeLeaveFiling.getLeaveBenefits().getId()));
-                employeeLeaveFilingDTO.setAssignedApproverEmployeeDTO(employeeService.getById(employeeLeaveFiling.getAssignedApproverEmployee().getId()));
+                employeeLeaveFilingDTO.setLeaveBenefitsDTO(DTOMapperUtil.toLeaveBenefitsDTO(employeeLeaveFiling.getLeaveBenefits()));
+                employeeLeaveFilingDTO.setAssignedApproverEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeLeaveFiling.getAssignedApproverEmployee()));
                 employeeLeaveFilingDTO.setLeaveDateAndTimeFrom(employeeLeaveFiling.getLeaveDateAndTimeFrom());
                 employeeLeaveFilingDTO.setLeaveDateAndTimeTo(employeeLeaveFiling.getLeaveDateAndTimeTo());
                 employeeLeaveFilingDTO.setLeaveCount(employeeLeaveFiling.getLeaveCount());
@@ -228,15 +243,12 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
         if (!employeeLeaveFilingList.isEmpty()) {
             logger.info("Assigned leave filings for approval with UUID ".concat(assignedApproverEmployeeDTO.getId().toString()).concat(" has successfully retrieved."));
 
-            LeaveBenefitsService leaveBenefitsService = new LeaveBenefitsServiceImpl(leaveBenefitsRepository, employeeRepository);
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (EmployeeLeaveFiling employeeLeaveFiling : employeeLeaveFilingList) {
                 EmployeeLeaveFilingDTO employeeLeaveFilingDTO = new EmployeeLeaveFilingDTO();
 
                 employeeLeaveFilingDTO.setId(employeeLeaveFiling.getId());
-                employeeLeaveFilingDTO.setLeaveBenefitsDTO(leaveBenefitsService.getById(employeeLeaveFiling.getLeaveBenefits().getId()));
-                employeeLeaveFilingDTO.setAssignedApproverEmployeeDTO(employeeService.getById(employeeLeaveFiling.getAssignedApproverEmployee().getId()));
+                employeeLeaveFilingDTO.setLeaveBenefitsDTO(DTOMapperUtil.toLeaveBenefitsDTO(employeeLeaveFiling.getLeaveBenefits()));
+                employeeLeaveFilingDTO.setAssignedApproverEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeLeaveFiling.getAssignedApproverEmployee()));
                 employeeLeaveFilingDTO.setLeaveDateAndTimeFrom(employeeLeaveFiling.getLeaveDateAndTimeFrom());
                 employeeLeaveFilingDTO.setLeaveDateAndTimeTo(employeeLeaveFiling.getLeaveDateAndTimeTo());
                 employeeLeaveFilingDTO.setLeaveCount(employeeLeaveFiling.getLeaveCount());
@@ -255,4 +267,51 @@ public class EmployeeLeaveFilingServiceImpl implements EmployeeLeaveFilingServic
 
         return employeeLeaveFilingDTOList;
     }
+
+    @Override
+    public long countPendingByAssignedApproverEmployeeDTO(EmployeeDTO assignedApproverEmployeeDTO) {
+        // The count is computed under the lock of its map entry, so an eviction that commits in the meantime waits
+        // for it and then removes it, instead of leaving a stale count behind.
+        return pendingCountByApproverId.computeIfAbsent(assignedApproverEmployeeDTO.getId(),
+                                                        approverId -> employeeLeaveFilingRepository.countByStatusAndAssignedApproverEmployeeId("PENDING", approverId));
+    }
+
+    /**
+     * Evicts the cached pending count of the approver once the current transaction is committed, so the next count
+     * already sees the saved or deleted leave filing.
+     *
+     * @param approverId - The id of the approver of the leave filing.
+     */
+    private void evictPendingCountAfterCommit(UUID approverId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingCountByApproverId.remove(approverId);
+                }
+            });
+        } else {
+            pendingCountByApproverId.remove(approverId);
+        }
+    }
+
+    /**
+     * Returns the leave filings that match the search parameter. The search parameter is matched by its kind: a date by
+     * the leave filings that cover that day, a status by the leave status, an employee number by its prefix and any other
+     * text by the employee name and the leave code and type. The same kinds are counted by {@link #countByParameter(String)}.
+     *
+     * @param param - The search parameter.
+     * @param pageable - The page number and page size.
+     * @return The matching leave filings of the page.
+     */
+    private List<EmployeeLeaveFiling> findLeaveFilingsBySearchParameter(String param, Pageable pageable) {
+        SearchUtil.SearchTerm searchTerm = SearchUtil.parseSearchTerm(param);
+
+        return switch (searchTerm.type()) {
+            case DATE -> employeeLeaveFilingRepository.findByLeaveDate(searchTerm.date().atStartOfDay(), searchTerm.date().plusDays(1).atStartOfDay(), pageable);
+            case STATUS -> employeeLeaveFilingRepository.findByLeaveStatus(searchTerm.text(), pageable);
+            case EMPLOYEE_NUMBER -> employeeLeaveFilingRepository.findByEmployeeNumber(searchTerm.text(), pageable);
+            default -> employeeLeaveFilingRepository.findByStringParameter(searchTerm.text(), pageable);
+        };
+    }
 }
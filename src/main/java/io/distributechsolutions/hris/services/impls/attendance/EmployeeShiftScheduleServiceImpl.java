@@ -5,12 +5,12 @@ import io.distributechsolutions.hris.entities.attendance.EmployeeShiftSchedule;
 import io.distributechsolutions.hris.repositories.attendance.EmployeeShiftScheduleRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
 import io.distributechsolutions.hris.services.attendance.EmployeeShiftScheduleService;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -68,7 +68,7 @@ public class EmployeeShiftScheduleServiceImpl implements EmployeeShiftScheduleSe
         EmployeeShiftScheduleDTO employeeShiftScheduleDTO = new EmployeeShiftScheduleDTO();
 
         employeeShiftScheduleDTO.setId(employeeShiftSchedule.getId());
-        employeeShiftScheduleDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(employeeShiftSchedule.getEmployee().getId()));
+        employeeShiftScheduleDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeShiftSchedule.getEmployee()));
         employeeShiftScheduleDTO.setShiftSchedule(employeeShiftSchedule.getShiftSchedule());
         employeeShiftScheduleDTO.setShiftHours(employeeShiftSchedule.getShiftHours());
         employeeShiftScheduleDTO.setShiftScheduledDays(employeeShiftSchedule.getShiftScheduledDays());
@@ -106,13 +106,11 @@ public class EmployeeShiftScheduleServiceImpl implements EmployeeShiftScheduleSe
         List<EmployeeShiftScheduleDTO> employeeShiftScheduleDTOList = new ArrayList<>();
 
         if (!employeeShiftScheduleList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (EmployeeShiftSchedule employeeShiftSchedule : employeeShiftScheduleList) {
                 EmployeeShiftScheduleDTO employeeShiftScheduleDTO = new EmployeeShiftScheduleDTO();
 
                 employeeShiftScheduleDTO.setId(employeeShiftSchedule.getId());
-                employeeShiftScheduleDTO.setEmployeeDTO(employeeService.getById(employeeShiftSchedule.getEmployee().getId()));
+                employeeShiftScheduleDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeShiftSchedule.getEmployee()));
                 employeeShiftScheduleDTO.setShiftSchedule(employeeShiftSchedule.getShiftSchedule());
                 employeeShiftScheduleDTO.setShiftHours(employeeShiftSchedule.getShiftHours());
                 employeeShiftScheduleDTO.setShiftScheduledDays(employeeShiftSchedule.getShiftScheduledDays());
@@ -134,7 +132,27 @@ public class EmployeeShiftScheduleServiceImpl implements EmployeeShiftScheduleSe
     }
 
     @Override
-    public List<EmployeeShiftScheduleDTO> findByParameter(String param) {
-        return List.of();
+    public List<EmployeeShiftScheduleDTO> findByParameter(String param, Pageable pageable) {
+        logger.info("Retrieving employee shift with search parameter '%".concat(param).concat("%' from the database."));
+        List<EmployeeShiftSchedule> employeeShiftScheduleList = employeeShiftScheduleRepository.findByStringParameter(param, pageable);
+
+        List<EmployeeShiftScheduleDTO> employeeShiftScheduleDTOList = new ArrayList<>();
+
+        if (!employeeShiftScheduleList.isEmpty()) {
+            logger.info("Employee shift with parameter '%".concat(param).concat("%' has successfully retrieved."));
+
+            for (EmployeeShiftSchedule employeeShiftSchedule : employeeShiftScheduleList) {
+                employeeShiftScheduleDTOList.add(DTOMapperUtil.toEmployeeShiftScheduleDTO(employeeShiftSchedule));
+            }
+
+            logger.info(String.valueOf(employeeShiftScheduleList.size()).concat(" record(s) found."));
+        }
+
+        return employeeShiftScheduleDTOList;
+    }
+
+    @Override
+    public long countByParameter(String param) {
+        return employeeShiftScheduleRepository.countByStringParameter(param);
     }
 }
@@ -0,0 +1,55 @@
+package io.distributechsolutions.hris.services.impls.attendance;
+
+import io.distributechsolutions.hris.entities.attendance.EmployeeTimesheetImage;
+import io.distributechsolutions.hris.repositories.attendance.EmployeeTimesheetImageRepository;
+import io.distributechsolutions.hris.services.attendance.EmployeeTimesheetImageService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+@Service
+public class EmployeeTimesheetImageServiceImpl implements EmployeeTimesheetImageService {
+    private final Logger logger = LoggerFactory.getLogger(EmployeeTimesheetImageServiceImpl.class);
+
+    private final EmployeeTimesheetImageRepository employeeTimesheetImageRepository;
+
+    public EmployeeTimesheetImageServiceImpl(EmployeeTimesheetImageRepository employeeTimesheetImageRepository) {
+        this.employeeTimesheetImageRepository = employeeTimesheetImageRepository;
+    }
+
+    @Override
+    public UUID saveImage(byte[] imageData, String createdBy) {
+        EmployeeTimesheetImage employeeTimesheetImage = new EmployeeTimesheetImage();
+        employeeTimesheetImage.setImageData(imageData);
+        employeeTimesheetImage.setCreatedBy(createdBy);
+        employeeTimesheetImage.setDateAndTimeCreated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+        employeeTimesheetImage.setUpdatedBy(createdBy);
+        employeeTimesheetImage.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+
+        UUID id = employeeTimesheetImageRepository.save(employeeTimesheetImage).getId();
+        logger.info(String.format("Employee's timesheet image with id %s is successfully saved.", id));
+
+        return id;
+    }
+
+    @Override
+    public InputStream getImageStream(UUID id) {
+        logger.info(String.format("Retrieving employee's timesheet image with UUID %s", id));
+
+        byte[] imageData = employeeTimesheetImageRepository.findImageDataById(id);
+        return new ByteArrayInputStream(imageData != null ? imageData : new byte[0]);
+    }
+
+    @Override
+    public void deleteImage(UUID id) {
+        employeeTimesheetImageRepository.deleteById(id);
+        logger.info(String.format("Employee's timesheet image with id %s is deleted.", id));
+    }
+}
@@ -0,0 +1,238 @@
+package io.distributechsolutions.hris.services.impls.attendance;
+
+import com.opencsv.exceptions.CsvValidationException;
+
+import io.distributechsolutions.hris.dtos.attendance.EmployeeActiveShiftDTO;
+import io.distributechsolutions.hris.dtos.attendance.EmployeeShiftScheduleDTO;
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetDTO;
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetImportErrorDTO;
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetImportResultDTO;
+import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
+import io.distributechsolutions.hris.repositories.attendance.EmployeeShiftScheduleRepository;
+import io.distributechsolutions.hris.services.attendance.EmployeeTimesheetImportService;
+import io.distributechsolutions.hris.services.attendance.EmployeeTimesheetService;
+import io.distributechsolutions.hris.utils.CSVUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class EmployeeTimesheetImportServiceImpl implements EmployeeTimesheetImportService {
+    private static final DateTimeFormatter LOG_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+    private static final DateTimeFormatter LOG_TIME_FORMATTER = DateTimeFormatter.ofPattern("H:mm[:ss]");
+    private static final Set<String> LOG_DETAILS = Set.of("IN", "OUT");
+    private static final int COLUMN_COUNT = 4;
+
+    private final Logger logger = LoggerFactory.getLogger(EmployeeTimesheetImportServiceImpl.class);
+
+    private final EmployeeTimesheetService employeeTimesheetService;
+    private final EmployeeShiftScheduleRepository employeeShiftScheduleRepository;
+
+    @Value("${timesheet.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${timesheet.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public EmployeeTimesheetImportServiceImpl(EmployeeTimesheetService employeeTimesheetService,
+                                              EmployeeShiftScheduleRepository employeeShiftScheduleRepository) {
+        this.employeeTimesheetService = employeeTimesheetService;
+        this.employeeShiftScheduleRepository = employeeShiftScheduleRepository;
+    }
+
+    @Override
+    public EmployeeTimesheetImportResultDTO importTimesheets(InputStream inputStream, String importedBy) {
+        logger.info("Importing employee's timesheet records from a CSV file.");
+
+        TimesheetImport timesheetImport = new TimesheetImport(this.getEmployeeActiveShiftMap(), importedBy);
+
+        try {
+            CSVUtil.readCSVData(inputStream, timesheetImport::importRow);
+            timesheetImport.saveChunk();
+        } catch (IOException | CsvValidationException exception) {
+            logger.error(exception.getMessage());
+
+            timesheetImport.saveChunk();
+            timesheetImport.addError(timesheetImport.lastRowNumber + 1, "The file could not be read: ".concat(String.valueOf(exception.getMessage())), 1);
+        }
+
+        logger.info(String.format("%s of %s timesheet record(s) are successfully imported, %s record(s) are not imported.",
+                                  timesheetImport.importedRowCount, timesheetImport.totalRowCount, timesheetImport.errorRowCount));
+
+        return new EmployeeTimesheetImportResultDTO(timesheetImport.totalRowCount,
+                                                    timesheetImport.importedRowCount,
+                                                    timesheetImport.errorRowCount,
+                                                    timesheetImport.errors);
+    }
+
+    /**
+     * Returns the employees and their active shift schedules keyed by the employee number. It is loaded
+     * with a single query at the start of each import, so the rows are resolved without any database lookup.
+     */
+    private Map<String, EmployeeActiveShiftDTO> getEmployeeActiveShiftMap() {
+        List<EmployeeActiveShiftDTO> employeeActiveShiftDTOList = employeeShiftScheduleRepository.findEmployeeActiveShifts();
+        Map<String, EmployeeActiveShiftDTO> employeeActiveShiftMap = new HashMap<>(employeeActiveShiftDTOList.size() * 2);
+
+        for (EmployeeActiveShiftDTO employeeActiveShiftDTO : employeeActiveShiftDTOList) {
+            // An employee without an active shift must not replace the entry of one that has.
+            if (employeeActiveShiftDTO.shiftScheduleId() != null || !employeeActiveShiftMap.containsKey(employeeActiveShiftDTO.employeeNumber())) {
+                employeeActiveShiftMap.put(employeeActiveShiftDTO.employeeNumber(), employeeActiveShiftDTO);
+            }
+        }
+
+        return employeeActiveShiftMap;
+    }
+
+    /**
+     * Holds the state of a single import while its rows are streamed: the chunk of rows waiting to be saved,
+     * the row counts and the reported errors.
+     */
+    private class TimesheetImport {
+        private final Map<String, EmployeeActiveShiftDTO> employeeActiveShiftMap;
+        private final String importedBy;
+        private final List<EmployeeTimesheetDTO> pendingTimesheetDTOList = new ArrayList<>(chunkSize);
+        private final List<EmployeeTimesheetImportErrorDTO> errors = new ArrayList<>();
+
+        private long pendingFirstRowNumber;
+        private long lastRowNumber;
+        private long totalRowCount;
+        private long importedRowCount;
+        private long errorRowCount;
+
+        private TimesheetImport(Map<String, EmployeeActiveShiftDTO> employeeActiveShiftMap, String importedBy) {
+            this.employeeActiveShiftMap = employeeActiveShiftMap;
+            this.importedBy = importedBy;
+        }
+
+        private void importRow(long rowNumber, String[] csvLine) {
+            lastRowNumber = rowNumber;
+
+            // Skip the blank lines.
+            if (csvLine.length == 1 && csvLine[0].isBlank()) {
+                return;
+            }
+
+            LocalDate logDate;
+
+            try {
+                logDate = LocalDate.parse(csvLine[0].trim(), LOG_DATE_FORMATTER);
+            } catch (DateTimeParseException exception) {
+                // Skip the header row.
+                if (rowNumber == 1) {
+                    return;
+                }
+
+                totalRowCount++;
+                this.addError(rowNumber, String.format("Invalid log date '%s', expected yyyy/MM/dd.", csvLine[0]), 1);
+                return;
+            }
+
+            totalRowCount++;
+
+            if (csvLine.length < COLUMN_COUNT) {
+                this.addError(rowNumber, String.format("Expected %s columns but found %s.", COLUMN_COUNT, csvLine.length), 1);
+                return;
+            }
+
+            String employeeNumber = csvLine[1].trim();
+            EmployeeActiveShiftDTO employeeActiveShiftDTO = employeeActiveShiftMap.get(employeeNumber);
+
+            if (employeeActiveShiftDTO == null) {
+                this.addError(rowNumber, String.format("Unknown employee number '%s'.", employeeNumber), 1);
+                return;
+            }
+
+            if (employeeActiveShiftDTO.shiftScheduleId() == null) {
+                this.addError(rowNumber, String.format("Employee number '%s' has no active shift schedule.", employeeNumber), 1);
+                return;
+            }
+
+            LocalTime logTime;
+
+            try {
+                logTime = LocalTime.parse(csvLine[2].trim(), LOG_TIME_FORMATTER);
+            } catch (DateTimeParseException exception) {
+                this.addError(rowNumber, String.format("Invalid log time '%s', expected H:mm or H:mm:ss.", csvLine[2]), 1);
+                return;
+            }
+
+            String logDetail = csvLine[3].trim().toUpperCase();
+
+            if (!LOG_DETAILS.contains(logDetail)) {
+                this.addError(rowNumber, String.format("Invalid log detail '%s', expected IN or OUT.", csvLine[3]), 1);
+                return;
+            }
+
+            EmployeeDTO employeeDTO = new EmployeeDTO();
+            employeeDTO.setId(employeeActiveShiftDTO.employeeId());
+
+            EmployeeShiftScheduleDTO employeeShiftScheduleDTO = new EmployeeShiftScheduleDTO();
+            employeeShiftScheduleDTO.setId(employeeActiveShiftDTO.shiftScheduleId());
+
+            EmployeeTimesheetDTO employeeTimesheetDTO = new EmployeeTimesheetDTO();
+            employeeTimesheetDTO.setEmployeeDTO(employeeDTO);
+            employeeTimesheetDTO.setShiftScheduleDTO(employeeShiftScheduleDTO);
+            employeeTimesheetDTO.setLogDate(logDate);
+            employeeTimesheetDTO.setLogTime(logTime);
+            employeeTimesheetDTO.setLogDetail(logDetail);
+            employeeTimesheetDTO.setStatus("PENDING");
+            employeeTimesheetDTO.setCreatedBy(importedBy);
+            employeeTimesheetDTO.setUpdatedBy(importedBy);
+
+            if (pendingTimesheetDTOList.isEmpty()) {
+                pendingFirstRowNumber = rowNumber;
+            }
+
+            pendingTimesheetDTOList.add(employeeTimesheetDTO);
+
+            if (pendingTimesheetDTOList.size() >= chunkSize) {
+                this.saveChunk();
+            }
+        }
+
+        /**
+         * Saves the pending rows in their own transaction. When the chunk fails, its rows are reported
+         * and the import goes on with the next chunk.
+         */
+        private void saveChunk() {
+            if (pendingTimesheetDTOList.isEmpty()) {
+                return;
+            }
+
+            try {
+                employeeTimesheetService.saveAll(pendingTimesheetDTOList);
+                importedRowCount += pendingTimesheetDTOList.size();
+            } catch (RuntimeException exception) {
+                logger.error(exception.getMessage());
+
+                this.addError(pendingFirstRowNumber,
+                              String.format("Rows %s to %s could not be saved: %s", pendingFirstRowNumber, lastRowNumber, exception.getMessage()),
+                              pendingTimesheetDTOList.size());
+            }
+
+            pendingTimesheetDTOList.clear();
+        }
+
+        private void addError(long rowNumber, String message, int rowCount) {
+            errorRowCount += rowCount;
+
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new EmployeeTimesheetImportErrorDTO(rowNumber, message));
+            }
+        }
+    }
+}
@@ -1,20 +1,27 @@
 package io.distributechsolutions.hris.services.impls.attendance;
 
+import io.distributechsolutions.hris.configs.SearchIndexConfig;
 import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetDTO;
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetListDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.entities.attendance.EmployeeTimesheet;
-import io.distributechsolutions.hris.entities.profile.Employee;
 import io.distributechsolutions.hris.repositories.attendance.EmployeeShiftScheduleRepository;
 import io.distributechsolutions.hris.repositories.attendance.EmployeeTimesheetRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
-import io.distributechsolutions.hris.services.attendance.EmployeeShiftScheduleService;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
+import io.distributechsolutions.hris.services.attendance.EmployeeTimesheetImageService;
 import io.distributechsolutions.hris.services.attendance.EmployeeTimesheetService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
+import io.distributechsolutions.hris.utils.SearchUtil;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -27,52 +34,96 @@ import java.util.UUID;
 
 @Service
 public class EmployeeTimesheetServiceImpl implements EmployeeTimesheetService {
+    private static final List<String> TIMESHEET_STATUSES = List.of("PENDING", "APPROVED");
+
     private final Logger logger = LoggerFactory.getLogger(EmployeeTimesheetServiceImpl.class);
     private final EmployeeTimesheetRepository employeeTimesheetRepository;
     private final EmployeeRepository employeeRepository;
     private final EmployeeShiftScheduleRepository employeeShiftScheduleRepository;
-    private final EmployeeService employeeService;
-    private final EmployeeShiftScheduleService employeeShiftScheduleService;
+    private final EmployeeTimesheetImageService employeeTimesheetImageService;
+    private final SearchIndexConfig searchIndexConfig;
+
+    @PersistenceContext private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
 
     public EmployeeTimesheetServiceImpl(EmployeeTimesheetRepository employeeTimesheetRepository,
                                         EmployeeRepository employeeRepository,
                                         EmployeeShiftScheduleRepository employeeShiftScheduleRepository,
-                                        EmployeeService employeeService,
-                                        EmployeeShiftScheduleService employeeShiftScheduleService) {
+                                        EmployeeTimesheetImageService employeeTimesheetImageService,
+                                        SearchIndexConfig searchIndexConfig) {
         this.employeeTimesheetRepository = employeeTimesheetRepository;
         this.employeeRepository = employeeRepository;
         this.employeeShiftScheduleRepository = employeeShiftScheduleRepository;
-        this.employeeService = employeeService;
-        this.employeeShiftScheduleService = employeeShiftScheduleService;
+        this.employeeTimesheetImageService = employeeTimesheetImageService;
+        this.searchIndexConfig = searchIndexConfig;
     }
 
     @Override
     public void saveOrUpdate(EmployeeTimesheetDTO object) {
+        String logMessage = object.getId() == null
+                            ? "Employee's timesheet record is successfully created."
+                            : String.format("Employee's timesheet record with id %s is successfully updated.", object.getId());
+
+        employeeTimesheetRepository.save(this.getEmployeeTimesheet(object));
+        logger.info(logMessage);
+    }
+
+    @Override
+    public void saveAll(List<EmployeeTimesheetDTO> objects) {
+        logger.info(String.format("Saving %s employee's timesheet records in batches of %s.", objects.size(), batchSize));
+
+        for (int index = 0; index < objects.size(); index++) {
+            employeeTimesheetRepository.save(this.getEmployeeTimesheet(objects.get(index)));
+
+            // Send the pending batch to the database and release the saved records from the persistence context.
+            if ((index + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        logger.info(String.format("%s employee's timesheet records are successfully saved.", objects.size()));
+    }
+
+    /**
+     * Returns the employee timesheet object to be saved, where values comes from the employee timesheet data transfer object.
+     * @param object - The employee timesheet data transfer object.
+     * @return The employee timesheet object.
+     */
+    private EmployeeTimesheet getEmployeeTimesheet(EmployeeTimesheetDTO object) {
         EmployeeTimesheet employeeTimesheet;
-        String logMessage;
 
         if (object.getId() == null) {
             employeeTimesheet = new EmployeeTimesheet();
             employeeTimesheet.setCreatedBy(object.getCreatedBy());
             employeeTimesheet.setDateAndTimeCreated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
-            logMessage = "Employee's timesheet record is successfully created.";
         } else {
             employeeTimesheet = employeeTimesheetRepository.findById(object.getId()).get();
-            logMessage = String.format("Employee's timesheet record with id %s is successfully updated.", object.getId());
         }
 
         employeeTimesheet.setEmployee(employeeRepository.getReferenceById(object.getEmployeeDTO().getId()));
         employeeTimesheet.setLogDate(object.getLogDate());
         employeeTimesheet.setLogTime(object.getLogTime());
         employeeTimesheet.setLogDetail(object.getLogDetail());
-        employeeTimesheet.setLogImage(object.getLogImage());
+
+        // A newly captured image is stored in its own record, otherwise the current image reference is kept.
+        if (object.getLogImage() != null) {
+            employeeTimesheet.setLogImageId(employeeTimesheetImageService.saveImage(object.getLogImage(), object.getUpdatedBy()));
+        } else if (object.getLogImageId() != null) {
+            employeeTimesheet.setLogImageId(object.getLogImageId());
+        }
+
         employeeTimesheet.setShiftSchedule(employeeShiftScheduleRepository.getReferenceById(object.getShiftScheduleDTO().getId()));
         employeeTimesheet.setStatus(object.getStatus());
         employeeTimesheet.setUpdatedBy(object.getUpdatedBy());
         employeeTimesheet.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
 
-        employeeTimesheetRepository.save(employeeTimesheet);
-        logger.info(logMessage);
+        return employeeTimesheet;
     }
 
     @Override
@@ -80,16 +131,16 @@ public class EmployeeTimesheetServiceImpl implements EmployeeTimesheetService {
         logger.info(String.format("Retrieving employee's timesheet record with UUID %s", id));
 
         EmployeeTimesheet employeeTimesheet = employeeTimesheetRepository.getReferenceById(id);
-        Employee employee = employeeRepository.getReferenceById(employeeTimesheet.getEmployee().getId());
 
         EmployeeTimesheetDTO employeeTimesheetDTO = new EmployeeTimesheetDTO();
 
-        employeeTimesheetDTO.setEmployeeDTO(employeeService.getById(employeeTimesheet.getId()));
+        employeeTimesheetDTO.setId(employeeTimesheet.getId());
+        employeeTimesheetDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeTimesheet.getEmployee()));
         employeeTimesheetDTO.setLogDate(employeeTimesheet.getLogDate());
         employeeTimesheetDTO.setLogTime(employeeTimesheet.getLogTime());
         employeeTimesheetDTO.setLogDetail(employeeTimesheet.getLogDetail());
-        employeeTimesheetDTO.setLogImage(employeeTimesheet.getLogImage());
-        employeeTimesheetDTO.setShiftScheduleDTO(employeeShiftScheduleService.getById(employeeTimesheet.getShiftSchedule().getId()));
+        employeeTimesheetDTO.setLogImageId(employeeTimesheet.getLogImageId());
+        employeeTimesheetDTO.setShiftScheduleDTO(DTOMapperUtil.toEmployeeShiftScheduleDTO(employeeTimesheet.getShiftSchedule()));
         employeeTimesheetDTO.setStatus(employeeTimesheet.getStatus());
         employeeTimesheetDTO.setCreatedBy(employeeTimesheet.getCreatedBy());
         employeeTimesheetDTO.setDateAndTimeUpdated(employeeTimesheet.getDateAndTimeUpdated());
@@ -107,8 +158,13 @@ public class EmployeeTimesheetServiceImpl implements EmployeeTimesheetService {
             logger.warn("You are about to delete the employee's timesheet record permanently.");
 
             EmployeeTimesheet employeeTimesheet = employeeTimesheetRepository.getReferenceById(object.getId());
+            UUID logImageId = employeeTimesheet.getLogImageId();
             employeeTimesheetRepository.delete(employeeTimesheet);
 
+            if (logImageId != null) {
+                employeeTimesheetImageService.deleteImage(logImageId);
+            }
+
             logger.info(String.format("Employee's timesheet record with id %s is deleted.", object.getId()));
         }
     }
@@ -122,17 +178,16 @@ public class EmployeeTimesheetServiceImpl implements EmployeeTimesheetService {
         List<EmployeeTimesheetDTO> employeeTimesheetDTOList = new ArrayList<>();
 
         if (!employeeTimesheets.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (EmployeeTimesheet employeeTimesheet : employeeTimesheets) {
                 EmployeeTimesheetDTO employeeTimesheetDTO = new EmployeeTimesheetDTO();
 
-                employeeTimesheetDTO.setEmployeeDTO(employeeService.getById(employeeTimesheet.getId()));
+                employeeTimesheetDTO.setId(employeeTimesheet.getId());
+                employeeTimesheetDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeTimesheet.getEmployee()));
                 employeeTimesheetDTO.setLogDate(employeeTimesheet.getLogDate());
                 employeeTimesheetDTO.setLogTime(employeeTimesheet.getLogTime());
                 employeeTimesheetDTO.setLogDetail(employeeTimesheet.getLogDetail());
-                employeeTimesheetDTO.setLogImage(employeeTimesheet.getLogImage());
-                employeeTimesheetDTO.setShiftScheduleDTO(employeeShiftScheduleService.getById(employeeTimesheet.getShiftSchedule().getId()));
+                employeeTimesheetDTO.setLogImageId(employeeTimesheet.getLogImageId());
+                employeeTimesheetDTO.setShiftScheduleDTO(DTOMapperUtil.toEmployeeShiftScheduleDTO(employeeTimesheet.getShiftSchedule()));
                 employeeTimesheetDTO.setStatus(employeeTimesheet.getStatus());
                 employeeTimesheetDTO.setCreatedBy(employeeTimesheet.getCreatedBy());
                 employeeTimesheetDTO.setDateAndTimeUpdated(employeeTimesheet.getDateAndTimeUpdated());
@@ -149,28 +204,28 @@ public class EmployeeTimesheetServiceImpl implements EmployeeTimesheetService {
     }
 
     @Override
-    public List<EmployeeTimesheetDTO> findByParameter(String param) {
+    public List<EmployeeTimesheetDTO> findByParameter(String param, Pageable pageable) {
         List<EmployeeTimesheetDTO> employeeTimesheetDTOList = new ArrayList<>();
         List<EmployeeTimesheet> employeeTimesheetList = null;
 
         if (param != null && !param.isEmpty()) {
             logger.info("Retrieving employee's timesheet records from the database.");
-            employeeTimesheetList = employeeTimesheetRepository.findTimesheetByStringParameter(param);
+            List<UUID> employeeTimesheetIds = this.findTimesheetIdsBySearchParameter(TIMESHEET_STATUSES, param, pageable);
+            employeeTimesheetList = SearchUtil.orderByIds(employeeTimesheetRepository.findTimesheetsByIds(employeeTimesheetIds), employeeTimesheetIds, EmployeeTimesheet::getId);
 
             if (employeeTimesheetList != null && !employeeTimesheetList.isEmpty()) {
                 logger.info("Employee's timesheet records has successfully retrieved.");
 
-                EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
                 for (EmployeeTimesheet employeeTimesheet : employeeTimesheetList) {
                     EmployeeTimesheetDTO employeeTimesheetDTO = new EmployeeTimesheetDTO();
 
-                    employeeTimesheetDTO.setEmployeeDTO(employeeService.getById(employeeTimesheet.getId()));
+                    employeeTimesheetDTO.setId(employeeTimesheet.getId());
+                    employeeTimesheetDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeTimesheet.getEmployee()));
                     employeeTimesheetDTO.setLogDate(employeeTimesheet.getLogDate());
                     employeeTimesheetDTO.setLogTime(employeeTimesheet.getLogTime());
                     employeeTimesheetDTO.setLogDetail(employeeTimesheet.getLogDetail());
-                    employeeTimesheetDTO.setLogImage(employeeTimesheet.getLogImage());
-                    employeeTimesheetDTO.setShiftScheduleDTO(employeeShiftScheduleService.getById(employeeTimesheet.getShiftSchedule().getId()));
+                    employeeTimesheetDTO.setLogImageId(employeeTimesheet.getLogImageId());
+                    employeeTimesheetDTO.setShiftScheduleDTO(DTOMapperUtil.toEmployeeShiftScheduleDTO(employeeTimesheet.getShiftSchedule()));
                     employeeTimesheetDTO.setStatus(employeeTimesheet.getStatus());
                     employeeTimesheetDTO.setCreatedBy(employeeTimesheet.getCreatedBy());
                     employeeTimesheetDTO.setDateAndTimeUpdated(employeeTimesheet.getDateAndTimeUpdated());
@@ -201,17 +256,17 @@ public class EmployeeTimesheetServiceImpl implements EmployeeTimesheetService {
                 LinkedList<EmployeeTimesheet> employeeTimesheetLinkedList = new LinkedList<>(employeeTimesheetList);
 
                 logger.info("Employee's timesheet records has successfully retrieved.");
-                EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
 
                 for (EmployeeTimesheet employeeTimesheet : employeeTimesheetLinkedList) {
                     EmployeeTimesheetDTO employeeTimesheetDTO = new EmployeeTimesheetDTO();
 
-                    employeeTimesheetDTO.setEmployeeDTO(employeeService.getById(employeeTimesheet.getId()));
+                    employeeTimesheetDTO.setId(employeeTimesheet.getId());
+                    employeeTimesheetDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeTimesheet.getEmployee()));
                     employeeTimesheetDTO.setLogDate(employeeTimesheet.getLogDate());
                     employeeTimesheetDTO.setLogTime(employeeTimesheet.getLogTime());
                     employeeTimesheetDTO.setLogDetail(employeeTimesheet.getLogDetail());
-                    employeeTimesheetDTO.setLogImage(employeeTimesheet.getLogImage());
-                    employeeTimesheetDTO.setShiftScheduleDTO(employeeShiftScheduleService.getById(employeeTimesheet.getShiftSchedule().getId()));
+                    employeeTimesheetDTO.setLogImageId(employeeTimesheet.getLogImageId());
+                    employeeTimesheetDTO.setShiftScheduleDTO(DTOMapperUtil.toEmployeeShiftScheduleDTO(employeeTimesheet.getShiftSchedule()));
                     employeeTimesheetDTO.setStatus(employeeTimesheet.getStatus());
                     employeeTimesheetDTO.setCreatedBy(employeeTimesheet.getCreatedBy());
                     employeeTimesheetDTO.setDateAndTimeUpdated(employeeTimesheet.getDateAndTimeUpdated());
@@ -229,40 +284,102 @@ public class EmployeeTimesheetServiceImpl implements EmployeeTimesheetService {
     }
 
     @Override
-    public List<EmployeeTimesheetDTO> findByLogDateRange(LocalDate startDate, LocalDate endDate) {
-        List<EmployeeTimesheetDTO> employeeTimesheetDTOList = new ArrayList<>();
-        List<EmployeeTimesheet> employeeTimesheetList = null;
+    public long countByParameter(String param) {
+        if (param == null || param.isEmpty()) {
+            return 0;
+        }
 
-        if (startDate != null && endDate != null) {
-            logger.info("Retrieving employee's timesheet records from the database.");
-            employeeTimesheetList = employeeTimesheetRepository.findTimesheetByLogDateRange(startDate, endDate);
+        return this.countTimesheetBySearchParameter(TIMESHEET_STATUSES, param);
+    }
 
-            if (!employeeTimesheetList.isEmpty()) {
-                logger.info("Employee's timesheet records has successfully retrieved.");
-                EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
+    @Override
+    public Page<EmployeeTimesheetListDTO> getTimesheetListByStatus(String status, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        Page<EmployeeTimesheetListDTO> employeeTimesheetListDTOPage;
 
-                for (EmployeeTimesheet employeeTimesheet : employeeTimesheetList) {
-                    EmployeeTimesheetDTO employeeTimesheetDTO = new EmployeeTimesheetDTO();
+        if (startDate != null && endDate != null) {
+            logger.info(String.format("Retrieving employee's timesheet list with status %s from %s to %s from the database.", status, startDate, endDate));
+            employeeTimesheetListDTOPage = employeeTimesheetRepository.findTimesheetListByStatusAndLogDateRange(status, startDate, endDate, pageable);
+        } else {
+            logger.info(String.format("Retrieving employee's timesheet list with status %s from the database.", status));
+            employeeTimesheetListDTOPage = employeeTimesheetRepository.findTimesheetListByStatus(status, pageable);
+        }
 
-                    employeeTimesheetDTO.setEmployeeDTO(employeeService.getById(employeeTimesheet.getId()));
-                    employeeTimesheetDTO.setLogDate(employeeTimesheet.getLogDate());
-                    employeeTimesheetDTO.setLogTime(employeeTimesheet.getLogTime());
-                    employeeTimesheetDTO.setLogDetail(employeeTimesheet.getLogDetail());
-                    employeeTimesheetDTO.setLogImage(employeeTimesheet.getLogImage());
-                    employeeTimesheetDTO.setShiftScheduleDTO(employeeShiftScheduleService.getById(employeeTimesheet.getShiftSchedule().getId()));
-                    employeeTimesheetDTO.setStatus(employeeTimesheet.getStatus());
-                    employeeTimesheetDTO.setCreatedBy(employeeTimesheet.getCreatedBy());
-                    employeeTimesheetDTO.setDateAndTimeUpdated(employeeTimesheet.getDateAndTimeUpdated());
-                    employeeTimesheetDTO.setUpdatedBy(employeeTimesheet.getUpdatedBy());
-                    employeeTimesheetDTO.setDateAndTimeUpdated(employeeTimesheet.getDateAndTimeUpdated());
+        logger.info(String.format("%s of %s record(s) found.", employeeTimesheetListDTOPage.getNumberOfElements(), employeeTimesheetListDTOPage.getTotalElements()));
 
-                    employeeTimesheetDTOList.add(employeeTimesheetDTO);
-                }
+        return employeeTimesheetListDTOPage;
+    }
 
-                logger.info(String.format("%s records have successfully retrieved.", employeeTimesheetDTOList.size()));
-            }
+    @Override
+    public long countTimesheetByStatus(String status, LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null) {
+            return employeeTimesheetRepository.countTimesheetByStatusAndLogDateRange(status, startDate, endDate);
         }
 
-        return employeeTimesheetDTOList;
+        return employeeTimesheetRepository.countTimesheetByStatus(status);
+    }
+
+    @Override
+    public List<EmployeeTimesheetListDTO> findTimesheetListByStatusAndParameter(String status, String param, Pageable pageable) {
+        logger.info(String.format("Retrieving employee's timesheet list with status %s and search parameter '%%%s%%' from the database.", status, param));
+        List<UUID> employeeTimesheetIds = this.findTimesheetIdsBySearchParameter(List.of(status), param, pageable);
+        List<EmployeeTimesheetListDTO> employeeTimesheetListDTOList = SearchUtil.orderByIds(employeeTimesheetRepository.findTimesheetListByIds(employeeTimesheetIds),
+                                                                                            employeeTimesheetIds,
+                                                                                            EmployeeTimesheetListDTO::id);
+
+        logger.info(String.format("%s record(s) found.", employeeTimesheetListDTOList.size()));
+
+        return employeeTimesheetListDTOList;
+    }
+
+    @Override
+    public long countTimesheetByStatusAndParameter(String status, String param) {
+        return this.countTimesheetBySearchParameter(List.of(status), param);
+    }
+
+    /**
+     * Returns the ids of the timesheets with one of the given statuses that match the search parameter. The search parameter
+     * is matched by its kind: a date by the log date, a time by the log time within that minute, a status by the status,
+     * an employee number by its prefix and any other text by the employee name, shift schedule and log detail.
+     *
+     * @param statuses - The timesheet statuses to search in.
+     * @param param - The search parameter.
+     * @param pageable - The page number and page size.
+     * @return The ids of the matching timesheets of the page, best match first when the pg_trgm extension is installed.
+     */
+    private List<UUID> findTimesheetIdsBySearchParameter(List<String> statuses, String param, Pageable pageable) {
+        SearchUtil.SearchTerm searchTerm = SearchUtil.parseSearchTerm(param);
+
+        return switch (searchTerm.type()) {
+            case DATE -> employeeTimesheetRepository.findTimesheetIdsByLogDate(statuses, searchTerm.date(), pageable);
+            case TIME -> employeeTimesheetRepository.findTimesheetIdsByLogTimeRange(statuses, searchTerm.timeFrom(), searchTerm.timeTo(), pageable);
+            case STATUS -> statuses.contains(searchTerm.text())
+                           ? employeeTimesheetRepository.findTimesheetIdsByStatuses(List.of(searchTerm.text()), pageable)
+                           : new ArrayList<>();
+            case EMPLOYEE_NUMBER -> employeeTimesheetRepository.findTimesheetIdsByEmployeeNumber(statuses, searchTerm.text(), pageable);
+            case TEXT -> searchIndexConfig.isTrigramExtensionInstalled() ? employeeTimesheetRepository.findTimesheetIdsByText(statuses, searchTerm.text(), pageable)
+                                                                         : employeeTimesheetRepository.findTimesheetIdsByTextUnranked(statuses, searchTerm.text(), pageable);
+        };
+    }
+
+    /**
+     * Returns the number of timesheets with one of the given statuses that match the search parameter, matched by its kind
+     * the same way as {@link #findTimesheetIdsBySearchParameter(List, String, Pageable)}.
+     *
+     * @param statuses - The timesheet statuses to search in.
+     * @param param - The search parameter.
+     * @return The number of matching timesheets.
+     */
+    private long countTimesheetBySearchParameter(List<String> statuses, String param) {
+        SearchUtil.SearchTerm searchTerm = SearchUtil.parseSearchTerm(param);
+
+        return switch (searchTerm.type()) {
+            case DATE -> employeeTimesheetRepository.countTimesheetByLogDate(statuses, searchTerm.date());
+            case TIME -> employeeTimesheetRepository.countTimesheetByLogTimeRange(statuses, searchTerm.timeFrom(), searchTerm.timeTo());
+            case STATUS -> statuses.contains(searchTerm.text())
+                           ? employeeTimesheetRepository.countTimesheetByStatuses(List.of(searchTerm.text()))
+                           : 0;
+            case EMPLOYEE_NUMBER -> employeeTimesheetRepository.countTimesheetByEmployeeNumber(statuses, searchTerm.text());
+            case TEXT -> employeeTimesheetRepository.countTimesheetByText(statuses, searchTerm.text());
+        };
     }
 }
@@ -6,12 +6,12 @@ import io.distributechsolutions.hris.entities.compenben.Allowance;
 import io.distributechsolutions.hris.repositories.compenben.AllowanceRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
 import io.distributechsolutions.hris.services.compenben.AllowanceService;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -71,7 +71,7 @@ public class AllowanceServiceImpl implements AllowanceService {
         allowanceDTO.setAllowanceCode(allowance.getAllowanceCode());
         allowanceDTO.setAllowanceType(allowance.getAllowanceType());
         allowanceDTO.setAllowanceAmount(allowance.getAllowanceAmount());
-        allowanceDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(allowance.getEmployee().getId()));
+        allowanceDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(allowance.getEmployee()));
         allowanceDTO.setCreatedBy(allowance.getCreatedBy());
         allowanceDTO.setDateAndTimeCreated(allowance.getDateAndTimeCreated());
         allowanceDTO.setUpdatedBy(allowance.getUpdatedBy());
@@ -103,8 +103,6 @@ public class AllowanceServiceImpl implements AllowanceService {
         List<AllowanceDTO> allowanceDTOList = new ArrayList<>();
 
         if (!allowanceList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (Allowance allowance : allowanceList) {
                 AllowanceDTO allowanceDTO = new AllowanceDTO();
 
@@ -112,7 +110,7 @@ public class AllowanceServiceImpl implements AllowanceService {
                 allowanceDTO.setAllowanceCode(allowance.getAllowanceCode());
                 allowanceDTO.setAllowanceType(allowance.getAllowanceType());
                 allowanceDTO.setAllowanceAmount(allowance.getAllowanceAmount());
-                allowanceDTO.setEmployeeDTO(employeeService.getById(allowance.getEmployee().getId()));
+                allowanceDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(allowance.getEmployee()));
                 allowanceDTO.setCreatedBy(allowance.getCreatedBy());
                 allowanceDTO.setDateAndTimeCreated(allowance.getDateAndTimeCreated());
                 allowanceDTO.setUpdatedBy(allowance.getUpdatedBy());
@@ -128,17 +126,15 @@ public class AllowanceServiceImpl implements AllowanceService {
     }
 
     @Override
-    public List<AllowanceDTO> findByParameter(String param) {
+    public List<AllowanceDTO> findByParameter(String param, Pageable pageable) {
         logger.info("Retrieving employee's allowance with search parameter '%".concat(param).concat("%' from the database."));
 
-        List<Allowance> allowanceList = allowanceRepository.findByStringParameter(param);
+        List<Allowance> allowanceList = allowanceRepository.findByStringParameter(param, pageable);
         List<AllowanceDTO> allowanceDTOList = new ArrayList<>();
 
         if (!allowanceList.isEmpty()) {
             logger.info("Employee's allowance with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (Allowance allowance : allowanceList) {
                 AllowanceDTO allowanceDTO = new AllowanceDTO();
 
@@ -146,7 +142,7 @@ public class AllowanceServiceImpl implements AllowanceService {
                 allowanceDTO.setAllowanceCode(allowance.getAllowanceCode());
                 allowanceDTO.setAllowanceType(allowance.getAllowanceType());
                 allowanceDTO.setAllowanceAmount(allowance.getAllowanceAmount());
-                allowanceDTO.setEmployeeDTO(employeeService.getById(allowance.getEmployee().getId()));
+                allowanceDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(allowance.getEmployee()));
                 allowanceDTO.setCreatedBy(allowance.getCreatedBy());
                 allowanceDTO.setDateAndTimeCreated(allowance.getDateAndTimeCreated());
                 allowanceDTO.setUpdatedBy(allowance.getUpdatedBy());
@@ -161,6 +157,11 @@ public class AllowanceServiceImpl implements AllowanceService {
         return allowanceDTOList;
     }
 
+    @Override
+    public long countByParameter(String param) {
+        return allowanceRepository.countByStringParameter(param);
+    }
+
     @Override
     public BigDecimal getSumOfAllowanceByEmployeeDTO(EmployeeDTO employeeDTO) {
         Object sumOfAllowanceByEmployeeDTO = allowanceRepository.findSumOfAllowanceByEmployee(employeeRepository.getReferenceById(employeeDTO.getId()));
@@ -0,0 +1,260 @@
+package io.distributechsolutions.hris.services.impls.compenben;
+
+import io.distributechsolutions.hris.dtos.compenben.GovernmentContributionSharesDTO;
+import io.distributechsolutions.hris.entities.compenben.GovernmentContributionBracket;
+import io.distributechsolutions.hris.repositories.compenben.GovernmentContributionBracketRepository;
+import io.distributechsolutions.hris.services.compenben.GovernmentContributionScheduleService;
+import io.distributechsolutions.hris.utils.PayrollComputationUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class GovernmentContributionScheduleServiceImpl implements GovernmentContributionScheduleService {
+    private final Logger logger = LoggerFactory.getLogger(GovernmentContributionScheduleServiceImpl.class);
+
+    private static final String CONTRIBUTION_TYPE_SSS = "SSS";
+    private static final String CONTRIBUTION_TYPE_PHILHEALTH = "PhilHealth";
+    private static final String CONTRIBUTION_TYPE_HDMF = "HDMF";
+
+    // The share rates are kept as ten-thousandths, the scale of the rate columns.
+    private static final long RATE_SCALE = 10_000L;
+
+    private final GovernmentContributionBracketRepository governmentContributionBracketRepository;
+
+    private volatile ContributionSchedules contributionSchedules;
+
+    public GovernmentContributionScheduleServiceImpl(GovernmentContributionBracketRepository governmentContributionBracketRepository) {
+        this.governmentContributionBracketRepository = governmentContributionBracketRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadContributionSchedules() {
+        this.getContributionSchedules();
+    }
+
+    @Override
+    public synchronized void reloadSchedules() {
+        contributionSchedules = this.loadFromDatabase();
+    }
+
+    @Override
+    public GovernmentContributionSharesDTO getMonthlyShares(LocalDate effectiveDate, BigDecimal monthlyCompensation) {
+        ContributionSchedules schedules = this.getContributionSchedules();
+        long effectiveEpochDay = effectiveDate.toEpochDay();
+        long compensation = PayrollComputationUtil.toCentavos(monthlyCompensation);
+
+        GovernmentContributionSharesDTO governmentContributionSharesDTO = new GovernmentContributionSharesDTO();
+
+        ContributionTable sssTable = schedules.sss().getTableEffectiveOn(effectiveEpochDay);
+
+        if (sssTable != null) {
+            int bracket = sssTable.indexOfBracket(compensation);
+            governmentContributionSharesDTO.setSssEmployeeShareAmount(PayrollComputationUtil.toAmount(sssTable.getEmployeeShare(bracket, compensation)));
+            governmentContributionSharesDTO.setSssEmployerShareAmount(PayrollComputationUtil.toAmount(sssTable.getEmployerShare(bracket, compensation)));
+        }
+
+        ContributionTable philhealthTable = schedules.philhealth().getTableEffectiveOn(effectiveEpochDay);
+
+        if (philhealthTable != null) {
+            int bracket = philhealthTable.indexOfBracket(compensation);
+            governmentContributionSharesDTO.setPhilhealthEmployeeShareAmount(PayrollComputationUtil.toAmount(philhealthTable.getEmployeeShare(bracket, compensation)));
+            governmentContributionSharesDTO.setPhilhealthEmployerShareAmount(PayrollComputationUtil.toAmount(philhealthTable.getEmployerShare(bracket, compensation)));
+        }
+
+        ContributionTable hdmfTable = schedules.hdmf().getTableEffectiveOn(effectiveEpochDay);
+
+        if (hdmfTable != null) {
+            int bracket = hdmfTable.indexOfBracket(compensation);
+            governmentContributionSharesDTO.setHdmfEmployeeShareAmount(PayrollComputationUtil.toAmount(hdmfTable.getEmployeeShare(bracket, compensation)));
+            governmentContributionSharesDTO.setHdmfEmployerShareAmount(PayrollComputationUtil.toAmount(hdmfTable.getEmployerShare(bracket, compensation)));
+        }
+
+        return governmentContributionSharesDTO;
+    }
+
+    private ContributionSchedules getContributionSchedules() {
+        ContributionSchedules schedules = contributionSchedules;
+
+        if (schedules == null) {
+            synchronized (this) {
+                schedules = contributionSchedules;
+
+                if (schedules == null) {
+                    schedules = this.loadFromDatabase();
+                    contributionSchedules = schedules;
+                }
+            }
+        }
+
+        return schedules;
+    }
+
+    private ContributionSchedules loadFromDatabase() {
+        logger.info("Loading the government contribution schedules from the database.");
+
+        // The brackets of each contribution type, grouped by their effective date. The query keeps them sorted by compensation.
+        Map<String, TreeMap<LocalDate, List<GovernmentContributionBracket>>> bracketsByType = new HashMap<>();
+
+        for (GovernmentContributionBracket governmentContributionBracket : governmentContributionBracketRepository.findAllOrderedBySchedule()) {
+            String contributionType = governmentContributionBracket.getContributionType();
+
+            if (!CONTRIBUTION_TYPE_SSS.equals(contributionType) &&
+                    !CONTRIBUTION_TYPE_PHILHEALTH.equals(contributionType) &&
+                    !CONTRIBUTION_TYPE_HDMF.equals(contributionType)) {
+                logger.warn("Skipping the government contribution bracket with unknown contribution type ".concat(String.valueOf(contributionType)).concat("."));
+                continue;
+            }
+
+            bracketsByType.computeIfAbsent(contributionType, type -> new TreeMap<>())
+                          .computeIfAbsent(governmentContributionBracket.getEffectiveDate(), effectiveDate -> new ArrayList<>())
+                          .add(governmentContributionBracket);
+        }
+
+        ContributionSchedules schedules = new ContributionSchedules(new ContributionSchedule(bracketsByType.get(CONTRIBUTION_TYPE_SSS)),
+                                                                    new ContributionSchedule(bracketsByType.get(CONTRIBUTION_TYPE_PHILHEALTH)),
+                                                                    new ContributionSchedule(bracketsByType.get(CONTRIBUTION_TYPE_HDMF)));
+
+        logger.info(String.format("Loaded %s SSS, %s PhilHealth and %s HDMF contribution schedule version(s).",
+                                  schedules.sss().size(), schedules.philhealth().size(), schedules.hdmf().size()));
+
+        return schedules;
+    }
+
+    /**
+     * The schedules of all the contribution types, which are never changed once they are built.
+     */
+    private record ContributionSchedules(ContributionSchedule sss,
+                                         ContributionSchedule philhealth,
+                                         ContributionSchedule hdmf) {
+    }
+
+    /**
+     * The versions of the schedule of one contribution type, sorted by their effective date, so the version that is
+     * effective on a date is found with a binary search.
+     */
+    private static final class ContributionSchedule {
+        private final long[] effectiveEpochDays;
+        private final ContributionTable[] contributionTables;
+
+        private ContributionSchedule(TreeMap<LocalDate, List<GovernmentContributionBracket>> bracketsByEffectiveDate) {
+            int size = bracketsByEffectiveDate != null ? bracketsByEffectiveDate.size() : 0;
+
+            effectiveEpochDays = new long[size];
+            contributionTables = new ContributionTable[size];
+
+            if (bracketsByEffectiveDate != null) {
+                int position = 0;
+
+                for (Map.Entry<LocalDate, List<GovernmentContributionBracket>> entry : bracketsByEffectiveDate.entrySet()) {
+                    effectiveEpochDays[position] = entry.getKey().toEpochDay();
+                    contributionTables[position] = new ContributionTable(entry.getValue());
+                    position++;
+                }
+            }
+        }
+
+        private int size() {
+            return effectiveEpochDays.length;
+        }
+
+        /**
+         * Returns the version with the latest effective date on or before the given day, or null if there is none.
+         */
+        private ContributionTable getTableEffectiveOn(long epochDay) {
+            int position = Arrays.binarySearch(effectiveEpochDays, epochDay);
+
+            if (position < 0) {
+                position = -position - 2;
+            }
+
+            return position < 0 ? null : contributionTables[position];
+        }
+    }
+
+    /**
+     * One version of a schedule as parallel arrays sorted by the minimum compensation of each bracket. The amounts are
+     * in centavos and the rates in ten-thousandths. A missing floor is zero and a missing ceiling is the largest long.
+     */
+    private static final class ContributionTable {
+        private final long[] minimumCompensations;
+        private final long[] employeeShareAmounts;
+        private final long[] employerShareAmounts;
+        private final long[] employeeShareRates;
+        private final long[] employerShareRates;
+        private final long[] minimumCompensationBases;
+        private final long[] maximumCompensationBases;
+
+        private ContributionTable(List<GovernmentContributionBracket> governmentContributionBrackets) {
+            int size = governmentContributionBrackets.size();
+
+            minimumCompensations = new long[size];
+            employeeShareAmounts = new long[size];
+            employerShareAmounts = new long[size];
+            employeeShareRates = new long[size];
+            employerShareRates = new long[size];
+            minimumCompensationBases = new long[size];
+            maximumCompensationBases = new long[size];
+
+            for (int position = 0; position < size; position++) {
+                GovernmentContributionBracket governmentContributionBracket = governmentContributionBrackets.get(position);
+
+                minimumCompensations[position] = PayrollComputationUtil.toCentavos(governmentContributionBracket.getMinimumCompensation());
+                employeeShareAmounts[position] = PayrollComputationUtil.toCentavos(governmentContributionBracket.getEmployeeShareAmount());
+                employerShareAmounts[position] = PayrollComputationUtil.toCentavos(governmentContributionBracket.getEmployerShareAmount());
+                employeeShareRates[position] = toRate(governmentContributionBracket.getEmployeeShareRate());
+                employerShareRates[position] = toRate(governmentContributionBracket.getEmployerShareRate());
+                minimumCompensationBases[position] = PayrollComputationUtil.toCentavos(governmentContributionBracket.getMinimumCompensationBasis());
+                maximumCompensationBases[position] = governmentContributionBracket.getMaximumCompensationBasis() != null
+                                                     ? PayrollComputationUtil.toCentavos(governmentContributionBracket.getMaximumCompensationBasis())
+                                                     : Long.MAX_VALUE;
+            }
+        }
+
+        /**
+         * Returns the bracket with the highest minimum compensation that the compensation reaches, or -1 if the
+         * compensation is below every bracket.
+         */
+        private int indexOfBracket(long compensation) {
+            int position = Arrays.binarySearch(minimumCompensations, compensation);
+            return position >= 0 ? position : -position - 2;
+        }
+
+        private long getEmployeeShare(int bracket, long compensation) {
+            return bracket < 0 ? 0L : employeeShareAmounts[bracket] + this.applyRate(bracket, employeeShareRates[bracket], compensation);
+        }
+
+        private long getEmployerShare(int bracket, long compensation) {
+            return bracket < 0 ? 0L : employerShareAmounts[bracket] + this.applyRate(bracket, employerShareRates[bracket], compensation);
+        }
+
+        /**
+         * Returns the rate of the compensation, after keeping the compensation between the floor and ceiling of the bracket.
+         */
+        private long applyRate(int bracket, long rate, long compensation) {
+            if (rate == 0L) {
+                return 0L;
+            }
+
+            long compensationBasis = Math.min(Math.max(compensation, minimumCompensationBases[bracket]), maximumCompensationBases[bracket]);
+            return (compensationBasis * rate + RATE_SCALE / 2) / RATE_SCALE;
+        }
+
+        private static long toRate(BigDecimal rate) {
+            return rate != null ? rate.setScale(4, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+        }
+    }
+}
@@ -6,12 +6,12 @@ import io.distributechsolutions.hris.entities.compenben.GovernmentContributions;
 import io.distributechsolutions.hris.repositories.compenben.GovernmentContributionsRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
 import io.distributechsolutions.hris.services.compenben.GovernmentContributionsService;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -71,7 +71,7 @@ public class GovernmentContributionsServiceImpl implements GovernmentContributio
         governmentContributionsDTO.setSssContributionAmount(governmentContributions.getSssContrbutionAmount());
         governmentContributionsDTO.setHdmfContributionAmount(governmentContributions.getHdmfContrbutionAmount());
         governmentContributionsDTO.setPhilhealthContributionAmount(governmentContributions.getPhilhealthContributionAmount());
-        governmentContributionsDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(governmentContributions.getEmployee().getId()));
+        governmentContributionsDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(governmentContributions.getEmployee()));
         governmentContributionsDTO.setCreatedBy(governmentContributions.getCreatedBy());
         governmentContributionsDTO.setDateAndTimeCreated(governmentContributions.getDateAndTimeCreated());
         governmentContributionsDTO.setUpdatedBy(governmentContributions.getUpdatedBy());
@@ -103,8 +103,6 @@ public class GovernmentContributionsServiceImpl implements GovernmentContributio
         List<GovernmentContributionsDTO> governmentContributionsDTOList = new ArrayList<>();
 
         if (!governmentContributionsList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (GovernmentContributions governmentContributions : governmentContributionsList) {
                 GovernmentContributionsDTO governmentContributionsDTO = new GovernmentContributionsDTO();
 
@@ -112,7 +110,7 @@ public class GovernmentContributionsServiceImpl implements GovernmentContributio
                 governmentContributionsDTO.setSssContributionAmount(governmentContributions.getSssContrbutionAmount());
                 governmentContributionsDTO.setHdmfContributionAmount(governmentContributions.getHdmfContrbutionAmount());
                 governmentContributionsDTO.setPhilhealthContributionAmount(governmentContributions.getPhilhealthContributionAmount());
-                governmentContributionsDTO.setEmployeeDTO(employeeService.getById(governmentContributions.getEmployee().getId()));
+                governmentContributionsDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(governmentContributions.getEmployee()));
                 governmentContributionsDTO.setCreatedBy(governmentContributions.getCreatedBy());
                 governmentContributionsDTO.setDateAndTimeCreated(governmentContributions.getDateAndTimeCreated());
                 governmentContributionsDTO.setUpdatedBy(governmentContributions.getUpdatedBy());
@@ -128,17 +126,15 @@ public class GovernmentContributionsServiceImpl implements GovernmentContributio
     }
 
     @Override
-    public List<GovernmentContributionsDTO> findByParameter(String param) {
+    public List<GovernmentContributionsDTO> findByParameter(String param, Pageable pageable) {
         logger.info("Retrieving employee's government contributions with search parameter '%".concat(param).concat("%' from the database."));
 
-        List<GovernmentContributions> governmentContributionsList = governmentContributionsRepository.findByStringParameter(param);
+        List<GovernmentContributions> governmentContributionsList = governmentContributionsRepository.findByStringParameter(param, pageable);
         List<GovernmentContributionsDTO> governmentContributionsDTOList = new ArrayList<>();
 
         if (!governmentContributionsList.isEmpty()) {
             logger.info("Employee's government contributions with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (GovernmentContributions governmentContributions : governmentContributionsList) {
                 AllowanceDTO allowanceDTO = new AllowanceDTO();
 
@@ -148,7 +144,7 @@ public class GovernmentContributionsServiceImpl implements GovernmentContributio
                 governmentContributionsDTO.setSssContributionAmount(governmentContributions.getSssContrbutionAmount());
                 governmentContributionsDTO.setHdmfContributionAmount(governmentContributions.getHdmfContrbutionAmount());
                 governmentContributionsDTO.setPhilhealthContributionAmount(governmentContributions.getPhilhealthContributionAmount());
-                governmentContributionsDTO.setEmployeeDTO(employeeService.getById(governmentContributions.getEmployee().getId()));
+                governmentContributionsDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(governmentContributions.getEmployee()));
                 governmentContributionsDTO.setCreatedBy(governmentContributions.getCreatedBy());
                 governmentContributionsDTO.setDateAndTimeCreated(governmentContributions.getDateAndTimeCreated());
                 governmentContributionsDTO.setUpdatedBy(governmentContributions.getUpdatedBy());
@@ -162,4 +158,9 @@ public class GovernmentContributionsServiceImpl implements GovernmentContributio
 
         return governmentContributionsDTOList;
     }
+
+    @Override
+    public long countByParameter(String param) {
+        return governmentContributionsRepository.countByStringParameter(param);
+    }
 }
@@ -6,13 +6,13 @@ import io.distributechsolutions.hris.entities.compenben.LeaveBenefits;
 import io.distributechsolutions.hris.repositories.compenben.LeaveBenefitsRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
 import io.distributechsolutions.hris.services.compenben.LeaveBenefitsService;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
 import io.distributechsolutions.hris.utils.StringUtil;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -36,17 +36,28 @@ public class LeaveBenefitsServiceImpl implements LeaveBenefitsService {
 
     @Override
     public void saveOrUpdate(LeaveBenefitsDTO object) {
+        String logMessage = object.getId() != null
+                            ? "Employee's leave benefit record with id ".concat(object.getId().toString()).concat(" is successfully updated.")
+                            : "Employee's leave benefit record is successfully created.";
+
+        leaveBenefitsRepository.save(this.getLeaveBenefits(object));
+        logger.info(logMessage);
+    }
+
+    /**
+     * Returns the leave benefits object to be saved, where values comes from the leave benefits data transfer object.
+     * @param object - The leave benefits data transfer object.
+     * @return The leave benefits object.
+     */
+    private LeaveBenefits getLeaveBenefits(LeaveBenefitsDTO object) {
         LeaveBenefits leaveBenefits;
-        String logMessage;
 
         if (object.getId() != null) {
             leaveBenefits = leaveBenefitsRepository.getReferenceById(object.getId());
-            logMessage = "Employee's leave benefit record with id ".concat(object.getId().toString()).concat(" is successfully updated.");
         } else {
             leaveBenefits = new LeaveBenefits();
             leaveBenefits.setCreatedBy(object.getCreatedBy());
             leaveBenefits.setDateAndTimeCreated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
-            logMessage = "Employee's leave benefit record is successfully created.";
         }
 
         leaveBenefits.setLeaveCode(object.getLeaveCode());
@@ -58,8 +69,7 @@ public class LeaveBenefitsServiceImpl implements LeaveBenefitsService {
         leaveBenefits.setUpdatedBy(object.getUpdatedBy());
         leaveBenefits.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
 
-        leaveBenefitsRepository.save(leaveBenefits);
-        logger.info(logMessage);
+        return leaveBenefits;
     }
 
     @Override
@@ -75,7 +85,7 @@ public class LeaveBenefitsServiceImpl implements LeaveBenefitsService {
         leaveBenefitsDTO.setLeaveForYear(leaveBenefits.getLeaveForYear());
         leaveBenefitsDTO.setLeaveCount(leaveBenefits.getLeaveCount());
         leaveBenefitsDTO.setLeaveActive(leaveBenefits.isLeaveActive());
-        leaveBenefitsDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(leaveBenefits.getEmployee().getId()));
+        leaveBenefitsDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(leaveBenefits.getEmployee()));
         leaveBenefitsDTO.setCreatedBy(leaveBenefits.getCreatedBy());
         leaveBenefitsDTO.setDateAndTimeCreated(leaveBenefits.getDateAndTimeCreated());
         leaveBenefitsDTO.setUpdatedBy(leaveBenefits.getUpdatedBy());
@@ -107,8 +117,6 @@ public class LeaveBenefitsServiceImpl implements LeaveBenefitsService {
         List<LeaveBenefitsDTO> leaveBenefitsDTOList = new ArrayList<>();
 
         if (!leaveBenefitsList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (LeaveBenefits leaveBenefits : leaveBenefitsList) {
                 LeaveBenefitsDTO leaveBenefitsDTO = new LeaveBenefitsDTO();
 
@@ -118,7 +126,7 @@ public class LeaveBenefitsServiceImpl implements LeaveBenefitsService {
                 leaveBenefitsDTO.setLeaveForYear(leaveBenefits.getLeaveForYear());
                 leaveBenefitsDTO.setLeaveCount(leaveBenefits.getLeaveCount());
                 leaveBenefitsDTO.setLeaveActive(leaveBenefits.isLeaveActive());
-                leaveBenefitsDTO.setEmployeeDTO(employeeService.getById(leaveBenefits.getEmployee().getId()));
+                leaveBenefitsDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(leaveBenefits.getEmployee()));
                 leaveBenefitsDTO.setCreatedBy(leaveBenefits.getCreatedBy());
                 leaveBenefitsDTO.setDateAndTimeCreated(leaveBenefits.getDateAndTimeCreated());
                 leaveBenefitsDTO.setUpdatedBy(leaveBenefits.getUpdatedBy());
@@ -134,25 +142,23 @@ public class LeaveBenefitsServiceImpl implements LeaveBenefitsService {
     }
 
     @Override
-    public List<LeaveBenefitsDTO> findByParameter(String param) {
+    public List<LeaveBenefitsDTO> findByParameter(String param, Pageable pageable) {
         List<LeaveBenefitsDTO> leaveBenefitsDTOList = new ArrayList<>();
         List<LeaveBenefits> leaveBenefitsList = null;
 
         logger.info("Retrieving employee's leave benefits with search parameter '%".concat(param).concat("%' from the database."));
 
         if (param.equalsIgnoreCase("Yes") || param.equalsIgnoreCase("No")) {
-            leaveBenefitsList = leaveBenefitsRepository.findByBooleanParameter(param.equalsIgnoreCase("Yes"));
+            leaveBenefitsList = leaveBenefitsRepository.findByBooleanParameter(param.equalsIgnoreCase("Yes"), pageable);
         } else if (StringUtil.isNumeric(param)) {
-            leaveBenefitsList = leaveBenefitsRepository.findByIntegerParameter(Integer.parseInt(param));
+            leaveBenefitsList = leaveBenefitsRepository.findByIntegerParameter(Integer.parseInt(param), pageable);
         } else {
-            leaveBenefitsList = leaveBenefitsRepository.findByStringParameter(param);
+            leaveBenefitsList = leaveBenefitsRepository.findByStringParameter(param, pageable);
         }
 
         if (!leaveBenefitsList.isEmpty()) {
             logger.info("Employee's leave benefits with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (LeaveBenefits leaveBenefits : leaveBenefitsList) {
                 LeaveBenefitsDTO leaveBenefitsDTO = new LeaveBenefitsDTO();
 
@@ -162,7 +168,7 @@ public class LeaveBenefitsServiceImpl implements LeaveBenefitsService {
                 leaveBenefitsDTO.setLeaveForYear(leaveBenefits.getLeaveForYear());
                 leaveBenefitsDTO.setLeaveCount(leaveBenefits.getLeaveCount());
                 leaveBenefitsDTO.setLeaveActive(leaveBenefits.isLeaveActive());
-                leaveBenefitsDTO.setEmployeeDTO(employeeService.getById(leaveBenefits.getEmployee().getId()));
+                leaveBenefitsDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(leaveBenefits.getEmployee()));
                 leaveBenefitsDTO.setCreatedBy(leaveBenefits.getCreatedBy());
                 leaveBenefitsDTO.setDateAndTimeCreated(leaveBenefits.getDateAndTimeCreated());
                 leaveBenefitsDTO.setUpdatedBy(leaveBenefits.getUpdatedBy());
@@ -177,6 +183,17 @@ public class LeaveBenefitsServiceImpl implements LeaveBenefitsService {
         return leaveBenefitsDTOList;
     }
 
+    @Override
+    public long countByParameter(String param) {
+        if (param.equalsIgnoreCase("Yes") || param.equalsIgnoreCase("No")) {
+            return leaveBenefitsRepository.countByBooleanParameter(param.equalsIgnoreCase("Yes"));
+        } else if (StringUtil.isNumeric(param)) {
+            return leaveBenefitsRepository.countByIntegerParameter(Integer.parseInt(param));
+        }
+
+        return leaveBenefitsRepository.countByStringParameter(param);
+    }
+
     @Override
     public List<LeaveBenefitsDTO> getByEmployeeDTO(EmployeeDTO employeeDTO) {
         logger.info("Retrieving employee's leave benefits with UUID ".concat(employeeDTO.getId().toString()).concat(" from the database."));
@@ -186,8 +203,6 @@ public class LeaveBenefitsServiceImpl implements LeaveBenefitsService {
         List<LeaveBenefitsDTO> leaveBenefitsDTOList = new ArrayList<>();
 
         if (!leaveBenefitsList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (LeaveBenefits leaveBenefits : leaveBenefitsList) {
                 LeaveBenefitsDTO leaveBenefitsDTO = new LeaveBenefitsDTO();
 
@@ -197,7 +212,7 @@ public class LeaveBenefitsServiceImpl implements LeaveBenefitsService {
                 leaveBenefitsDTO.setLeaveForYear(leaveBenefits.getLeaveForYear());
                 leaveBenefitsDTO.setLeaveCount(leaveBenefits.getLeaveCount());
                 leaveBenefitsDTO.setLeaveActive(leaveBenefits.isLeaveActive());
-                leaveBenefitsDTO.setEmployeeDTO(employeeService.getById(leaveBenefits.getEmployee().getId()));
+                leaveBenefitsDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(leaveBenefits.getEmployee()));
                 leaveBenefitsDTO.setCreatedBy(leaveBenefits.getCreatedBy());
                 leaveBenefitsDTO.setDateAndTimeCreated(leaveBenefits.getDateAndTimeCreated());
                 leaveBenefitsDTO.setUpdatedBy(leaveBenefits.getUpdatedBy());
@@ -1,16 +1,17 @@
 package io.distributechsolutions.hris.services.impls.compenben;
 
 import io.distributechsolutions.hris.dtos.compenben.LoanDeductionDTO;
+import io.distributechsolutions.hris.dtos.compenben.LoanDeductionListDTO;
 import io.distributechsolutions.hris.entities.compenben.LoanDeduction;
 import io.distributechsolutions.hris.repositories.compenben.LoanDeductionRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
 import io.distributechsolutions.hris.services.compenben.LoanDeductionService;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -75,7 +76,7 @@ public class LoanDeductionServiceImpl implements LoanDeductionService {
         loanDeductionDTO.setLoanStartDate(loanDeduction.getLoanStartDate());
         loanDeductionDTO.setLoanEndDate(loanDeduction.getLoanEndDate());
         loanDeductionDTO.setMonthlyDeduction(loanDeduction.getMonthlyDeduction());
-        loanDeductionDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(loanDeduction.getEmployee().getId()));
+        loanDeductionDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(loanDeduction.getEmployee()));
         loanDeductionDTO.setCreatedBy(loanDeduction.getCreatedBy());
         loanDeductionDTO.setDateAndTimeCreated(loanDeduction.getDateAndTimeCreated());
         loanDeductionDTO.setUpdatedBy(loanDeduction.getUpdatedBy());
@@ -107,8 +108,6 @@ public class LoanDeductionServiceImpl implements LoanDeductionService {
         List<LoanDeductionDTO> loanDeductionDTOList = new ArrayList<>();
 
         if (!loanDeductionList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (LoanDeduction loanDeduction : loanDeductionList) {
                 LoanDeductionDTO loanDeductionDTO = new LoanDeductionDTO();
 
@@ -119,7 +118,7 @@ public class LoanDeductionServiceImpl implements LoanDeductionService {
                 loanDeductionDTO.setLoanStartDate(loanDeduction.getLoanStartDate());
                 loanDeductionDTO.setLoanEndDate(loanDeduction.getLoanEndDate());
                 loanDeductionDTO.setMonthlyDeduction(loanDeduction.getMonthlyDeduction());
-                loanDeductionDTO.setEmployeeDTO(employeeService.getById(loanDeduction.getEmployee().getId()));
+                loanDeductionDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(loanDeduction.getEmployee()));
                 loanDeductionDTO.setCreatedBy(loanDeduction.getCreatedBy());
                 loanDeductionDTO.setDateAndTimeCreated(loanDeduction.getDateAndTimeCreated());
                 loanDeductionDTO.setUpdatedBy(loanDeduction.getUpdatedBy());
@@ -135,17 +134,15 @@ public class LoanDeductionServiceImpl implements LoanDeductionService {
     }
 
     @Override
-    public List<LoanDeductionDTO> findByParameter(String param) {
+    public List<LoanDeductionDTO> findByParameter(String param, Pageable pageable) {
         logger.info("Retrieving employee's loan deductions with search parameter '%".concat(param).concat("%' from the database."));
 
-        List<LoanDeduction> loanDeductionList = loanDeductionRepository.findByStringParameter(param);
+        List<LoanDeduction> loanDeductionList = loanDeductionRepository.findByStringParameter(param, pageable);
         List<LoanDeductionDTO> loanDeductionDTOList = new ArrayList<>();
 
         if (!loanDeductionList.isEmpty()) {
             logger.info("Employee's loan deductions with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (LoanDeduction loanDeduction : loanDeductionList) {
                 LoanDeductionDTO loanDeductionDTO = new LoanDeductionDTO();
 
@@ -156,7 +153,7 @@ public class LoanDeductionServiceImpl implements LoanDeductionService {
                 loanDeductionDTO.setLoanStartDate(loanDeduction.getLoanStartDate());
                 loanDeductionDTO.setLoanEndDate(loanDeduction.getLoanEndDate());
                 loanDeductionDTO.setMonthlyDeduction(loanDeduction.getMonthlyDeduction());
-                loanDeductionDTO.setEmployeeDTO(employeeService.getById(loanDeduction.getEmployee().getId()));
+                loanDeductionDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(loanDeduction.getEmployee()));
                 loanDeductionDTO.setCreatedBy(loanDeduction.getCreatedBy());
                 loanDeductionDTO.setDateAndTimeCreated(loanDeduction.getDateAndTimeCreated());
                 loanDeductionDTO.setUpdatedBy(loanDeduction.getUpdatedBy());
@@ -170,4 +167,29 @@ public class LoanDeductionServiceImpl implements LoanDeductionService {
 
         return loanDeductionDTOList;
     }
+
+    @Override
+    public long countByParameter(String param) {
+        return loanDeductionRepository.countByStringParameter(param);
+    }
+
+    @Override
+    public List<LoanDeductionListDTO> getLoanDeductionList(int page, int pageSize) {
+        logger.info("Retrieving employee's loan deduction list from the database.");
+        List<LoanDeductionListDTO> loanDeductionListDTOList = loanDeductionRepository.findLoanDeductionList(PageRequest.of(page, pageSize));
+
+        logger.info(String.valueOf(loanDeductionListDTOList.size()).concat(" record(s) found."));
+
+        return loanDeductionListDTOList;
+    }
+
+    @Override
+    public List<LoanDeductionListDTO> findLoanDeductionListByParameter(String param, Pageable pageable) {
+        logger.info("Retrieving employee's loan deduction list with search parameter '%".concat(param).concat("%' from the database."));
+        List<LoanDeductionListDTO> loanDeductionListDTOList = loanDeductionRepository.findLoanDeductionListByStringParameter(param, pageable);
+
+        logger.info(String.valueOf(loanDeductionListDTOList.size()).concat(" record(s) found."));
+
+        return loanDeductionListDTOList;
+    }
 }
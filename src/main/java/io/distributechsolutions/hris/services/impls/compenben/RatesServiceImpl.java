@@ -1,17 +1,18 @@
 package io.distributechsolutions.hris.services.impls.compenben;
 
 import io.distributechsolutions.hris.dtos.compenben.RatesDTO;
+import io.distributechsolutions.hris.dtos.compenben.RatesListDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.entities.compenben.Rates;
 import io.distributechsolutions.hris.repositories.compenben.RatesRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
 import io.distributechsolutions.hris.services.compenben.RatesService;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -67,22 +68,7 @@ public class RatesServiceImpl implements RatesService {
         logger.info("Retrieving employee's rates record with UUID ".concat(id.toString()));
 
         Rates rates = ratesRepository.getReferenceById(id);
-        RatesDTO ratesDTO = new RatesDTO();
-
-        ratesDTO.setId(rates.getId());
-        ratesDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(rates.getEmployee().getId()));
-        ratesDTO.setRateType(rates.getRateType());
-        ratesDTO.setBasicCompensationRate(rates.getBasicCompensationRate());
-        ratesDTO.setDailyCompensationRate(rates.getDailyCompensationRate());
-        ratesDTO.setHourlyCompensationRate(rates.getHourlyCompensationRate());
-        ratesDTO.setOvertimeHourlyCompensationRate(rates.getOvertimeHourlyCompensationRate());
-        ratesDTO.setLateHourlyDeductionRate(rates.getLateHourlyDeductionRate());
-        ratesDTO.setDailyAbsentDeductionRate(rates.getDailyAbsentDeductionRate());
-        ratesDTO.setUpdatedBy(rates.getUpdatedBy());
-        ratesDTO.setCreatedBy(rates.getCreatedBy());
-        ratesDTO.setDateAndTimeCreated(rates.getDateAndTimeCreated());
-        ratesDTO.setUpdatedBy(rates.getUpdatedBy());
-        ratesDTO.setDateAndTimeUpdated(rates.getDateAndTimeUpdated());
+        RatesDTO ratesDTO = getRatesDTO(rates);
 
         logger.info("Employee's rates record with id ".concat(id.toString()).concat(" is successfully retrieved."));
 
@@ -111,27 +97,8 @@ public class RatesServiceImpl implements RatesService {
         List<RatesDTO> ratesDTOList = new ArrayList<>();
 
         if (!ratesList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (Rates rates : ratesList) {
-                RatesDTO ratesDTO = new RatesDTO();
-
-                ratesDTO.setId(rates.getId());
-                ratesDTO.setEmployeeDTO(employeeService.getById(rates.getEmployee().getId()));
-                ratesDTO.setRateType(rates.getRateType());
-                ratesDTO.setBasicCompensationRate(rates.getBasicCompensationRate());
-                ratesDTO.setDailyCompensationRate(rates.getDailyCompensationRate());
-                ratesDTO.setHourlyCompensationRate(rates.getHourlyCompensationRate());
-                ratesDTO.setOvertimeHourlyCompensationRate(rates.getOvertimeHourlyCompensationRate());
-                ratesDTO.setLateHourlyDeductionRate(rates.getLateHourlyDeductionRate());
-                ratesDTO.setDailyAbsentDeductionRate(rates.getDailyAbsentDeductionRate());
-                ratesDTO.setUpdatedBy(rates.getUpdatedBy());
-                ratesDTO.setCreatedBy(rates.getCreatedBy());
-                ratesDTO.setDateAndTimeCreated(rates.getDateAndTimeCreated());
-                ratesDTO.setUpdatedBy(rates.getUpdatedBy());
-                ratesDTO.setDateAndTimeUpdated(rates.getDateAndTimeUpdated());
-
-                ratesDTOList.add(ratesDTO);
+                ratesDTOList.add(getRatesDTO(rates));
             }
 
             logger.info(String.valueOf(ratesList.size()).concat(" record(s) found."));
@@ -141,36 +108,17 @@ public class RatesServiceImpl implements RatesService {
     }
 
     @Override
-    public List<RatesDTO> findByParameter(String param) {
+    public List<RatesDTO> findByParameter(String param, Pageable pageable) {
         logger.info("Retrieving employee's rates records with search parameter '%".concat(param).concat("%' from the database."));
 
         List<RatesDTO> ratesDTOList = new ArrayList<>();
-        List<Rates> ratesList = ratesList = ratesRepository.findByStringParameter(param);
+        List<Rates> ratesList = ratesRepository.findByStringParameter(param, pageable);
 
         if (!ratesList.isEmpty()) {
             logger.info("Employee's rates records with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (Rates rates : ratesList) {
-                RatesDTO ratesDTO = new RatesDTO();
-
-                ratesDTO.setId(rates.getId());
-                ratesDTO.setEmployeeDTO(employeeService.getById(rates.getEmployee().getId()));
-                ratesDTO.setRateType(rates.getRateType());
-                ratesDTO.setBasicCompensationRate(rates.getBasicCompensationRate());
-                ratesDTO.setDailyCompensationRate(rates.getDailyCompensationRate());
-                ratesDTO.setHourlyCompensationRate(rates.getHourlyCompensationRate());
-                ratesDTO.setOvertimeHourlyCompensationRate(rates.getOvertimeHourlyCompensationRate());
-                ratesDTO.setLateHourlyDeductionRate(rates.getLateHourlyDeductionRate());
-                ratesDTO.setDailyAbsentDeductionRate(rates.getDailyAbsentDeductionRate());
-                ratesDTO.setUpdatedBy(rates.getUpdatedBy());
-                ratesDTO.setCreatedBy(rates.getCreatedBy());
-                ratesDTO.setDateAndTimeCreated(rates.getDateAndTimeCreated());
-                ratesDTO.setUpdatedBy(rates.getUpdatedBy());
-                ratesDTO.setDateAndTimeUpdated(rates.getDateAndTimeUpdated());
-
-                ratesDTOList.add(ratesDTO);
+                ratesDTOList.add(getRatesDTO(rates));
             }
 
             logger.info(String.valueOf(ratesList.size()).concat(" record(s) found."));
@@ -179,6 +127,11 @@ public class RatesServiceImpl implements RatesService {
         return ratesDTOList;
     }
 
+    @Override
+    public long countByParameter(String param) {
+        return ratesRepository.countByStringParameter(param);
+    }
+
     @Override
     public RatesDTO findByEmployeeDTO(EmployeeDTO employeeDTO) {
         logger.info("Retrieving employee's rates record.");
@@ -205,4 +158,51 @@ public class RatesServiceImpl implements RatesService {
 
         return ratesDTO;
     }
+
+    @Override
+    public List<RatesListDTO> getRatesList(int page, int pageSize) {
+        logger.info("Retrieving employee's rates list from the database.");
+        List<RatesListDTO> ratesListDTOList = ratesRepository.findRatesList(PageRequest.of(page, pageSize));
+
+        logger.info(String.valueOf(ratesListDTOList.size()).concat(" record(s) found."));
+
+        return ratesListDTOList;
+    }
+
+    @Override
+    public List<RatesListDTO> findRatesListByParameter(String param, Pageable pageable) {
+        logger.info("Retrieving employee's rates list with search parameter '%".concat(param).concat("%' from the database."));
+        List<RatesListDTO> ratesListDTOList = ratesRepository.findRatesListByStringParameter(param, pageable);
+
+        logger.info(String.valueOf(ratesListDTOList.size()).concat(" record(s) found."));
+
+        return ratesListDTOList;
+    }
+
+    /**
+     * Returns the rates data transfer object where values comes from the rates object.
+     * The employee must be fetched together with the rates to avoid a query per record.
+     *
+     * @param rates - The rates object.
+     * @return The rates data transfer object.
+     */
+    private static RatesDTO getRatesDTO(Rates rates) {
+        RatesDTO ratesDTO = new RatesDTO();
+
+        ratesDTO.setId(rates.getId());
+        ratesDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(rates.getEmployee()));
+        ratesDTO.setRateType(rates.getRateType());
+        ratesDTO.setBasicCompensationRate(rates.getBasicCompensationRate());
+        ratesDTO.setDailyCompensationRate(rates.getDailyCompensationRate());
+        ratesDTO.setHourlyCompensationRate(rates.getHourlyCompensationRate());
+        ratesDTO.setOvertimeHourlyCompensationRate(rates.getOvertimeHourlyCompensationRate());
+        ratesDTO.setLateHourlyDeductionRate(rates.getLateHourlyDeductionRate());
+        ratesDTO.setDailyAbsentDeductionRate(rates.getDailyAbsentDeductionRate());
+        ratesDTO.setCreatedBy(rates.getCreatedBy());
+        ratesDTO.setDateAndTimeCreated(rates.getDateAndTimeCreated());
+        ratesDTO.setUpdatedBy(rates.getUpdatedBy());
+        ratesDTO.setDateAndTimeUpdated(rates.getDateAndTimeUpdated());
+
+        return ratesDTO;
+    }
 }
@@ -10,21 +10,13 @@ import io.distributechsolutions.hris.repositories.reference.BarangayRepository;
 import io.distributechsolutions.hris.repositories.reference.MunicipalityRepository;
 import io.distributechsolutions.hris.repositories.reference.ProvinceRepository;
 import io.distributechsolutions.hris.repositories.reference.RegionRepository;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
-import io.distributechsolutions.hris.services.impls.reference.BarangayServiceImpl;
-import io.distributechsolutions.hris.services.impls.reference.MunicipalityServiceImpl;
-import io.distributechsolutions.hris.services.impls.reference.ProvinceServiceImpl;
-import io.distributechsolutions.hris.services.impls.reference.RegionServiceImpl;
 import io.distributechsolutions.hris.services.info.AddressInfoService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
-import io.distributechsolutions.hris.services.reference.BarangayService;
-import io.distributechsolutions.hris.services.reference.MunicipalityService;
-import io.distributechsolutions.hris.services.reference.ProvinceService;
-import io.distributechsolutions.hris.services.reference.RegionService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -97,14 +89,14 @@ public class AddressInfoServiceImpl implements AddressInfoService {
         AddressInfoDTO addressInfoDTO = new AddressInfoDTO();
 
         addressInfoDTO.setId(addressInfo.getId());
-        addressInfoDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(addressInfo.getEmployee().getId()));
+        addressInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(addressInfo.getEmployee()));
         addressInfoDTO.setAddressType(addressInfo.getAddressType());
         addressInfoDTO.setAddressDetail(addressInfo.getAddressDetail());
         addressInfoDTO.setStreetName(addressInfo.getStreetName());
-        addressInfoDTO.setBarangayDTO(new BarangayServiceImpl(barangayRepository).getById(addressInfo.getBarangay().getId()));
-        addressInfoDTO.setMunicipalityDTO(new MunicipalityServiceImpl(municipalityRepository).getById(addressInfo.getMunicipality().getId()));
-        addressInfoDTO.setProvinceDTO(new ProvinceServiceImpl(provinceRepository).getById(addressInfo.getProvince().getId()));
-        addressInfoDTO.setRegionDTO(new RegionServiceImpl(regionRepository).getById(addressInfo.getRegion().getId()));
+        addressInfoDTO.setBarangayDTO(DTOMapperUtil.toBarangayDTO(addressInfo.getBarangay()));
+        addressInfoDTO.setMunicipalityDTO(DTOMapperUtil.toMunicipalityDTO(addressInfo.getMunicipality()));
+        addressInfoDTO.setProvinceDTO(DTOMapperUtil.toProvinceDTO(addressInfo.getProvince()));
+        addressInfoDTO.setRegionDTO(DTOMapperUtil.toRegionDTO(addressInfo.getRegion()));
         addressInfoDTO.setPostalCode(addressInfo.getPostalCode());
 
         return addressInfoDTO;
@@ -132,24 +124,51 @@ public class AddressInfoServiceImpl implements AddressInfoService {
         List<AddressInfoDTO> addressInfoDTOList = new ArrayList<>();
 
         if (!addressInfoList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-            BarangayService barangayService = new BarangayServiceImpl(barangayRepository);
-            MunicipalityService municipalityService = new MunicipalityServiceImpl(municipalityRepository);
-            ProvinceService provinceService = new ProvinceServiceImpl(provinceRepository);
-            RegionService regionService = new RegionServiceImpl(regionRepository);
+            for (AddressInfo addressInfo : addressInfoList) {
+                AddressInfoDTO addressInfoDTO = new AddressInfoDTO();
+
+                addressInfoDTO.setId(addressInfo.getId());
+                addressInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(addressInfo.getEmployee()));
+                addressInfoDTO.setAddressType(addressInfo.getAddressType());
+                addressInfoDTO.setAddressDetail(addressInfo.getAddressDetail());
+                addressInfoDTO.setStreetName(addressInfo.getStreetName());
+                addressInfoDTO.setBarangayDTO(DTOMapperUtil.toBarangayDTO(addressInfo.getBarangay()));
+                addressInfoDTO.setMunicipalityDTO(DTOMapperUtil.toMunicipalityDTO(addressInfo.getMunicipality()));
+                addressInfoDTO.setProvinceDTO(DTOMapperUtil.toProvinceDTO(addressInfo.getProvince()));
+                addressInfoDTO.setRegionDTO(DTOMapperUtil.toRegionDTO(addressInfo.getRegion()));
+                addressInfoDTO.setPostalCode(addressInfo.getPostalCode());
+
+                addressInfoDTOList.add(addressInfoDTO);
+            }
+
+            logger.info(String.valueOf(addressInfoList.size()).concat(" record(s) found."));
+        }
+
+        return addressInfoDTOList;
+    }
+
+    @Override
+    public List<AddressInfoDTO> findByParameter(String param, Pageable pageable) {
+        List<AddressInfoDTO> addressInfoDTOList = new ArrayList<>();
+
+        logger.info("Retrieving address records with search parameter '%".concat(param).concat("%' from the database."));
+        List<AddressInfo> addressInfoList = addressInfoRepository.findByStringParameter(param, pageable);
+
+        if (!addressInfoList.isEmpty()) {
+            logger.info("Address records with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
             for (AddressInfo addressInfo : addressInfoList) {
                 AddressInfoDTO addressInfoDTO = new AddressInfoDTO();
 
                 addressInfoDTO.setId(addressInfo.getId());
-                addressInfoDTO.setEmployeeDTO(employeeService.getById(addressInfo.getEmployee().getId()));
+                addressInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(addressInfo.getEmployee()));
                 addressInfoDTO.setAddressType(addressInfo.getAddressType());
                 addressInfoDTO.setAddressDetail(addressInfo.getAddressDetail());
                 addressInfoDTO.setStreetName(addressInfo.getStreetName());
-                addressInfoDTO.setBarangayDTO(barangayService.getById(addressInfo.getBarangay().getId()));
-                addressInfoDTO.setMunicipalityDTO(municipalityService.getById(addressInfo.getMunicipality().getId()));
-                addressInfoDTO.setProvinceDTO(provinceService.getById(addressInfo.getProvince().getId()));
-                addressInfoDTO.setRegionDTO(regionService.getById(addressInfo.getRegion().getId()));
+                addressInfoDTO.setBarangayDTO(DTOMapperUtil.toBarangayDTO(addressInfo.getBarangay()));
+                addressInfoDTO.setMunicipalityDTO(DTOMapperUtil.toMunicipalityDTO(addressInfo.getMunicipality()));
+                addressInfoDTO.setProvinceDTO(DTOMapperUtil.toProvinceDTO(addressInfo.getProvince()));
+                addressInfoDTO.setRegionDTO(DTOMapperUtil.toRegionDTO(addressInfo.getRegion()));
                 addressInfoDTO.setPostalCode(addressInfo.getPostalCode());
 
                 addressInfoDTOList.add(addressInfoDTO);
@@ -162,8 +181,8 @@ public class AddressInfoServiceImpl implements AddressInfoService {
     }
 
     @Override
-    public List<AddressInfoDTO> findByParameter(String param) {
-        return List.of();
+    public long countByParameter(String param) {
+        return addressInfoRepository.countByStringParameter(param);
     }
 
     @Override
@@ -176,24 +195,18 @@ public class AddressInfoServiceImpl implements AddressInfoService {
         List<AddressInfoDTO> addressInfoDTOList = new ArrayList<>();
 
         if (!addressInfoList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-            BarangayService barangayService = new BarangayServiceImpl(barangayRepository);
-            MunicipalityService municipalityService = new MunicipalityServiceImpl(municipalityRepository);
-            ProvinceService provinceService = new ProvinceServiceImpl(provinceRepository);
-            RegionService regionService = new RegionServiceImpl(regionRepository);
-
             for (AddressInfo addressInfo : addressInfoList) {
                 AddressInfoDTO addressInfoDTO = new AddressInfoDTO();
 
                 addressInfoDTO.setId(addressInfo.getId());
-                addressInfoDTO.setEmployeeDTO(employeeService.getById(addressInfo.getEmployee().getId()));
+                addressInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(addressInfo.getEmployee()));
                 addressInfoDTO.setAddressType(addressInfo.getAddressType());
                 addressInfoDTO.setAddressDetail(addressInfo.getAddressDetail());
                 addressInfoDTO.setStreetName(addressInfo.getStreetName());
-                addressInfoDTO.setBarangayDTO(barangayService.getById(addressInfo.getBarangay().getId()));
-                addressInfoDTO.setMunicipalityDTO(municipalityService.getById(addressInfo.getMunicipality().getId()));
-                addressInfoDTO.setProvinceDTO(provinceService.getById(addressInfo.getProvince().getId()));
-                addressInfoDTO.setRegionDTO(regionService.getById(addressInfo.getRegion().getId()));
+                addressInfoDTO.setBarangayDTO(DTOMapperUtil.toBarangayDTO(addressInfo.getBarangay()));
+                addressInfoDTO.setMunicipalityDTO(DTOMapperUtil.toMunicipalityDTO(addressInfo.getMunicipality()));
+                addressInfoDTO.setProvinceDTO(DTOMapperUtil.toProvinceDTO(addressInfo.getProvince()));
+                addressInfoDTO.setRegionDTO(DTOMapperUtil.toRegionDTO(addressInfo.getRegion()));
                 addressInfoDTO.setPostalCode(addressInfo.getPostalCode());
 
                 addressInfoDTOList.add(addressInfoDTO);
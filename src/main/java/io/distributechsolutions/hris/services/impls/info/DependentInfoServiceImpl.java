@@ -6,9 +6,8 @@ import io.distributechsolutions.hris.entities.info.DependentInfo;
 import io.distributechsolutions.hris.entities.profile.Employee;
 import io.distributechsolutions.hris.repositories.info.DependentInfoRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
 import io.distributechsolutions.hris.services.info.DependentInfoService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -19,6 +18,7 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -69,7 +69,7 @@ public class DependentInfoServiceImpl implements DependentInfoService {
         DependentInfoDTO dependentInfoDTO = new DependentInfoDTO();
 
         dependentInfoDTO.setId(dependentInfo.getId());
-        dependentInfoDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(dependentInfo.getEmployee().getId()));
+        dependentInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(dependentInfo.getEmployee()));
         dependentInfoDTO.setFullName(dependentInfo.getFullName());
         dependentInfoDTO.setDateOfBirth(dependentInfo.getDateOfBirth());
         dependentInfoDTO.setAge(dependentInfo.getAge());
@@ -102,13 +102,40 @@ public class DependentInfoServiceImpl implements DependentInfoService {
         List<DependentInfoDTO> dependentInfoDTOList = new ArrayList<>();
 
         if (!dependentInfoList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
+            for (DependentInfo dependentInfo : dependentInfoList) {
+                DependentInfoDTO dependentInfoDTO = new DependentInfoDTO();
+
+                dependentInfoDTO.setId(dependentInfo.getId());
+                dependentInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(dependentInfo.getEmployee()));
+                dependentInfoDTO.setFullName(dependentInfo.getFullName());
+                dependentInfoDTO.setDateOfBirth(dependentInfo.getDateOfBirth());
+                dependentInfoDTO.setAge(dependentInfo.getAge());
+                dependentInfoDTO.setRelationship(dependentInfo.getRelationship());
+
+                dependentInfoDTOList.add(dependentInfoDTO);
+            }
+
+            logger.info(String.valueOf(dependentInfoList.size()).concat(" record(s) found."));
+        }
+
+        return dependentInfoDTOList;
+    }
+
+    @Override
+    public List<DependentInfoDTO> findByParameter(String param, Pageable pageable) {
+        List<DependentInfoDTO> dependentInfoDTOList = new ArrayList<>();
+
+        logger.info("Retrieving dependent records with search parameter '%".concat(param).concat("%' from the database."));
+        List<DependentInfo> dependentInfoList = dependentInfoRepository.findByStringParameter(param, pageable);
+
+        if (!dependentInfoList.isEmpty()) {
+            logger.info("Dependent records with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
             for (DependentInfo dependentInfo : dependentInfoList) {
                 DependentInfoDTO dependentInfoDTO = new DependentInfoDTO();
 
                 dependentInfoDTO.setId(dependentInfo.getId());
-                dependentInfoDTO.setEmployeeDTO(employeeService.getById(dependentInfo.getEmployee().getId()));
+                dependentInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(dependentInfo.getEmployee()));
                 dependentInfoDTO.setFullName(dependentInfo.getFullName());
                 dependentInfoDTO.setDateOfBirth(dependentInfo.getDateOfBirth());
                 dependentInfoDTO.setAge(dependentInfo.getAge());
@@ -124,8 +151,8 @@ public class DependentInfoServiceImpl implements DependentInfoService {
     }
 
     @Override
-    public List<DependentInfoDTO> findByParameter(String param) {
-        return List.of();
+    public long countByParameter(String param) {
+        return dependentInfoRepository.countByStringParameter(param);
     }
 
     @Override
@@ -138,13 +165,11 @@ public class DependentInfoServiceImpl implements DependentInfoService {
         List<DependentInfoDTO> dependentInfoDTOList = new ArrayList<>();
 
         if (!dependentInfoList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (DependentInfo dependentInfo : dependentInfoList) {
                 DependentInfoDTO dependentInfoDTO = new DependentInfoDTO();
 
                 dependentInfoDTO.setId(dependentInfo.getId());
-                dependentInfoDTO.setEmployeeDTO(employeeService.getById(dependentInfo.getEmployee().getId()));
+                dependentInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(dependentInfo.getEmployee()));
                 dependentInfoDTO.setFullName(dependentInfo.getFullName());
                 dependentInfoDTO.setDateOfBirth(dependentInfo.getDateOfBirth());
                 dependentInfoDTO.setAge(dependentInfo.getAge());
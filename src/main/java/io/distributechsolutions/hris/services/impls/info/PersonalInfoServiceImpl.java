@@ -6,13 +6,13 @@ import io.distributechsolutions.hris.entities.info.PersonalInfo;
 import io.distributechsolutions.hris.entities.profile.Employee;
 import io.distributechsolutions.hris.repositories.info.PersonalInfoRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
 import io.distributechsolutions.hris.services.info.PersonalInfoService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -76,7 +76,7 @@ public class PersonalInfoServiceImpl implements PersonalInfoService {
         PersonalInfoDTO personalInfoDTO = new PersonalInfoDTO();
 
         personalInfoDTO.setId(personalInfo.getId());
-        personalInfoDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(personalInfo.getEmployee().getId()));
+        personalInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(personalInfo.getEmployee()));
         personalInfoDTO.setDateOfBirth(personalInfo.getDateOfBirth());
         personalInfoDTO.setPlaceOfBirth(personalInfo.getPlaceOfBirth());
         personalInfoDTO.setMaritalStatus(personalInfo.getMaritalStatus());
@@ -118,13 +118,51 @@ public class PersonalInfoServiceImpl implements PersonalInfoService {
         List<PersonalInfoDTO> personalInfoDTOList = new ArrayList<>();
 
         if (!personalInfoList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
+            for (PersonalInfo personalInfo : personalInfoList) {
+                PersonalInfoDTO personalInfoDTO = new PersonalInfoDTO();
+
+                personalInfoDTO.setId(personalInfo.getId());
+                personalInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(personalInfo.getEmployee()));
+                personalInfoDTO.setDateOfBirth(personalInfo.getDateOfBirth());
+                personalInfoDTO.setPlaceOfBirth(personalInfo.getPlaceOfBirth());
+                personalInfoDTO.setMaritalStatus(personalInfo.getMaritalStatus());
+                personalInfoDTO.setMaidenName(personalInfo.getMaidenName());
+                personalInfoDTO.setSpouseName(personalInfo.getSpouseName());
+                personalInfoDTO.setContactNumber(personalInfo.getContactNumber());
+                personalInfoDTO.setEmailAddress(personalInfo.getEmailAddress());
+                personalInfoDTO.setTaxIdentificationNumber(personalInfo.getTaxIdentificationNumber());
+                personalInfoDTO.setSssNumber(personalInfo.getSssNumber());
+                personalInfoDTO.setHdmfNumber(personalInfo.getHdmfNumber());
+                personalInfoDTO.setPhilhealthNumber(personalInfo.getPhilhealthNumber());
+                personalInfoDTO.setCreatedBy(personalInfo.getCreatedBy());
+                personalInfoDTO.setDateAndTimeCreated(personalInfo.getDateAndTimeCreated());
+                personalInfoDTO.setUpdatedBy(personalInfo.getUpdatedBy());
+                personalInfoDTO.setDateAndTimeUpdated(personalInfo.getDateAndTimeUpdated());
+
+                personalInfoDTOList.add(personalInfoDTO);
+            }
+
+            logger.info(String.valueOf(personalInfoList.size()).concat(" record(s) found."));
+        }
+
+        return personalInfoDTOList;
+    }
+
+    @Override
+    public List<PersonalInfoDTO> findByParameter(String param, Pageable pageable) {
+        List<PersonalInfoDTO> personalInfoDTOList = new ArrayList<>();
+
+        logger.info("Retrieving personal records with search parameter '%".concat(param).concat("%' from the database."));
+        List<PersonalInfo> personalInfoList = personalInfoRepository.findByStringParameter(param, pageable);
+
+        if (!personalInfoList.isEmpty()) {
+            logger.info("Personal records with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
             for (PersonalInfo personalInfo : personalInfoList) {
                 PersonalInfoDTO personalInfoDTO = new PersonalInfoDTO();
 
                 personalInfoDTO.setId(personalInfo.getId());
-                personalInfoDTO.setEmployeeDTO(employeeService.getById(personalInfo.getEmployee().getId()));
+                personalInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(personalInfo.getEmployee()));
                 personalInfoDTO.setDateOfBirth(personalInfo.getDateOfBirth());
                 personalInfoDTO.setPlaceOfBirth(personalInfo.getPlaceOfBirth());
                 personalInfoDTO.setMaritalStatus(personalInfo.getMaritalStatus());
@@ -151,8 +189,8 @@ public class PersonalInfoServiceImpl implements PersonalInfoService {
     }
 
     @Override
-    public List<PersonalInfoDTO> findByParameter(String param) {
-        return List.of();
+    public long countByParameter(String param) {
+        return personalInfoRepository.countByStringParameter(param);
     }
 
     @Override
@@ -167,7 +205,7 @@ public class PersonalInfoServiceImpl implements PersonalInfoService {
             personalInfoDTO = new PersonalInfoDTO();
 
             personalInfoDTO.setId(personalInfo.getId());
-            personalInfoDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(employee.getId()));
+            personalInfoDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employee));
             personalInfoDTO.setDateOfBirth(personalInfo.getDateOfBirth());
             personalInfoDTO.setPlaceOfBirth(personalInfo.getPlaceOfBirth());
             personalInfoDTO.setMaritalStatus(personalInfo.getMaritalStatus());
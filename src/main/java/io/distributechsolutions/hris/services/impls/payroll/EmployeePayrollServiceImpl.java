@@ -4,13 +4,13 @@ import io.distributechsolutions.hris.dtos.payroll.EmployeePayrollDTO;
 import io.distributechsolutions.hris.entities.payroll.EmployeePayroll;
 import io.distributechsolutions.hris.repositories.payroll.EmployeePayrollRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
-import io.distributechsolutions.hris.services.impls.profile.EmployeeServiceImpl;
 import io.distributechsolutions.hris.services.payroll.EmployeePayrollService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -39,9 +39,19 @@ public class EmployeePayrollServiceImpl implements EmployeePayrollService {
         EmployeePayroll employeePayroll;
         String logMessage;
 
+        // A record without ID overwrites the existing record of the same employee and cut-off, if there is one.
+        EmployeePayroll existingEmployeePayroll = object.getId() == null
+                                                  ? employeePayrollRepository.findByEmployeeAndCutOff(employeeRepository.getReferenceById(object.getEmployeeDTO().getId()),
+                                                                                                      object.getCutOffFromDate(),
+                                                                                                      object.getCutOffToDate())
+                                                  : null;
+
         if (object.getId() != null) {
             employeePayroll = employeePayrollRepository.getReferenceById(object.getId());
             logMessage = "Employee payroll record with ID ".concat(object.getId().toString()).concat(" has successfully updated.");
+        } else if (existingEmployeePayroll != null) {
+            employeePayroll = existingEmployeePayroll;
+            logMessage = "Employee payroll record with ID ".concat(existingEmployeePayroll.getId().toString()).concat(" has successfully overwritten.");
         } else {
             employeePayroll = new EmployeePayroll();
             employeePayroll.setCreatedBy(object.getCreatedBy());
@@ -49,29 +59,7 @@ public class EmployeePayrollServiceImpl implements EmployeePayrollService {
             logMessage = "A new employee payroll record has successfully saved in the database.";
         }
 
-        employeePayroll.setEmployee(employeeRepository.getReferenceById(object.getEmployeeDTO().getId()));
-        employeePayroll.setCutOffFromDate(object.getCutOffFromDate());
-        employeePayroll.setCutOffToDate(object.getCutOffToDate());
-        employeePayroll.setPayrollFrequency(object.getPayrollFrequency());
-        employeePayroll.setBasicPayAmount(object.getBasicPayAmount());
-        employeePayroll.setAllowancePayAmount(object.getAllowancePayAmount());
-        employeePayroll.setAbsentDeductionAmount(object.getAbsentDeductionAmount());
-        employeePayroll.setLateOrUndertimeDeductionAmount(object.getLateOrUndertimeDeductionAmount());
-        employeePayroll.setRestDayOvertimePayAmount(object.getRestDayOvertimePayAmount());
-        employeePayroll.setNightDifferentialPayAmount(object.getNightDifferentialPayAmount());
-        employeePayroll.setLeavePayAmount(object.getLeavePayAmount());
-        employeePayroll.setRegularHolidayPayAmount(object.getRegularHolidayPayAmount());
-        employeePayroll.setSpecialHolidayPayAmount(object.getSpecialHolidayPayAmount());
-        employeePayroll.setAdjustmentPayAmount(object.getAdjustmentPayAmount());
-        employeePayroll.setTotalGrossPayAmount(object.getTotalGrossPayAmount());
-        employeePayroll.setSssDeductionAmount(object.getSssDeductionAmount());
-        employeePayroll.setHdmfDeductionAmount(object.getHdmfDeductionAmount());
-        employeePayroll.setPhilhealthDeductionAmount(object.getPhilhealthDeductionAmount());
-        employeePayroll.setWithholdingTaxDeductionAmount(object.getWithholdingTaxDeductionAmount());
-        employeePayroll.setTotalLoanDeductionAmount(object.getTotalLoanDeductionAmount());
-        employeePayroll.setOtherDeductionAmount(object.getOtherDeductionAmount());
-        employeePayroll.setUpdatedBy(object.getUpdatedBy());
-        employeePayroll.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+        this.setEmployeePayrollValues(employeePayroll, object);
 
         employeePayrollRepository.save(employeePayroll);
         logger.info(logMessage);
@@ -86,7 +74,7 @@ public class EmployeePayrollServiceImpl implements EmployeePayrollService {
         EmployeePayrollDTO employeePayrollDTO = new EmployeePayrollDTO();
 
         employeePayrollDTO.setId(employeePayroll.getId());
-        employeePayrollDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(employeePayroll.getEmployee().getId()));
+        employeePayrollDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeePayroll.getEmployee()));
         employeePayrollDTO.setCutOffFromDate(employeePayroll.getCutOffFromDate());
         employeePayrollDTO.setCutOffToDate(employeePayroll.getCutOffToDate());
         employeePayrollDTO.setPayrollFrequency(employeePayroll.getPayrollFrequency());
@@ -104,6 +92,9 @@ public class EmployeePayrollServiceImpl implements EmployeePayrollService {
         employeePayrollDTO.setSssDeductionAmount(employeePayroll.getSssDeductionAmount());
         employeePayrollDTO.setHdmfDeductionAmount(employeePayroll.getHdmfDeductionAmount());
         employeePayrollDTO.setPhilhealthDeductionAmount(employeePayroll.getPhilhealthDeductionAmount());
+        employeePayrollDTO.setSssEmployerShareAmount(employeePayroll.getSssEmployerShareAmount());
+        employeePayrollDTO.setHdmfEmployerShareAmount(employeePayroll.getHdmfEmployerShareAmount());
+        employeePayrollDTO.setPhilhealthEmployerShareAmount(employeePayroll.getPhilhealthEmployerShareAmount());
         employeePayrollDTO.setWithholdingTaxDeductionAmount(employeePayroll.getWithholdingTaxDeductionAmount());
         employeePayrollDTO.setTotalLoanDeductionAmount(employeePayroll.getTotalLoanDeductionAmount());
         employeePayrollDTO.setOtherDeductionAmount(employeePayroll.getOtherDeductionAmount());
@@ -135,12 +126,61 @@ public class EmployeePayrollServiceImpl implements EmployeePayrollService {
         List<EmployeePayrollDTO> employeePayrollDTOList = new ArrayList<>();
 
         if (!employeePayrollList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
+            for (EmployeePayroll employeePayroll : employeePayrollList) {
+                EmployeePayrollDTO employeePayrollDTO = new EmployeePayrollDTO();
+                employeePayrollDTO.setId(employeePayroll.getId());
+                employeePayrollDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeePayroll.getEmployee()));
+                employeePayrollDTO.setCutOffFromDate(employeePayroll.getCutOffFromDate());
+                employeePayrollDTO.setCutOffToDate(employeePayroll.getCutOffToDate());
+                employeePayrollDTO.setPayrollFrequency(employeePayroll.getPayrollFrequency());
+                employeePayrollDTO.setBasicPayAmount(employeePayroll.getBasicPayAmount());
+                employeePayrollDTO.setAllowancePayAmount(employeePayroll.getAllowancePayAmount());
+                employeePayrollDTO.setAbsentDeductionAmount(employeePayroll.getAbsentDeductionAmount());
+                employeePayrollDTO.setLateOrUndertimeDeductionAmount(employeePayroll.getLateOrUndertimeDeductionAmount());
+                employeePayrollDTO.setRestDayOvertimePayAmount(employeePayroll.getRestDayOvertimePayAmount());
+                employeePayrollDTO.setNightDifferentialPayAmount(employeePayroll.getNightDifferentialPayAmount());
+                employeePayrollDTO.setLeavePayAmount(employeePayroll.getLeavePayAmount());
+                employeePayrollDTO.setRegularHolidayPayAmount(employeePayroll.getRegularHolidayPayAmount());
+                employeePayrollDTO.setSpecialHolidayPayAmount(employeePayroll.getSpecialHolidayPayAmount());
+                employeePayrollDTO.setAdjustmentPayAmount(employeePayroll.getAdjustmentPayAmount());
+                employeePayrollDTO.setTotalGrossPayAmount(employeePayroll.getTotalGrossPayAmount());
+                employeePayrollDTO.setSssDeductionAmount(employeePayroll.getSssDeductionAmount());
+                employeePayrollDTO.setHdmfDeductionAmount(employeePayroll.getHdmfDeductionAmount());
+                employeePayrollDTO.setPhilhealthDeductionAmount(employeePayroll.getPhilhealthDeductionAmount());
+                employeePayrollDTO.setSssEmployerShareAmount(employeePayroll.getSssEmployerShareAmount());
+                employeePayrollDTO.setHdmfEmployerShareAmount(employeePayroll.getHdmfEmployerShareAmount());
+                employeePayrollDTO.setPhilhealthEmployerShareAmount(employeePayroll.getPhilhealthEmployerShareAmount());
+                employeePayrollDTO.setWithholdingTaxDeductionAmount(employeePayroll.getWithholdingTaxDeductionAmount());
+                employeePayrollDTO.setTotalLoanDeductionAmount(employeePayroll.getTotalLoanDeductionAmount());
+                employeePayrollDTO.setOtherDeductionAmount(employeePayroll.getOtherDeductionAmount());
+                employeePayrollDTO.setCreatedBy(employeePayroll.getCreatedBy());
+                employeePayrollDTO.setDateAndTimeCreated(employeePayroll.getDateAndTimeCreated());
+                employeePayrollDTO.setUpdatedBy(employeePayroll.getUpdatedBy());
+                employeePayrollDTO.setDateAndTimeUpdated(employeePayroll.getDateAndTimeUpdated());
+
+                employeePayrollDTOList.add(employeePayrollDTO);
+            }
+
+            logger.info(String.valueOf(employeePayrollList.size()).concat(" record(s) found."));
+        }
+
+        return employeePayrollDTOList;
+    }
+
+    @Override
+    public List<EmployeePayrollDTO> findByParameter(String param, Pageable pageable) {
+        List<EmployeePayrollDTO> employeePayrollDTOList = new ArrayList<>();
+
+        logger.info("Retrieving employee payroll records with search parameter '%".concat(param).concat("%' from the database."));
+        List<EmployeePayroll> employeePayrollList = employeePayrollRepository.findByStringParameter(param, pageable);
+
+        if (!employeePayrollList.isEmpty()) {
+            logger.info("Employee payroll records with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
             for (EmployeePayroll employeePayroll : employeePayrollList) {
                 EmployeePayrollDTO employeePayrollDTO = new EmployeePayrollDTO();
                 employeePayrollDTO.setId(employeePayroll.getId());
-                employeePayrollDTO.setEmployeeDTO(employeeService.getById(employeePayroll.getEmployee().getId()));
+                employeePayrollDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeePayroll.getEmployee()));
                 employeePayrollDTO.setCutOffFromDate(employeePayroll.getCutOffFromDate());
                 employeePayrollDTO.setCutOffToDate(employeePayroll.getCutOffToDate());
                 employeePayrollDTO.setPayrollFrequency(employeePayroll.getPayrollFrequency());
@@ -158,6 +198,9 @@ public class EmployeePayrollServiceImpl implements EmployeePayrollService {
                 employeePayrollDTO.setSssDeductionAmount(employeePayroll.getSssDeductionAmount());
                 employeePayrollDTO.setHdmfDeductionAmount(employeePayroll.getHdmfDeductionAmount());
                 employeePayrollDTO.setPhilhealthDeductionAmount(employeePayroll.getPhilhealthDeductionAmount());
+                employeePayrollDTO.setSssEmployerShareAmount(employeePayroll.getSssEmployerShareAmount());
+                employeePayrollDTO.setHdmfEmployerShareAmount(employeePayroll.getHdmfEmployerShareAmount());
+                employeePayrollDTO.setPhilhealthEmployerShareAmount(employeePayroll.getPhilhealthEmployerShareAmount());
                 employeePayrollDTO.setWithholdingTaxDeductionAmount(employeePayroll.getWithholdingTaxDeductionAmount());
                 employeePayrollDTO.setTotalLoanDeductionAmount(employeePayroll.getTotalLoanDeductionAmount());
                 employeePayrollDTO.setOtherDeductionAmount(employeePayroll.getOtherDeductionAmount());
@@ -176,7 +219,41 @@ public class EmployeePayrollServiceImpl implements EmployeePayrollService {
     }
 
     @Override
-    public List<EmployeePayrollDTO> findByParameter(String param) {
-        return List.of();
+    public long countByParameter(String param) {
+        return employeePayrollRepository.countByStringParameter(param);
+    }
+
+    /**
+     * Copies the values of the employee payroll data transfer object to the employee payroll object.
+     * @param employeePayroll - The employee payroll object to be saved in the database.
+     * @param object - The employee payroll data transfer object.
+     */
+    private void setEmployeePayrollValues(EmployeePayroll employeePayroll, EmployeePayrollDTO object) {
+        employeePayroll.setEmployee(employeeRepository.getReferenceById(object.getEmployeeDTO().getId()));
+        employeePayroll.setCutOffFromDate(object.getCutOffFromDate());
+        employeePayroll.setCutOffToDate(object.getCutOffToDate());
+        employeePayroll.setPayrollFrequency(object.getPayrollFrequency());
+        employeePayroll.setBasicPayAmount(object.getBasicPayAmount());
+        employeePayroll.setAllowancePayAmount(object.getAllowancePayAmount());
+        employeePayroll.setAbsentDeductionAmount(object.getAbsentDeductionAmount());
+        employeePayroll.setLateOrUndertimeDeductionAmount(object.getLateOrUndertimeDeductionAmount());
+        employeePayroll.setRestDayOvertimePayAmount(object.getRestDayOvertimePayAmount());
+        employeePayroll.setNightDifferentialPayAmount(object.getNightDifferentialPayAmount());
+        employeePayroll.setLeavePayAmount(object.getLeavePayAmount());
+        employeePayroll.setRegularHolidayPayAmount(object.getRegularHolidayPayAmount());
+        employeePayroll.setSpecialHolidayPayAmount(object.getSpecialHolidayPayAmount());
+        employeePayroll.setAdjustmentPayAmount(object.getAdjustmentPayAmount());
+        employeePayroll.setTotalGrossPayAmount(object.getTotalGrossPayAmount());
+        employeePayroll.setSssDeductionAmount(object.getSssDeductionAmount());
+        employeePayroll.setHdmfDeductionAmount(object.getHdmfDeductionAmount());
+        employeePayroll.setPhilhealthDeductionAmount(object.getPhilhealthDeductionAmount());
+        employeePayroll.setSssEmployerShareAmount(object.getSssEmployerShareAmount());
+        employeePayroll.setHdmfEmployerShareAmount(object.getHdmfEmployerShareAmount());
+        employeePayroll.setPhilhealthEmployerShareAmount(object.getPhilhealthEmployerShareAmount());
+        employeePayroll.setWithholdingTaxDeductionAmount(object.getWithholdingTaxDeductionAmount());
+        employeePayroll.setTotalLoanDeductionAmount(object.getTotalLoanDeductionAmount());
+        employeePayroll.setOtherDeductionAmount(object.getOtherDeductionAmount());
+        employeePayroll.setUpdatedBy(object.getUpdatedBy());
+        employeePayroll.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
     }
 }
@@ -0,0 +1,373 @@
+package io.distributechsolutions.hris.services.impls.payroll;
+
+import io.distributechsolutions.hris.dtos.payroll.PayPeriodDTO;
+import io.distributechsolutions.hris.services.payroll.PayCalendarService;
+import io.distributechsolutions.hris.services.reference.HolidayCalendarService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Service
+public class PayCalendarServiceImpl implements PayCalendarService {
+    private final Logger logger = LoggerFactory.getLogger(PayCalendarServiceImpl.class);
+
+    private static final String PAYROLL_FREQUENCY_WEEKLY = "Weekly";
+    private static final String PAYROLL_FREQUENCY_SEMI_MONTHLY = "Semi-Monthly";
+    private static final String PAYROLL_FREQUENCY_MONTHLY = "Monthly";
+    private static final String[] PAYROLL_FREQUENCIES = {PAYROLL_FREQUENCY_WEEKLY, PAYROLL_FREQUENCY_SEMI_MONTHLY, PAYROLL_FREQUENCY_MONTHLY};
+
+    // The years whose pay calendars are kept. The pay calendars of other years are computed on every call.
+    private static final int MINIMUM_CACHED_YEAR = 2000;
+    private static final int MAXIMUM_CACHED_YEAR = 2199;
+
+    private final HolidayCalendarService holidayCalendarService;
+    private final boolean[] restDays = new boolean[7];
+    private final DayOfWeek weeklyStartDay;
+
+    private final AtomicReferenceArray<PayCalendar> payCalendars = new AtomicReferenceArray<>(MAXIMUM_CACHED_YEAR - MINIMUM_CACHED_YEAR + 1);
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public PayCalendarServiceImpl(HolidayCalendarService holidayCalendarService,
+                                  @Value("${payroll.calendar.rest-days:SATURDAY,SUNDAY}") DayOfWeek[] restDays,
+                                  @Value("${payroll.calendar.weekly-start-day:MONDAY}") DayOfWeek weeklyStartDay) {
+        this.holidayCalendarService = holidayCalendarService;
+        this.weeklyStartDay = weeklyStartDay;
+
+        for (DayOfWeek restDay : restDays) {
+            this.restDays[restDay.getValue() - 1] = true;
+        }
+    }
+
+    @Override
+    public PayPeriodDTO getPayPeriod(String payrollFrequency, LocalDate date) {
+        long epochDay = date.toEpochDay();
+        PayPeriodTable payPeriodTable = this.getPayPeriodTable(payrollFrequency, date.getYear(), epochDay);
+
+        return payPeriodTable.toPayPeriodDTO(payPeriodTable.indexOf(epochDay));
+    }
+
+    @Override
+    public PayPeriodDTO findPayPeriod(LocalDate startDate, LocalDate endDate) {
+        long startEpochDay = startDate.toEpochDay();
+        long endEpochDay = endDate.toEpochDay();
+
+        for (String payrollFrequency : PAYROLL_FREQUENCIES) {
+            PayPeriodTable payPeriodTable = this.getPayPeriodTable(payrollFrequency, endDate.getYear(), endEpochDay);
+            int position = payPeriodTable.indexOf(endEpochDay);
+
+            if (payPeriodTable.startEpochDays[position] == startEpochDay && payPeriodTable.endEpochDays[position] == endEpochDay) {
+                return payPeriodTable.toPayPeriodDTO(position);
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public List<PayPeriodDTO> getPayPeriods(String payrollFrequency, int year) {
+        PayPeriodTable payPeriodTable = this.getPayCalendar(year).getPayPeriodTable(payrollFrequency);
+        List<PayPeriodDTO> payPeriodDTOList = new ArrayList<>(payPeriodTable.size());
+
+        for (int position = 0; position < payPeriodTable.size(); position++) {
+            payPeriodDTOList.add(payPeriodTable.toPayPeriodDTO(position));
+        }
+
+        return payPeriodDTOList;
+    }
+
+    @Override
+    public int getCutOffId(String payrollFrequency, LocalDate date) {
+        long epochDay = date.toEpochDay();
+        PayPeriodTable payPeriodTable = this.getPayPeriodTable(payrollFrequency, date.getYear(), epochDay);
+
+        return payPeriodTable.getCutOffId(payPeriodTable.indexOf(epochDay));
+    }
+
+    @Override
+    public int getWorkingDays(String payrollFrequency, LocalDate date) {
+        long epochDay = date.toEpochDay();
+        PayPeriodTable payPeriodTable = this.getPayPeriodTable(payrollFrequency, date.getYear(), epochDay);
+
+        return payPeriodTable.workingDays[payPeriodTable.indexOf(epochDay)];
+    }
+
+    @Override
+    public int getPayPeriodCountOfMonth(String payrollFrequency, LocalDate date) {
+        return this.getPayCalendar(date.getYear()).getPayPeriodTable(payrollFrequency).payPeriodCountsOfMonth[date.getMonthValue() - 1];
+    }
+
+    @Override
+    public int countWorkingDays(LocalDate fromDate, LocalDate toDate) {
+        long fromEpochDay = fromDate.toEpochDay();
+        long toEpochDay = toDate.toEpochDay();
+        int workingDays = 0;
+
+        // Each pay calendar counts the days of its own year, so a range across years adds up the count of each year.
+        for (int year = fromDate.getYear(); year <= toDate.getYear(); year++) {
+            PayCalendar payCalendar = this.getPayCalendar(year);
+            workingDays += payCalendar.countWorkingDays(Math.max(fromEpochDay, payCalendar.firstDayOfYearEpochDay),
+                                                        Math.min(toEpochDay, payCalendar.lastDayOfYearEpochDay));
+        }
+
+        return workingDays;
+    }
+
+    @Override
+    public int getScheduledDays() {
+        int scheduledDays = 0;
+
+        for (int dayOfWeekIndex = 0; dayOfWeekIndex < restDays.length; dayOfWeekIndex++) {
+            if (!restDays[dayOfWeekIndex]) {
+                scheduledDays |= 1 << dayOfWeekIndex;
+            }
+        }
+
+        return scheduledDays;
+    }
+
+    @Override
+    public void evictPayPeriods(int year) {
+        evictionCount.incrementAndGet();
+
+        // The weekly periods of a year can start in the year before it and its last days belong to the year after it.
+        for (int evictedYear = year - 1; evictedYear <= year + 1; evictedYear++) {
+            if (evictedYear >= MINIMUM_CACHED_YEAR && evictedYear <= MAXIMUM_CACHED_YEAR) {
+                payCalendars.set(evictedYear - MINIMUM_CACHED_YEAR, null);
+            }
+        }
+
+        logger.info(String.format("The pay periods of %s to %s have been evicted.", year - 1, year + 1));
+    }
+
+    /**
+     * Returns the table of the pay periods that contains the given day. The last days of a year can belong to the first
+     * weekly period of the next year.
+     */
+    private PayPeriodTable getPayPeriodTable(String payrollFrequency, int year, long epochDay) {
+        PayPeriodTable payPeriodTable = this.getPayCalendar(year).getPayPeriodTable(payrollFrequency);
+
+        if (epochDay > payPeriodTable.lastEpochDay) {
+            payPeriodTable = this.getPayCalendar(year + 1).getPayPeriodTable(payrollFrequency);
+        }
+
+        return payPeriodTable;
+    }
+
+    private PayCalendar getPayCalendar(int year) {
+        if (year < MINIMUM_CACHED_YEAR || year > MAXIMUM_CACHED_YEAR) {
+            return this.computePayCalendar(year);
+        }
+
+        PayCalendar payCalendar = payCalendars.get(year - MINIMUM_CACHED_YEAR);
+
+        if (payCalendar == null) {
+            // Two threads may compute the same year at the same time, which only wastes the work of one of them. A pay
+            // calendar that was computed while the holidays changed is used once but not kept, since it may be stale.
+            long evictionCountBefore = evictionCount.get();
+            payCalendar = this.computePayCalendar(year);
+
+            if (evictionCount.get() == evictionCountBefore) {
+                payCalendars.compareAndSet(year - MINIMUM_CACHED_YEAR, null, payCalendar);
+            }
+        }
+
+        return payCalendar;
+    }
+
+    private PayCalendar computePayCalendar(int year) {
+        LocalDate firstDayOfYear = LocalDate.of(year, 1, 1);
+        LocalDate lastDayOfYear = LocalDate.of(year, 12, 31);
+
+        // The first weekly period of the year is the first one that ends in it, so it can start in the year before.
+        LocalDate firstWeeklyEndDate = firstDayOfYear.with(TemporalAdjusters.nextOrSame(weeklyStartDay.minus(1)));
+        LocalDate firstDate = firstWeeklyEndDate.minusDays(6);
+
+        long firstEpochDay = firstDate.toEpochDay();
+        int dayCount = (int) (lastDayOfYear.toEpochDay() - firstEpochDay + 1);
+
+        boolean[] holidays = new boolean[dayCount];
+        LocalDate date = firstDate;
+
+        for (int day = 0; day < dayCount; day++) {
+            holidays[day] = holidayCalendarService.isRegularHoliday(date) || holidayCalendarService.isSpecialHoliday(date);
+            date = date.plusDays(1);
+        }
+
+        // The number of working days and holidays before each day, so the count of any range is one subtraction.
+        int[] workingDayPrefix = new int[dayCount + 1];
+        int[] holidayPrefix = new int[dayCount + 1];
+        int dayOfWeekIndex = firstDate.getDayOfWeek().getValue() - 1;
+
+        for (int day = 0; day < dayCount; day++) {
+            workingDayPrefix[day + 1] = workingDayPrefix[day] + (holidays[day] || restDays[dayOfWeekIndex] ? 0 : 1);
+            holidayPrefix[day + 1] = holidayPrefix[day] + (holidays[day] ? 1 : 0);
+            dayOfWeekIndex = (dayOfWeekIndex + 1) % 7;
+        }
+
+        List<long[]> weeklyPeriods = new ArrayList<>();
+
+        for (LocalDate endDate = firstWeeklyEndDate; endDate.getYear() == year; endDate = endDate.plusWeeks(1)) {
+            weeklyPeriods.add(new long[]{endDate.minusDays(6).toEpochDay(), endDate.toEpochDay()});
+        }
+
+        List<long[]> semiMonthlyPeriods = new ArrayList<>();
+        List<long[]> monthlyPeriods = new ArrayList<>();
+
+        for (int month = 1; month <= 12; month++) {
+            LocalDate firstDayOfMonth = LocalDate.of(year, month, 1);
+            LocalDate lastDayOfMonth = firstDayOfMonth.with(TemporalAdjusters.lastDayOfMonth());
+
+            semiMonthlyPeriods.add(new long[]{firstDayOfMonth.toEpochDay(), firstDayOfMonth.plusDays(14).toEpochDay()});
+            semiMonthlyPeriods.add(new long[]{firstDayOfMonth.plusDays(15).toEpochDay(), lastDayOfMonth.toEpochDay()});
+            monthlyPeriods.add(new long[]{firstDayOfMonth.toEpochDay(), lastDayOfMonth.toEpochDay()});
+        }
+
+        PayCalendar payCalendar = new PayCalendar(firstDayOfYear.toEpochDay(),
+                                                  lastDayOfYear.toEpochDay(),
+                                                  firstEpochDay,
+                                                  workingDayPrefix,
+                                                  new PayPeriodTable(PAYROLL_FREQUENCY_WEEKLY, year, weeklyPeriods, firstEpochDay, workingDayPrefix, holidayPrefix),
+                                                  new PayPeriodTable(PAYROLL_FREQUENCY_SEMI_MONTHLY, year, semiMonthlyPeriods, firstEpochDay, workingDayPrefix, holidayPrefix),
+                                                  new PayPeriodTable(PAYROLL_FREQUENCY_MONTHLY, year, monthlyPeriods, firstEpochDay, workingDayPrefix, holidayPrefix));
+
+        logger.info(String.format("The pay periods of %s have been computed.", year));
+        return payCalendar;
+    }
+
+    /**
+     * The working days and pay periods of one year, which are never changed once they are computed. The working day
+     * counts start at the first day of the year's first weekly period.
+     */
+    private static final class PayCalendar {
+        private final long firstDayOfYearEpochDay;
+        private final long lastDayOfYearEpochDay;
+        private final long firstEpochDay;
+        private final int[] workingDayPrefix;
+        private final PayPeriodTable weeklyPayPeriods;
+        private final PayPeriodTable semiMonthlyPayPeriods;
+        private final PayPeriodTable monthlyPayPeriods;
+
+        private PayCalendar(long firstDayOfYearEpochDay,
+                            long lastDayOfYearEpochDay,
+                            long firstEpochDay,
+                            int[] workingDayPrefix,
+                            PayPeriodTable weeklyPayPeriods,
+                            PayPeriodTable semiMonthlyPayPeriods,
+                            PayPeriodTable monthlyPayPeriods) {
+            this.firstDayOfYearEpochDay = firstDayOfYearEpochDay;
+            this.lastDayOfYearEpochDay = lastDayOfYearEpochDay;
+            this.firstEpochDay = firstEpochDay;
+            this.workingDayPrefix = workingDayPrefix;
+            this.weeklyPayPeriods = weeklyPayPeriods;
+            this.semiMonthlyPayPeriods = semiMonthlyPayPeriods;
+            this.monthlyPayPeriods = monthlyPayPeriods;
+        }
+
+        private PayPeriodTable getPayPeriodTable(String payrollFrequency) {
+            return switch (payrollFrequency) {
+                case PAYROLL_FREQUENCY_WEEKLY -> weeklyPayPeriods;
+                case PAYROLL_FREQUENCY_SEMI_MONTHLY -> semiMonthlyPayPeriods;
+                case PAYROLL_FREQUENCY_MONTHLY -> monthlyPayPeriods;
+                default -> throw new IllegalArgumentException("Unknown payroll frequency ".concat(payrollFrequency).concat("."));
+            };
+        }
+
+        private int countWorkingDays(long fromEpochDay, long toEpochDay) {
+            if (toEpochDay < fromEpochDay) {
+                return 0;
+            }
+
+            return workingDayPrefix[(int) (toEpochDay - firstEpochDay + 1)] - workingDayPrefix[(int) (fromEpochDay - firstEpochDay)];
+        }
+    }
+
+    /**
+     * The pay periods of one payroll frequency in one year as parallel arrays in date order. The position of the period
+     * that contains a day is kept for every day from the start of the first period to the end of the last one, and so is
+     * the number of periods that end in each month.
+     */
+    private static final class PayPeriodTable {
+        private final String payrollFrequency;
+        private final int year;
+        private final long firstEpochDay;
+        private final long lastEpochDay;
+        private final long[] startEpochDays;
+        private final long[] endEpochDays;
+        private final int[] workingDays;
+        private final int[] holidayCounts;
+        private final int[] payPeriodCountsOfMonth = new int[12];
+        private final byte[] positionsByDay;
+
+        private PayPeriodTable(String payrollFrequency,
+                               int year,
+                               List<long[]> payPeriods,
+                               long calendarFirstEpochDay,
+                               int[] workingDayPrefix,
+                               int[] holidayPrefix) {
+            int size = payPeriods.size();
+
+            this.payrollFrequency = payrollFrequency;
+            this.year = year;
+            this.firstEpochDay = payPeriods.get(0)[0];
+            this.lastEpochDay = payPeriods.get(size - 1)[1];
+
+            startEpochDays = new long[size];
+            endEpochDays = new long[size];
+            workingDays = new int[size];
+            holidayCounts = new int[size];
+            // A year has at most 53 weekly periods, so a position always fits in a byte.
+            positionsByDay = new byte[(int) (lastEpochDay - firstEpochDay + 1)];
+
+            for (int position = 0; position < size; position++) {
+                long startEpochDay = payPeriods.get(position)[0];
+                long endEpochDay = payPeriods.get(position)[1];
+                int fromDay = (int) (startEpochDay - calendarFirstEpochDay);
+                int toDay = (int) (endEpochDay - calendarFirstEpochDay);
+
+                startEpochDays[position] = startEpochDay;
+                endEpochDays[position] = endEpochDay;
+                workingDays[position] = workingDayPrefix[toDay + 1] - workingDayPrefix[fromDay];
+                holidayCounts[position] = holidayPrefix[toDay + 1] - holidayPrefix[fromDay];
+                payPeriodCountsOfMonth[LocalDate.ofEpochDay(endEpochDay).getMonthValue() - 1]++;
+
+                for (long epochDay = startEpochDay; epochDay <= endEpochDay; epochDay++) {
+                    positionsByDay[(int) (epochDay - firstEpochDay)] = (byte) position;
+                }
+            }
+        }
+
+        private int size() {
+            return startEpochDays.length;
+        }
+
+        private int indexOf(long epochDay) {
+            return positionsByDay[(int) (epochDay - firstEpochDay)];
+        }
+
+        private int getCutOffId(int position) {
+            return year * 100 + position + 1;
+        }
+
+        private PayPeriodDTO toPayPeriodDTO(int position) {
+            PayPeriodDTO payPeriodDTO = new PayPeriodDTO();
+            payPeriodDTO.setPayrollFrequency(payrollFrequency);
+            payPeriodDTO.setCutOffId(this.getCutOffId(position));
+            payPeriodDTO.setStartDate(LocalDate.ofEpochDay(startEpochDays[position]));
+            payPeriodDTO.setEndDate(LocalDate.ofEpochDay(endEpochDays[position]));
+            payPeriodDTO.setWorkingDays(workingDays[position]);
+            payPeriodDTO.setHolidayCount(holidayCounts[position]);
+
+            return payPeriodDTO;
+        }
+    }
+}
@@ -0,0 +1,719 @@
+package io.distributechsolutions.hris.services.impls.payroll;
+
+import io.distributechsolutions.hris.dtos.attendance.AttendanceMinutesDTO;
+import io.distributechsolutions.hris.dtos.compenben.GovernmentContributionSharesDTO;
+import io.distributechsolutions.hris.dtos.payroll.PayPeriodDTO;
+import io.distributechsolutions.hris.dtos.payroll.PayrollRunDTO;
+import io.distributechsolutions.hris.entities.compenben.GovernmentContributions;
+import io.distributechsolutions.hris.entities.compenben.LoanDeduction;
+import io.distributechsolutions.hris.entities.compenben.Rates;
+import io.distributechsolutions.hris.entities.payroll.EmployeePayroll;
+import io.distributechsolutions.hris.entities.payroll.PayrollRun;
+import io.distributechsolutions.hris.entities.profile.Employee;
+import io.distributechsolutions.hris.repositories.payroll.EmployeePayrollRepository;
+import io.distributechsolutions.hris.repositories.payroll.PayrollRunRepository;
+import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
+import io.distributechsolutions.hris.services.attendance.AttendanceComputationService;
+import io.distributechsolutions.hris.services.compenben.GovernmentContributionScheduleService;
+import io.distributechsolutions.hris.services.payroll.PayCalendarService;
+import io.distributechsolutions.hris.services.payroll.PayrollEngineService;
+import io.distributechsolutions.hris.services.payroll.WithholdingTaxService;
+import io.distributechsolutions.hris.services.reference.HolidayCalendarService;
+import io.distributechsolutions.hris.utils.PayrollComputationUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Service
+public class PayrollEngineServiceImpl implements PayrollEngineService {
+    private final Logger logger = LoggerFactory.getLogger(PayrollEngineServiceImpl.class);
+
+    private static final String RUN_STATUS_QUEUED = "QUEUED";
+    private static final String RUN_STATUS_RUNNING = "RUNNING";
+    private static final String RUN_STATUS_COMPLETED = "COMPLETED";
+    private static final String RUN_STATUS_FAILED = "FAILED";
+
+    // The least time between two progress updates of a running payroll run.
+    private static final long PROGRESS_INTERVAL_MILLIS = 1000L;
+
+    // The working days in a month that turn a daily rate into the monthly compensation of the contribution brackets.
+    private static final BigDecimal DAILY_RATED_WORKING_DAYS_PER_MONTH = BigDecimal.valueOf(26);
+
+    // The holiday premiums in percent of the daily rate, on top of the pay for the day. The basic pay of a monthly-rated
+    // employee covers the day, while the basic pay of a daily-rated employee only covers the working days, so the day of
+    // a worked holiday is paid with its premium.
+    private static final long REGULAR_HOLIDAY_WORKED_PREMIUM_PERCENT = 100L;
+    private static final long SPECIAL_HOLIDAY_WORKED_PREMIUM_PERCENT = 30L;
+    private static final long HOLIDAY_WORKED_DAILY_RATED_PERCENT = 100L;
+    private static final long REGULAR_HOLIDAY_UNWORKED_DAILY_RATED_PERCENT = 100L;
+
+    // The paid hours of a day for an employee without a shift, which turn the daily rate into an hourly rate.
+    private static final int STANDARD_WORK_HOURS = 8;
+
+    // The rates of the rest day, overtime and night differential minutes in percent of the hourly rate.
+    private static final long REST_DAY_PERCENT = 130L;
+    private static final long REGULAR_DAY_OVERTIME_PERCENT = 125L;
+    private static final long REST_DAY_OVERTIME_PERCENT = 169L;
+    private static final long SPECIAL_HOLIDAY_OVERTIME_PERCENT = 169L;
+    private static final long REGULAR_HOLIDAY_OVERTIME_PERCENT = 260L;
+    private static final long NIGHT_DIFFERENTIAL_PERCENT = 10L;
+
+    private final PayrollInputLoader payrollInputLoader;
+    private final GovernmentContributionScheduleService governmentContributionScheduleService;
+    private final WithholdingTaxService withholdingTaxService;
+    private final HolidayCalendarService holidayCalendarService;
+    private final AttendanceComputationService attendanceComputationService;
+    private final PayCalendarService payCalendarService;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeePayrollRepository employeePayrollRepository;
+    private final PayrollRunRepository payrollRunRepository;
+    private final ThreadPoolTaskExecutor payrollJobExecutor;
+    private final ThreadPoolTaskExecutor payrollWorkerExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final List<Consumer<PayrollRunDTO>> payrollRunListeners = new CopyOnWriteArrayList<>();
+
+    public PayrollEngineServiceImpl(PayrollInputLoader payrollInputLoader,
+                                    GovernmentContributionScheduleService governmentContributionScheduleService,
+                                    WithholdingTaxService withholdingTaxService,
+                                    HolidayCalendarService holidayCalendarService,
+                                    AttendanceComputationService attendanceComputationService,
+                                    PayCalendarService payCalendarService,
+                                    EmployeeRepository employeeRepository,
+                                    EmployeePayrollRepository employeePayrollRepository,
+                                    PayrollRunRepository payrollRunRepository,
+                                    @Qualifier("payrollJobExecutor") ThreadPoolTaskExecutor payrollJobExecutor,
+                                    @Qualifier("payrollWorkerExecutor") ThreadPoolTaskExecutor payrollWorkerExecutor,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${payroll.engine.chunk-size:250}") int chunkSize) {
+        this.payrollInputLoader = payrollInputLoader;
+        this.governmentContributionScheduleService = governmentContributionScheduleService;
+        this.withholdingTaxService = withholdingTaxService;
+        this.holidayCalendarService = holidayCalendarService;
+        this.attendanceComputationService = attendanceComputationService;
+        this.payCalendarService = payCalendarService;
+        this.employeeRepository = employeeRepository;
+        this.employeePayrollRepository = employeePayrollRepository;
+        this.payrollRunRepository = payrollRunRepository;
+        this.payrollJobExecutor = payrollJobExecutor;
+        this.payrollWorkerExecutor = payrollWorkerExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public PayrollRunDTO submitPayrollRun(LocalDate cutOffFromDate, LocalDate cutOffToDate, String generatedBy) {
+        // The payroll frequency, the working days and the monthly deductions all come from the pay period, so a cut-off
+        // that is not a pay period is rejected before anything is saved.
+        PayPeriodDTO payPeriodDTO = payCalendarService.findPayPeriod(cutOffFromDate, cutOffToDate);
+
+        if (payPeriodDTO == null) {
+            throw new IllegalArgumentException(String.format("The cut-off %s to %s is not a weekly, semi-monthly or monthly pay period.", cutOffFromDate, cutOffToDate));
+        }
+
+        PayrollRun payrollRun = new PayrollRun();
+        payrollRun.setCutOffFromDate(cutOffFromDate);
+        payrollRun.setCutOffToDate(cutOffToDate);
+        payrollRun.setPayrollFrequency(payPeriodDTO.getPayrollFrequency());
+        payrollRun.setRunStatus(RUN_STATUS_QUEUED);
+        payrollRun.setTotalEmployeeCount(0);
+        payrollRun.setProcessedEmployeeCount(0);
+        payrollRun.setFailedEmployeeCount(0);
+        payrollRun.setCreatedBy(generatedBy);
+        payrollRun.setDateAndTimeCreated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+        payrollRun.setUpdatedBy(generatedBy);
+        payrollRun.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+        payrollRun = payrollRunRepository.save(payrollRun);
+
+        UUID payrollRunId = payrollRun.getId();
+
+        try {
+            payrollJobExecutor.execute(() -> this.runPayroll(payrollRunId));
+        } catch (TaskRejectedException exception) {
+            // The job queue is full, so the run is failed right away instead of staying queued until the next restart.
+            logger.warn(String.format("Payroll run with ID %s was rejected by the payroll job executor.", payrollRunId), exception);
+
+            return this.updatePayrollRun(payrollRunId, rejectedPayrollRun -> {
+                rejectedPayrollRun.setRunStatus(RUN_STATUS_FAILED);
+                rejectedPayrollRun.setErrorMessage("Too many payroll runs are queued. Generate the payroll again once the queued runs are finished.");
+                rejectedPayrollRun.setDateAndTimeFinished(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+            });
+        }
+
+        logger.info(String.format("Payroll run with ID %s for cut-off %s to %s has been queued.", payrollRunId, cutOffFromDate, cutOffToDate));
+
+        PayrollRunDTO payrollRunDTO = PayrollRunServiceImpl.getPayrollRunDTO(payrollRun);
+        this.notifyPayrollRunListeners(payrollRunDTO);
+
+        return payrollRunDTO;
+    }
+
+    @Override
+    public void addPayrollRunListener(Consumer<PayrollRunDTO> listener) {
+        payrollRunListeners.add(listener);
+    }
+
+    @Override
+    public void removePayrollRunListener(Consumer<PayrollRunDTO> listener) {
+        payrollRunListeners.remove(listener);
+    }
+
+    /**
+     * Marks the payroll runs that were left queued or running by a previous shutdown as failed,
+     * since their jobs no longer exist in the executor.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedPayrollRuns() {
+        for (PayrollRun payrollRun : payrollRunRepository.findByRunStatuses(List.of(RUN_STATUS_QUEUED, RUN_STATUS_RUNNING))) {
+            this.updatePayrollRun(payrollRun.getId(), interruptedPayrollRun -> {
+                interruptedPayrollRun.setRunStatus(RUN_STATUS_FAILED);
+                interruptedPayrollRun.setErrorMessage("The payroll run was interrupted by an application restart.");
+                interruptedPayrollRun.setDateAndTimeFinished(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+            });
+        }
+    }
+
+    /**
+     * Runs the payroll of the given payroll run. This is called from the payroll job executor.
+     *
+     * @param payrollRunId - The ID of the payroll run.
+     */
+    private void runPayroll(UUID payrollRunId) {
+        PayrollRun payrollRun = payrollRunRepository.findById(payrollRunId).orElseThrow();
+        LocalDate cutOffFromDate = payrollRun.getCutOffFromDate();
+        LocalDate cutOffToDate = payrollRun.getCutOffToDate();
+        String generatedBy = payrollRun.getCreatedBy();
+
+        logger.info(String.format("Generating the payroll for cut-off %s to %s.", cutOffFromDate, cutOffToDate));
+        long startTime = System.currentTimeMillis();
+
+        try {
+            // Resolve the pay period of the cut-off once, with its working days and the number of cut-offs in its month.
+            PayPeriodDTO payPeriodDTO = payCalendarService.getPayPeriod(payrollRun.getPayrollFrequency(), cutOffToDate);
+            int payPeriodCountOfMonth = payCalendarService.getPayPeriodCountOfMonth(payPeriodDTO.getPayrollFrequency(), cutOffToDate);
+
+            // Load the inputs of the whole cut-off once, so the workers never query per employee.
+            Map<UUID, PayrollInput> payrollInputMap = payrollInputLoader.load(cutOffFromDate, cutOffToDate);
+            List<UUID> employeeIds = new ArrayList<>(payrollInputMap.keySet());
+
+            // Pick up the contribution and tax brackets that were changed since the last run.
+            governmentContributionScheduleService.reloadSchedules();
+            withholdingTaxService.reloadTaxTables();
+
+            this.updatePayrollRun(payrollRunId, runningPayrollRun -> {
+                runningPayrollRun.setRunStatus(RUN_STATUS_RUNNING);
+                runningPayrollRun.setTotalEmployeeCount(employeeIds.size());
+                runningPayrollRun.setDateAndTimeStarted(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+            });
+
+            // Partition the employees into chunks and compute each chunk in the bounded worker pool. The chunks count
+            // every employee as processed or failed, and the progress is written to the payroll run as it moves.
+            PayrollRunProgress payrollRunProgress = new PayrollRunProgress();
+            List<CompletableFuture<Void>> chunkFutures = new ArrayList<>();
+
+            for (int fromIndex = 0; fromIndex < employeeIds.size(); fromIndex += chunkSize) {
+                List<UUID> employeeIdChunk = employeeIds.subList(fromIndex, Math.min(fromIndex + chunkSize, employeeIds.size()));
+                chunkFutures.add(CompletableFuture.runAsync(() -> this.processChunk(payrollRunId,
+                                                                                     payrollRunProgress,
+                                                                                     employeeIdChunk,
+                                                                                     payrollInputMap,
+                                                                                     payPeriodDTO,
+                                                                                     payPeriodCountOfMonth,
+                                                                                     generatedBy), payrollWorkerExecutor));
+            }
+
+            CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture[0])).join();
+
+            PayrollRunDTO payrollRunDTO = this.updatePayrollRun(payrollRunId, finishedPayrollRun -> {
+                this.applyProgress(finishedPayrollRun, payrollRunProgress);
+                finishedPayrollRun.setRunStatus(payrollRunProgress.failedCount.get() == 0 ? RUN_STATUS_COMPLETED : RUN_STATUS_FAILED);
+                finishedPayrollRun.setDateAndTimeFinished(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+            });
+
+            logger.info(String.format("%s employee payroll record(s) generated in %s ms.", payrollRunDTO.getProcessedEmployeeCount(), System.currentTimeMillis() - startTime));
+        } catch (Exception exception) {
+            logger.error(String.format("Payroll run with ID %s has failed.", payrollRunId), exception);
+
+            this.updatePayrollRun(payrollRunId, failedPayrollRun -> {
+                failedPayrollRun.setRunStatus(RUN_STATUS_FAILED);
+                failedPayrollRun.setErrorMessage(this.truncateErrorMessage(exception.getMessage()));
+                failedPayrollRun.setDateAndTimeFinished(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+            });
+        }
+    }
+
+    /**
+     * Writes the progress of the payroll run and notifies the payroll run listeners, at most once per progress interval
+     * unless forced, so the progress moves with every employee without a write per employee.
+     */
+    private void publishProgress(UUID payrollRunId, PayrollRunProgress payrollRunProgress, boolean forced) {
+        long currentTime = System.currentTimeMillis();
+        long lastPublishedTime = payrollRunProgress.lastPublishedTime.get();
+
+        if (!forced && (currentTime - lastPublishedTime < PROGRESS_INTERVAL_MILLIS ||
+                        !payrollRunProgress.lastPublishedTime.compareAndSet(lastPublishedTime, currentTime))) {
+            return;
+        }
+
+        this.updatePayrollRun(payrollRunId, payrollRun -> this.applyProgress(payrollRun, payrollRunProgress));
+    }
+
+    private void applyProgress(PayrollRun payrollRun, PayrollRunProgress payrollRunProgress) {
+        payrollRun.setProcessedEmployeeCount(payrollRunProgress.processedCount.get());
+        payrollRun.setFailedEmployeeCount(payrollRunProgress.failedCount.get());
+
+        if (payrollRunProgress.errorMessage != null && payrollRun.getErrorMessage() == null) {
+            payrollRun.setErrorMessage(this.truncateErrorMessage(payrollRunProgress.errorMessage));
+        }
+    }
+
+    /**
+     * Applies the given changes to the payroll run in its own transaction and notifies the payroll run listeners.
+     * This is synchronized since the chunks of a run report their progress concurrently.
+     */
+    private synchronized PayrollRunDTO updatePayrollRun(UUID payrollRunId, Consumer<PayrollRun> payrollRunUpdater) {
+        PayrollRunDTO payrollRunDTO = transactionTemplate.execute(transactionStatus -> {
+            PayrollRun payrollRun = payrollRunRepository.findById(payrollRunId).orElseThrow();
+            payrollRunUpdater.accept(payrollRun);
+            payrollRun.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+
+            return PayrollRunServiceImpl.getPayrollRunDTO(payrollRunRepository.save(payrollRun));
+        });
+
+        this.notifyPayrollRunListeners(payrollRunDTO);
+        return payrollRunDTO;
+    }
+
+    private void notifyPayrollRunListeners(PayrollRunDTO payrollRunDTO) {
+        for (Consumer<PayrollRunDTO> listener : payrollRunListeners) {
+            try {
+                listener.accept(payrollRunDTO);
+            } catch (Exception exception) {
+                logger.warn("A payroll run listener has failed.", exception);
+            }
+        }
+    }
+
+    private String truncateErrorMessage(String errorMessage) {
+        if (errorMessage == null) {
+            return "Unknown error.";
+        }
+
+        return errorMessage.length() > 2000 ? errorMessage.substring(0, 2000) : errorMessage;
+    }
+
+    /**
+     * Computes the payroll of each employee of a chunk and saves the chunk in a single transaction. An employee whose
+     * payroll can't be computed is counted as failed without failing the rest of the chunk, while a failed save counts
+     * every employee of the chunk as failed.
+     *
+     * @param payrollRunId - The ID of the payroll run.
+     * @param payrollRunProgress - The progress of the payroll run.
+     * @param employeeIds - The IDs of the employees in the chunk.
+     * @param payrollInputMap - The payroll inputs of the cut-off keyed by employee ID.
+     * @param payPeriodDTO - The pay period of the cut-off.
+     * @param payPeriodCountOfMonth - The number of pay periods in the month of the cut-off.
+     * @param generatedBy - The username of the user who generated the payroll.
+     */
+    private void processChunk(UUID payrollRunId,
+                              PayrollRunProgress payrollRunProgress,
+                              List<UUID> employeeIds,
+                              Map<UUID, PayrollInput> payrollInputMap,
+                              PayPeriodDTO payPeriodDTO,
+                              int payPeriodCountOfMonth,
+                              String generatedBy) {
+        List<EmployeePayroll> employeePayrollList = new ArrayList<>(employeeIds.size());
+
+        for (UUID employeeId : employeeIds) {
+            try {
+                employeePayrollList.add(this.computeEmployeePayroll(employeeRepository.getReferenceById(employeeId),
+                                                                    payrollInputMap.get(employeeId),
+                                                                    payPeriodDTO,
+                                                                    payPeriodCountOfMonth,
+                                                                    generatedBy));
+                payrollRunProgress.processedCount.incrementAndGet();
+            } catch (RuntimeException exception) {
+                logger.error(String.format("The payroll of employee with ID %s in payroll run with ID %s has failed.", employeeId, payrollRunId), exception);
+                payrollRunProgress.recordFailure(1, exception.getMessage());
+            }
+
+            this.publishProgress(payrollRunId, payrollRunProgress, false);
+        }
+
+        try {
+            // Overwrite the records of a cut-off that is generated again instead of duplicating them.
+            transactionTemplate.executeWithoutResult(transactionStatus -> employeePayrollRepository.upsertAll(employeePayrollList));
+        } catch (RuntimeException exception) {
+            logger.error(String.format("A payroll chunk of payroll run with ID %s could not be saved.", payrollRunId), exception);
+            payrollRunProgress.processedCount.addAndGet(-employeePayrollList.size());
+            payrollRunProgress.recordFailure(employeePayrollList.size(), exception.getMessage());
+        }
+
+        this.publishProgress(payrollRunId, payrollRunProgress, true);
+    }
+
+    /**
+     * Returns a new employee payroll object computed from the employee's payroll inputs.
+     */
+    private EmployeePayroll computeEmployeePayroll(Employee employee,
+                                                   PayrollInput payrollInput,
+                                                   PayPeriodDTO payPeriodDTO,
+                                                   int payPeriodCountOfMonth,
+                                                   String generatedBy) {
+        LocalDate cutOffFromDate = payPeriodDTO.getStartDate();
+        LocalDate cutOffToDate = payPeriodDTO.getEndDate();
+        String payrollFrequency = payPeriodDTO.getPayrollFrequency();
+        Rates rates = payrollInput.getRates();
+        BigDecimal totalAllowanceAmount = payrollInput.getTotalAllowanceAmount();
+        BigDecimal cutOffsPerMonth = BigDecimal.valueOf(payPeriodCountOfMonth);
+
+        // The loan deductions and government contributions are monthly amounts, split evenly across the cut-offs of the month.
+        BigDecimal totalLoanDeductionAmount = BigDecimal.ZERO;
+
+        for (LoanDeduction loanDeduction : payrollInput.getLoanDeductions()) {
+            if (loanDeduction.getMonthlyDeduction() != null) {
+                totalLoanDeductionAmount = totalLoanDeductionAmount.add(loanDeduction.getMonthlyDeduction());
+            }
+        }
+
+        totalLoanDeductionAmount = totalLoanDeductionAmount.divide(cutOffsPerMonth, 2, RoundingMode.HALF_UP);
+
+        // The shares come from the contribution schedules that are effective at the end of the cut-off. A contribution
+        // type without an effective schedule falls back to the fixed amount in the employee's government contributions.
+        GovernmentContributionSharesDTO governmentContributionSharesDTO = governmentContributionScheduleService.getMonthlyShares(cutOffToDate, this.getMonthlyCompensation(rates));
+        GovernmentContributions governmentContributions = payrollInput.getGovernmentContributions();
+
+        BigDecimal sssDeductionAmount = this.getCutOffShare(governmentContributionSharesDTO.getSssEmployeeShareAmount(),
+                                                            governmentContributions != null ? governmentContributions.getSssContrbutionAmount() : null,
+                                                            cutOffsPerMonth);
+        BigDecimal hdmfDeductionAmount = this.getCutOffShare(governmentContributionSharesDTO.getHdmfEmployeeShareAmount(),
+                                                             governmentContributions != null ? governmentContributions.getHdmfContrbutionAmount() : null,
+                                                             cutOffsPerMonth);
+        BigDecimal philhealthDeductionAmount = this.getCutOffShare(governmentContributionSharesDTO.getPhilhealthEmployeeShareAmount(),
+                                                                   governmentContributions != null ? governmentContributions.getPhilhealthContributionAmount() : null,
+                                                                   cutOffsPerMonth);
+        BigDecimal sssEmployerShareAmount = this.getCutOffShare(governmentContributionSharesDTO.getSssEmployerShareAmount(), null, cutOffsPerMonth);
+        BigDecimal hdmfEmployerShareAmount = this.getCutOffShare(governmentContributionSharesDTO.getHdmfEmployerShareAmount(), null, cutOffsPerMonth);
+        BigDecimal philhealthEmployerShareAmount = this.getCutOffShare(governmentContributionSharesDTO.getPhilhealthEmployerShareAmount(), null, cutOffsPerMonth);
+
+        // The absences, holiday premiums and attendance pay come from the day types of the cut-off and the punches of the
+        // employee. An employee without a shift schedule works on the days that are not rest days of the pay calendar.
+        int scheduledDays = payrollInput.getShift() != null ? payrollInput.getShift().getScheduledDays() : payCalendarService.getScheduledDays();
+        HolidayCalendarService.DayType[] dayTypes = holidayCalendarService.classifyDays(cutOffFromDate, cutOffToDate, scheduledDays);
+        boolean[] workedDays = this.getWorkedDays(payrollInput, dayTypes.length, cutOffFromDate);
+
+        int absentCount = this.countAbsences(payrollInput, dayTypes, workedDays, cutOffFromDate);
+        BigDecimal absentDeductionAmount = rates.getDailyAbsentDeductionRate().multiply(BigDecimal.valueOf(absentCount));
+
+        // A daily-rated employee is paid for the working days of the cut-off, which are the working days of the pay
+        // period for an employee without a shift schedule. The other employees are paid their basic compensation.
+        BigDecimal basicPayAmount = rates.getBasicCompensationRate();
+
+        if ("Daily".equals(rates.getRateType())) {
+            int workingDays = payrollInput.getShift() != null ? this.countWorkingDays(dayTypes) : payPeriodDTO.getWorkingDays();
+            basicPayAmount = rates.getDailyCompensationRate().multiply(BigDecimal.valueOf(workingDays));
+        }
+
+        long[] holidayPay = this.computeHolidayPay(rates, dayTypes, workedDays);
+        long[] attendancePay = this.computeAttendancePay(payrollInput, rates, dayTypes, cutOffFromDate);
+        BigDecimal regularHolidayPayAmount = PayrollComputationUtil.toAmount(holidayPay[0]);
+        BigDecimal specialHolidayPayAmount = PayrollComputationUtil.toAmount(holidayPay[1]);
+        BigDecimal lateOrUndertimeDeductionAmount = PayrollComputationUtil.toAmount(attendancePay[0]);
+        BigDecimal restDayOvertimePayAmount = PayrollComputationUtil.toAmount(attendancePay[1]);
+        BigDecimal nightDifferentialPayAmount = PayrollComputationUtil.toAmount(attendancePay[2]);
+
+        BigDecimal totalGrossPayAmount = basicPayAmount
+                                              .add(totalAllowanceAmount)
+                                              .add(regularHolidayPayAmount)
+                                              .add(specialHolidayPayAmount)
+                                              .add(restDayOvertimePayAmount)
+                                              .add(nightDifferentialPayAmount)
+                                              .subtract(absentDeductionAmount)
+                                              .subtract(lateOrUndertimeDeductionAmount);
+
+        // The withholding tax is computed in centavos on the gross pay less the employee's mandatory contributions. The
+        // final cut-off of the year settles the tax of the whole year instead.
+        long taxableCompensation = PayrollComputationUtil.toCentavos(totalGrossPayAmount) -
+                                   PayrollComputationUtil.toCentavos(sssDeductionAmount) -
+                                   PayrollComputationUtil.toCentavos(hdmfDeductionAmount) -
+                                   PayrollComputationUtil.toCentavos(philhealthDeductionAmount);
+        long withholdingTax;
+
+        if (PayrollComputationUtil.isFinalCutOffOfYear(cutOffFromDate, cutOffToDate)) {
+            withholdingTax = withholdingTaxService.computeAnnualizedWithholdingTax(payrollFrequency,
+                                                                                   cutOffToDate,
+                                                                                   taxableCompensation,
+                                                                                   PayrollComputationUtil.toCentavos(payrollInput.getYearToDateTaxableCompensation()),
+                                                                                   PayrollComputationUtil.toCentavos(payrollInput.getYearToDateWithholdingTax()));
+        } else {
+            withholdingTax = withholdingTaxService.computeWithholdingTax(payrollFrequency, cutOffToDate, taxableCompensation);
+        }
+
+        EmployeePayroll employeePayroll = new EmployeePayroll();
+        employeePayroll.setEmployee(employee);
+        employeePayroll.setCutOffFromDate(cutOffFromDate);
+        employeePayroll.setCutOffToDate(cutOffToDate);
+        employeePayroll.setPayrollFrequency(payrollFrequency);
+        employeePayroll.setBasicPayAmount(basicPayAmount);
+        employeePayroll.setAllowancePayAmount(totalAllowanceAmount);
+        employeePayroll.setAbsentDeductionAmount(absentDeductionAmount);
+        employeePayroll.setLateOrUndertimeDeductionAmount(lateOrUndertimeDeductionAmount);
+        employeePayroll.setRestDayOvertimePayAmount(restDayOvertimePayAmount);
+        employeePayroll.setNightDifferentialPayAmount(nightDifferentialPayAmount);
+        employeePayroll.setLeavePayAmount(BigDecimal.ZERO);
+        employeePayroll.setRegularHolidayPayAmount(regularHolidayPayAmount);
+        employeePayroll.setSpecialHolidayPayAmount(specialHolidayPayAmount);
+        employeePayroll.setAdjustmentPayAmount(BigDecimal.ZERO);
+        employeePayroll.setTotalGrossPayAmount(totalGrossPayAmount);
+        employeePayroll.setSssDeductionAmount(sssDeductionAmount);
+        employeePayroll.setHdmfDeductionAmount(hdmfDeductionAmount);
+        employeePayroll.setPhilhealthDeductionAmount(philhealthDeductionAmount);
+        employeePayroll.setSssEmployerShareAmount(sssEmployerShareAmount);
+        employeePayroll.setHdmfEmployerShareAmount(hdmfEmployerShareAmount);
+        employeePayroll.setPhilhealthEmployerShareAmount(philhealthEmployerShareAmount);
+        employeePayroll.setWithholdingTaxDeductionAmount(PayrollComputationUtil.toAmount(withholdingTax));
+        employeePayroll.setTotalLoanDeductionAmount(totalLoanDeductionAmount);
+        employeePayroll.setOtherDeductionAmount(BigDecimal.ZERO);
+        employeePayroll.setCreatedBy(generatedBy);
+        employeePayroll.setDateAndTimeCreated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+        employeePayroll.setUpdatedBy(generatedBy);
+        employeePayroll.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+
+        return employeePayroll;
+    }
+
+    /**
+     * Returns the days of the cut-off that the employee worked, which are the days that the employee timed in on.
+     */
+    private boolean[] getWorkedDays(PayrollInput payrollInput, int dayCount, LocalDate cutOffFromDate) {
+        boolean[] workedDays = new boolean[dayCount];
+        long cutOffFromEpochDay = cutOffFromDate.toEpochDay();
+
+        for (PayrollInput.Punch punch : payrollInput.getPunches()) {
+            int dayIndex = (int) (punch.getLogDate().toEpochDay() - cutOffFromEpochDay);
+
+            if ("IN".equals(punch.getLogDetail()) && dayIndex >= 0 && dayIndex < dayCount) {
+                workedDays[dayIndex] = true;
+            }
+        }
+
+        return workedDays;
+    }
+
+    /**
+     * Returns the number of regular working days of the cut-off, which excludes the rest days and holidays.
+     */
+    private int countWorkingDays(HolidayCalendarService.DayType[] dayTypes) {
+        int workingDays = 0;
+
+        for (HolidayCalendarService.DayType dayType : dayTypes) {
+            if (dayType == HolidayCalendarService.DayType.REGULAR_DAY) {
+                workingDays++;
+            }
+        }
+
+        return workingDays;
+    }
+
+    /**
+     * Returns the number of regular working days of the cut-off that the employee didn't work and wasn't on an approved
+     * leave. Rest days and holidays are never absences.
+     */
+    private int countAbsences(PayrollInput payrollInput, HolidayCalendarService.DayType[] dayTypes, boolean[] workedDays, LocalDate cutOffFromDate) {
+        boolean[] leaveDays = new boolean[dayTypes.length];
+        long cutOffFromEpochDay = cutOffFromDate.toEpochDay();
+
+        for (PayrollInput.Leave leave : payrollInput.getLeaves()) {
+            int fromIndex = (int) Math.max(leave.getFromDate().toEpochDay() - cutOffFromEpochDay, 0);
+            int toIndex = (int) Math.min(leave.getToDate().toEpochDay() - cutOffFromEpochDay, dayTypes.length - 1);
+
+            for (int day = fromIndex; day <= toIndex; day++) {
+                leaveDays[day] = true;
+            }
+        }
+
+        int absentCount = 0;
+
+        for (int day = 0; day < dayTypes.length; day++) {
+            if (dayTypes[day] == HolidayCalendarService.DayType.REGULAR_DAY && !workedDays[day] && !leaveDays[day]) {
+                absentCount++;
+            }
+        }
+
+        return absentCount;
+    }
+
+    /**
+     * Returns the regular and special holiday pay of a cut-off in centavos. A worked regular holiday earns another 100%
+     * of the daily rate and a worked special non-working holiday another 30%, and a daily-rated employee is paid the day
+     * itself as well. An unworked regular holiday is paid 100% to a daily-rated employee only, since the monthly basic
+     * pay of the others already covers it.
+     *
+     * @return The regular holiday pay at index 0 and the special holiday pay at index 1.
+     */
+    private long[] computeHolidayPay(Rates rates, HolidayCalendarService.DayType[] dayTypes, boolean[] workedDays) {
+        long[] holidayPay = new long[2];
+        long dailyRate = PayrollComputationUtil.toCentavos(rates.getDailyCompensationRate());
+
+        if (dailyRate <= 0) {
+            return holidayPay;
+        }
+
+        boolean dailyRated = "Daily".equals(rates.getRateType());
+        long regularHolidayPercent = 0;
+        long specialHolidayPercent = 0;
+
+        for (int day = 0; day < dayTypes.length; day++) {
+            if (dayTypes[day] == HolidayCalendarService.DayType.REGULAR_HOLIDAY) {
+                if (workedDays[day]) {
+                    regularHolidayPercent += REGULAR_HOLIDAY_WORKED_PREMIUM_PERCENT + (dailyRated ? HOLIDAY_WORKED_DAILY_RATED_PERCENT : 0);
+                } else if (dailyRated) {
+                    regularHolidayPercent += REGULAR_HOLIDAY_UNWORKED_DAILY_RATED_PERCENT;
+                }
+            } else if (dayTypes[day] == HolidayCalendarService.DayType.SPECIAL_HOLIDAY && workedDays[day]) {
+                specialHolidayPercent += SPECIAL_HOLIDAY_WORKED_PREMIUM_PERCENT + (dailyRated ? HOLIDAY_WORKED_DAILY_RATED_PERCENT : 0);
+            }
+        }
+
+        holidayPay[0] = (dailyRate * regularHolidayPercent + 50) / 100;
+        holidayPay[1] = (dailyRate * specialHolidayPercent + 50) / 100;
+
+        return holidayPay;
+    }
+
+    /**
+     * Returns the late or undertime deduction, the rest day and overtime pay and the night differential pay of a cut-off
+     * in centavos, from the attendance minutes of the employee's punches. The minutes are paid at the hourly rate, which
+     * is the daily rate over the shift hours:
+     * - Late and undertime minutes are deducted at 100%.
+     * - Rest day minutes are paid at 130%.
+     * - Overtime minutes are paid at 125% on a regular day, 169% on a rest day or special holiday and 260% on a regular
+     *   holiday.
+     * - Night differential minutes are paid another 10%.
+     *
+     * @return The late or undertime deduction at index 0, the rest day and overtime pay at index 1 and the night
+     *         differential pay at index 2.
+     */
+    private long[] computeAttendancePay(PayrollInput payrollInput, Rates rates, HolidayCalendarService.DayType[] dayTypes, LocalDate cutOffFromDate) {
+        long[] attendancePay = new long[3];
+        long dailyRate = PayrollComputationUtil.toCentavos(rates.getDailyCompensationRate());
+        List<PayrollInput.Punch> punches = payrollInput.getPunches();
+
+        if (dailyRate <= 0 || punches.isEmpty()) {
+            return attendancePay;
+        }
+
+        // The punches are already sorted by date and time, and are passed as minutes from the start of the cut-off.
+        int[] punchMinutes = new int[punches.size()];
+        boolean[] timeIns = new boolean[punches.size()];
+        long cutOffFromEpochDay = cutOffFromDate.toEpochDay();
+
+        for (int i = 0; i < punches.size(); i++) {
+            PayrollInput.Punch punch = punches.get(i);
+            punchMinutes[i] = (int) (punch.getLogDate().toEpochDay() - cutOffFromEpochDay) * 1440 + punch.getLogTime().toSecondOfDay() / 60;
+            timeIns[i] = "IN".equals(punch.getLogDetail());
+        }
+
+        PayrollInput.Shift shift = payrollInput.getShift();
+        AttendanceMinutesDTO attendanceMinutesDTO = attendanceComputationService.computeAttendanceMinutes(dayTypes,
+                                                                                                          shift != null ? shift.getStartTime() : null,
+                                                                                                          shift != null ? shift.getEndTime() : null,
+                                                                                                          shift != null ? shift.getShiftHours() : 0,
+                                                                                                          punchMinutes,
+                                                                                                          timeIns,
+                                                                                                          punches.size());
+
+        long lateOrUndertimeMinutes = 0;
+        long restDayOvertimePercentMinutes = 0;
+        long nightDifferentialMinutes = 0;
+
+        for (int day = 0; day < dayTypes.length; day++) {
+            long overtimePercent = switch (dayTypes[day]) {
+                case REST_DAY -> REST_DAY_OVERTIME_PERCENT;
+                case SPECIAL_HOLIDAY -> SPECIAL_HOLIDAY_OVERTIME_PERCENT;
+                case REGULAR_HOLIDAY -> REGULAR_HOLIDAY_OVERTIME_PERCENT;
+                default -> REGULAR_DAY_OVERTIME_PERCENT;
+            };
+
+            lateOrUndertimeMinutes += attendanceMinutesDTO.lateMinutes()[day] + attendanceMinutesDTO.undertimeMinutes()[day];
+            restDayOvertimePercentMinutes += attendanceMinutesDTO.restDayMinutes()[day] * REST_DAY_PERCENT +
+                                             attendanceMinutesDTO.overtimeMinutes()[day] * overtimePercent;
+            nightDifferentialMinutes += attendanceMinutesDTO.nightDifferentialMinutes()[day];
+        }
+
+        long shiftMinutes = (shift != null && shift.getShiftHours() > 0 ? shift.getShiftHours() : STANDARD_WORK_HOURS) * 60L;
+
+        attendancePay[0] = (dailyRate * lateOrUndertimeMinutes + shiftMinutes / 2) / shiftMinutes;
+        attendancePay[1] = (dailyRate * restDayOvertimePercentMinutes + shiftMinutes * 50) / (shiftMinutes * 100);
+        attendancePay[2] = (dailyRate * nightDifferentialMinutes * NIGHT_DIFFERENTIAL_PERCENT + shiftMinutes * 50) / (shiftMinutes * 100);
+
+        return attendancePay;
+    }
+
+    /**
+     * Returns the monthly compensation that the contribution brackets are looked up with. A daily rate is multiplied by
+     * the working days in a month.
+     */
+    private BigDecimal getMonthlyCompensation(Rates rates) {
+        if ("Daily".equals(rates.getRateType())) {
+            return rates.getDailyCompensationRate().multiply(DAILY_RATED_WORKING_DAYS_PER_MONTH);
+        }
+
+        return rates.getBasicCompensationRate();
+    }
+
+    /**
+     * Returns the part of a monthly share that is deducted in one cut-off.
+     *
+     * @param scheduledShareAmount - The monthly share from the contribution schedule, or null if no schedule is effective.
+     * @param fixedShareAmount - The monthly amount to use when no schedule is effective, or null if there is none.
+     * @param cutOffsPerMonth - The number of cut-offs in a month.
+     * @return The share of the cut-off.
+     */
+    private BigDecimal getCutOffShare(BigDecimal scheduledShareAmount, BigDecimal fixedShareAmount, BigDecimal cutOffsPerMonth) {
+        BigDecimal monthlyShareAmount = scheduledShareAmount != null ? scheduledShareAmount : fixedShareAmount;
+        return monthlyShareAmount != null ? monthlyShareAmount.divide(cutOffsPerMonth, 2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+
+    /**
+     * The employee counts of a running payroll run, which the chunks update concurrently.
+     */
+    private static final class PayrollRunProgress {
+        private final AtomicInteger processedCount = new AtomicInteger();
+        private final AtomicInteger failedCount = new AtomicInteger();
+        private final AtomicLong lastPublishedTime = new AtomicLong();
+        private volatile String errorMessage;
+
+        private void recordFailure(int employeeCount, String failureMessage) {
+            failedCount.addAndGet(employeeCount);
+
+            if (errorMessage == null) {
+                errorMessage = failureMessage != null ? failureMessage : "Unknown error.";
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.distributechsolutions.hris.services.impls.payroll;
+
+import io.distributechsolutions.hris.entities.compenben.GovernmentContributions;
+import io.distributechsolutions.hris.entities.compenben.LoanDeduction;
+import io.distributechsolutions.hris.entities.compenben.Rates;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds everything the payroll engine needs to compute the payroll of one employee for a cut-off,
+ * so that the computation itself does not need to go back to the database.
+ */
+public class PayrollInput {
+    private final Rates rates;
+    private BigDecimal totalAllowanceAmount = BigDecimal.ZERO;
+    private GovernmentContributions governmentContributions;
+    private Shift shift;
+    private BigDecimal yearToDateTaxableCompensation = BigDecimal.ZERO;
+    private BigDecimal yearToDateWithholdingTax = BigDecimal.ZERO;
+    private final List<LoanDeduction> loanDeductions = new ArrayList<>();
+    private final List<Punch> punches = new ArrayList<>();
+    private final List<Leave> leaves = new ArrayList<>();
+
+    public PayrollInput(Rates rates) {
+        this.rates = rates;
+    }
+
+    public Rates getRates() {
+        return rates;
+    }
+
+    public BigDecimal getTotalAllowanceAmount() {
+        return totalAllowanceAmount;
+    }
+
+    public void setTotalAllowanceAmount(BigDecimal totalAllowanceAmount) {
+        this.totalAllowanceAmount = totalAllowanceAmount;
+    }
+
+    public GovernmentContributions getGovernmentContributions() {
+        return governmentContributions;
+    }
+
+    public void setGovernmentContributions(GovernmentContributions governmentContributions) {
+        this.governmentContributions = governmentContributions;
+    }
+
+    /**
+     * The active shift schedule of the employee, or null if the employee has none.
+     */
+    public Shift getShift() {
+        return shift;
+    }
+
+    public void setShift(Shift shift) {
+        this.shift = shift;
+    }
+
+    /**
+     * The taxable compensation of the earlier cut-offs of the year. This is only loaded for the final cut-off of the year.
+     */
+    public BigDecimal getYearToDateTaxableCompensation() {
+        return yearToDateTaxableCompensation;
+    }
+
+    public void setYearToDateTaxableCompensation(BigDecimal yearToDateTaxableCompensation) {
+        this.yearToDateTaxableCompensation = yearToDateTaxableCompensation;
+    }
+
+    /**
+     * The tax withheld in the earlier cut-offs of the year. This is only loaded for the final cut-off of the year.
+     */
+    public BigDecimal getYearToDateWithholdingTax() {
+        return yearToDateWithholdingTax;
+    }
+
+    public void setYearToDateWithholdingTax(BigDecimal yearToDateWithholdingTax) {
+        this.yearToDateWithholdingTax = yearToDateWithholdingTax;
+    }
+
+    public List<LoanDeduction> getLoanDeductions() {
+        return loanDeductions;
+    }
+
+    public List<Punch> getPunches() {
+        return punches;
+    }
+
+    public List<Leave> getLeaves() {
+        return leaves;
+    }
+
+    /**
+     * The active shift schedule of an employee, with its scheduled days as returned by PayrollComputationUtil.getScheduledDays.
+     */
+    public static class Shift {
+        private final int scheduledDays;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final int shiftHours;
+
+        public Shift(int scheduledDays, LocalTime startTime, LocalTime endTime, int shiftHours) {
+            this.scheduledDays = scheduledDays;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.shiftHours = shiftHours;
+        }
+
+        public int getScheduledDays() {
+            return scheduledDays;
+        }
+
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        public LocalTime getEndTime() {
+            return endTime;
+        }
+
+        public int getShiftHours() {
+            return shiftHours;
+        }
+    }
+
+    /**
+     * The dates of an approved leave filing, which are not counted as absences.
+     */
+    public static class Leave {
+        private final LocalDate fromDate;
+        private final LocalDate toDate;
+
+        public Leave(LocalDate fromDate, LocalDate toDate) {
+            this.fromDate = fromDate;
+            this.toDate = toDate;
+        }
+
+        public LocalDate getFromDate() {
+            return fromDate;
+        }
+
+        public LocalDate getToDate() {
+            return toDate;
+        }
+    }
+
+    /**
+     * An approved timesheet punch without the captured image, sorted by log date and time.
+     */
+    public static class Punch {
+        private final LocalDate logDate;
+        private final LocalTime logTime;
+        private final String logDetail;
+
+        public Punch(LocalDate logDate, LocalTime logTime, String logDetail) {
+            this.logDate = logDate;
+            this.logTime = logTime;
+            this.logDetail = logDetail;
+        }
+
+        public LocalDate getLogDate() {
+            return logDate;
+        }
+
+        public LocalTime getLogTime() {
+            return logTime;
+        }
+
+        public String getLogDetail() {
+            return logDetail;
+        }
+    }
+}
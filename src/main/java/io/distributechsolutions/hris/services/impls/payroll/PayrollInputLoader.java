@@ -0,0 +1,158 @@
+package io.distributechsolutions.hris.services.impls.payroll;
+
+import io.distributechsolutions.hris.entities.compenben.GovernmentContributions;
+import io.distributechsolutions.hris.entities.compenben.LoanDeduction;
+import io.distributechsolutions.hris.entities.compenben.Rates;
+import io.distributechsolutions.hris.repositories.attendance.EmployeeLeaveFilingRepository;
+import io.distributechsolutions.hris.repositories.attendance.EmployeeShiftScheduleRepository;
+import io.distributechsolutions.hris.repositories.attendance.EmployeeTimesheetRepository;
+import io.distributechsolutions.hris.repositories.compenben.AllowanceRepository;
+import io.distributechsolutions.hris.repositories.compenben.GovernmentContributionsRepository;
+import io.distributechsolutions.hris.repositories.compenben.LoanDeductionRepository;
+import io.distributechsolutions.hris.repositories.compenben.RatesRepository;
+import io.distributechsolutions.hris.repositories.payroll.EmployeePayrollRepository;
+import io.distributechsolutions.hris.utils.PayrollComputationUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Loads the payroll inputs of a whole cut-off with a fixed number of set-based queries,
+ * regardless of how many employees are included in the payroll run.
+ */
+@Component
+public class PayrollInputLoader {
+    private final Logger logger = LoggerFactory.getLogger(PayrollInputLoader.class);
+
+    private final RatesRepository ratesRepository;
+    private final AllowanceRepository allowanceRepository;
+    private final LoanDeductionRepository loanDeductionRepository;
+    private final GovernmentContributionsRepository governmentContributionsRepository;
+    private final EmployeeTimesheetRepository employeeTimesheetRepository;
+    private final EmployeeShiftScheduleRepository employeeShiftScheduleRepository;
+    private final EmployeeLeaveFilingRepository employeeLeaveFilingRepository;
+    private final EmployeePayrollRepository employeePayrollRepository;
+
+    public PayrollInputLoader(RatesRepository ratesRepository,
+                              AllowanceRepository allowanceRepository,
+                              LoanDeductionRepository loanDeductionRepository,
+                              GovernmentContributionsRepository governmentContributionsRepository,
+                              EmployeeTimesheetRepository employeeTimesheetRepository,
+                              EmployeeShiftScheduleRepository employeeShiftScheduleRepository,
+                              EmployeeLeaveFilingRepository employeeLeaveFilingRepository,
+                              EmployeePayrollRepository employeePayrollRepository) {
+        this.ratesRepository = ratesRepository;
+        this.allowanceRepository = allowanceRepository;
+        this.loanDeductionRepository = loanDeductionRepository;
+        this.governmentContributionsRepository = governmentContributionsRepository;
+        this.employeeTimesheetRepository = employeeTimesheetRepository;
+        this.employeeShiftScheduleRepository = employeeShiftScheduleRepository;
+        this.employeeLeaveFilingRepository = employeeLeaveFilingRepository;
+        this.employeePayrollRepository = employeePayrollRepository;
+    }
+
+    /**
+     * Returns the payroll inputs of every employee that has a rates record and an approved timesheet within the cut-off.
+     *
+     * @param cutOffFromDate - The start date of the cut-off.
+     * @param cutOffToDate - The end date of the cut-off.
+     * @return The payroll inputs keyed by employee ID.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, PayrollInput> load(LocalDate cutOffFromDate, LocalDate cutOffToDate) {
+        logger.info(String.format("Loading the payroll inputs for cut-off %s to %s.", cutOffFromDate, cutOffToDate));
+
+        List<Rates> ratesList = ratesRepository.findByEmployeesWithApprovedTimesheet(cutOffFromDate, cutOffToDate);
+        Map<UUID, PayrollInput> payrollInputMap = new HashMap<>(ratesList.size() * 2);
+
+        for (Rates rates : ratesList) {
+            payrollInputMap.put(rates.getEmployee().getId(), new PayrollInput(rates));
+        }
+
+        for (Object[] row : allowanceRepository.findSumOfAllowanceGroupedByEmployee()) {
+            PayrollInput payrollInput = payrollInputMap.get((UUID) row[0]);
+
+            if (payrollInput != null && row[1] != null) {
+                payrollInput.setTotalAllowanceAmount(new BigDecimal(row[1].toString()));
+            }
+        }
+
+        for (LoanDeduction loanDeduction : loanDeductionRepository.findActiveByDateRange(cutOffFromDate, cutOffToDate)) {
+            PayrollInput payrollInput = payrollInputMap.get(loanDeduction.getEmployee().getId());
+
+            if (payrollInput != null) {
+                payrollInput.getLoanDeductions().add(loanDeduction);
+            }
+        }
+
+        for (GovernmentContributions governmentContributions : governmentContributionsRepository.findByEmployeesWithApprovedTimesheet(cutOffFromDate, cutOffToDate)) {
+            PayrollInput payrollInput = payrollInputMap.get(governmentContributions.getEmployee().getId());
+
+            if (payrollInput != null) {
+                payrollInput.setGovernmentContributions(governmentContributions);
+            }
+        }
+
+        // The active shifts are sorted by the latest created first, so an employee that was left with more than one
+        // active shift is always paid on the latest one.
+        for (Object[] row : employeeShiftScheduleRepository.findActiveShiftsByEmployeesWithApprovedTimesheet(cutOffFromDate, cutOffToDate)) {
+            PayrollInput payrollInput = payrollInputMap.get((UUID) row[0]);
+
+            if (payrollInput != null && payrollInput.getShift() == null) {
+                payrollInput.setShift(new PayrollInput.Shift(PayrollComputationUtil.getScheduledDays((String) row[1]),
+                                                             (LocalTime) row[2],
+                                                             (LocalTime) row[3],
+                                                             row[4] != null ? ((Number) row[4]).intValue() : 0));
+            }
+        }
+
+        // The punches of the day before and after the cut-off are loaded too, so a night shift that crosses the start or
+        // end of the cut-off is paired with both of its punches.
+        for (Object[] row : employeeTimesheetRepository.findApprovedPunchesByLogDateRange(cutOffFromDate.minusDays(1), cutOffToDate.plusDays(1))) {
+            PayrollInput payrollInput = payrollInputMap.get((UUID) row[0]);
+
+            if (payrollInput != null) {
+                payrollInput.getPunches().add(new PayrollInput.Punch((LocalDate) row[1], (LocalTime) row[2], (String) row[3]));
+            }
+        }
+
+        for (Object[] row : employeeLeaveFilingRepository.findApprovedLeavesByDateRange(cutOffFromDate.atStartOfDay(), cutOffToDate.plusDays(1).atStartOfDay())) {
+            PayrollInput payrollInput = payrollInputMap.get((UUID) row[0]);
+
+            if (payrollInput != null) {
+                payrollInput.getLeaves().add(new PayrollInput.Leave(((LocalDateTime) row[1]).toLocalDate(), ((LocalDateTime) row[2]).toLocalDate()));
+            }
+        }
+
+        // The year-to-date totals are only needed to settle the withholding tax of the year in its final cut-off.
+        if (PayrollComputationUtil.isFinalCutOffOfYear(cutOffFromDate, cutOffToDate)) {
+            LocalDate yearStartDate = cutOffToDate.withDayOfYear(1);
+
+            for (Object[] row : employeePayrollRepository.findSumOfTaxableCompensationAndWithholdingTaxGroupedByEmployee(yearStartDate, cutOffToDate)) {
+                PayrollInput payrollInput = payrollInputMap.get((UUID) row[0]);
+
+                if (payrollInput != null && row[1] != null) {
+                    payrollInput.setYearToDateTaxableCompensation(new BigDecimal(row[1].toString()));
+                }
+
+                if (payrollInput != null && row[2] != null) {
+                    payrollInput.setYearToDateWithholdingTax(new BigDecimal(row[2].toString()));
+                }
+            }
+        }
+
+        logger.info(String.format("Payroll inputs of %s employee(s) have been loaded.", payrollInputMap.size()));
+        return payrollInputMap;
+    }
+}
@@ -0,0 +1,148 @@
+package io.distributechsolutions.hris.services.impls.payroll;
+
+import io.distributechsolutions.hris.dtos.payroll.PayrollRunDTO;
+import io.distributechsolutions.hris.entities.payroll.PayrollRun;
+import io.distributechsolutions.hris.repositories.payroll.PayrollRunRepository;
+import io.distributechsolutions.hris.services.payroll.PayrollRunService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class PayrollRunServiceImpl implements PayrollRunService {
+    private final Logger logger = LoggerFactory.getLogger(PayrollRunServiceImpl.class);
+    private final PayrollRunRepository payrollRunRepository;
+
+    public PayrollRunServiceImpl(PayrollRunRepository payrollRunRepository) {
+        this.payrollRunRepository = payrollRunRepository;
+    }
+
+    @Override
+    public void saveOrUpdate(PayrollRunDTO object) {
+        PayrollRun payrollRun;
+        String logMessage;
+
+        if (object.getId() != null) {
+            payrollRun = payrollRunRepository.getReferenceById(object.getId());
+            logMessage = "Payroll run record with ID ".concat(object.getId().toString()).concat(" has successfully updated.");
+        } else {
+            payrollRun = new PayrollRun();
+            payrollRun.setCreatedBy(object.getCreatedBy());
+            payrollRun.setDateAndTimeCreated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+            logMessage = "A new payroll run record has successfully saved in the database.";
+        }
+
+        payrollRun.setCutOffFromDate(object.getCutOffFromDate());
+        payrollRun.setCutOffToDate(object.getCutOffToDate());
+        payrollRun.setPayrollFrequency(object.getPayrollFrequency());
+        payrollRun.setRunStatus(object.getRunStatus());
+        payrollRun.setTotalEmployeeCount(object.getTotalEmployeeCount());
+        payrollRun.setProcessedEmployeeCount(object.getProcessedEmployeeCount());
+        payrollRun.setFailedEmployeeCount(object.getFailedEmployeeCount());
+        payrollRun.setDateAndTimeStarted(object.getDateAndTimeStarted());
+        payrollRun.setDateAndTimeFinished(object.getDateAndTimeFinished());
+        payrollRun.setErrorMessage(object.getErrorMessage());
+        payrollRun.setUpdatedBy(object.getUpdatedBy());
+        payrollRun.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
+
+        payrollRunRepository.save(payrollRun);
+        logger.info(logMessage);
+    }
+
+    @Override
+    public PayrollRunDTO getById(UUID id) {
+        logger.info("Getting payroll run record with ID ".concat(id.toString()).concat(" from the database."));
+        PayrollRunDTO payrollRunDTO = getPayrollRunDTO(payrollRunRepository.getReferenceById(id));
+
+        logger.info("Payroll run data transfer object has successfully returned.");
+        return payrollRunDTO;
+    }
+
+    @Override
+    public void delete(PayrollRunDTO object) {
+        logger.warn("You are about to delete a payroll run record. Doing this will permanently erase in the database.");
+
+        PayrollRun payrollRun = payrollRunRepository.getReferenceById(object.getId());
+        payrollRunRepository.delete(payrollRun);
+
+        logger.info("Payroll run record with ID ".concat(object.getId().toString()).concat(" has successfully deleted in the database."));
+    }
+
+    @Override
+    public List<PayrollRunDTO> getAll(int page, int pageSize) {
+        logger.info("Retrieving payroll run records from the database.");
+        List<PayrollRun> payrollRunList = payrollRunRepository.findAll(PageRequest.of(page, pageSize, Sort.by(Sort.Direction.DESC, "dateAndTimeCreated"))).stream().toList();
+
+        logger.info("Payroll run records successfully retrieved.");
+        List<PayrollRunDTO> payrollRunDTOList = new ArrayList<>();
+
+        for (PayrollRun payrollRun : payrollRunList) {
+            payrollRunDTOList.add(getPayrollRunDTO(payrollRun));
+        }
+
+        logger.info(String.valueOf(payrollRunList.size()).concat(" record(s) found."));
+        return payrollRunDTOList;
+    }
+
+    @Override
+    public List<PayrollRunDTO> findByParameter(String param, Pageable pageable) {
+        logger.info("Retrieving payroll run records with search parameter '%".concat(param).concat("%' from the database."));
+        List<PayrollRun> payrollRunList = payrollRunRepository.findByStringParameter(param, pageable);
+        List<PayrollRunDTO> payrollRunDTOList = new ArrayList<>();
+
+        for (PayrollRun payrollRun : payrollRunList) {
+            payrollRunDTOList.add(getPayrollRunDTO(payrollRun));
+        }
+
+        logger.info(String.valueOf(payrollRunList.size()).concat(" record(s) found."));
+        return payrollRunDTOList;
+    }
+
+    @Override
+    public long countByParameter(String param) {
+        return payrollRunRepository.countByStringParameter(param);
+    }
+
+    @Override
+    public PayrollRunDTO getLatestPayrollRun() {
+        List<PayrollRun> payrollRunList = payrollRunRepository.findLatestPayrollRuns(PageRequest.of(0, 1));
+        return payrollRunList.isEmpty() ? null : getPayrollRunDTO(payrollRunList.get(0));
+    }
+
+    /**
+     * Returns the payroll run data transfer object where values comes from the payroll run object.
+     * @param payrollRun - The payroll run object that contains values from the database.
+     * @return The payroll run data transfer object.
+     */
+    static PayrollRunDTO getPayrollRunDTO(PayrollRun payrollRun) {
+        PayrollRunDTO payrollRunDTO = new PayrollRunDTO();
+
+        payrollRunDTO.setId(payrollRun.getId());
+        payrollRunDTO.setCutOffFromDate(payrollRun.getCutOffFromDate());
+        payrollRunDTO.setCutOffToDate(payrollRun.getCutOffToDate());
+        payrollRunDTO.setPayrollFrequency(payrollRun.getPayrollFrequency());
+        payrollRunDTO.setRunStatus(payrollRun.getRunStatus());
+        payrollRunDTO.setTotalEmployeeCount(payrollRun.getTotalEmployeeCount());
+        payrollRunDTO.setProcessedEmployeeCount(payrollRun.getProcessedEmployeeCount());
+        payrollRunDTO.setFailedEmployeeCount(payrollRun.getFailedEmployeeCount());
+        payrollRunDTO.setDateAndTimeStarted(payrollRun.getDateAndTimeStarted());
+        payrollRunDTO.setDateAndTimeFinished(payrollRun.getDateAndTimeFinished());
+        payrollRunDTO.setErrorMessage(payrollRun.getErrorMessage());
+        payrollRunDTO.setCreatedBy(payrollRun.getCreatedBy());
+        payrollRunDTO.setDateAndTimeCreated(payrollRun.getDateAndTimeCreated());
+        payrollRunDTO.setUpdatedBy(payrollRun.getUpdatedBy());
+        payrollRunDTO.setDateAndTimeUpdated(payrollRun.getDateAndTimeUpdated());
+
+        return payrollRunDTO;
+    }
+}
@@ -0,0 +1,196 @@
+package io.distributechsolutions.hris.services.impls.payroll;
+
+import io.distributechsolutions.hris.entities.payroll.WithholdingTaxBracket;
+import io.distributechsolutions.hris.repositories.payroll.WithholdingTaxBracketRepository;
+import io.distributechsolutions.hris.services.payroll.WithholdingTaxService;
+import io.distributechsolutions.hris.utils.PayrollComputationUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class WithholdingTaxServiceImpl implements WithholdingTaxService {
+    private final Logger logger = LoggerFactory.getLogger(WithholdingTaxServiceImpl.class);
+
+    private static final String PAYROLL_FREQUENCY_ANNUAL = "Annual";
+
+    // The excess tax rates are kept as ten-thousandths, the scale of the rate column.
+    private static final long RATE_SCALE = 10_000L;
+
+    private final WithholdingTaxBracketRepository withholdingTaxBracketRepository;
+
+    private volatile Map<String, TaxSchedule> taxSchedules;
+
+    public WithholdingTaxServiceImpl(WithholdingTaxBracketRepository withholdingTaxBracketRepository) {
+        this.withholdingTaxBracketRepository = withholdingTaxBracketRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadTaxTables() {
+        this.getTaxSchedules();
+    }
+
+    @Override
+    public synchronized void reloadTaxTables() {
+        taxSchedules = this.loadFromDatabase();
+    }
+
+    @Override
+    public long computeWithholdingTax(String payrollFrequency, LocalDate effectiveDate, long taxableCompensation) {
+        TaxTable taxTable = this.getTaxTable(payrollFrequency, effectiveDate);
+        return taxTable != null ? taxTable.computeTax(taxableCompensation) : 0L;
+    }
+
+    @Override
+    public long computeAnnualizedWithholdingTax(String payrollFrequency,
+                                                LocalDate effectiveDate,
+                                                long taxableCompensation,
+                                                long yearToDateTaxableCompensation,
+                                                long yearToDateWithholdingTax) {
+        TaxTable annualTaxTable = this.getTaxTable(PAYROLL_FREQUENCY_ANNUAL, effectiveDate);
+
+        if (annualTaxTable == null) {
+            return this.computeWithholdingTax(payrollFrequency, effectiveDate, taxableCompensation);
+        }
+
+        return annualTaxTable.computeTax(yearToDateTaxableCompensation + taxableCompensation) - yearToDateWithholdingTax;
+    }
+
+    private TaxTable getTaxTable(String payrollFrequency, LocalDate effectiveDate) {
+        TaxSchedule taxSchedule = this.getTaxSchedules().get(payrollFrequency);
+        return taxSchedule != null ? taxSchedule.getTableEffectiveOn(effectiveDate.toEpochDay()) : null;
+    }
+
+    private Map<String, TaxSchedule> getTaxSchedules() {
+        Map<String, TaxSchedule> schedules = taxSchedules;
+
+        if (schedules == null) {
+            synchronized (this) {
+                schedules = taxSchedules;
+
+                if (schedules == null) {
+                    schedules = this.loadFromDatabase();
+                    taxSchedules = schedules;
+                }
+            }
+        }
+
+        return schedules;
+    }
+
+    private Map<String, TaxSchedule> loadFromDatabase() {
+        logger.info("Loading the withholding tax tables from the database.");
+
+        // The brackets of each payroll frequency, grouped by their effective date. The query keeps them sorted by compensation.
+        Map<String, TreeMap<LocalDate, List<WithholdingTaxBracket>>> bracketsByFrequency = new HashMap<>();
+
+        for (WithholdingTaxBracket withholdingTaxBracket : withholdingTaxBracketRepository.findAllOrderedByTable()) {
+            bracketsByFrequency.computeIfAbsent(withholdingTaxBracket.getPayrollFrequency(), payrollFrequency -> new TreeMap<>())
+                               .computeIfAbsent(withholdingTaxBracket.getEffectiveDate(), effectiveDate -> new ArrayList<>())
+                               .add(withholdingTaxBracket);
+        }
+
+        Map<String, TaxSchedule> schedules = new HashMap<>();
+        bracketsByFrequency.forEach((payrollFrequency, bracketsByEffectiveDate) -> schedules.put(payrollFrequency, new TaxSchedule(bracketsByEffectiveDate)));
+
+        logger.info(String.format("Loaded the withholding tax tables of %s payroll frequency(ies).", schedules.size()));
+        return Map.copyOf(schedules);
+    }
+
+    /**
+     * The versions of the table of one payroll frequency, sorted by their effective date, so the version that is
+     * effective on a date is found with a binary search.
+     */
+    private static final class TaxSchedule {
+        private final long[] effectiveEpochDays;
+        private final TaxTable[] taxTables;
+
+        private TaxSchedule(TreeMap<LocalDate, List<WithholdingTaxBracket>> bracketsByEffectiveDate) {
+            effectiveEpochDays = new long[bracketsByEffectiveDate.size()];
+            taxTables = new TaxTable[bracketsByEffectiveDate.size()];
+
+            int position = 0;
+
+            for (Map.Entry<LocalDate, List<WithholdingTaxBracket>> entry : bracketsByEffectiveDate.entrySet()) {
+                effectiveEpochDays[position] = entry.getKey().toEpochDay();
+                taxTables[position] = new TaxTable(entry.getValue());
+                position++;
+            }
+        }
+
+        /**
+         * Returns the version with the latest effective date on or before the given day, or null if there is none.
+         */
+        private TaxTable getTableEffectiveOn(long epochDay) {
+            int position = Arrays.binarySearch(effectiveEpochDays, epochDay);
+
+            if (position < 0) {
+                position = -position - 2;
+            }
+
+            return position < 0 ? null : taxTables[position];
+        }
+    }
+
+    /**
+     * One version of a table as parallel arrays sorted by the minimum taxable compensation of each bracket. The amounts
+     * are in centavos and the rates in ten-thousandths.
+     */
+    private static final class TaxTable {
+        private final long[] minimumTaxableCompensations;
+        private final long[] baseTaxAmounts;
+        private final long[] excessTaxRates;
+
+        private TaxTable(List<WithholdingTaxBracket> withholdingTaxBrackets) {
+            int size = withholdingTaxBrackets.size();
+
+            minimumTaxableCompensations = new long[size];
+            baseTaxAmounts = new long[size];
+            excessTaxRates = new long[size];
+
+            for (int position = 0; position < size; position++) {
+                WithholdingTaxBracket withholdingTaxBracket = withholdingTaxBrackets.get(position);
+
+                minimumTaxableCompensations[position] = PayrollComputationUtil.toCentavos(withholdingTaxBracket.getMinimumTaxableCompensation());
+                baseTaxAmounts[position] = PayrollComputationUtil.toCentavos(withholdingTaxBracket.getBaseTaxAmount());
+                excessTaxRates[position] = toRate(withholdingTaxBracket.getExcessTaxRate());
+            }
+        }
+
+        /**
+         * Returns the tax of the bracket with the highest minimum that the compensation reaches. A compensation below
+         * every bracket is not taxed.
+         */
+        private long computeTax(long taxableCompensation) {
+            int bracket = Arrays.binarySearch(minimumTaxableCompensations, taxableCompensation);
+
+            if (bracket < 0) {
+                bracket = -bracket - 2;
+            }
+
+            if (bracket < 0) {
+                return 0L;
+            }
+
+            long excessCompensation = taxableCompensation - minimumTaxableCompensations[bracket];
+            return baseTaxAmounts[bracket] + (excessCompensation * excessTaxRates[bracket] + RATE_SCALE / 2) / RATE_SCALE;
+        }
+
+        private static long toRate(BigDecimal rate) {
+            return rate != null ? rate.setScale(4, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+        }
+    }
+}
@@ -5,14 +5,13 @@ import io.distributechsolutions.hris.entities.profile.EmployeeDepartment;
 import io.distributechsolutions.hris.repositories.reference.DepartmentRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeDepartmentRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
-import io.distributechsolutions.hris.services.reference.DepartmentService;
-import io.distributechsolutions.hris.services.impls.reference.DepartmentServiceImpl;
 import io.distributechsolutions.hris.services.profile.EmployeeDepartmentService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -70,8 +69,8 @@ public class EmployeeDepartmentServiceImpl implements EmployeeDepartmentService
         EmployeeDepartmentDTO employeeDepartmentDTO = new EmployeeDepartmentDTO();
 
         employeeDepartmentDTO.setId(employeeDepartment.getId());
-        employeeDepartmentDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(employeeDepartment.getEmployee().getId()));
-        employeeDepartmentDTO.setDepartmentDTO(new DepartmentServiceImpl(departmentRepository).getById(employeeDepartment.getDepartment().getId()));
+        employeeDepartmentDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeDepartment.getEmployee()));
+        employeeDepartmentDTO.setDepartmentDTO(DTOMapperUtil.toDepartmentDTO(employeeDepartment.getDepartment()));
         employeeDepartmentDTO.setCurrentDepartment(employeeDepartment.isCurrentDepartment());
         employeeDepartmentDTO.setCreatedBy(employeeDepartment.getCreatedBy());
         employeeDepartmentDTO.setDateAndTimeCreated(employeeDepartment.getDateAndTimeCreated());
@@ -105,15 +104,12 @@ public class EmployeeDepartmentServiceImpl implements EmployeeDepartmentService
         List<EmployeeDepartmentDTO> employeeDepartmentDTOList = new ArrayList<>();
 
         if (!employeeDepartmentList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-            DepartmentService positionService = new DepartmentServiceImpl(departmentRepository);
-
             for (EmployeeDepartment employeeDepartment : employeeDepartmentList) {
                 EmployeeDepartmentDTO employeeDepartmentDTO = new EmployeeDepartmentDTO();
 
                 employeeDepartmentDTO.setId(employeeDepartment.getId());
-                employeeDepartmentDTO.setEmployeeDTO(employeeService.getById(employeeDepartment.getEmployee().getId()));
-                employeeDepartmentDTO.setDepartmentDTO(positionService.getById(employeeDepartment.getDepartment().getId()));
+                employeeDepartmentDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeDepartment.getEmployee()));
+                employeeDepartmentDTO.setDepartmentDTO(DTOMapperUtil.toDepartmentDTO(employeeDepartment.getDepartment()));
                 employeeDepartmentDTO.setCurrentDepartment(employeeDepartment.isCurrentDepartment());
                 employeeDepartmentDTO.setCreatedBy(employeeDepartment.getCreatedBy());
                 employeeDepartmentDTO.setDateAndTimeCreated(employeeDepartment.getDateAndTimeCreated());
@@ -130,30 +126,27 @@ public class EmployeeDepartmentServiceImpl implements EmployeeDepartmentService
     }
 
     @Override
-    public List<EmployeeDepartmentDTO> findByParameter(String param) {
+    public List<EmployeeDepartmentDTO> findByParameter(String param, Pageable pageable) {
         List<EmployeeDepartmentDTO> employeeDepartmentDTOList = new ArrayList<>();
         List<EmployeeDepartment> employeeDepartmentList = null;
 
         logger.info("Retrieving employee's department records with search parameter '%".concat(param).concat("%' from the database."));
 
         if (param.equalsIgnoreCase("Yes") || param.equalsIgnoreCase("No")) {
-            employeeDepartmentList = employeeDepartmentRepository.findByBooleanParameter(param.equalsIgnoreCase("Yes"));
+            employeeDepartmentList = employeeDepartmentRepository.findByBooleanParameter(param.equalsIgnoreCase("Yes"), pageable);
         } else {
-            employeeDepartmentList = employeeDepartmentRepository.findByStringParameter(param);
+            employeeDepartmentList = employeeDepartmentRepository.findByStringParameter(param, pageable);
         }
 
         if (!employeeDepartmentList.isEmpty()) {
             logger.info("Employee's department records with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-            DepartmentService positionService = new DepartmentServiceImpl(departmentRepository);
-
             for (EmployeeDepartment employeeDepartment : employeeDepartmentList) {
                 EmployeeDepartmentDTO employeeDepartmentDTO = new EmployeeDepartmentDTO();
 
                 employeeDepartmentDTO.setId(employeeDepartment.getId());
-                employeeDepartmentDTO.setEmployeeDTO(employeeService.getById(employeeDepartment.getEmployee().getId()));
-                employeeDepartmentDTO.setDepartmentDTO(positionService.getById(employeeDepartment.getDepartment().getId()));
+                employeeDepartmentDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeDepartment.getEmployee()));
+                employeeDepartmentDTO.setDepartmentDTO(DTOMapperUtil.toDepartmentDTO(employeeDepartment.getDepartment()));
                 employeeDepartmentDTO.setCurrentDepartment(employeeDepartment.isCurrentDepartment());
                 employeeDepartmentDTO.setCreatedBy(employeeDepartment.getCreatedBy());
                 employeeDepartmentDTO.setDateAndTimeCreated(employeeDepartment.getDateAndTimeCreated());
@@ -166,4 +159,13 @@ public class EmployeeDepartmentServiceImpl implements EmployeeDepartmentService
 
         return employeeDepartmentDTOList;
     }
+
+    @Override
+    public long countByParameter(String param) {
+        if (param.equalsIgnoreCase("Yes") || param.equalsIgnoreCase("No")) {
+            return employeeDepartmentRepository.countByBooleanParameter(param.equalsIgnoreCase("Yes"));
+        }
+
+        return employeeDepartmentRepository.countByStringParameter(param);
+    }
 }
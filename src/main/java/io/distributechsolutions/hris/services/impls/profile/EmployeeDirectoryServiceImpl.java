@@ -0,0 +1,568 @@
+package io.distributechsolutions.hris.services.impls.profile;
+
+import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
+import io.distributechsolutions.hris.entities.profile.Employee;
+import io.distributechsolutions.hris.repositories.admin.UserRepository;
+import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class EmployeeDirectoryServiceImpl implements EmployeeDirectoryService {
+    // The same roles as EmployeeRepository.findEmployeesWhoAreApprovers().
+    private static final Set<String> APPROVER_ROLES = Set.of("ROLE_HR_MANAGER", "ROLE_MANAGER", "ROLE_HR_SUPERVISOR", "ROLE_SUPERVISOR");
+    private static final int NGRAM_LENGTH = 3;
+    private static final Pattern SEPARATOR_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<EmployeeDTO> NAME_ORDER = Comparator.comparing(EmployeeDTO::getLastName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                                                                        .thenComparing(EmployeeDTO::getFirstName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
+    private final Logger logger = LoggerFactory.getLogger(EmployeeDirectoryServiceImpl.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final UserRepository userRepository;
+
+    // The slot of each employee in the directory and the slots of the removed employees, guarded by this service. An
+    // employee keeps its slot for as long as it is in the directory, so a change only patches the entries of its slot.
+    private final Map<UUID, Integer> employeeSlots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private Set<UUID> approverEmployeeIds = new HashSet<>();
+    private boolean loaded;
+
+    private volatile EmployeeDirectory employeeDirectory;
+
+    public EmployeeDirectoryServiceImpl(EmployeeRepository employeeRepository,
+                                        UserRepository userRepository) {
+        this.employeeRepository = employeeRepository;
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadEmployeeDirectory() {
+        this.getEmployeeDirectory();
+    }
+
+    @Override
+    public List<EmployeeDTO> findEmployees(String filter, boolean approversOnly, int offset, int limit) {
+        EmployeeDirectory directory = this.getEmployeeDirectory();
+        int[] positions = directory.find(filter, approversOnly);
+
+        int fromIndex = Math.min(offset, positions.length);
+        int toIndex = (int) Math.min((long) fromIndex + limit, positions.length);
+        List<EmployeeDTO> employeeDTOList = new ArrayList<>(toIndex - fromIndex);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            employeeDTOList.add(directory.getEmployeeDTO(positions[i]));
+        }
+
+        return employeeDTOList;
+    }
+
+    @Override
+    public int countEmployees(String filter, boolean approversOnly) {
+        return this.getEmployeeDirectory().find(filter, approversOnly).length;
+    }
+
+    @Override
+    public void refreshEmployee(EmployeeDTO employeeDTO) {
+        this.afterCommit(() -> {
+            synchronized (this) {
+                this.loadIfNeeded();
+
+                Integer slot = employeeSlots.get(employeeDTO.getId());
+
+                if (slot == null) {
+                    slot = freeSlots.isEmpty() ? employeeDirectory.getSlotCount() : freeSlots.pop();
+                    employeeSlots.put(employeeDTO.getId(), slot);
+                }
+
+                employeeDirectory = employeeDirectory.withEmployee(slot, employeeDTO, approverEmployeeIds.contains(employeeDTO.getId()));
+            }
+        });
+    }
+
+    @Override
+    public void removeEmployee(UUID employeeId) {
+        this.afterCommit(() -> {
+            synchronized (this) {
+                this.loadIfNeeded();
+
+                Integer slot = employeeSlots.remove(employeeId);
+                approverEmployeeIds.remove(employeeId);
+
+                if (slot != null) {
+                    freeSlots.push(slot);
+                    employeeDirectory = employeeDirectory.withEmployee(slot, null, false);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void refreshApprovers() {
+        this.afterCommit(() -> {
+            synchronized (this) {
+                this.loadIfNeeded();
+                approverEmployeeIds = new HashSet<>(userRepository.findEmployeeIdsByRoles(APPROVER_ROLES));
+                employeeDirectory = employeeDirectory.withApprovers(approverEmployeeIds);
+            }
+        });
+    }
+
+    private EmployeeDirectory getEmployeeDirectory() {
+        EmployeeDirectory directory = employeeDirectory;
+
+        if (directory == null) {
+            synchronized (this) {
+                this.loadIfNeeded();
+                directory = employeeDirectory;
+            }
+        }
+
+        return directory;
+    }
+
+    private void loadIfNeeded() {
+        if (loaded) {
+            return;
+        }
+
+        logger.info("Loading the employee directory from the database.");
+
+        List<EmployeeDTO> employeeDTOList = new ArrayList<>();
+
+        for (Employee employee : employeeRepository.findAll()) {
+            employeeSlots.put(employee.getId(), employeeDTOList.size());
+            employeeDTOList.add(DTOMapperUtil.toEmployeeDTO(employee));
+        }
+
+        approverEmployeeIds = new HashSet<>(userRepository.findEmployeeIdsByRoles(APPROVER_ROLES));
+        employeeDirectory = new EmployeeDirectory(employeeDTOList, approverEmployeeIds);
+        loaded = true;
+
+        logger.info(String.format("The employee directory has %s employee(s) and %s approver(s).", employeeDTOList.size(), approverEmployeeIds.size()));
+    }
+
+    /**
+     * Runs the directory update after the current transaction is committed, so a rolled back save or delete never
+     * reaches the directory. Without a transaction the update runs right away.
+     */
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * An immutable snapshot of the employee directory. Each employee has a slot in the slot arrays, and the name order
+     * is kept apart as the slots sorted by name, so a match is returned as its position in that order. Each employee's
+     * search key (employee number and names in lower case) is indexed twice: by its trigrams for filters of three or
+     * more characters, and by its sorted words for the shorter filters, which are matched as word prefixes with a
+     * binary search. Both indexes point to slots, so changing one employee only moves that employee in the name order
+     * and patches the postings of its own trigrams and words, while the other entries are shared with the previous
+     * snapshot.
+     */
+    private static final class EmployeeDirectory {
+        // By slot, where the slot of a removed employee is null until it is reused.
+        private final EmployeeDTO[] employeeDTOs;
+        private final String[] searchKeys;
+        private final BitSet approvers;
+
+        private final int[] slotsByPosition;
+        private final int[] positionsBySlot;
+
+        private final Map<String, int[]> ngramSlots;
+        private final String[] words;
+        private final int[] wordSlots;
+
+        private EmployeeDirectory(List<EmployeeDTO> employeeDTOList, Set<UUID> approverEmployeeIds) {
+            int size = employeeDTOList.size();
+
+            employeeDTOs = employeeDTOList.toArray(new EmployeeDTO[0]);
+            searchKeys = new String[size];
+            approvers = new BitSet(size);
+
+            Map<String, List<Integer>> ngramSlotLists = new HashMap<>();
+            List<String> wordList = new ArrayList<>();
+            List<Integer> wordSlotList = new ArrayList<>();
+
+            for (int slot = 0; slot < size; slot++) {
+                searchKeys[slot] = searchKeyOf(employeeDTOs[slot]);
+                approvers.set(slot, approverEmployeeIds.contains(employeeDTOs[slot].getId()));
+
+                for (String ngram : ngramsOf(searchKeys[slot])) {
+                    ngramSlotLists.computeIfAbsent(ngram, key -> new ArrayList<>()).add(slot);
+                }
+
+                for (String word : wordsOf(searchKeys[slot])) {
+                    wordList.add(word);
+                    wordSlotList.add(slot);
+                }
+            }
+
+            Integer[] nameOrder = new Integer[size];
+            Arrays.setAll(nameOrder, slot -> slot);
+            Arrays.sort(nameOrder, Comparator.comparing(slot -> employeeDTOs[slot], NAME_ORDER));
+
+            slotsByPosition = Arrays.stream(nameOrder).mapToInt(Integer::intValue).toArray();
+            positionsBySlot = new int[size];
+
+            for (int position = 0; position < size; position++) {
+                positionsBySlot[slotsByPosition[position]] = position;
+            }
+
+            ngramSlots = new HashMap<>(ngramSlotLists.size() * 2);
+            ngramSlotLists.forEach((ngram, slotList) -> ngramSlots.put(ngram, slotList.stream().mapToInt(Integer::intValue).toArray()));
+
+            Integer[] wordOrder = new Integer[wordList.size()];
+            Arrays.setAll(wordOrder, index -> index);
+            Arrays.sort(wordOrder, Comparator.comparing(wordList::get));
+
+            words = new String[wordOrder.length];
+            wordSlots = new int[wordOrder.length];
+
+            for (int i = 0; i < wordOrder.length; i++) {
+                words[i] = wordList.get(wordOrder[i]);
+                wordSlots[i] = wordSlotList.get(wordOrder[i]);
+            }
+        }
+
+        private EmployeeDirectory(EmployeeDTO[] employeeDTOs,
+                                  String[] searchKeys,
+                                  BitSet approvers,
+                                  int[] slotsByPosition,
+                                  int[] positionsBySlot,
+                                  Map<String, int[]> ngramSlots,
+                                  String[] words,
+                                  int[] wordSlots) {
+            this.employeeDTOs = employeeDTOs;
+            this.searchKeys = searchKeys;
+            this.approvers = approvers;
+            this.slotsByPosition = slotsByPosition;
+            this.positionsBySlot = positionsBySlot;
+            this.ngramSlots = ngramSlots;
+            this.words = words;
+            this.wordSlots = wordSlots;
+        }
+
+        private int getSlotCount() {
+            return employeeDTOs.length;
+        }
+
+        /**
+         * Returns a copy of the directory with the employee of the slot replaced, or removed if the employee is null.
+         */
+        private EmployeeDirectory withEmployee(int slot, EmployeeDTO employeeDTO, boolean approver) {
+            int slotCount = Math.max(employeeDTOs.length, slot + 1);
+            String oldSearchKey = slot < searchKeys.length ? searchKeys[slot] : null;
+            String newSearchKey = employeeDTO != null ? searchKeyOf(employeeDTO) : null;
+
+            EmployeeDTO[] newEmployeeDTOs = Arrays.copyOf(employeeDTOs, slotCount);
+            String[] newSearchKeys = Arrays.copyOf(searchKeys, slotCount);
+            BitSet newApprovers = (BitSet) approvers.clone();
+
+            newEmployeeDTOs[slot] = employeeDTO;
+            newSearchKeys[slot] = newSearchKey;
+            newApprovers.set(slot, approver);
+
+            // Take the slot out of the name order and insert it again after the employees with the same name.
+            int[] newPositionsBySlot = Arrays.copyOf(positionsBySlot, slotCount);
+            Arrays.fill(newPositionsBySlot, positionsBySlot.length, slotCount, -1);
+
+            int oldPosition = newPositionsBySlot[slot];
+            int[] newSlotsByPosition = oldPosition < 0 ? slotsByPosition : removeAt(slotsByPosition, oldPosition);
+            int firstMovedPosition = oldPosition < 0 ? newSlotsByPosition.length : oldPosition;
+
+            if (employeeDTO != null) {
+                int newPosition = upperBound(newSlotsByPosition, employeeDTO);
+                newSlotsByPosition = insertAt(newSlotsByPosition, newPosition, slot);
+                firstMovedPosition = Math.min(firstMovedPosition, newPosition);
+            } else {
+                newPositionsBySlot[slot] = -1;
+            }
+
+            for (int position = firstMovedPosition; position < newSlotsByPosition.length; position++) {
+                newPositionsBySlot[newSlotsByPosition[position]] = position;
+            }
+
+            if (Objects.equals(oldSearchKey, newSearchKey)) {
+                return new EmployeeDirectory(newEmployeeDTOs, newSearchKeys, newApprovers, newSlotsByPosition, newPositionsBySlot, ngramSlots, words, wordSlots);
+            }
+
+            // Only the postings of the trigrams that the search key lost or gained are copied.
+            Set<String> oldNgrams = oldSearchKey != null ? ngramsOf(oldSearchKey) : Set.of();
+            Set<String> newNgrams = newSearchKey != null ? ngramsOf(newSearchKey) : Set.of();
+            Map<String, int[]> newNgramSlots = new HashMap<>(ngramSlots);
+
+            for (String ngram : oldNgrams) {
+                if (!newNgrams.contains(ngram)) {
+                    int[] slots = removeAt(ngramSlots.get(ngram), Arrays.binarySearch(ngramSlots.get(ngram), slot));
+
+                    if (slots.length == 0) {
+                        newNgramSlots.remove(ngram);
+                    } else {
+                        newNgramSlots.put(ngram, slots);
+                    }
+                }
+            }
+
+            for (String ngram : newNgrams) {
+                if (!oldNgrams.contains(ngram)) {
+                    int[] slots = ngramSlots.getOrDefault(ngram, new int[0]);
+                    newNgramSlots.put(ngram, insertAt(slots, -Arrays.binarySearch(slots, slot) - 1, slot));
+                }
+            }
+
+            // Merge the sorted words of the new search key into the words of the other employees.
+            String[] addedWords = newSearchKey != null ? wordsOf(newSearchKey).toArray(new String[0]) : new String[0];
+            Arrays.sort(addedWords);
+
+            int keptWordCount = 0;
+
+            for (int wordSlot : wordSlots) {
+                keptWordCount += wordSlot == slot ? 0 : 1;
+            }
+
+            String[] newWords = new String[keptWordCount + addedWords.length];
+            int[] newWordSlots = new int[newWords.length];
+            int wordIndex = 0;
+            int addedWordIndex = 0;
+
+            for (int i = 0; i < newWords.length; i++) {
+                while (wordIndex < words.length && wordSlots[wordIndex] == slot) {
+                    wordIndex++;
+                }
+
+                if (addedWordIndex < addedWords.length && (wordIndex == words.length || addedWords[addedWordIndex].compareTo(words[wordIndex]) < 0)) {
+                    newWords[i] = addedWords[addedWordIndex++];
+                    newWordSlots[i] = slot;
+                } else {
+                    newWords[i] = words[wordIndex];
+                    newWordSlots[i] = wordSlots[wordIndex++];
+                }
+            }
+
+            return new EmployeeDirectory(newEmployeeDTOs, newSearchKeys, newApprovers, newSlotsByPosition, newPositionsBySlot, newNgramSlots, newWords, newWordSlots);
+        }
+
+        /**
+         * Returns a copy of the directory with only the approvers replaced.
+         */
+        private EmployeeDirectory withApprovers(Set<UUID> approverEmployeeIds) {
+            BitSet newApprovers = new BitSet(employeeDTOs.length);
+
+            for (int slot = 0; slot < employeeDTOs.length; slot++) {
+                newApprovers.set(slot, employeeDTOs[slot] != null && approverEmployeeIds.contains(employeeDTOs[slot].getId()));
+            }
+
+            return new EmployeeDirectory(employeeDTOs, searchKeys, newApprovers, slotsByPosition, positionsBySlot, ngramSlots, words, wordSlots);
+        }
+
+        /**
+         * Returns the positions of the matching employees in ascending order, which is their name order.
+         */
+        private int[] find(String filter, boolean approversOnly) {
+            String text = filter == null ? "" : normalize(filter);
+
+            if (text.isEmpty()) {
+                return approversOnly ? this.toPositions(approvers.stream().toArray()) : positionsUpTo(slotsByPosition.length);
+            }
+
+            if (text.length() < NGRAM_LENGTH) {
+                return this.findByWordPrefix(text, approversOnly);
+            }
+
+            return this.findByNgrams(text, approversOnly);
+        }
+
+        private int[] findByWordPrefix(String prefix, boolean approversOnly) {
+            BitSet matches = new BitSet(employeeDTOs.length);
+
+            int index = Arrays.binarySearch(words, prefix);
+            index = index < 0 ? -index - 1 : index;
+
+            while (index < words.length && words[index].startsWith(prefix)) {
+                matches.set(wordSlots[index]);
+                index++;
+            }
+
+            if (approversOnly) {
+                matches.and(approvers);
+            }
+
+            return this.toPositions(matches.stream().toArray());
+        }
+
+        private int[] findByNgrams(String text, boolean approversOnly) {
+            // The employees that have every trigram of the filter are the candidates, so only the shortest slot list
+            // has to be checked against the whole filter.
+            int[] candidateSlots = null;
+
+            for (String ngram : ngramsOf(text)) {
+                int[] slots = ngramSlots.get(ngram);
+
+                if (slots == null) {
+                    return new int[0];
+                }
+
+                if (candidateSlots == null || slots.length < candidateSlots.length) {
+                    candidateSlots = slots;
+                }
+            }
+
+            int[] matchingSlots = new int[candidateSlots.length];
+            int matchCount = 0;
+
+            for (int slot : candidateSlots) {
+                if ((!approversOnly || approvers.get(slot)) && searchKeys[slot].contains(text)) {
+                    matchingSlots[matchCount++] = slot;
+                }
+            }
+
+            return this.toPositions(Arrays.copyOf(matchingSlots, matchCount));
+        }
+
+        private int[] toPositions(int[] slots) {
+            int[] positions = new int[slots.length];
+
+            for (int i = 0; i < slots.length; i++) {
+                positions[i] = positionsBySlot[slots[i]];
+            }
+
+            Arrays.sort(positions);
+            return positions;
+        }
+
+        /**
+         * Returns the first position in the name order whose employee sorts after the given employee.
+         */
+        private int upperBound(int[] slotsInNameOrder, EmployeeDTO employeeDTO) {
+            int low = 0;
+            int high = slotsInNameOrder.length;
+
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+
+                if (NAME_ORDER.compare(employeeDTOs[slotsInNameOrder[middle]], employeeDTO) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            return low;
+        }
+
+        private EmployeeDTO getEmployeeDTO(int position) {
+            EmployeeDTO storedEmployeeDTO = employeeDTOs[slotsByPosition[position]];
+            EmployeeDTO employeeDTO = new EmployeeDTO();
+
+            employeeDTO.setId(storedEmployeeDTO.getId());
+            employeeDTO.setEmployeeNumber(storedEmployeeDTO.getEmployeeNumber());
+            employeeDTO.setLastName(storedEmployeeDTO.getLastName());
+            employeeDTO.setFirstName(storedEmployeeDTO.getFirstName());
+            employeeDTO.setMiddleName(storedEmployeeDTO.getMiddleName());
+            employeeDTO.setSuffix(storedEmployeeDTO.getSuffix());
+            employeeDTO.setGender(storedEmployeeDTO.getGender());
+            employeeDTO.setDateHired(storedEmployeeDTO.getDateHired());
+
+            return employeeDTO;
+        }
+
+        private static String searchKeyOf(EmployeeDTO employeeDTO) {
+            return normalize(Stream.of(employeeDTO.getEmployeeNumber(),
+                                       employeeDTO.getLastName(),
+                                       employeeDTO.getSuffix(),
+                                       employeeDTO.getFirstName(),
+                                       employeeDTO.getMiddleName())
+                                   .filter(Objects::nonNull)
+                                   .collect(Collectors.joining(" ")));
+        }
+
+        /**
+         * Returns the text in lower case with its punctuation turned into single spaces, so that a filter typed as
+         * "dela cruz, juan" or "2024-0001" matches the same way as the search keys.
+         */
+        private static String normalize(String text) {
+            return SEPARATOR_PATTERN.matcher(text.toLowerCase()).replaceAll(" ").trim();
+        }
+
+        private static Set<String> ngramsOf(String text) {
+            Set<String> ngrams = new LinkedHashSet<>();
+
+            for (int i = 0; i + NGRAM_LENGTH <= text.length(); i++) {
+                ngrams.add(text.substring(i, i + NGRAM_LENGTH));
+            }
+
+            return ngrams;
+        }
+
+        private static List<String> wordsOf(String searchKey) {
+            List<String> wordList = new ArrayList<>();
+
+            for (String word : searchKey.split(" ")) {
+                if (!word.isEmpty()) {
+                    wordList.add(word);
+                }
+            }
+
+            return wordList;
+        }
+
+        private static int[] positionsUpTo(int size) {
+            int[] positions = new int[size];
+            Arrays.setAll(positions, position -> position);
+
+            return positions;
+        }
+
+        private static int[] removeAt(int[] values, int index) {
+            int[] newValues = new int[values.length - 1];
+            System.arraycopy(values, 0, newValues, 0, index);
+            System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+
+            return newValues;
+        }
+
+        private static int[] insertAt(int[] values, int index, int value) {
+            int[] newValues = new int[values.length + 1];
+            System.arraycopy(values, 0, newValues, 0, index);
+            newValues[index] = value;
+            System.arraycopy(values, index, newValues, index + 1, values.length - index);
+
+            return newValues;
+        }
+    }
+}
@@ -7,11 +7,12 @@ import io.distributechsolutions.hris.entities.profile.EmployeeDocument;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeDocumentRepository;
 import io.distributechsolutions.hris.services.profile.EmployeeDocumentService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -69,7 +70,7 @@ public class EmployeeDocumentServiceImpl implements EmployeeDocumentService {
         EmployeeDocumentDTO employeeDocumentDTO = new EmployeeDocumentDTO();
 
         employeeDocumentDTO.setId(employeeDocument.getId());
-        employeeDocumentDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(employeeDocument.getEmployee().getId()));
+        employeeDocumentDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeDocument.getEmployee()));
         employeeDocumentDTO.setDocumentType(employeeDocument.getDocumentType());
         employeeDocumentDTO.setFileName(employeeDocument.getFileName());
         employeeDocumentDTO.setFileData(employeeDocument.getFileData());
@@ -108,13 +109,46 @@ public class EmployeeDocumentServiceImpl implements EmployeeDocumentService {
         List<EmployeeDocumentDTO> employeeDocumentDTOList = new ArrayList<>();
 
         if (!employeeDocumentList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
+            for (EmployeeDocument employeeDocument : employeeDocumentList) {
+                EmployeeDocumentDTO employeeDocumentDTO = new EmployeeDocumentDTO();
+
+                employeeDocumentDTO.setId(employeeDocument.getId());
+                employeeDocumentDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeDocument.getEmployee()));
+                employeeDocumentDTO.setDocumentType(employeeDocument.getDocumentType());
+                employeeDocumentDTO.setFileName(employeeDocument.getFileName());
+                employeeDocumentDTO.setFileData(employeeDocument.getFileData());
+                employeeDocumentDTO.setFileType(employeeDocument.getFileType());
+                employeeDocumentDTO.setRemarks(employeeDocument.getRemarks());
+                employeeDocumentDTO.setExpirationDate(employeeDocument.getExpirationDate());
+                employeeDocumentDTO.setCreatedBy(employeeDocument.getCreatedBy());
+                employeeDocumentDTO.setDateAndTimeCreated(employeeDocument.getDateAndTimeCreated());
+                employeeDocumentDTO.setUpdatedBy(employeeDocument.getUpdatedBy());
+                employeeDocumentDTO.setDateAndTimeUpdated(employeeDocument.getDateAndTimeUpdated());
+
+                employeeDocumentDTOList.add(employeeDocumentDTO);
+            }
+
+            logger.info(String.valueOf(employeeDocumentList.size()).concat(" record(s) found."));
+        }
+
+        return employeeDocumentDTOList;
+    }
+
+    @Override
+    public List<EmployeeDocumentDTO> findByParameter(String param, Pageable pageable) {
+        List<EmployeeDocumentDTO> employeeDocumentDTOList = new ArrayList<>();
+
+        logger.info("Retrieving employee's requirement records with search parameter '%".concat(param).concat("%' from the database."));
+        List<EmployeeDocument> employeeDocumentList = employeeDocumentRepository.findByStringParameter(param, pageable);
+
+        if (!employeeDocumentList.isEmpty()) {
+            logger.info("Employee's requirement records with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
             for (EmployeeDocument employeeDocument : employeeDocumentList) {
                 EmployeeDocumentDTO employeeDocumentDTO = new EmployeeDocumentDTO();
 
                 employeeDocumentDTO.setId(employeeDocument.getId());
-                employeeDocumentDTO.setEmployeeDTO(employeeService.getById(employeeDocument.getEmployee().getId()));
+                employeeDocumentDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeDocument.getEmployee()));
                 employeeDocumentDTO.setDocumentType(employeeDocument.getDocumentType());
                 employeeDocumentDTO.setFileName(employeeDocument.getFileName());
                 employeeDocumentDTO.setFileData(employeeDocument.getFileData());
@@ -136,8 +170,8 @@ public class EmployeeDocumentServiceImpl implements EmployeeDocumentService {
     }
 
     @Override
-    public List<EmployeeDocumentDTO> findByParameter(String param) {
-        return List.of();
+    public long countByParameter(String param) {
+        return employeeDocumentRepository.countByStringParameter(param);
     }
 
     @Override
@@ -150,13 +184,11 @@ public class EmployeeDocumentServiceImpl implements EmployeeDocumentService {
         List<EmployeeDocumentDTO> employeeDocumentDTOList = new ArrayList<>();
 
         if (!employeeDocumentList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-
             for (EmployeeDocument employeeDocument : employeeDocumentList) {
                 EmployeeDocumentDTO employeeDocumentDTO = new EmployeeDocumentDTO();
 
                 employeeDocumentDTO.setId(employeeDocument.getId());
-                employeeDocumentDTO.setEmployeeDTO(employeeService.getById(employeeDocument.getEmployee().getId()));
+                employeeDocumentDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeeDocument.getEmployee()));
                 employeeDocumentDTO.setDocumentType(employeeDocument.getDocumentType());
                 employeeDocumentDTO.setFileName(employeeDocument.getFileName());
                 employeeDocumentDTO.setFileData(employeeDocument.getFileData());
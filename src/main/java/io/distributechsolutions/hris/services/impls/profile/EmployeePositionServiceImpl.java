@@ -5,14 +5,13 @@ import io.distributechsolutions.hris.entities.profile.EmployeePosition;
 import io.distributechsolutions.hris.repositories.reference.PositionRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeePositionRepository;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
-import io.distributechsolutions.hris.services.reference.PositionService;
-import io.distributechsolutions.hris.services.impls.reference.PositionServiceImpl;
 import io.distributechsolutions.hris.services.profile.EmployeePositionService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -70,8 +69,8 @@ public class EmployeePositionServiceImpl implements EmployeePositionService {
         EmployeePositionDTO employeePositionDTO = new EmployeePositionDTO();
 
         employeePositionDTO.setId(employeePosition.getId());
-        employeePositionDTO.setEmployeeDTO(new EmployeeServiceImpl(employeeRepository).getById(employeePosition.getEmployee().getId()));
-        employeePositionDTO.setPositionDTO(new PositionServiceImpl(positionRepository).getById(employeePosition.getPosition().getId()));
+        employeePositionDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeePosition.getEmployee()));
+        employeePositionDTO.setPositionDTO(DTOMapperUtil.toPositionDTO(employeePosition.getPosition()));
         employeePositionDTO.setCurrentPosition(employeePosition.isCurrentPosition());
         employeePositionDTO.setCreatedBy(employeePosition.getCreatedBy());
         employeePositionDTO.setDateAndTimeCreated(employeePosition.getDateAndTimeCreated());
@@ -105,15 +104,12 @@ public class EmployeePositionServiceImpl implements EmployeePositionService {
         List<EmployeePositionDTO> employeePositionDTOList = new ArrayList<>();
 
         if (!employeePositionList.isEmpty()) {
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-            PositionService positionService = new PositionServiceImpl(positionRepository);
-
             for (EmployeePosition employeePosition : employeePositionList) {
                 EmployeePositionDTO employeePositionDTO = new EmployeePositionDTO();
 
                 employeePositionDTO.setId(employeePosition.getId());
-                employeePositionDTO.setEmployeeDTO(employeeService.getById(employeePosition.getEmployee().getId()));
-                employeePositionDTO.setPositionDTO(positionService.getById(employeePosition.getPosition().getId()));
+                employeePositionDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeePosition.getEmployee()));
+                employeePositionDTO.setPositionDTO(DTOMapperUtil.toPositionDTO(employeePosition.getPosition()));
                 employeePositionDTO.setCurrentPosition(employeePosition.isCurrentPosition());
                 employeePositionDTO.setCreatedBy(employeePosition.getCreatedBy());
                 employeePositionDTO.setDateAndTimeCreated(employeePosition.getDateAndTimeCreated());
@@ -130,30 +126,27 @@ public class EmployeePositionServiceImpl implements EmployeePositionService {
     }
 
     @Override
-    public List<EmployeePositionDTO> findByParameter(String param) {
+    public List<EmployeePositionDTO> findByParameter(String param, Pageable pageable) {
         List<EmployeePositionDTO> employeePositionDTOList = new ArrayList<>();
         List<EmployeePosition> employeePositionList = null;
 
         logger.info("Retrieving employee's position records with search parameter '%".concat(param).concat("%' from the database."));
 
         if (param.equalsIgnoreCase("Yes") || param.equalsIgnoreCase("No")) {
-            employeePositionList = employeePositionRepository.findByBooleanParameter(param.equalsIgnoreCase("Yes"));
+            employeePositionList = employeePositionRepository.findByBooleanParameter(param.equalsIgnoreCase("Yes"), pageable);
         } else {
-            employeePositionList = employeePositionRepository.findByStringParameter(param);
+            employeePositionList = employeePositionRepository.findByStringParameter(param, pageable);
         }
 
         if (!employeePositionList.isEmpty()) {
             logger.info("Employee's position records with parameter '%".concat(param).concat("%' has successfully retrieved."));
 
-            EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository);
-            PositionService positionService = new PositionServiceImpl(positionRepository);
-
             for (EmployeePosition employeePosition : employeePositionList) {
                 EmployeePositionDTO employeePositionDTO = new EmployeePositionDTO();
 
                 employeePositionDTO.setId(employeePosition.getId());
-                employeePositionDTO.setEmployeeDTO(employeeService.getById(employeePosition.getEmployee().getId()));
-                employeePositionDTO.setPositionDTO(positionService.getById(employeePosition.getPosition().getId()));
+                employeePositionDTO.setEmployeeDTO(DTOMapperUtil.toEmployeeDTO(employeePosition.getEmployee()));
+                employeePositionDTO.setPositionDTO(DTOMapperUtil.toPositionDTO(employeePosition.getPosition()));
                 employeePositionDTO.setCurrentPosition(employeePosition.isCurrentPosition());
                 employeePositionDTO.setCreatedBy(employeePosition.getCreatedBy());
                 employeePositionDTO.setDateAndTimeCreated(employeePosition.getDateAndTimeCreated());
@@ -166,4 +159,13 @@ public class EmployeePositionServiceImpl implements EmployeePositionService {
 
         return employeePositionDTOList;
     }
+
+    @Override
+    public long countByParameter(String param) {
+        if (param.equalsIgnoreCase("Yes") || param.equalsIgnoreCase("No")) {
+            return employeePositionRepository.countByBooleanParameter(param.equalsIgnoreCase("Yes"));
+        }
+
+        return employeePositionRepository.countByStringParameter(param);
+    }
 }
@@ -1,13 +1,19 @@
 package io.distributechsolutions.hris.services.impls.profile;
 
+import io.distributechsolutions.hris.configs.SearchIndexConfig;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
+import io.distributechsolutions.hris.dtos.profile.EmployeeListDTO;
 import io.distributechsolutions.hris.entities.profile.Employee;
 import io.distributechsolutions.hris.repositories.profile.EmployeeRepository;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
 import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.utils.DTOMapperUtil;
+import io.distributechsolutions.hris.utils.SearchUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -20,9 +26,15 @@ import java.util.UUID;
 public class EmployeeServiceImpl implements EmployeeService {
     private final Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
     private final EmployeeRepository employeeRepository;
+    private final EmployeeDirectoryService employeeDirectoryService;
+    private final SearchIndexConfig searchIndexConfig;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository,
+                               EmployeeDirectoryService employeeDirectoryService,
+                               SearchIndexConfig searchIndexConfig) {
         this.employeeRepository = employeeRepository;
+        this.employeeDirectoryService = employeeDirectoryService;
+        this.searchIndexConfig = searchIndexConfig;
     }
 
     @Override
@@ -53,7 +65,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         employee.setUpdatedBy(object.getUpdatedBy());
         employee.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
 
-        employeeRepository.save(employee);
+        employee = employeeRepository.save(employee);
+        employeeDirectoryService.refreshEmployee(DTOMapperUtil.toEmployeeDTO(employee));
         logger.info(logMessage);
     }
 
@@ -63,7 +76,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee employee = employeeRepository.getReferenceById(id);
 
         logger.info("Employee record with ID ".concat(id.toString()).concat(" has successfully retrieved."));
-        EmployeeDTO employeeDTO = getEmployeeDTO(employee);
+        EmployeeDTO employeeDTO = DTOMapperUtil.toEmployeeDTO(employee);
 
         logger.info("Employee data transfer object has successfully returned.");
         return employeeDTO;
@@ -75,6 +88,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         Employee employee = employeeRepository.getReferenceById(object.getId());
         employeeRepository.delete(employee);
+        employeeDirectoryService.removeEmployee(object.getId());
 
         logger.info("Employee record with ID ".concat(object.getId().toString()).concat(" has successfully deleted in the database."));
     }
@@ -89,7 +103,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         if (!employeeList.isEmpty()) {
             for (Employee employee : employeeList) {
-                EmployeeDTO employeeDTO = getEmployeeDTO(employee);
+                EmployeeDTO employeeDTO = DTOMapperUtil.toEmployeeDTO(employee);
                 employeeDTOList.add(employeeDTO);
             }
 
@@ -100,16 +114,17 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
-    public List<EmployeeDTO> findByParameter(String param) {
+    public List<EmployeeDTO> findByParameter(String param, Pageable pageable) {
         logger.info("Retrieving employee records with search parameter '%".concat(param).concat("%' from the database."));
-        List<Employee> employeeList = employeeRepository.findEmployeesByParameter(param);
+        List<UUID> employeeIds = this.findEmployeeIdsBySearchParameter(param, pageable);
+        List<Employee> employeeList = SearchUtil.orderByIds(employeeRepository.findAllById(employeeIds), employeeIds, Employee::getId);
 
         logger.info("Employee records with parameter '%".concat(param).concat("%' has successfully retrieved."));
         List<EmployeeDTO> employeeDTOList = new ArrayList<>();
 
         if (!employeeList.isEmpty()) {
             for (Employee employee : employeeList) {
-                EmployeeDTO employeeDTO = getEmployeeDTO(employee);
+                EmployeeDTO employeeDTO = DTOMapperUtil.toEmployeeDTO(employee);
                 employeeDTOList.add(employeeDTO);
             }
 
@@ -119,6 +134,17 @@ public class EmployeeServiceImpl implements EmployeeService {
         return employeeDTOList;
     }
 
+    @Override
+    public long countByParameter(String param) {
+        SearchUtil.SearchTerm searchTerm = SearchUtil.parseSearchTerm(param);
+
+        return switch (searchTerm.type()) {
+            case DATE -> employeeRepository.countByDateHired(searchTerm.date());
+            case EMPLOYEE_NUMBER -> employeeRepository.countByEmployeeNumber(searchTerm.text());
+            default -> employeeRepository.countByText(searchTerm.text());
+        };
+    }
+
     @Override
     public List<EmployeeDTO> getEmployeesWhoAreApprovers() {
         logger.info("Retrieving employees who are approvers from the database.");
@@ -129,7 +155,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         if (!employeeList.isEmpty()) {
             for (Employee employee : employeeList) {
-                EmployeeDTO employeeDTO = getEmployeeDTO(employee);
+                EmployeeDTO employeeDTO = DTOMapperUtil.toEmployeeDTO(employee);
                 employeeDTOList.add(employeeDTO);
             }
 
@@ -139,27 +165,44 @@ public class EmployeeServiceImpl implements EmployeeService {
         return employeeDTOList;
     }
 
+    @Override
+    public List<EmployeeListDTO> getEmployeeList(int page, int pageSize) {
+        logger.info("Retrieving employee list from the database.");
+        List<EmployeeListDTO> employeeListDTOList = employeeRepository.findEmployeeList(PageRequest.of(page, pageSize));
+
+        logger.info(String.valueOf(employeeListDTOList.size()).concat(" record(s) found."));
+
+        return employeeListDTOList;
+    }
+
+    @Override
+    public List<EmployeeListDTO> findEmployeeListByParameter(String param, Pageable pageable) {
+        logger.info("Retrieving employee list with search parameter '%".concat(param).concat("%' from the database."));
+        List<UUID> employeeIds = this.findEmployeeIdsBySearchParameter(param, pageable);
+        List<EmployeeListDTO> employeeListDTOList = SearchUtil.orderByIds(employeeRepository.findEmployeeListByIds(employeeIds), employeeIds, EmployeeListDTO::id);
+
+        logger.info(String.valueOf(employeeListDTOList.size()).concat(" record(s) found."));
+
+        return employeeListDTOList;
+    }
+
     /**
-     * Returns the employee data transfer object where values comes from the employee object.
-     * @param employee - The employee object that contains values from the database.
-     * @return The employee data transfer object.
+     * Returns the ids of the employees that match the search parameter. The search parameter is matched by its kind:
+     * a date by the date hired, an employee number by its prefix and any other text by the employee number and name.
+     * The same kinds are counted by {@link #countByParameter(String)}.
+     *
+     * @param param - The search parameter.
+     * @param pageable - The page number and page size.
+     * @return The ids of the matching employees of the page, best match first when the pg_trgm extension is installed.
      */
-    private static EmployeeDTO getEmployeeDTO(Employee employee) {
-        EmployeeDTO employeeDTO = new EmployeeDTO();
-
-        employeeDTO.setId(employee.getId());
-        employeeDTO.setEmployeeNumber(employee.getEmployeeNumber());
-        employeeDTO.setLastName(employee.getLastName());
-        employeeDTO.setFirstName(employee.getFirstName());
-        employeeDTO.setMiddleName(employee.getMiddleName());
-        employeeDTO.setSuffix(employee.getSuffix());
-        employeeDTO.setGender(employee.getGender());
-        employeeDTO.setDateHired(employee.getDateHired());
-        employeeDTO.setCreatedBy(employee.getCreatedBy());
-        employeeDTO.setDateAndTimeCreated(employee.getDateAndTimeCreated());
-        employeeDTO.setUpdatedBy(employee.getUpdatedBy());
-        employeeDTO.setDateAndTimeUpdated(employee.getDateAndTimeUpdated());
-
-        return employeeDTO;
+    private List<UUID> findEmployeeIdsBySearchParameter(String param, Pageable pageable) {
+        SearchUtil.SearchTerm searchTerm = SearchUtil.parseSearchTerm(param);
+
+        return switch (searchTerm.type()) {
+            case DATE -> employeeRepository.findEmployeeIdsByDateHired(searchTerm.date(), pageable);
+            case EMPLOYEE_NUMBER -> employeeRepository.findEmployeeIdsByEmployeeNumber(searchTerm.text(), pageable);
+            default -> searchIndexConfig.isTrigramExtensionInstalled() ? employeeRepository.findEmployeeIdsByText(searchTerm.text(), pageable)
+                                                                       : employeeRepository.findEmployeeIdsByTextUnranked(searchTerm.text(), pageable);
+        };
     }
 }
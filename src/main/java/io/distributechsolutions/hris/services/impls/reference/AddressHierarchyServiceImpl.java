@@ -0,0 +1,436 @@
+package io.distributechsolutions.hris.services.impls.reference;
+
+import io.distributechsolutions.hris.dtos.reference.BarangayDTO;
+import io.distributechsolutions.hris.dtos.reference.MunicipalityDTO;
+import io.distributechsolutions.hris.dtos.reference.ProvinceDTO;
+import io.distributechsolutions.hris.dtos.reference.RegionDTO;
+import io.distributechsolutions.hris.entities.reference.Barangay;
+import io.distributechsolutions.hris.entities.reference.Municipality;
+import io.distributechsolutions.hris.entities.reference.Province;
+import io.distributechsolutions.hris.entities.reference.Region;
+import io.distributechsolutions.hris.repositories.reference.BarangayRepository;
+import io.distributechsolutions.hris.repositories.reference.MunicipalityRepository;
+import io.distributechsolutions.hris.repositories.reference.ProvinceRepository;
+import io.distributechsolutions.hris.repositories.reference.RegionRepository;
+import io.distributechsolutions.hris.services.reference.AddressHierarchyService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+@Service
+public class AddressHierarchyServiceImpl implements AddressHierarchyService {
+    private final Logger logger = LoggerFactory.getLogger(AddressHierarchyServiceImpl.class);
+
+    private final RegionRepository regionRepository;
+    private final ProvinceRepository provinceRepository;
+    private final MunicipalityRepository municipalityRepository;
+    private final BarangayRepository barangayRepository;
+
+    private volatile AddressHierarchy addressHierarchy;
+
+    public AddressHierarchyServiceImpl(RegionRepository regionRepository,
+                                       ProvinceRepository provinceRepository,
+                                       MunicipalityRepository municipalityRepository,
+                                       BarangayRepository barangayRepository) {
+        this.regionRepository = regionRepository;
+        this.provinceRepository = provinceRepository;
+        this.municipalityRepository = municipalityRepository;
+        this.barangayRepository = barangayRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAddressHierarchy() {
+        this.getAddressHierarchy();
+    }
+
+    @Override
+    public RegionDTO getRegionById(Long id) {
+        AddressLevel regions = this.getAddressHierarchy().regions();
+        int position = regions.indexOfId(id);
+
+        return position < 0 ? null : toRegionDTO(regions, position);
+    }
+
+    @Override
+    public ProvinceDTO getProvinceById(Long id) {
+        AddressLevel provinces = this.getAddressHierarchy().provinces();
+        int position = provinces.indexOfId(id);
+
+        return position < 0 ? null : toProvinceDTO(provinces, position);
+    }
+
+    @Override
+    public MunicipalityDTO getMunicipalityById(Long id) {
+        AddressLevel municipalities = this.getAddressHierarchy().municipalities();
+        int position = municipalities.indexOfId(id);
+
+        return position < 0 ? null : toMunicipalityDTO(municipalities, position);
+    }
+
+    @Override
+    public BarangayDTO getBarangayById(Long id) {
+        AddressLevel barangays = this.getAddressHierarchy().barangays();
+        int position = barangays.indexOfId(id);
+
+        return position < 0 ? null : toBarangayDTO(barangays, position);
+    }
+
+    @Override
+    public List<RegionDTO> getRegions() {
+        AddressLevel regions = this.getAddressHierarchy().regions();
+        return getPage(regions, 0, regions.size(), position -> toRegionDTO(regions, position));
+    }
+
+    @Override
+    public List<ProvinceDTO> getProvinces(int offset, int limit) {
+        AddressLevel provinces = this.getAddressHierarchy().provinces();
+        return getPage(provinces, offset, limit, position -> toProvinceDTO(provinces, position));
+    }
+
+    @Override
+    public List<MunicipalityDTO> getMunicipalities(int offset, int limit) {
+        AddressLevel municipalities = this.getAddressHierarchy().municipalities();
+        return getPage(municipalities, offset, limit, position -> toMunicipalityDTO(municipalities, position));
+    }
+
+    @Override
+    public List<BarangayDTO> getBarangays(int offset, int limit) {
+        AddressLevel barangays = this.getAddressHierarchy().barangays();
+        return getPage(barangays, offset, limit, position -> toBarangayDTO(barangays, position));
+    }
+
+    @Override
+    public List<ProvinceDTO> getProvincesByRegionCode(Long regionCode) {
+        AddressHierarchy hierarchy = this.getAddressHierarchy();
+        return getChildren(hierarchy.regions(),
+                           regionCode,
+                           hierarchy.regionProvinces(),
+                           position -> toProvinceDTO(hierarchy.provinces(), position));
+    }
+
+    @Override
+    public List<MunicipalityDTO> getMunicipalitiesByProvinceCode(Long provinceCode) {
+        AddressHierarchy hierarchy = this.getAddressHierarchy();
+        return getChildren(hierarchy.provinces(),
+                           provinceCode,
+                           hierarchy.provinceMunicipalities(),
+                           position -> toMunicipalityDTO(hierarchy.municipalities(), position));
+    }
+
+    @Override
+    public List<BarangayDTO> getBarangaysByMunicipalityCode(Long municipalityCode) {
+        AddressHierarchy hierarchy = this.getAddressHierarchy();
+        return getChildren(hierarchy.municipalities(),
+                           municipalityCode,
+                           hierarchy.municipalityBarangays(),
+                           position -> toBarangayDTO(hierarchy.barangays(), position));
+    }
+
+    private AddressHierarchy getAddressHierarchy() {
+        AddressHierarchy hierarchy = addressHierarchy;
+
+        if (hierarchy == null) {
+            synchronized (this) {
+                hierarchy = addressHierarchy;
+
+                if (hierarchy == null) {
+                    hierarchy = this.loadFromDatabase();
+                    addressHierarchy = hierarchy;
+                }
+            }
+        }
+
+        return hierarchy;
+    }
+
+    private AddressHierarchy loadFromDatabase() {
+        logger.info("Loading the address hierarchy from the database.");
+
+        // Many barangays and municipalities share the same name, so each distinct description is only kept once.
+        Map<String, String> descriptionPool = new HashMap<>();
+
+        AddressLevel regions = new AddressLevel(regionRepository.findAll().stream().map(AddressHierarchyServiceImpl::toAddressRow).toList(), descriptionPool);
+        AddressLevel provinces = new AddressLevel(provinceRepository.findAll().stream().map(AddressHierarchyServiceImpl::toAddressRow).toList(), descriptionPool);
+        AddressLevel municipalities = new AddressLevel(municipalityRepository.findAll().stream().map(AddressHierarchyServiceImpl::toAddressRow).toList(), descriptionPool);
+        AddressLevel barangays = new AddressLevel(barangayRepository.findAll().stream().map(AddressHierarchyServiceImpl::toAddressRow).toList(), descriptionPool);
+
+        AddressHierarchy hierarchy = new AddressHierarchy(regions,
+                                                          provinces,
+                                                          municipalities,
+                                                          barangays,
+                                                          new ChildIndex(regions, provinces.regionCodes),
+                                                          new ChildIndex(provinces, municipalities.provinceCodes),
+                                                          new ChildIndex(municipalities, barangays.municipalityCodes));
+
+        logger.info(String.format("Loaded %s region(s), %s province(s), %s municipality(ies) and %s barangay(s) into the address hierarchy.",
+                                  regions.size(), provinces.size(), municipalities.size(), barangays.size()));
+
+        return hierarchy;
+    }
+
+    private static AddressRow toAddressRow(Region region) {
+        return new AddressRow(region.getId(),
+                              region.getPsgCode(),
+                              region.getRegionCode(),
+                              region.getRegionDescription(),
+                              region.getRegionCode(),
+                              0L,
+                              0L);
+    }
+
+    private static AddressRow toAddressRow(Province province) {
+        return new AddressRow(province.getId(),
+                              province.getPsgCode(),
+                              province.getProvinceCode(),
+                              province.getProvinceDescription(),
+                              province.getRegionCode(),
+                              province.getProvinceCode(),
+                              0L);
+    }
+
+    private static AddressRow toAddressRow(Municipality municipality) {
+        return new AddressRow(municipality.getId(),
+                              municipality.getPsgCode(),
+                              municipality.getMunicipalityCode(),
+                              municipality.getMunicipalityDescription(),
+                              municipality.getRegionCode(),
+                              municipality.getProvinceCode(),
+                              municipality.getMunicipalityCode());
+    }
+
+    private static AddressRow toAddressRow(Barangay barangay) {
+        return new AddressRow(barangay.getId(),
+                              0L,
+                              barangay.getBarangayCode(),
+                              barangay.getBarangayDescription(),
+                              barangay.getRegionCode(),
+                              barangay.getProvinceCode(),
+                              barangay.getMunicipalityCode());
+    }
+
+    private static <T> List<T> getPage(AddressLevel level, int offset, int limit, IntFunction<T> dtoMapper) {
+        int fromIndex = Math.min(Math.max(offset, 0), level.size());
+        int toIndex = (int) Math.min((long) fromIndex + Math.max(limit, 0), level.size());
+        List<T> dtoList = new ArrayList<>(toIndex - fromIndex);
+
+        for (int position = fromIndex; position < toIndex; position++) {
+            dtoList.add(dtoMapper.apply(position));
+        }
+
+        return dtoList;
+    }
+
+    private static <T> List<T> getChildren(AddressLevel parentLevel, Long parentCode, ChildIndex childIndex, IntFunction<T> dtoMapper) {
+        int parentPosition = parentCode != null ? parentLevel.indexOfCode(parentCode) : -1;
+
+        if (parentPosition < 0) {
+            return new ArrayList<>();
+        }
+
+        int fromIndex = childIndex.offsets[parentPosition];
+        int toIndex = childIndex.offsets[parentPosition + 1];
+        List<T> dtoList = new ArrayList<>(toIndex - fromIndex);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            dtoList.add(dtoMapper.apply(childIndex.positions[i]));
+        }
+
+        return dtoList;
+    }
+
+    private static RegionDTO toRegionDTO(AddressLevel regions, int position) {
+        RegionDTO regionDTO = new RegionDTO();
+
+        regionDTO.setId(regions.ids[position]);
+        regionDTO.setPsgCode(regions.psgCodes[position]);
+        regionDTO.setRegionDescription(regions.descriptions[position]);
+        regionDTO.setRegionCode(regions.codes[position]);
+
+        return regionDTO;
+    }
+
+    private static ProvinceDTO toProvinceDTO(AddressLevel provinces, int position) {
+        ProvinceDTO provinceDTO = new ProvinceDTO();
+
+        provinceDTO.setId(provinces.ids[position]);
+        provinceDTO.setPsgCode(provinces.psgCodes[position]);
+        provinceDTO.setProvinceDescription(provinces.descriptions[position]);
+        provinceDTO.setRegionCode(provinces.regionCodes[position]);
+        provinceDTO.setProvinceCode(provinces.codes[position]);
+
+        return provinceDTO;
+    }
+
+    private static MunicipalityDTO toMunicipalityDTO(AddressLevel municipalities, int position) {
+        MunicipalityDTO municipalityDTO = new MunicipalityDTO();
+
+        municipalityDTO.setId(municipalities.ids[position]);
+        municipalityDTO.setPsgCode(municipalities.psgCodes[position]);
+        municipalityDTO.setMunicipalityDescription(municipalities.descriptions[position]);
+        municipalityDTO.setRegionCode(municipalities.regionCodes[position]);
+        municipalityDTO.setProvinceCode(municipalities.provinceCodes[position]);
+        municipalityDTO.setMunicipalityCode(municipalities.codes[position]);
+
+        return municipalityDTO;
+    }
+
+    private static BarangayDTO toBarangayDTO(AddressLevel barangays, int position) {
+        BarangayDTO barangayDTO = new BarangayDTO();
+
+        barangayDTO.setId(barangays.ids[position]);
+        barangayDTO.setBarangayCode(barangays.codes[position]);
+        barangayDTO.setBarangayDescription(barangays.descriptions[position]);
+        barangayDTO.setRegionCode(barangays.regionCodes[position]);
+        barangayDTO.setProvinceCode(barangays.provinceCodes[position]);
+        barangayDTO.setMunicipalityCode(barangays.municipalityCodes[position]);
+
+        return barangayDTO;
+    }
+
+    /**
+     * One row of a level of the hierarchy while it is being built. The codes of the parent levels that don't apply
+     * (such as the province code of a region) and the PSG code of a barangay are zero.
+     */
+    private record AddressRow(long id,
+                              long psgCode,
+                              long code,
+                              String description,
+                              long regionCode,
+                              long provinceCode,
+                              long municipalityCode) {
+    }
+
+    /**
+     * The whole hierarchy, which is never changed once it is built.
+     */
+    private record AddressHierarchy(AddressLevel regions,
+                                    AddressLevel provinces,
+                                    AddressLevel municipalities,
+                                    AddressLevel barangays,
+                                    ChildIndex regionProvinces,
+                                    ChildIndex provinceMunicipalities,
+                                    ChildIndex municipalityBarangays) {
+    }
+
+    /**
+     * One level of the hierarchy as parallel arrays sorted by code, so a code is found with a binary search. The ids
+     * are sorted separately, with the position of each id in the code order.
+     */
+    private static final class AddressLevel {
+        private final long[] ids;
+        private final long[] psgCodes;
+        private final long[] codes;
+        private final String[] descriptions;
+        private final long[] regionCodes;
+        private final long[] provinceCodes;
+        private final long[] municipalityCodes;
+
+        private final long[] sortedIds;
+        private final int[] sortedIdPositions;
+
+        private AddressLevel(List<AddressRow> addressRows, Map<String, String> descriptionPool) {
+            List<AddressRow> sortedRows = addressRows.stream()
+                                                     .sorted(Comparator.comparingLong(AddressRow::code))
+                                                     .toList();
+            int size = sortedRows.size();
+
+            ids = new long[size];
+            psgCodes = new long[size];
+            codes = new long[size];
+            descriptions = new String[size];
+            regionCodes = new long[size];
+            provinceCodes = new long[size];
+            municipalityCodes = new long[size];
+
+            for (int position = 0; position < size; position++) {
+                AddressRow addressRow = sortedRows.get(position);
+
+                ids[position] = addressRow.id();
+                psgCodes[position] = addressRow.psgCode();
+                codes[position] = addressRow.code();
+                descriptions[position] = descriptionPool.computeIfAbsent(addressRow.description(), Function.identity());
+                regionCodes[position] = addressRow.regionCode();
+                provinceCodes[position] = addressRow.provinceCode();
+                municipalityCodes[position] = addressRow.municipalityCode();
+            }
+
+            sortedIdPositions = IntStream.range(0, size)
+                                         .boxed()
+                                         .sorted(Comparator.comparingLong(position -> ids[position]))
+                                         .mapToInt(Integer::intValue)
+                                         .toArray();
+            sortedIds = new long[size];
+
+            for (int i = 0; i < size; i++) {
+                sortedIds[i] = ids[sortedIdPositions[i]];
+            }
+        }
+
+        private int size() {
+            return codes.length;
+        }
+
+        private int indexOfCode(long code) {
+            int position = Arrays.binarySearch(codes, code);
+            return position < 0 ? -1 : position;
+        }
+
+        private int indexOfId(Long id) {
+            if (id == null) {
+                return -1;
+            }
+
+            int i = Arrays.binarySearch(sortedIds, id);
+            return i < 0 ? -1 : sortedIdPositions[i];
+        }
+    }
+
+    /**
+     * The children of each parent of a level, in compressed form. The positions of the children of the parent at
+     * position p (in the child level) are positions[offsets[p]] to positions[offsets[p + 1] - 1], in code order.
+     * A child whose parent code is unknown is left out.
+     */
+    private static final class ChildIndex {
+        private final int[] offsets;
+        private final int[] positions;
+
+        private ChildIndex(AddressLevel parentLevel, long[] parentCodes) {
+            int[] parentPositions = new int[parentCodes.length];
+            offsets = new int[parentLevel.size() + 1];
+
+            for (int child = 0; child < parentCodes.length; child++) {
+                parentPositions[child] = parentLevel.indexOfCode(parentCodes[child]);
+
+                if (parentPositions[child] >= 0) {
+                    offsets[parentPositions[child] + 1]++;
+                }
+            }
+
+            for (int parent = 0; parent < parentLevel.size(); parent++) {
+                offsets[parent + 1] += offsets[parent];
+            }
+
+            positions = new int[offsets[parentLevel.size()]];
+            int[] nextPositions = Arrays.copyOf(offsets, parentLevel.size());
+
+            for (int child = 0; child < parentCodes.length; child++) {
+                if (parentPositions[child] >= 0) {
+                    positions[nextPositions[parentPositions[child]]++] = child;
+                }
+            }
+        }
+    }
+}
@@ -2,11 +2,9 @@ package io.distributechsolutions.hris.services.impls.reference;
 
 import io.distributechsolutions.hris.dtos.reference.BarangayDTO;
 import io.distributechsolutions.hris.dtos.reference.MunicipalityDTO;
-import io.distributechsolutions.hris.entities.reference.Barangay;
-import io.distributechsolutions.hris.repositories.reference.BarangayRepository;
+import io.distributechsolutions.hris.services.reference.AddressHierarchyService;
 import io.distributechsolutions.hris.services.reference.BarangayService;
 
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -14,83 +12,28 @@ import java.util.List;
 
 @Service
 public class BarangayServiceImpl implements BarangayService {
-    private final BarangayRepository barangayRepository;
+    private final AddressHierarchyService addressHierarchyService;
 
-    public BarangayServiceImpl(BarangayRepository barangayRepository) {
-        this.barangayRepository = barangayRepository;
+    public BarangayServiceImpl(AddressHierarchyService addressHierarchyService) {
+        this.addressHierarchyService = addressHierarchyService;
     }
 
     @Override
     public BarangayDTO getById(Long id) {
-        BarangayDTO barangayDTO = null;
-
-        if (id != null) {
-            Barangay barangay = barangayRepository.getReferenceById(id);
-
-            barangayDTO = new BarangayDTO();
-
-            barangayDTO.setId(barangay.getId());
-            barangayDTO.setBarangayCode(barangay.getBarangayCode());
-            barangayDTO.setBarangayDescription(barangay.getBarangayDescription());
-            barangayDTO.setMunicipalityCode(barangay.getMunicipalityCode());
-            barangayDTO.setProvinceCode(barangay.getProvinceCode());
-            barangayDTO.setRegionCode(barangay.getRegionCode());
-        }
-
-        return barangayDTO;
+        return addressHierarchyService.getBarangayById(id);
     }
 
     @Override
     public List<BarangayDTO> getAll(int page, int pageSize) {
-        List<BarangayDTO> barangayDTOList = new ArrayList<>();
-        List<Barangay> barangayList = barangayRepository.findAll(PageRequest.of(page, pageSize)).stream().toList();
-
-        if (!barangayList.isEmpty()) {
-            for (Barangay barangay : barangayList) {
-                BarangayDTO barangayDTO = new BarangayDTO();
-                barangayDTO.setId(barangay.getId());
-                barangayDTO.setBarangayCode(barangay.getBarangayCode());
-                barangayDTO.setBarangayDescription(barangay.getBarangayDescription());
-                barangayDTO.setMunicipalityCode(barangay.getMunicipalityCode());
-                barangayDTO.setProvinceCode(barangayDTO.getProvinceCode());
-                barangayDTO.setRegionCode(barangayDTO.getRegionCode());
-
-                barangayDTOList.add(barangayDTO);
-            }
-        }
-
-        return barangayDTOList;
+        return addressHierarchyService.getBarangays(page * pageSize, pageSize);
     }
 
     @Override
     public List<BarangayDTO> getBarangayByMunicipality(MunicipalityDTO municipalityDTO) {
-        List<Barangay> barangayList;
-        List<BarangayDTO> barangayDTOList = new ArrayList<>();
-
-        if (municipalityDTO != null) {
-            barangayList = barangayRepository.findBarangaysByMunicipalityCode(municipalityDTO.getMunicipalityCode());
-
-            if (!barangayList.isEmpty()) {
-                for (Barangay barangay : barangayList) {
-                    BarangayDTO barangayDTO = getBarangayDTO(barangay);
-                    barangayDTOList.add(barangayDTO);
-                }
-            }
+        if (municipalityDTO == null) {
+            return new ArrayList<>();
         }
 
-        return barangayDTOList;
-    }
-
-    private static BarangayDTO getBarangayDTO(Barangay barangay) {
-        BarangayDTO barangayDTO = new BarangayDTO();
-
-        barangayDTO.setId(barangay.getId());
-        barangayDTO.setBarangayCode(barangay.getBarangayCode());
-        barangayDTO.setBarangayDescription(barangay.getBarangayDescription());
-        barangayDTO.setRegionCode(barangay.getRegionCode());
-        barangayDTO.setProvinceCode(barangay.getProvinceCode());
-        barangayDTO.setMunicipalityCode(barangay.getMunicipalityCode());
-
-        return barangayDTO;
+        return addressHierarchyService.getBarangaysByMunicipalityCode(municipalityDTO.getMunicipalityCode());
     }
 }
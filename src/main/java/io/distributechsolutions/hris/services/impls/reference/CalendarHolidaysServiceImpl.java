@@ -3,13 +3,19 @@ package io.distributechsolutions.hris.services.impls.reference;
 import io.distributechsolutions.hris.dtos.reference.CalendarHolidaysDTO;
 import io.distributechsolutions.hris.entities.reference.CalendarHolidays;
 import io.distributechsolutions.hris.repositories.reference.CalendarHolidaysRepository;
+import io.distributechsolutions.hris.services.payroll.PayCalendarService;
+import io.distributechsolutions.hris.services.reference.HolidayCalendarService;
 import io.distributechsolutions.hris.services.reference.CalendarHolidaysService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -20,9 +26,15 @@ import java.util.UUID;
 public class CalendarHolidaysServiceImpl implements CalendarHolidaysService {
     private final Logger logger = LoggerFactory.getLogger(CalendarHolidaysServiceImpl.class);
     private final CalendarHolidaysRepository calendarHolidaysRepository;
+    private final HolidayCalendarService holidayCalendarService;
+    private final PayCalendarService payCalendarService;
 
-    public CalendarHolidaysServiceImpl(CalendarHolidaysRepository calendarHolidaysRepository) {
+    public CalendarHolidaysServiceImpl(CalendarHolidaysRepository calendarHolidaysRepository,
+                                       HolidayCalendarService holidayCalendarService,
+                                       PayCalendarService payCalendarService) {
         this.calendarHolidaysRepository = calendarHolidaysRepository;
+        this.holidayCalendarService = holidayCalendarService;
+        this.payCalendarService = payCalendarService;
     }
 
     @Override
@@ -36,6 +48,9 @@ public class CalendarHolidaysServiceImpl implements CalendarHolidaysService {
         if (object.getId() != null) {
             calendarHolidays = calendarHolidaysRepository.getReferenceById(object.getId());
             logMessage = "Calendar holiday record with ID ".concat(object.getId().toString()).concat(" has successfully updated.");
+
+            // The holiday may be moved to another year, so the pay periods of its previous date are computed again too.
+            this.evictHolidaysAfterCommit(calendarHolidays.getHolidayDate());
         } else {
             calendarHolidays = new CalendarHolidays();
             calendarHolidays.setCreatedBy(object.getCreatedBy());
@@ -51,6 +66,7 @@ public class CalendarHolidaysServiceImpl implements CalendarHolidaysService {
         calendarHolidays.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
 
         calendarHolidaysRepository.save(calendarHolidays);
+        this.evictHolidaysAfterCommit(calendarHolidays.getHolidayDate());
         logger.info(logMessage);
     }
 
@@ -80,6 +96,7 @@ public class CalendarHolidaysServiceImpl implements CalendarHolidaysService {
         logger.warn("You are about to delete a calendar holiday record. Doing this will permanently erase in the database.");
 
         CalendarHolidays calendarHolidays = calendarHolidaysRepository.getReferenceById(object.getId());
+        this.evictHolidaysAfterCommit(calendarHolidays.getHolidayDate());
         calendarHolidaysRepository.delete(calendarHolidays);
 
         logger.info("Calendar holiday record with ID ".concat(object.getId().toString()).concat(" has successfully deleted in the database."));
@@ -116,9 +133,9 @@ public class CalendarHolidaysServiceImpl implements CalendarHolidaysService {
     }
 
     @Override
-    public List<CalendarHolidaysDTO> findByParameter(String param) {
+    public List<CalendarHolidaysDTO> findByParameter(String param, Pageable pageable) {
         logger.info("Retrieving calendar holiday records from the database.");
-        List<CalendarHolidays> calendarHolidaysList = calendarHolidaysRepository.findByStringParameter(param);
+        List<CalendarHolidays> calendarHolidaysList = calendarHolidaysRepository.findByStringParameter(param, pageable);
 
         logger.info("Calendar holiday records successfully retrieved.");
         List<CalendarHolidaysDTO> calendarHolidaysDTOList = new ArrayList<>();
@@ -144,4 +161,33 @@ public class CalendarHolidaysServiceImpl implements CalendarHolidaysService {
 
         return calendarHolidaysDTOList;
     }
+
+    @Override
+    public long countByParameter(String param) {
+        return calendarHolidaysRepository.countByStringParameter(param);
+    }
+
+    /**
+     * Evicts the holidays and the pay periods around the year of the holiday date once the transaction commits, so they
+     * are never loaded again from holidays that are not committed yet. The holidays are evicted first, since the pay
+     * periods are computed from them.
+     */
+    private void evictHolidaysAfterCommit(LocalDate holidayDate) {
+        if (holidayDate == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    holidayCalendarService.evictHolidays(holidayDate.getYear());
+                    payCalendarService.evictPayPeriods(holidayDate.getYear());
+                }
+            });
+        } else {
+            holidayCalendarService.evictHolidays(holidayDate.getYear());
+            payCalendarService.evictPayPeriods(holidayDate.getYear());
+        }
+    }
 }
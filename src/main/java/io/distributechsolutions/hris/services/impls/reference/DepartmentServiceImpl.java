@@ -7,6 +7,7 @@ import io.distributechsolutions.hris.services.reference.DepartmentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -112,11 +113,11 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
-    public List<DepartmentDTO> findByParameter(String param) {
+    public List<DepartmentDTO> findByParameter(String param, Pageable pageable) {
         logger.info("Retrieving department records with search parameter '%".concat(param).concat("%' from the database."));
 
         List<DepartmentDTO> departmentDTOList = new ArrayList<>();
-        List<Department> departmentList = departmentRepository.findByStringParameter(param);
+        List<Department> departmentList = departmentRepository.findByStringParameter(param, pageable);
 
         if (!departmentList.isEmpty()) {
             logger.info("Department records with parameter '%".concat(param).concat("%' has successfully retrieved."));
@@ -138,4 +139,9 @@ public class DepartmentServiceImpl implements DepartmentService {
 
         return departmentDTOList;
     }
+
+    @Override
+    public long countByParameter(String param) {
+        return departmentRepository.countByStringParameter(param);
+    }
 }
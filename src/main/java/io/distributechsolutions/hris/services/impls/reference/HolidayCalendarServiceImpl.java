@@ -0,0 +1,147 @@
+package io.distributechsolutions.hris.services.impls.reference;
+
+import io.distributechsolutions.hris.repositories.reference.CalendarHolidaysRepository;
+import io.distributechsolutions.hris.services.reference.HolidayCalendarService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Service
+public class HolidayCalendarServiceImpl implements HolidayCalendarService {
+    private final Logger logger = LoggerFactory.getLogger(HolidayCalendarServiceImpl.class);
+
+    private static final String HOLIDAY_TYPE_REGULAR = "Regular Holiday";
+    private static final String HOLIDAY_TYPE_SPECIAL_NON_WORKING = "Special Non-Working Holiday";
+
+    // The years whose holidays are kept. The holidays of other years are loaded on every call.
+    private static final int MINIMUM_CACHED_YEAR = 2000;
+    private static final int MAXIMUM_CACHED_YEAR = 2199;
+
+    private final CalendarHolidaysRepository calendarHolidaysRepository;
+
+    private final AtomicReferenceArray<HolidayYear> holidayYears = new AtomicReferenceArray<>(MAXIMUM_CACHED_YEAR - MINIMUM_CACHED_YEAR + 1);
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public HolidayCalendarServiceImpl(CalendarHolidaysRepository calendarHolidaysRepository) {
+        this.calendarHolidaysRepository = calendarHolidaysRepository;
+    }
+
+    @Override
+    public boolean isRegularHoliday(LocalDate date) {
+        return this.getHolidayYear(date.getYear()).regularHolidays().get(date.getDayOfYear() - 1);
+    }
+
+    @Override
+    public boolean isSpecialHoliday(LocalDate date) {
+        return this.getHolidayYear(date.getYear()).specialHolidays().get(date.getDayOfYear() - 1);
+    }
+
+    @Override
+    public DayType[] classifyDays(LocalDate fromDate, LocalDate toDate, int scheduledDays) {
+        int dayCount = (int) (toDate.toEpochDay() - fromDate.toEpochDay() + 1);
+        DayType[] dayTypes = new DayType[Math.max(dayCount, 0)];
+
+        if (dayCount <= 0) {
+            return dayTypes;
+        }
+
+        // Walk the days by their index in the year and day of the week, so no date is created for each day.
+        int year = fromDate.getYear();
+        int yearLength = fromDate.lengthOfYear();
+        int dayOfYearIndex = fromDate.getDayOfYear() - 1;
+        int dayOfWeekIndex = fromDate.getDayOfWeek().getValue() - 1;
+        HolidayYear holidayYear = this.getHolidayYear(year);
+
+        for (int day = 0; day < dayCount; day++) {
+            if (dayOfYearIndex == yearLength) {
+                year++;
+                yearLength = Year.of(year).length();
+                dayOfYearIndex = 0;
+                holidayYear = this.getHolidayYear(year);
+            }
+
+            if (holidayYear.regularHolidays().get(dayOfYearIndex)) {
+                dayTypes[day] = DayType.REGULAR_HOLIDAY;
+            } else if (holidayYear.specialHolidays().get(dayOfYearIndex)) {
+                dayTypes[day] = DayType.SPECIAL_HOLIDAY;
+            } else if ((scheduledDays & (1 << dayOfWeekIndex)) == 0) {
+                dayTypes[day] = DayType.REST_DAY;
+            } else {
+                dayTypes[day] = DayType.REGULAR_DAY;
+            }
+
+            dayOfYearIndex++;
+            dayOfWeekIndex = (dayOfWeekIndex + 1) % 7;
+        }
+
+        return dayTypes;
+    }
+
+    @Override
+    public void evictHolidays(int year) {
+        evictionCount.incrementAndGet();
+
+        if (year >= MINIMUM_CACHED_YEAR && year <= MAXIMUM_CACHED_YEAR) {
+            holidayYears.set(year - MINIMUM_CACHED_YEAR, null);
+        }
+
+        logger.info(String.format("The holidays of %s have been evicted.", year));
+    }
+
+    private HolidayYear getHolidayYear(int year) {
+        if (year < MINIMUM_CACHED_YEAR || year > MAXIMUM_CACHED_YEAR) {
+            return this.loadFromDatabase(year);
+        }
+
+        HolidayYear holidayYear = holidayYears.get(year - MINIMUM_CACHED_YEAR);
+
+        if (holidayYear == null) {
+            // The holidays that were loaded while a holiday changed are used once but not kept, since they may be stale.
+            long evictionCountBefore = evictionCount.get();
+            holidayYear = this.loadFromDatabase(year);
+
+            if (evictionCount.get() == evictionCountBefore) {
+                holidayYears.compareAndSet(year - MINIMUM_CACHED_YEAR, null, holidayYear);
+            }
+        }
+
+        return holidayYear;
+    }
+
+    private HolidayYear loadFromDatabase(int year) {
+        BitSet regularHolidays = new BitSet(366);
+        BitSet specialHolidays = new BitSet(366);
+
+        for (Object[] row : calendarHolidaysRepository.findHolidayDatesAndTypesByDateRange(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))) {
+            int dayOfYearIndex = ((LocalDate) row[0]).getDayOfYear() - 1;
+            String holidayType = (String) row[1];
+
+            if (HOLIDAY_TYPE_REGULAR.equalsIgnoreCase(holidayType)) {
+                regularHolidays.set(dayOfYearIndex);
+            } else if (HOLIDAY_TYPE_SPECIAL_NON_WORKING.equalsIgnoreCase(holidayType)) {
+                specialHolidays.set(dayOfYearIndex);
+            }
+        }
+
+        // A day that is both kinds of holiday is paid as a regular holiday.
+        specialHolidays.andNot(regularHolidays);
+
+        logger.info(String.format("Loaded %s regular and %s special non-working holiday(s) of %s.",
+                                  regularHolidays.cardinality(), specialHolidays.cardinality(), year));
+
+        return new HolidayYear(regularHolidays, specialHolidays);
+    }
+
+    /**
+     * The holidays of one year, with one bit per day of the year. The bit sets are never changed once they are loaded.
+     */
+    private record HolidayYear(BitSet regularHolidays, BitSet specialHolidays) {
+    }
+}
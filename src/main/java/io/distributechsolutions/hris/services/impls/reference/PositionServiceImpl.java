@@ -7,6 +7,7 @@ import io.distributechsolutions.hris.services.reference.PositionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -91,8 +92,6 @@ public class PositionServiceImpl implements PositionService {
         List<PositionDTO> positionDTOList = new ArrayList<>();
 
         if (!positionList.isEmpty()) {
-            PositionService positionService = new PositionServiceImpl(positionRepository);
-
             for (Position position : positionList) {
                 PositionDTO positionDTO = new PositionDTO();
 
@@ -114,11 +113,11 @@ public class PositionServiceImpl implements PositionService {
     }
 
     @Override
-    public List<PositionDTO> findByParameter(String param) {
+    public List<PositionDTO> findByParameter(String param, Pageable pageable) {
         logger.info("Retrieving position records with search parameter '%".concat(param).concat("%' from the database."));
 
         List<PositionDTO> positionDTOList = new ArrayList<>();
-        List<Position> positionList = positionRepository.findByStringParameter(param);
+        List<Position> positionList = positionRepository.findByStringParameter(param, pageable);
 
         if (!positionList.isEmpty()) {
             logger.info("Position records with parameter '%".concat(param).concat("%' has successfully retrieved."));
@@ -140,4 +139,9 @@ public class PositionServiceImpl implements PositionService {
 
         return positionDTOList;
     }
+
+    @Override
+    public long countByParameter(String param) {
+        return positionRepository.countByStringParameter(param);
+    }
 }
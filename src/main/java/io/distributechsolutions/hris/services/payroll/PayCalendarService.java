@@ -0,0 +1,96 @@
+package io.distributechsolutions.hris.services.payroll;
+
+import io.distributechsolutions.hris.dtos.payroll.PayPeriodDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The pay periods of each payroll frequency (Weekly, Semi-Monthly and Monthly) per year. A weekly period belongs to the
+ * year that it ends in, a semi-monthly period is the first or second half of a month and a monthly period is a whole
+ * month. The periods of a year are computed once with their working days and holidays, so the lookups below don't
+ * recompute any date arithmetic. A working day is a day that is neither a rest day nor a regular or special non-working
+ * holiday, and the holidays of a period are counted the same way.
+ */
+public interface PayCalendarService {
+    /**
+     * Returns the pay period that contains the given date.
+     *
+     * @param payrollFrequency - The payroll frequency.
+     * @param date - The date.
+     * @return The pay period.
+     */
+    PayPeriodDTO getPayPeriod(String payrollFrequency, LocalDate date);
+
+    /**
+     * Returns the pay period of any payroll frequency that starts and ends on the given dates. The weekly periods are
+     * checked first, then the semi-monthly and the monthly periods.
+     *
+     * @param startDate - The first date of the pay period.
+     * @param endDate - The last date of the pay period.
+     * @return The pay period, or null if no pay period starts and ends on the given dates.
+     */
+    PayPeriodDTO findPayPeriod(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the pay periods of a year, in order.
+     *
+     * @param payrollFrequency - The payroll frequency.
+     * @param year - The year.
+     * @return The pay periods of the year.
+     */
+    List<PayPeriodDTO> getPayPeriods(String payrollFrequency, int year);
+
+    /**
+     * Returns the cut-off ID of the pay period that contains the given date, which is its year times 100 plus its
+     * number within the year (such as 202403 for the third period of 2024).
+     *
+     * @param payrollFrequency - The payroll frequency.
+     * @param date - The date.
+     * @return The cut-off ID.
+     */
+    int getCutOffId(String payrollFrequency, LocalDate date);
+
+    /**
+     * Returns the number of working days of the pay period that contains the given date.
+     *
+     * @param payrollFrequency - The payroll frequency.
+     * @param date - The date.
+     * @return The number of working days.
+     */
+    int getWorkingDays(String payrollFrequency, LocalDate date);
+
+    /**
+     * Returns the number of pay periods that end in the month of the given date, which splits the monthly deductions
+     * across the cut-offs of the month. A month has four or five weekly periods.
+     *
+     * @param payrollFrequency - The payroll frequency.
+     * @param date - The date.
+     * @return The number of pay periods of the month.
+     */
+    int getPayPeriodCountOfMonth(String payrollFrequency, LocalDate date);
+
+    /**
+     * Returns the number of working days between two dates, both included.
+     *
+     * @param fromDate - The first date.
+     * @param toDate - The last date.
+     * @return The number of working days, or zero if the last date is before the first.
+     */
+    int countWorkingDays(LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Returns the days of the week that are not rest days, for an employee who has no shift schedule of their own.
+     *
+     * @return The bit mask of the working days of the week, as returned by PayrollComputationUtil.getScheduledDays.
+     */
+    int getScheduledDays();
+
+    /**
+     * Discards the computed pay periods around the given year, so they are computed again with the current holidays.
+     * Call this after a calendar holiday of that year is changed.
+     *
+     * @param year - The year of the holiday.
+     */
+    void evictPayPeriods(int year);
+}
@@ -0,0 +1,37 @@
+package io.distributechsolutions.hris.services.payroll;
+
+import io.distributechsolutions.hris.dtos.payroll.PayrollRunDTO;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+public interface PayrollEngineService {
+    /**
+     * Queues a payroll run for every employee that has an approved timesheet within the given cut-off dates.
+     * The run is executed off the calling thread, where the employees are partitioned into chunks that are
+     * computed in parallel and saved in one transaction per chunk. The cut-off must be a pay period of the pay
+     * calendar, which gives the run its payroll frequency.
+     *
+     * @param cutOffFromDate - The start date of the cut-off.
+     * @param cutOffToDate - The end date of the cut-off.
+     * @param generatedBy - The username of the user who generated the payroll.
+     * @return The payroll run that has been queued, or that has failed if the payroll job queue is full.
+     * @throws IllegalArgumentException If the cut-off is not a weekly, semi-monthly or monthly pay period.
+     */
+    PayrollRunDTO submitPayrollRun(LocalDate cutOffFromDate, LocalDate cutOffToDate, String generatedBy);
+
+    /**
+     * Registers a listener that receives the state of a payroll run every time its status or progress changes.
+     * The listener is called from the payroll threads.
+     *
+     * @param listener - The payroll run listener.
+     */
+    void addPayrollRunListener(Consumer<PayrollRunDTO> listener);
+
+    /**
+     * Unregisters a payroll run listener.
+     *
+     * @param listener - The payroll run listener.
+     */
+    void removePayrollRunListener(Consumer<PayrollRunDTO> listener);
+}
@@ -0,0 +1,11 @@
+package io.distributechsolutions.hris.services.payroll;
+
+import io.distributechsolutions.hris.dtos.payroll.PayrollRunDTO;
+import io.distributechsolutions.hris.services.BaseService;
+
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PayrollRunService extends BaseService<PayrollRunDTO> {
+    @Transactional
+    PayrollRunDTO getLatestPayrollRun();
+}
@@ -0,0 +1,43 @@
+package io.distributechsolutions.hris.services.payroll;
+
+import java.time.LocalDate;
+
+/**
+ * The effective-dated withholding tax tables of each payroll frequency, built from the withholding tax bracket table.
+ * The tables are held in memory and work on whole centavos, so the payroll engine can compute the tax of every
+ * employee without querying the database or creating big decimals.
+ */
+public interface WithholdingTaxService {
+    /**
+     * Reloads the tables from the withholding tax bracket table. Call this after the brackets are changed.
+     */
+    void reloadTaxTables();
+
+    /**
+     * Returns the tax to be withheld from the taxable compensation of one cut-off.
+     *
+     * @param payrollFrequency - The payroll frequency of the cut-off, as resolved by PayCalendarService.findPayPeriod.
+     * @param effectiveDate - The date that the table must be effective on, such as the end of the cut-off.
+     * @param taxableCompensation - The taxable compensation of the cut-off in centavos.
+     * @return The tax in centavos, or zero if no table of the payroll frequency is effective on the date.
+     */
+    long computeWithholdingTax(String payrollFrequency, LocalDate effectiveDate, long taxableCompensation);
+
+    /**
+     * Returns the tax to be withheld in the final cut-off of the year, which settles the tax due on the whole year. The
+     * annual tax of the year-to-date taxable compensation, this cut-off included, is reduced by the tax that was already
+     * withheld in the earlier cut-offs. The result is negative when too much was withheld, which is refunded.
+     *
+     * @param payrollFrequency - The payroll frequency of the cut-off, used when no annual table is effective.
+     * @param effectiveDate - The date that the table must be effective on, such as the end of the cut-off.
+     * @param taxableCompensation - The taxable compensation of the cut-off in centavos.
+     * @param yearToDateTaxableCompensation - The taxable compensation of the earlier cut-offs of the year in centavos.
+     * @param yearToDateWithholdingTax - The tax withheld in the earlier cut-offs of the year in centavos.
+     * @return The tax in centavos. If no annual table is effective on the date, the tax of the cut-off alone.
+     */
+    long computeAnnualizedWithholdingTax(String payrollFrequency,
+                                         LocalDate effectiveDate,
+                                         long taxableCompensation,
+                                         long yearToDateTaxableCompensation,
+                                         long yearToDateWithholdingTax);
+}
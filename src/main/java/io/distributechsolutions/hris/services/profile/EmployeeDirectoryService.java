@@ -0,0 +1,54 @@
+package io.distributechsolutions.hris.services.profile;
+
+import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An in-memory directory of all the employees that backs the employee combo boxes and pickers. The employees are
+ * loaded once and kept up to date by the employee and user services, so opening or filtering a picker never queries
+ * the employee table.
+ */
+public interface EmployeeDirectoryService {
+    /**
+     * Returns a page of the employees that match the filter, sorted by last name and first name. A filter of one or two
+     * characters matches the start of the employee number or of any name, and a longer filter matches any part of them.
+     *
+     * @param filter - The text typed in the combo box, or an empty string for all the employees.
+     * @param approversOnly - Whether only the employees with an approver role are returned.
+     * @param offset - The index of the first employee to be returned.
+     * @param limit - The maximum number of employees to be returned.
+     * @return The matching employees.
+     */
+    List<EmployeeDTO> findEmployees(String filter, boolean approversOnly, int offset, int limit);
+
+    /**
+     * Returns the number of employees that match the filter, which is the size of a lazy combo box.
+     *
+     * @param filter - The text typed in the combo box, or an empty string for all the employees.
+     * @param approversOnly - Whether only the employees with an approver role are counted.
+     * @return The number of matching employees.
+     */
+    int countEmployees(String filter, boolean approversOnly);
+
+    /**
+     * Adds or replaces the employee in the directory once the current transaction is committed.
+     *
+     * @param employeeDTO - The saved employee.
+     */
+    void refreshEmployee(EmployeeDTO employeeDTO);
+
+    /**
+     * Removes the employee from the directory once the current transaction is committed.
+     *
+     * @param employeeId - The id of the deleted employee.
+     */
+    void removeEmployee(UUID employeeId);
+
+    /**
+     * Reloads which employees have an approver role once the current transaction is committed. This is called when
+     * a user account is saved or deleted, since the approver role belongs to the user account of the employee.
+     */
+    void refreshApprovers();
+}
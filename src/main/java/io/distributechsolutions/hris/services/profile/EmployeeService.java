@@ -1,10 +1,31 @@
 package io.distributechsolutions.hris.services.profile;
 
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
+import io.distributechsolutions.hris.dtos.profile.EmployeeListDTO;
 import io.distributechsolutions.hris.services.BaseService;
 
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface EmployeeService extends BaseService<EmployeeDTO> {
     List<EmployeeDTO> getEmployeesWhoAreApprovers();
+
+    /**
+     * Returns a page of the employee list projection, which only carries the columns shown in the employee list.
+     *
+     * @param page - The page number.
+     * @param pageSize - The number of records per page.
+     * @return The employee list projections.
+     */
+    List<EmployeeListDTO> getEmployeeList(int page, int pageSize);
+
+    /**
+     * Returns the employee list projections that matches the given search parameter.
+     *
+     * @param param - The search parameter.
+     * @param pageable - The page to be returned. The matching records are counted by {@link #countByParameter(String)}.
+     * @return The employee list projections.
+     */
+    List<EmployeeListDTO> findEmployeeListByParameter(String param, Pageable pageable);
 }
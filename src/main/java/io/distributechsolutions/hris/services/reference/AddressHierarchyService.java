@@ -0,0 +1,105 @@
+package io.distributechsolutions.hris.services.reference;
+
+import io.distributechsolutions.hris.dtos.reference.BarangayDTO;
+import io.distributechsolutions.hris.dtos.reference.MunicipalityDTO;
+import io.distributechsolutions.hris.dtos.reference.ProvinceDTO;
+import io.distributechsolutions.hris.dtos.reference.RegionDTO;
+
+import java.util.List;
+
+/**
+ * The Philippine geographic hierarchy (region, province, municipality and barangay) behind the address combo boxes.
+ * The PSGC reference tables don't change while the application runs, so the hierarchy is loaded once and every read
+ * is served from memory. Each method returns new DTOs, so the callers are free to change them.
+ */
+public interface AddressHierarchyService {
+    /**
+     * Returns the region with the given id.
+     *
+     * @param id - The id of the region.
+     * @return The region, or null if the id is null or unknown.
+     */
+    RegionDTO getRegionById(Long id);
+
+    /**
+     * Returns the province with the given id.
+     *
+     * @param id - The id of the province.
+     * @return The province, or null if the id is null or unknown.
+     */
+    ProvinceDTO getProvinceById(Long id);
+
+    /**
+     * Returns the municipality with the given id.
+     *
+     * @param id - The id of the municipality.
+     * @return The municipality, or null if the id is null or unknown.
+     */
+    MunicipalityDTO getMunicipalityById(Long id);
+
+    /**
+     * Returns the barangay with the given id.
+     *
+     * @param id - The id of the barangay.
+     * @return The barangay, or null if the id is null or unknown.
+     */
+    BarangayDTO getBarangayById(Long id);
+
+    /**
+     * Returns all the regions, sorted by their region code.
+     *
+     * @return The regions.
+     */
+    List<RegionDTO> getRegions();
+
+    /**
+     * Returns a page of all the provinces, sorted by their province code.
+     *
+     * @param offset - The index of the first province to be returned.
+     * @param limit - The maximum number of provinces to be returned.
+     * @return The provinces.
+     */
+    List<ProvinceDTO> getProvinces(int offset, int limit);
+
+    /**
+     * Returns a page of all the municipalities, sorted by their municipality code.
+     *
+     * @param offset - The index of the first municipality to be returned.
+     * @param limit - The maximum number of municipalities to be returned.
+     * @return The municipalities.
+     */
+    List<MunicipalityDTO> getMunicipalities(int offset, int limit);
+
+    /**
+     * Returns a page of all the barangays, sorted by their barangay code.
+     *
+     * @param offset - The index of the first barangay to be returned.
+     * @param limit - The maximum number of barangays to be returned.
+     * @return The barangays.
+     */
+    List<BarangayDTO> getBarangays(int offset, int limit);
+
+    /**
+     * Returns the provinces of a region, sorted by their province code.
+     *
+     * @param regionCode - The region code.
+     * @return The provinces of the region, or an empty list if the region code is null or unknown.
+     */
+    List<ProvinceDTO> getProvincesByRegionCode(Long regionCode);
+
+    /**
+     * Returns the municipalities of a province, sorted by their municipality code.
+     *
+     * @param provinceCode - The province code.
+     * @return The municipalities of the province, or an empty list if the province code is null or unknown.
+     */
+    List<MunicipalityDTO> getMunicipalitiesByProvinceCode(Long provinceCode);
+
+    /**
+     * Returns the barangays of a municipality, sorted by their barangay code.
+     *
+     * @param municipalityCode - The municipality code.
+     * @return The barangays of the municipality, or an empty list if the municipality code is null or unknown.
+     */
+    List<BarangayDTO> getBarangaysByMunicipalityCode(Long municipalityCode);
+}
@@ -0,0 +1,56 @@
+package io.distributechsolutions.hris.services.reference;
+
+import java.time.LocalDate;
+
+/**
+ * The calendar holidays of each year, kept in memory as one bit per day for the regular holidays and one for the special
+ * non-working holidays. A special working holiday is an ordinary working day, so it is in neither. The holidays of a
+ * year are loaded the first time they are needed and kept until a calendar holiday of that year is changed.
+ */
+public interface HolidayCalendarService {
+    /**
+     * The kind of a day for the premium computation of the payroll.
+     */
+    enum DayType {
+        REGULAR_DAY,
+        REST_DAY,
+        REGULAR_HOLIDAY,
+        SPECIAL_HOLIDAY
+    }
+
+    /**
+     * Checks if the given date is a regular holiday.
+     *
+     * @param date - The date.
+     * @return True if the date is a regular holiday.
+     */
+    boolean isRegularHoliday(LocalDate date);
+
+    /**
+     * Checks if the given date is a special non-working holiday.
+     *
+     * @param date - The date.
+     * @return True if the date is a special non-working holiday.
+     */
+    boolean isSpecialHoliday(LocalDate date);
+
+    /**
+     * Tags each day between two dates, both included, for an employee who works on the given days of the week. A
+     * holiday is tagged as such even if it falls on a rest day.
+     *
+     * @param fromDate - The first date.
+     * @param toDate - The last date.
+     * @param scheduledDays - The days of the week that the employee works, as returned by
+     *                        PayrollComputationUtil.getScheduledDays.
+     * @return The day types, where the first element is the type of the first date.
+     */
+    DayType[] classifyDays(LocalDate fromDate, LocalDate toDate, int scheduledDays);
+
+    /**
+     * Discards the holidays of the given year, so they are loaded again the next time they are needed. Call this after a
+     * calendar holiday of that year is changed.
+     *
+     * @param year - The year of the holiday.
+     */
+    void evictHolidays(int year);
+}
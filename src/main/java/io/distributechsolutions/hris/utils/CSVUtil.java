@@ -2,19 +2,14 @@ package io.distributechsolutions.hris.utils;
 
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
-import com.vaadin.flow.component.upload.receivers.MultiFileMemoryBuffer;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.Reader;
-import java.util.*;
+import java.nio.charset.StandardCharsets;
 
 public class CSVUtil {
-    private static final Logger logger = LoggerFactory.getLogger(CSVUtil.class);
     private static CSVUtil INSTANCE;
 
     private CSVUtil() {
@@ -28,33 +23,33 @@ public class CSVUtil {
         return INSTANCE;
     }
 
-    public static List<String[]> readCSVData(MultiFileMemoryBuffer buffer) {
-        List<String[]> csvDataList = new ArrayList<>();
-
-        Set<String> setOfFiles =  buffer.getFiles();
-        Iterator<String> iterator = setOfFiles.iterator();
-
-        while (iterator.hasNext()) {
-            String fileName = iterator.next();
-            InputStream inputStream = buffer.getInputStream(fileName);
-            Reader reader = new InputStreamReader(inputStream);
-
-            try {
-                CSVReader csvReader = new CSVReader(reader);
-                String[] csvLine;
-
-                while ((csvLine = csvReader.readNext()) != null) {
-                    if (StringUtil.isNotDate(csvLine[0])) {
-                        continue;
-                    }
-
-                    logger.info(Arrays.toString(csvLine));
-                    csvDataList.add(csvLine);
-                }
-            } catch (IOException | CsvValidationException exception) {
-                logger.error(exception.getMessage());
+    /**
+     * Reads the CSV data from the input stream one row at a time and hands each row to the row handler,
+     * so only the row being handled is kept in memory no matter how large the file is.
+     *
+     * @param inputStream - The CSV data input stream. It is closed once all the rows are read.
+     * @param csvRowHandler - The handler that receives the row number (starting at 1) and the row values.
+     * @return The number of rows read.
+     * @throws IOException If the input stream can't be read.
+     * @throws CsvValidationException If a row is not a valid CSV row.
+     */
+    public static long readCSVData(InputStream inputStream, CSVRowHandler csvRowHandler) throws IOException, CsvValidationException {
+        try (CSVReader csvReader = new CSVReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)))) {
+            String[] csvLine;
+
+            while ((csvLine = csvReader.readNext()) != null) {
+                csvRowHandler.handle(csvReader.getRecordsRead(), csvLine);
             }
+
+            return csvReader.getRecordsRead();
         }
-        return csvDataList;
+    }
+
+    /**
+     * Receives the rows read by {@link #readCSVData(InputStream, CSVRowHandler)}.
+     */
+    @FunctionalInterface
+    public interface CSVRowHandler {
+        void handle(long rowNumber, String[] csvLine);
     }
 }
@@ -0,0 +1,211 @@
+package io.distributechsolutions.hris.utils;
+
+import io.distributechsolutions.hris.dtos.attendance.EmployeeShiftScheduleDTO;
+import io.distributechsolutions.hris.dtos.compenben.LeaveBenefitsDTO;
+import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
+import io.distributechsolutions.hris.dtos.reference.BarangayDTO;
+import io.distributechsolutions.hris.dtos.reference.DepartmentDTO;
+import io.distributechsolutions.hris.dtos.reference.MunicipalityDTO;
+import io.distributechsolutions.hris.dtos.reference.PositionDTO;
+import io.distributechsolutions.hris.dtos.reference.ProvinceDTO;
+import io.distributechsolutions.hris.dtos.reference.RegionDTO;
+import io.distributechsolutions.hris.entities.attendance.EmployeeShiftSchedule;
+import io.distributechsolutions.hris.entities.compenben.LeaveBenefits;
+import io.distributechsolutions.hris.entities.profile.Employee;
+import io.distributechsolutions.hris.entities.reference.Barangay;
+import io.distributechsolutions.hris.entities.reference.Department;
+import io.distributechsolutions.hris.entities.reference.Municipality;
+import io.distributechsolutions.hris.entities.reference.Position;
+import io.distributechsolutions.hris.entities.reference.Province;
+import io.distributechsolutions.hris.entities.reference.Region;
+
+/**
+ * A data transfer object mapper utility class that converts the entities shared by the other records
+ * (employee, reference data, shift schedules and leave benefits) into their data transfer objects.
+ *
+ * The mappers only read the values of the given entity and its associations, so the associations must
+ * already be fetched by the repository query (JOIN FETCH or entity graph) to avoid additional queries.
+ */
+public class DTOMapperUtil {
+    private static DTOMapperUtil INSTANCE;
+
+    private DTOMapperUtil() {
+    }
+
+    public synchronized static DTOMapperUtil getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new DTOMapperUtil();
+        }
+
+        return INSTANCE;
+    }
+
+    public static EmployeeDTO toEmployeeDTO(Employee employee) {
+        if (employee == null) {
+            return null;
+        }
+
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+
+        employeeDTO.setId(employee.getId());
+        employeeDTO.setEmployeeNumber(employee.getEmployeeNumber());
+        employeeDTO.setLastName(employee.getLastName());
+        employeeDTO.setFirstName(employee.getFirstName());
+        employeeDTO.setMiddleName(employee.getMiddleName());
+        employeeDTO.setSuffix(employee.getSuffix());
+        employeeDTO.setGender(employee.getGender());
+        employeeDTO.setDateHired(employee.getDateHired());
+        employeeDTO.setCreatedBy(employee.getCreatedBy());
+        employeeDTO.setDateAndTimeCreated(employee.getDateAndTimeCreated());
+        employeeDTO.setUpdatedBy(employee.getUpdatedBy());
+        employeeDTO.setDateAndTimeUpdated(employee.getDateAndTimeUpdated());
+
+        return employeeDTO;
+    }
+
+    public static DepartmentDTO toDepartmentDTO(Department department) {
+        if (department == null) {
+            return null;
+        }
+
+        DepartmentDTO departmentDTO = new DepartmentDTO();
+
+        departmentDTO.setId(department.getId());
+        departmentDTO.setCode(department.getCode());
+        departmentDTO.setName(department.getName());
+        departmentDTO.setCreatedBy(department.getCreatedBy());
+        departmentDTO.setDateAndTimeCreated(department.getDateAndTimeCreated());
+        departmentDTO.setUpdatedBy(department.getUpdatedBy());
+        departmentDTO.setDateAndTimeUpdated(department.getDateAndTimeUpdated());
+
+        return departmentDTO;
+    }
+
+    public static PositionDTO toPositionDTO(Position position) {
+        if (position == null) {
+            return null;
+        }
+
+        PositionDTO positionDTO = new PositionDTO();
+
+        positionDTO.setId(position.getId());
+        positionDTO.setCode(position.getCode());
+        positionDTO.setName(position.getName());
+        positionDTO.setCreatedBy(position.getCreatedBy());
+        positionDTO.setDateAndTimeCreated(position.getDateAndTimeCreated());
+        positionDTO.setUpdatedBy(position.getUpdatedBy());
+        positionDTO.setDateAndTimeUpdated(position.getDateAndTimeUpdated());
+
+        return positionDTO;
+    }
+
+    public static RegionDTO toRegionDTO(Region region) {
+        if (region == null) {
+            return null;
+        }
+
+        RegionDTO regionDTO = new RegionDTO();
+
+        regionDTO.setId(region.getId());
+        regionDTO.setPsgCode(region.getPsgCode());
+        regionDTO.setRegionDescription(region.getRegionDescription());
+        regionDTO.setRegionCode(region.getRegionCode());
+
+        return regionDTO;
+    }
+
+    public static ProvinceDTO toProvinceDTO(Province province) {
+        if (province == null) {
+            return null;
+        }
+
+        ProvinceDTO provinceDTO = new ProvinceDTO();
+
+        provinceDTO.setId(province.getId());
+        provinceDTO.setPsgCode(province.getPsgCode());
+        provinceDTO.setProvinceDescription(province.getProvinceDescription());
+        provinceDTO.setRegionCode(province.getRegionCode());
+        provinceDTO.setProvinceCode(province.getProvinceCode());
+
+        return provinceDTO;
+    }
+
+    public static MunicipalityDTO toMunicipalityDTO(Municipality municipality) {
+        if (municipality == null) {
+            return null;
+        }
+
+        MunicipalityDTO municipalityDTO = new MunicipalityDTO();
+
+        municipalityDTO.setId(municipality.getId());
+        municipalityDTO.setPsgCode(municipality.getPsgCode());
+        municipalityDTO.setMunicipalityDescription(municipality.getMunicipalityDescription());
+        municipalityDTO.setRegionCode(municipality.getRegionCode());
+        municipalityDTO.setProvinceCode(municipality.getProvinceCode());
+        municipalityDTO.setMunicipalityCode(municipality.getMunicipalityCode());
+
+        return municipalityDTO;
+    }
+
+    public static BarangayDTO toBarangayDTO(Barangay barangay) {
+        if (barangay == null) {
+            return null;
+        }
+
+        BarangayDTO barangayDTO = new BarangayDTO();
+
+        barangayDTO.setId(barangay.getId());
+        barangayDTO.setBarangayCode(barangay.getBarangayCode());
+        barangayDTO.setBarangayDescription(barangay.getBarangayDescription());
+        barangayDTO.setRegionCode(barangay.getRegionCode());
+        barangayDTO.setProvinceCode(barangay.getProvinceCode());
+        barangayDTO.setMunicipalityCode(barangay.getMunicipalityCode());
+
+        return barangayDTO;
+    }
+
+    public static EmployeeShiftScheduleDTO toEmployeeShiftScheduleDTO(EmployeeShiftSchedule employeeShiftSchedule) {
+        if (employeeShiftSchedule == null) {
+            return null;
+        }
+
+        EmployeeShiftScheduleDTO employeeShiftScheduleDTO = new EmployeeShiftScheduleDTO();
+
+        employeeShiftScheduleDTO.setId(employeeShiftSchedule.getId());
+        employeeShiftScheduleDTO.setEmployeeDTO(toEmployeeDTO(employeeShiftSchedule.getEmployee()));
+        employeeShiftScheduleDTO.setShiftSchedule(employeeShiftSchedule.getShiftSchedule());
+        employeeShiftScheduleDTO.setShiftHours(employeeShiftSchedule.getShiftHours());
+        employeeShiftScheduleDTO.setShiftScheduledDays(employeeShiftSchedule.getShiftScheduledDays());
+        employeeShiftScheduleDTO.setShiftStartTime(employeeShiftSchedule.getShiftStartTime());
+        employeeShiftScheduleDTO.setShiftEndTime(employeeShiftSchedule.getShiftEndTime());
+        employeeShiftScheduleDTO.setActiveShift(employeeShiftSchedule.isActiveShift());
+        employeeShiftScheduleDTO.setCreatedBy(employeeShiftSchedule.getCreatedBy());
+        employeeShiftScheduleDTO.setDateAndTimeCreated(employeeShiftSchedule.getDateAndTimeCreated());
+        employeeShiftScheduleDTO.setUpdatedBy(employeeShiftSchedule.getUpdatedBy());
+        employeeShiftScheduleDTO.setDateAndTimeUpdated(employeeShiftSchedule.getDateAndTimeUpdated());
+
+        return employeeShiftScheduleDTO;
+    }
+
+    public static LeaveBenefitsDTO toLeaveBenefitsDTO(LeaveBenefits leaveBenefits) {
+        if (leaveBenefits == null) {
+            return null;
+        }
+
+        LeaveBenefitsDTO leaveBenefitsDTO = new LeaveBenefitsDTO();
+
+        leaveBenefitsDTO.setId(leaveBenefits.getId());
+        leaveBenefitsDTO.setLeaveCode(leaveBenefits.getLeaveCode());
+        leaveBenefitsDTO.setLeaveType(leaveBenefits.getLeaveType());
+        leaveBenefitsDTO.setLeaveForYear(leaveBenefits.getLeaveForYear());
+        leaveBenefitsDTO.setLeaveCount(leaveBenefits.getLeaveCount());
+        leaveBenefitsDTO.setLeaveActive(leaveBenefits.isLeaveActive());
+        leaveBenefitsDTO.setEmployeeDTO(toEmployeeDTO(leaveBenefits.getEmployee()));
+        leaveBenefitsDTO.setCreatedBy(leaveBenefits.getCreatedBy());
+        leaveBenefitsDTO.setDateAndTimeCreated(leaveBenefits.getDateAndTimeCreated());
+        leaveBenefitsDTO.setUpdatedBy(leaveBenefits.getUpdatedBy());
+        leaveBenefitsDTO.setDateAndTimeUpdated(leaveBenefits.getDateAndTimeUpdated());
+
+        return leaveBenefitsDTO;
+    }
+}
@@ -3,6 +3,9 @@ package io.distributechsolutions.hris.utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
@@ -21,22 +24,94 @@ public class PayrollComputationUtil {
         return INSTANCE;
     }
 
+    /**
+     * Returns the payroll frequency of a cut-off from the number of days it covers, both dates included: up to a week
+     * is weekly, the first or second half of a month is semi-monthly and a whole month is monthly.
+     *
+     * @param startDate - The start date of the cut-off.
+     * @param endDate - The end date of the cut-off.
+     * @return The payroll frequency, or an empty string if the cut-off doesn't match any frequency.
+     */
     public static String getPayrollFrequency(LocalDate startDate, LocalDate endDate) {
-        String frequency = "";
-        long daysBetween = ChronoUnit.DAYS.between(startDate, endDate);
+        long cutOffDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
 
-        if (daysBetween >= 5 || daysBetween <= 7) {
+        if (cutOffDays >= 1 && cutOffDays <= 7) {
             return "Weekly";
         }
 
-        if (daysBetween >= 10 || daysBetween <= 14) {
-            frequency = "Semi-Monthly";
+        if (cutOffDays >= 13 && cutOffDays <= 16) {
+            return "Semi-Monthly";
         }
 
-        if (daysBetween >= 28 || daysBetween <= 31) {
-            frequency = "Monthly";
+        if (cutOffDays >= 28 && cutOffDays <= 31) {
+            return "Monthly";
         }
 
-        return frequency;
+        return "";
+    }
+
+    /**
+     * Checks if the given cut-off is the last one that ends in its year, which is where the withholding tax of the whole
+     * year is settled. It is the last one when a next cut-off of the same length would end in the next year.
+     *
+     * @param startDate - The start date of the cut-off.
+     * @param endDate - The end date of the cut-off.
+     * @return True if no later cut-off of the same length ends in the same year.
+     */
+    public static boolean isFinalCutOffOfYear(LocalDate startDate, LocalDate endDate) {
+        long cutOffDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        return endDate.plusDays(cutOffDays).getYear() != endDate.getYear();
+    }
+
+    /**
+     * Returns the scheduled days of a shift schedule as a bit mask, where bit 0 is Monday and bit 6 is Sunday. The
+     * scheduled days are the day names that the shift form saves, separated by commas.
+     *
+     * @param shiftScheduledDays - The scheduled days of the shift schedule, such as "Monday, Tuesday, Wednesday".
+     * @return The bit mask of the scheduled days, or zero if there are none.
+     */
+    public static int getScheduledDays(String shiftScheduledDays) {
+        int scheduledDays = 0;
+
+        if (shiftScheduledDays == null) {
+            return scheduledDays;
+        }
+
+        for (String dayName : shiftScheduledDays.split(",")) {
+            String trimmedDayName = dayName.trim();
+
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                if (dayOfWeek.name().equalsIgnoreCase(trimmedDayName)) {
+                    scheduledDays |= 1 << (dayOfWeek.getValue() - 1);
+                }
+            }
+        }
+
+        return scheduledDays;
+    }
+
+    /**
+     * Converts a peso amount to whole centavos, rounding half up. The payroll computations work on centavos so that
+     * their inner loops add and compare longs instead of big decimals.
+     *
+     * @param amount - The peso amount. A null amount is treated as zero.
+     * @return The amount in centavos.
+     */
+    public static long toCentavos(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Converts whole centavos back to a peso amount with two decimal places, for persistence and display.
+     *
+     * @param centavos - The amount in centavos.
+     * @return The peso amount.
+     */
+    public static BigDecimal toAmount(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
     }
 }
@@ -0,0 +1,141 @@
+package io.distributechsolutions.hris.utils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * A search utility class that provides the following functions:
+ * 1.  Search Term Parser - Recognizes what kind of value the user searched for (a date, a time, a status,
+ *     an employee number or free text), so each kind is matched with its own indexable predicate
+ *     (an equality or range on the typed column, or a trigram match on the text columns).
+ * 2.  Ranked Order - Puts the records loaded by their ids back in the ranked order of the ids returned by
+ *     a ranked native search query.
+ */
+public class SearchUtil {
+    private static final List<DateTimeFormatter> DATE_FORMATTERS = List.of(DateTimeFormatter.ofPattern("uuuu-MM-dd"),
+                                                                           DateTimeFormatter.ofPattern("uuuu/MM/dd"),
+                                                                           DateTimeFormatter.ofPattern("MM/dd/uuuu"),
+                                                                           new DateTimeFormatterBuilder().parseCaseInsensitive()
+                                                                                                         .appendPattern("MMM d, uuuu")
+                                                                                                         .toFormatter(Locale.ENGLISH));
+    private static final DateTimeFormatter TIME_FORMATTER = new DateTimeFormatterBuilder().parseCaseInsensitive()
+                                                                                          .appendPattern("[h:mm[:ss] a][H:mm[:ss]]")
+                                                                                          .toFormatter(Locale.ENGLISH);
+    private static final Set<String> STATUSES = Set.of("PENDING", "APPROVED", "REJECTED", "CANCELLED");
+
+    // A single word that has at least one digit, such as "2024-0001" or "EMP123".
+    private static final Pattern EMPLOYEE_NUMBER_PATTERN = Pattern.compile("[A-Za-z0-9-]*\\d[A-Za-z0-9-]*");
+
+    private static SearchUtil INSTANCE;
+
+    private SearchUtil() {
+    }
+
+    public synchronized static SearchUtil getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new SearchUtil();
+        }
+
+        return INSTANCE;
+    }
+
+    /**
+     * Recognizes the kind of value of the search parameter. The checks are done from the most to the least specific
+     * kind: a date, a time, a status, an employee number, and free text when none of them matches.
+     *
+     * @param param - The search parameter.
+     * @return The search term with its kind and its parsed value.
+     */
+    public static SearchTerm parseSearchTerm(String param) {
+        String text = param.trim();
+
+        for (DateTimeFormatter dateFormatter : DATE_FORMATTERS) {
+            try {
+                LocalDate date = LocalDate.parse(text, dateFormatter);
+                return new SearchTerm(SearchTermType.DATE, text, date, null, null);
+            } catch (DateTimeParseException ignored) {
+                // Try the next date format.
+            }
+        }
+
+        try {
+            LocalTime time = LocalTime.parse(text, TIME_FORMATTER);
+
+            // A time without seconds matches the whole minute.
+            boolean hasSeconds = text.indexOf(':') != text.lastIndexOf(':');
+            return new SearchTerm(SearchTermType.TIME, text, null, time, hasSeconds ? time : time.plusSeconds(59));
+        } catch (DateTimeParseException ignored) {
+            // Not a time.
+        }
+
+        if (STATUSES.contains(text.toUpperCase())) {
+            return new SearchTerm(SearchTermType.STATUS, text.toUpperCase(), null, null, null);
+        }
+
+        if (EMPLOYEE_NUMBER_PATTERN.matcher(text).matches()) {
+            return new SearchTerm(SearchTermType.EMPLOYEE_NUMBER, text, null, null, null);
+        }
+
+        return new SearchTerm(SearchTermType.TEXT, text, null, null, null);
+    }
+
+    /**
+     * Puts the loaded records back in the ranked order of their ids, since an IN (...) query returns them in any order.
+     *
+     * @param records - The loaded records.
+     * @param rankedIds - The ids in their ranked order.
+     * @param idGetter - The function that returns the id of a record.
+     * @return The records in the ranked order of their ids.
+     */
+    public static <T> List<T> orderByIds(List<T> records, List<UUID> rankedIds, Function<T, UUID> idGetter) {
+        Map<UUID, T> recordMap = new HashMap<>(records.size() * 2);
+
+        for (T record : records) {
+            recordMap.put(idGetter.apply(record), record);
+        }
+
+        List<T> orderedRecords = new ArrayList<>(rankedIds.size());
+
+        for (UUID rankedId : rankedIds) {
+            T record = recordMap.get(rankedId);
+
+            if (record != null) {
+                orderedRecords.add(record);
+            }
+        }
+
+        return orderedRecords;
+    }
+
+    public enum SearchTermType {
+        DATE,
+        TIME,
+        STATUS,
+        EMPLOYEE_NUMBER,
+        TEXT
+    }
+
+    /**
+     * A parsed search parameter. The date is only set for a date term, and the time range is only set for a time term.
+     *
+     * @param type - The kind of value that was searched for.
+     * @param text - The trimmed search parameter, in upper case for a status term.
+     * @param date - The searched date.
+     * @param timeFrom - The start of the searched time range.
+     * @param timeTo - The end of the searched time range.
+     */
+    public record SearchTerm(SearchTermType type, String text, LocalDate date, LocalTime timeFrom, LocalTime timeTo) {
+    }
+}
@@ -1,7 +1,5 @@
 package io.distributechsolutions.hris.utils;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -16,9 +14,8 @@ import java.util.regex.Pattern;
 /**
  * A String utility class that provides the following functions:
  * 1.  Random Password Generator
- * 2.  Password Encryption
- * 3.  Input Stream Reader Content
- * 4.  String Numeric Checker
+ * 2.  Input Stream Reader Content
+ * 3.  String Numeric Checker
  */
 public class StringUtil {
     private static StringUtil INSTANCE;
@@ -42,16 +39,6 @@ public class StringUtil {
         return UUID.randomUUID().toString();
     }
 
-    /**
-     * Encrypts the input password using the bcrypt encyption.
-     * @param rawPassword - The input password.
-     * @return The encrypted password.
-     */
-    public static String encryptPassword(String rawPassword) {
-        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(12);
-        return bCryptPasswordEncoder.encode(rawPassword);
-    }
-
     /**
      * Reads each line of String from an input stream and returns as a whole document String.
      * @param inputStream - A stream of String coming from a resources file.
@@ -18,7 +18,7 @@ import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 
 import io.distributechsolutions.hris.dtos.admin.UserDTO;
-import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.services.admin.AuthenticatedUserService;
 import io.distributechsolutions.hris.services.attendance.EmployeeLeaveFilingService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.views.reference.DepartmentListView;
@@ -46,19 +46,22 @@ import org.vaadin.lineawesome.LineAwesomeIcon;
  * The main view is a top-level placeholder for other views.
  */
 public class MainLayout extends AppLayout {
+    @Resource private final AuthenticatedUserService authenticatedUserService;
     @Resource private final EmployeeLeaveFilingService employeeLeaveFilingService;
 
     private UserDTO userDTO;
     private H1 viewTitle;
     private String fullName;
 
-    public MainLayout(UserService userService,
+    public MainLayout(AuthenticatedUserService authenticatedUserService,
                       EmployeeLeaveFilingService employeeLeaveFilingService) {
+        this.authenticatedUserService = authenticatedUserService;
         this.employeeLeaveFilingService = employeeLeaveFilingService;
 
-        // Gets the user data transfer object based from the logged in user.
-        if (SecurityUtil.getAuthenticatedUser() != null) {
-            userDTO = userService.getByUsername(SecurityUtil.getAuthenticatedUser().getUsername());
+        // Gets the user data transfer object of the logged in user, which is kept in the session.
+        userDTO = authenticatedUserService.getUserDTO();
+
+        if (userDTO != null) {
             fullName = userDTO.getEmployeeDTO().getFirstName() + " " + userDTO.getEmployeeDTO().getLastName();
         }
 
@@ -180,13 +183,9 @@ public class MainLayout extends AppLayout {
             navItem.addItem(new SideNavItem("Timesheets", EmployeeTimesheetListView.class, LineAwesomeIcon.CALENDAR_WEEK_SOLID.create()));
         }
 
-        if (userDTO.getRole().equals("ROLE_ADMIN") ||
-                userDTO.getRole().equals("ROLE_HR_MANAGER") ||
-                userDTO.getRole().equals("ROLE_HR_SUPERVISOR") ||
-                userDTO.getRole().equals("ROLE_MANAGER") ||
-                userDTO.getRole().equals("ROLE_SUPERVISOR")) {
+        if (userDTO.getRole().equals("ROLE_ADMIN") || authenticatedUserService.isApprover()) {
             // Get the count of pending leaves to approved. Check every 5 seconds.
-            int pendingLeaveCounts = employeeLeaveFilingService.getByLeaveStatusAndAssignedApproverEmployeeDTO("PENDING", userDTO.getEmployeeDTO()).size();
+            long pendingLeaveCounts = employeeLeaveFilingService.countPendingByAssignedApproverEmployeeDTO(userDTO.getEmployeeDTO());
 
             // Show a notification badge that displays the count of leaves to be approved.
             Span counter = new Span(String.valueOf(pendingLeaveCounts));
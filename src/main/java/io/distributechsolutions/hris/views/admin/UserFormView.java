@@ -12,13 +12,13 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.EmailField;
 import com.vaadin.flow.component.textfield.TextField;
-import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.router.*;
 
 import io.distributechsolutions.hris.dtos.admin.UserDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.services.EmailService;
 import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
 import io.distributechsolutions.hris.services.profile.EmployeeService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.utils.StringUtil;
@@ -30,6 +30,7 @@ import jakarta.annotation.security.RolesAllowed;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN", "ROLE_HR_MANAGER"})
@@ -38,7 +39,9 @@ import org.vaadin.lineawesome.LineAwesomeIcon;
 public class UserFormView extends VerticalLayout implements HasUrlParameter<String> {
     @Resource private final UserService userService;
     @Resource private final EmployeeService employeeService;
+    @Resource private final EmployeeDirectoryService employeeDirectoryService;
     @Resource private final EmailService emailService;
+    @Resource private final PasswordEncoder passwordEncoder;
 
     private UserDTO userDTO;
     private UUID parameterId;
@@ -52,10 +55,14 @@ public class UserFormView extends VerticalLayout implements HasUrlParameter<Stri
 
     public UserFormView(UserService userService,
                         EmployeeService employeeService,
-                        EmailService emailService) {
+                        EmployeeDirectoryService employeeDirectoryService,
+                        EmailService emailService,
+                        PasswordEncoder passwordEncoder) {
         this.userService = userService;
         this.employeeService = employeeService;
+        this.employeeDirectoryService = employeeDirectoryService;
         this.emailService = emailService;
+        this.passwordEncoder = passwordEncoder;
 
         add(userDTOFormLayout);
 
@@ -76,12 +83,9 @@ public class UserFormView extends VerticalLayout implements HasUrlParameter<Stri
     }
 
     private void buildUserFormLayout() {
-        // Create the query object that will do the pagination of employee records in the combo box component.
-        Query<EmployeeDTO, Void> query = new Query<>();
-
         employeeDTOComboBox = new ComboBox<>("Employee");
-        employeeDTOComboBox.setItems((employeeDTO, filterString) -> employeeDTO.getEmployeeFullName().toLowerCase().contains(filterString.toLowerCase()),
-                employeeService.getAll(query.getPage(), query.getPageSize()));
+        employeeDTOComboBox.setItems(query -> employeeDirectoryService.findEmployees(query.getFilter().orElse(""), false, query.getOffset(), query.getLimit()).stream(),
+                                     query -> employeeDirectoryService.countEmployees(query.getFilter().orElse(""), false));
         employeeDTOComboBox.setItemLabelGenerator(EmployeeDTO::getEmployeeFullName);
         employeeDTOComboBox.setClearButtonVisible(true);
         employeeDTOComboBox.setRequired(true);
@@ -163,7 +167,7 @@ public class UserFormView extends VerticalLayout implements HasUrlParameter<Stri
             userDTO = userService.getById(parameterId);
         } else {
             userDTO = new UserDTO();
-            userDTO.setPassword(StringUtil.encryptPassword(generatedPassword));
+            userDTO.setPassword(passwordEncoder.encode(generatedPassword));
             userDTO.setCreatedBy(loggedInUser);
         }
 
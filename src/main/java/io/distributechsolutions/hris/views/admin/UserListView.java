@@ -25,6 +25,7 @@ import io.distributechsolutions.hris.views.MainLayout;
 import jakarta.annotation.Resource;
 
 import jakarta.annotation.security.RolesAllowed;
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN", "ROLE_HR_MANAGER"})
@@ -175,7 +176,10 @@ public class UserListView extends VerticalLayout {
 
     private void updateUserDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            userDTOGrid.setItems(userService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            userDTOGrid.setItems(query -> userService.findByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                 query -> (int) userService.countByParameter(searchParameter));
         } else {
             userDTOGrid.setItems(query -> userService.getAll(query.getPage(), query.getPageSize()).stream());
         }
@@ -20,7 +20,7 @@ import com.vaadin.flow.router.Route;
 import io.distributechsolutions.hris.dtos.admin.UserDTO;
 import io.distributechsolutions.hris.dtos.attendance.EmployeeLeaveFilingDTO;
 import io.distributechsolutions.hris.dtos.compenben.LeaveBenefitsDTO;
-import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.services.admin.AuthenticatedUserService;
 import io.distributechsolutions.hris.services.attendance.EmployeeLeaveFilingService;
 import io.distributechsolutions.hris.services.compenben.LeaveBenefitsService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
@@ -31,7 +31,9 @@ import jakarta.annotation.security.RolesAllowed;
 
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 @RolesAllowed({"ROLE_ADMIN",
                "ROLE_HR_MANAGER",
@@ -42,7 +44,7 @@ import java.util.Objects;
 public class EmployeeLeaveApprovalsListView extends VerticalLayout {
     @Resource private final EmployeeLeaveFilingService employeeLeaveFilingService;
     @Resource private final LeaveBenefitsService leaveBenefitsService;
-    @Resource private final UserService userService;
+    @Resource private final AuthenticatedUserService authenticatedUserService;
 
     private Grid<EmployeeLeaveFilingDTO> leaveFilingDTOGrid;
     private TextField searchFilterTextField;
@@ -52,16 +54,16 @@ public class EmployeeLeaveApprovalsListView extends VerticalLayout {
 
     public EmployeeLeaveApprovalsListView(EmployeeLeaveFilingService employeeLeaveFilingService,
                                           LeaveBenefitsService leaveBenefitsService,
-                                          UserService userService) {
+                                          AuthenticatedUserService authenticatedUserService) {
         this.employeeLeaveFilingService = employeeLeaveFilingService;
         this.leaveBenefitsService = leaveBenefitsService;
-        this.userService = userService;
+        this.authenticatedUserService = authenticatedUserService;
 
         // Get the logged-in user of the system.
         loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
 
         if (SecurityUtil.getAuthenticatedUser() != null) {
-            userDTO = userService.getByUsername(loggedInUser);
+            userDTO = authenticatedUserService.getUserDTO();
         }
 
         this.add(buildHeaderToolbar(), buildLeaveFilingDTOGrid());
@@ -247,17 +249,32 @@ public class EmployeeLeaveApprovalsListView extends VerticalLayout {
     }
 
     private void updateLeaveFilingDTOGrid() {
+        List<EmployeeLeaveFilingDTO> pendingLeaveFilingDTOList = employeeLeaveFilingService.getByLeaveStatusAndAssignedApproverEmployeeDTO("PENDING", userDTO.getEmployeeDTO());
+
+        // Only the pending leave filings assigned to this approver are shown, so the search is done within them
+        // instead of searching all the leave filings and then dropping the ones that are not shown.
         if (!searchFilterTextField.getValue().isEmpty()) {
-            leaveFilingDTOGrid.setItems(employeeLeaveFilingService.findByParameter(searchFilterTextField.getValue())
-                                                                                                .stream()
-                                                                                                .filter(employeeLeaveFilingDTO -> employeeLeaveFilingDTO.getLeaveStatus().equalsIgnoreCase("PENDING"))
-                                                                                                .filter(employeeLeaveFilingDTO -> employeeLeaveFilingDTO.getAssignedApproverEmployeeDTO().equals(userDTO.getEmployeeDTO()))
-                                                                                                .toList());
+            String searchParameter = searchFilterTextField.getValue().trim().toLowerCase();
+
+            leaveFilingDTOGrid.setItems(pendingLeaveFilingDTOList.stream()
+                                                                 .filter(employeeLeaveFilingDTO -> this.matchesSearchParameter(employeeLeaveFilingDTO, searchParameter))
+                                                                 .toList());
         } else {
-            leaveFilingDTOGrid.setItems(employeeLeaveFilingService.getByLeaveStatusAndAssignedApproverEmployeeDTO("PENDING", userDTO.getEmployeeDTO()));
+            leaveFilingDTOGrid.setItems(pendingLeaveFilingDTOList);
         }
     }
 
+    private boolean matchesSearchParameter(EmployeeLeaveFilingDTO employeeLeaveFilingDTO, String searchParameter) {
+        LeaveBenefitsDTO leaveBenefitsDTO = employeeLeaveFilingDTO.getLeaveBenefitsDTO();
+
+        return Stream.of(leaveBenefitsDTO.getEmployeeDTO().getEmployeeNumber(),
+                         leaveBenefitsDTO.getEmployeeDTO().getFirstName(),
+                         leaveBenefitsDTO.getEmployeeDTO().getLastName(),
+                         leaveBenefitsDTO.getLeaveCode(),
+                         leaveBenefitsDTO.getLeaveType())
+                     .anyMatch(value -> value != null && value.toLowerCase().contains(searchParameter));
+    }
+
     private void reloadMainLayout() {
         getUI().get().getPage().reload();
     }
@@ -13,13 +13,12 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.IntegerField;
 import com.vaadin.flow.component.timepicker.TimePicker;
-import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.router.*;
 
 import io.distributechsolutions.hris.dtos.attendance.EmployeeShiftScheduleDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.services.attendance.EmployeeShiftScheduleService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.views.MainLayout;
 
@@ -38,7 +37,7 @@ import java.util.stream.Collectors;
 @Route(value = "employee-shift-form", layout = MainLayout.class)
 public class EmployeeShiftFormView extends VerticalLayout implements HasUrlParameter<String> {
     @Resource private final EmployeeShiftScheduleService employeeShiftScheduleService;
-    @Resource private final EmployeeService employeeService;
+    @Resource private final EmployeeDirectoryService employeeDirectoryService;
 
     private EmployeeShiftScheduleDTO employeeShiftScheduleDTO;
     private UUID parameterId;
@@ -53,9 +52,9 @@ public class EmployeeShiftFormView extends VerticalLayout implements HasUrlParam
     private ToggleButton activeShiftToggleButton;
 
     public EmployeeShiftFormView(EmployeeShiftScheduleService employeeShiftScheduleService,
-                                 EmployeeService employeeService) {
+                                 EmployeeDirectoryService employeeDirectoryService) {
         this.employeeShiftScheduleService = employeeShiftScheduleService;
-        this.employeeService = employeeService;
+        this.employeeDirectoryService = employeeDirectoryService;
 
         loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
 
@@ -78,12 +77,9 @@ public class EmployeeShiftFormView extends VerticalLayout implements HasUrlParam
     }
 
     private void buildEmployeeShiftFormLayout() {
-        // Create the query object that will do the pagination of employee records in the combo box component.
-        Query<EmployeeDTO, Void> employeeQuery = new Query<>();
-
         employeeDTOComboBox = new ComboBox<>("Employee");
-        employeeDTOComboBox.setItems((employeeDTO, filterString) -> employeeDTO.getEmployeeFullName().toLowerCase().contains(filterString.toLowerCase()),
-                                                                                       employeeService.getAll(employeeQuery.getPage(), employeeQuery.getPageSize()));
+        employeeDTOComboBox.setItems(query -> employeeDirectoryService.findEmployees(query.getFilter().orElse(""), false, query.getOffset(), query.getLimit()).stream(),
+                                     query -> employeeDirectoryService.countEmployees(query.getFilter().orElse(""), false));
         employeeDTOComboBox.setItemLabelGenerator(EmployeeDTO::getEmployeeFullName);
         employeeDTOComboBox.setClearButtonVisible(true);
         employeeDTOComboBox.setRequired(true);
@@ -13,7 +13,7 @@ import com.vaadin.flow.router.Route;
 
 import io.distributechsolutions.hris.dtos.admin.UserDTO;
 import io.distributechsolutions.hris.dtos.attendance.EmployeeShiftScheduleDTO;
-import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.services.admin.AuthenticatedUserService;
 import io.distributechsolutions.hris.services.attendance.EmployeeShiftScheduleService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.views.MainLayout;
@@ -22,6 +22,7 @@ import jakarta.annotation.security.RolesAllowed;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN",
@@ -31,7 +32,7 @@ import org.vaadin.lineawesome.LineAwesomeIcon;
 @Route(value = "employee-shift-list", layout = MainLayout.class)
 public class EmployeeShiftListView extends VerticalLayout {
     private final EmployeeShiftScheduleService employeeShiftScheduleService;
-    private final UserService userService;
+    private final AuthenticatedUserService authenticatedUserService;
 
     private Grid<EmployeeShiftScheduleDTO> employeeShiftDTOGrid;
     private TextField searchFilterTextField;
@@ -40,15 +41,15 @@ public class EmployeeShiftListView extends VerticalLayout {
     private UserDTO userDTO;
 
     public EmployeeShiftListView(EmployeeShiftScheduleService employeeShiftScheduleService,
-                                 UserService userService) {
+                                 AuthenticatedUserService authenticatedUserService) {
         this.employeeShiftScheduleService = employeeShiftScheduleService;
-        this.userService = userService;
+        this.authenticatedUserService = authenticatedUserService;
 
         // Get the logged-in user of the system.
         loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
 
         if (SecurityUtil.getAuthenticatedUser() != null) {
-            userDTO = userService.getByUsername(loggedInUser);
+            userDTO = authenticatedUserService.getUserDTO();
         }
 
         this.add(buildHeaderToolbar(), buildEmployeeShiftDTOGrid());
@@ -156,7 +157,10 @@ public class EmployeeShiftListView extends VerticalLayout {
 
     private void updateEmployeeShiftDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            employeeShiftDTOGrid.setItems(employeeShiftScheduleService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            employeeShiftDTOGrid.setItems(query -> employeeShiftScheduleService.findByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                          query -> (int) employeeShiftScheduleService.countByParameter(searchParameter));
         } else {
             employeeShiftDTOGrid.setItems(query -> employeeShiftScheduleService.getAll(query.getPage(), query.getPageSize()).stream());
         }
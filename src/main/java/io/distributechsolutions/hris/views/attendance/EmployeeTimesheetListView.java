@@ -3,10 +3,12 @@ package io.distributechsolutions.hris.views.attendance;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 //import com.vaadin.flow.component.combobox.ComboBox;
-//import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.dialog.Dialog;
 //import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.html.Image;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.NotificationVariant;
@@ -14,25 +16,32 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextField;
 //import com.vaadin.flow.component.timepicker.TimePicker;
-//import com.vaadin.flow.component.upload.Upload;
-//import com.vaadin.flow.component.upload.receivers.MultiFileMemoryBuffer;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.component.upload.receivers.FileBuffer;
 import com.vaadin.flow.data.renderer.ComponentRenderer;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.server.StreamResource;
 
 import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetDTO;
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetImportErrorDTO;
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetImportResultDTO;
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetListDTO;
+import io.distributechsolutions.hris.services.attendance.EmployeeTimesheetImageService;
+import io.distributechsolutions.hris.services.attendance.EmployeeTimesheetImportService;
 import io.distributechsolutions.hris.services.attendance.EmployeeTimesheetService;
 import io.distributechsolutions.hris.services.profile.EmployeeService;
-//import io.distributechsolutions.hris.utils.CSVUtil;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.views.MainLayout;
 
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
+
 //import java.time.Duration;
-//import java.time.LocalDate;
+import java.time.LocalDate;
 //import java.time.LocalTime;
 //import java.time.format.DateTimeFormatter;
 //import java.util.List;
@@ -50,16 +59,23 @@ import org.vaadin.lineawesome.LineAwesomeIcon;
 public class EmployeeTimesheetListView extends VerticalLayout {
     @Resource private final EmployeeTimesheetService employeeTimesheetService;
     @Resource private final EmployeeService employeeService;
+    @Resource private final EmployeeTimesheetImageService employeeTimesheetImageService;
+    @Resource private final EmployeeTimesheetImportService employeeTimesheetImportService;
 
-    private Grid<EmployeeTimesheetDTO> timesheetDTOGrid;
+    private Grid<EmployeeTimesheetListDTO> timesheetDTOGrid;
     private TextField searchFilterTextField;
+    private DatePicker startDateFilterDatePicker, endDateFilterDatePicker;
 
     private String loggedInUser;
 
     public EmployeeTimesheetListView(EmployeeTimesheetService employeeTimesheetService,
-                                     EmployeeService employeeService) {
+                                     EmployeeService employeeService,
+                                     EmployeeTimesheetImageService employeeTimesheetImageService,
+                                     EmployeeTimesheetImportService employeeTimesheetImportService) {
         this.employeeTimesheetService = employeeTimesheetService;
         this.employeeService = employeeService;
+        this.employeeTimesheetImageService = employeeTimesheetImageService;
+        this.employeeTimesheetImportService = employeeTimesheetImportService;
 
         // Get the logged-in user of the system.
         loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
@@ -81,68 +97,84 @@ public class EmployeeTimesheetListView extends VerticalLayout {
         searchFilterTextField.setValueChangeMode(ValueChangeMode.LAZY);
         searchFilterTextField.addValueChangeListener(valueChangeEvent -> this.updateTimesheetDTOGrid());
 
+        startDateFilterDatePicker = new DatePicker();
+        startDateFilterDatePicker.setPlaceholder("Log Date From");
+        startDateFilterDatePicker.setClearButtonVisible(true);
+        startDateFilterDatePicker.addValueChangeListener(valueChangeEvent -> {
+            endDateFilterDatePicker.setMin(valueChangeEvent.getValue());
+            this.updateTimesheetDTOGrid();
+        });
+
+        endDateFilterDatePicker = new DatePicker();
+        endDateFilterDatePicker.setPlaceholder("Log Date To");
+        endDateFilterDatePicker.setClearButtonVisible(true);
+        endDateFilterDatePicker.addValueChangeListener(valueChangeEvent -> {
+            startDateFilterDatePicker.setMax(valueChangeEvent.getValue());
+            this.updateTimesheetDTOGrid();
+        });
+
         Button uploadButton = new Button("Upload Timesheet");
         uploadButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
-//        uploadButton.addClickListener(buttonClickEvent -> this.buildUploadTimesheetDialog().open());
+        uploadButton.addClickListener(buttonClickEvent -> this.buildUploadTimesheetDialog().open());
 
-        headerToolbarLayout.add(searchFilterTextField, uploadButton);
+        headerToolbarLayout.add(searchFilterTextField, startDateFilterDatePicker, endDateFilterDatePicker, uploadButton);
         headerToolbarLayout.setAlignItems(Alignment.CENTER);
         headerToolbarLayout.getThemeList().clear();
 
         return headerToolbarLayout;
     }
 
-    private Grid<EmployeeTimesheetDTO> buildTimesheetDTOGrid() {
-        timesheetDTOGrid = new Grid<>(EmployeeTimesheetDTO.class, false);
+    private Grid<EmployeeTimesheetListDTO> buildTimesheetDTOGrid() {
+        timesheetDTOGrid = new Grid<>(EmployeeTimesheetListDTO.class, false);
 
-        timesheetDTOGrid.addColumn(employeeTimesheetDTO -> employeeTimesheetDTO.getEmployeeDTO().getEmployeeNumber())
+        timesheetDTOGrid.addColumn(EmployeeTimesheetListDTO::employeeNumber)
                         .setHeader("Employee No.")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(employeeTimesheetDTO -> employeeTimesheetDTO.getEmployeeDTO().getFirstName()
-                                                                            .concat(" ")
-                                                                            .concat(employeeTimesheetDTO.getEmployeeDTO().getMiddleName())
-                                                                            .concat(" ")
-                                                                            .concat(employeeTimesheetDTO.getEmployeeDTO().getLastName())
-                                                                            .concat(employeeTimesheetDTO.getEmployeeDTO().getSuffix() != null ? employeeTimesheetDTO.getEmployeeDTO().getSuffix() : ""))
+        timesheetDTOGrid.addColumn(employeeTimesheetListDTO -> employeeTimesheetListDTO.firstName()
+                                                                                       .concat(" ")
+                                                                                       .concat(employeeTimesheetListDTO.middleName())
+                                                                                       .concat(" ")
+                                                                                       .concat(employeeTimesheetListDTO.lastName())
+                                                                                       .concat(employeeTimesheetListDTO.suffix() != null ? employeeTimesheetListDTO.suffix() : ""))
                         .setHeader("Employee Name")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(EmployeeTimesheetDTO::getLogDate)
+        timesheetDTOGrid.addColumn(EmployeeTimesheetListDTO::logDate)
                         .setHeader("Log Date")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(employeeTimesheetDTO -> employeeTimesheetDTO.getShiftScheduleDTO().getShiftSchedule())
+        timesheetDTOGrid.addColumn(EmployeeTimesheetListDTO::shiftSchedule)
                         .setHeader("Shift Schedule")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(EmployeeTimesheetDTO::getLogTime)
+        timesheetDTOGrid.addColumn(EmployeeTimesheetListDTO::logTime)
                         .setHeader("Log Time")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(EmployeeTimesheetDTO::getLogDetail)
+        timesheetDTOGrid.addColumn(EmployeeTimesheetListDTO::logDetail)
                         .setHeader("Log Detail")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(new ComponentRenderer<>(HorizontalLayout::new, (layout, employeeTimesheetDTO) -> {
-                                        String theme = String.format("badge %s", employeeTimesheetDTO.getStatus().equalsIgnoreCase("PENDING") ? "contrast" : "success");
+        timesheetDTOGrid.addColumn(new ComponentRenderer<>(HorizontalLayout::new, (layout, employeeTimesheetListDTO) -> {
+                                        String theme = String.format("badge %s", employeeTimesheetListDTO.status().equalsIgnoreCase("PENDING") ? "contrast" : "success");
 
                                         Span activeSpan = new Span();
                                         activeSpan.getElement().setAttribute("theme", theme);
-                                        activeSpan.setText(employeeTimesheetDTO.getStatus());
+                                        activeSpan.setText(employeeTimesheetListDTO.status());
 
                                         layout.setJustifyContentMode(JustifyContentMode.CENTER);
                                         layout.add(activeSpan);
                                     }))
                         .setHeader("Status")
                         .setSortable(true);
-        timesheetDTOGrid.addComponentColumn(employeeTimesheetDTO -> buildRowToolbar(employeeTimesheetDTO)).setHeader("Action");
+        timesheetDTOGrid.addComponentColumn(employeeTimesheetListDTO -> buildRowToolbar()).setHeader("Action");
         timesheetDTOGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES,
                                           GridVariant.LUMO_COLUMN_BORDERS,
                                           GridVariant.LUMO_WRAP_CELL_CONTENT);
         timesheetDTOGrid.setSelectionMode(Grid.SelectionMode.SINGLE);
         timesheetDTOGrid.setMultiSort(true, Grid.MultiSortPriority.APPEND);
         timesheetDTOGrid.setEmptyStateText("No pending timesheet records found.");
-        timesheetDTOGrid.setItems((query -> employeeTimesheetService.getAll(query.getPage(), query.getPageSize()).stream().filter(employeeTimesheetDTO -> employeeTimesheetDTO.getStatus().equalsIgnoreCase("PENDING"))));
+        this.setPendingTimesheetItems();
 
         return timesheetDTOGrid;
     }
 
-    public HorizontalLayout buildRowToolbar(EmployeeTimesheetDTO employeeTimesheetDTO) {
+    public HorizontalLayout buildRowToolbar() {
         HorizontalLayout rowToolbarLayout = new HorizontalLayout();
 
         Button viewButton = new Button();
@@ -151,8 +183,8 @@ public class EmployeeTimesheetListView extends VerticalLayout {
         viewButton.addThemeVariants(ButtonVariant.LUMO_CONTRAST);
         viewButton.addClickListener(buttonClickEvent -> viewButton.getUI().ifPresent(ui -> {
             if (timesheetDTOGrid.getSelectionModel().getFirstSelectedItem().isPresent()) {
-//                EmployeeTimesheetDTO selectedEmployeeTimesheetDTO = timesheetDTOGrid.getSelectionModel().getFirstSelectedItem().get();
-//                buildViewTimesheetDialog(selectedEmployeeTimesheetDTO).open();
+                EmployeeTimesheetListDTO selectedEmployeeTimesheetListDTO = timesheetDTOGrid.getSelectionModel().getFirstSelectedItem().get();
+                this.buildViewTimesheetImageDialog(selectedEmployeeTimesheetListDTO).open();
             }
         }));
 
@@ -173,7 +205,9 @@ public class EmployeeTimesheetListView extends VerticalLayout {
         approveButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY, ButtonVariant.LUMO_SUCCESS);
         approveButton.addClickListener(buttonClickEvent -> {
             if (timesheetDTOGrid.getSelectionModel().getFirstSelectedItem().isPresent()) {
-                EmployeeTimesheetDTO selectedEmployeeTimesheetDTO = timesheetDTOGrid.getSelectionModel().getFirstSelectedItem().get();
+                // Load the full timesheet record only for the row that is being approved.
+                EmployeeTimesheetListDTO selectedEmployeeTimesheetListDTO = timesheetDTOGrid.getSelectionModel().getFirstSelectedItem().get();
+                EmployeeTimesheetDTO selectedEmployeeTimesheetDTO = employeeTimesheetService.getById(selectedEmployeeTimesheetListDTO.id());
                 selectedEmployeeTimesheetDTO.setStatus("APPROVED");
                 selectedEmployeeTimesheetDTO.setUpdatedBy(loggedInUser);
 
@@ -193,77 +227,141 @@ public class EmployeeTimesheetListView extends VerticalLayout {
         return rowToolbarLayout;
     }
 
+    private Dialog buildViewTimesheetImageDialog(EmployeeTimesheetListDTO employeeTimesheetListDTO) {
+        VerticalLayout timesheetImageLayout = new VerticalLayout();
+        timesheetImageLayout.setAlignItems(Alignment.CENTER);
+        timesheetImageLayout.getStyle().set("width", "720px").set("max-width", "100%");
+
+        if (employeeTimesheetListDTO.logImageId() != null) {
+            // The image bytes are only read from the database when the browser requests the image.
+            StreamResource timesheetImageResource = new StreamResource(employeeTimesheetListDTO.logImageId().toString().concat(".png"),
+                                                                       () -> employeeTimesheetImageService.getImageStream(employeeTimesheetListDTO.logImageId()));
+
+            Image timesheetImage = new Image(timesheetImageResource, "Timesheet Image");
+            timesheetImage.setMaxWidth("100%");
+
+            timesheetImageLayout.add(timesheetImage);
+        } else {
+            timesheetImageLayout.add(new Span("No image was captured for this timesheet."));
+        }
+
+        Dialog dialog = new Dialog();
+        dialog.setModal(true);
+        dialog.setResizable(false);
+        dialog.setHeaderTitle(employeeTimesheetListDTO.logDetail().concat(" - ").concat(employeeTimesheetListDTO.logDate().toString()));
+        dialog.setCloseOnOutsideClick(false);
+        dialog.add(timesheetImageLayout);
+
+        Button closeButton = new Button("Close", e -> dialog.close());
+
+        dialog.getFooter().add(closeButton);
+
+        return dialog;
+    }
+
     private void updateTimesheetDTOGrid() {
         if (!searchFilterTextField.getValue().isEmpty()) {
-            timesheetDTOGrid.setItems(employeeTimesheetService.findByParameter(searchFilterTextField.getValue()).stream().filter(employeeTimesheetDTO -> employeeTimesheetDTO.getStatus().equalsIgnoreCase("PENDING")).toList());
+            String searchParameter = searchFilterTextField.getValue();
+
+            timesheetDTOGrid.setItems(query -> employeeTimesheetService.findTimesheetListByStatusAndParameter("PENDING", searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                      query -> (int) employeeTimesheetService.countTimesheetByStatusAndParameter("PENDING", searchParameter));
         } else {
-            timesheetDTOGrid.setItems(query -> employeeTimesheetService.getAll(query.getPage(), query.getPageSize()).stream().filter(employeeTimesheetDTO -> employeeTimesheetDTO.getStatus().equalsIgnoreCase("PENDING")));
+            this.setPendingTimesheetItems();
         }
     }
 
-//    private Dialog buildUploadTimesheetDialog() {
-//        MultiFileMemoryBuffer multiFileMemoryBuffer = new MultiFileMemoryBuffer();
-//        Upload upload = new Upload(multiFileMemoryBuffer);
-//        upload.setAcceptedFileTypes(".csv");
-//
-//        VerticalLayout uploadTimesheetLayout = new VerticalLayout();
-//        uploadTimesheetLayout.setSpacing(false);
-//        uploadTimesheetLayout.setPadding(false);
-//        uploadTimesheetLayout.setAlignItems(Alignment.STRETCH);
-//        uploadTimesheetLayout.getStyle().set("width", "720px").set("max-width", "100%");
-//        uploadTimesheetLayout.add(upload);
-//
-//        Dialog dialog = new Dialog();
-//        dialog.setModal(true);
-//        dialog.setResizable(false);
-//        dialog.setHeaderTitle("Upload Timesheet");
-//        dialog.setCloseOnOutsideClick(false);
-//        dialog.add(uploadTimesheetLayout);
-//
-//        Button saveButton = new Button("Save");
-//        saveButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
-//        saveButton.addClickListener(buttonClickEvent -> {
-//            List<String[]> csvDataList = CSVUtil.readCSVData(multiFileMemoryBuffer);
-//
-//            if (!csvDataList.isEmpty()) {
-//                for (String[] csvData : csvDataList) {
-//                    EmployeeTimesheetDTO employeeTimesheetDTO = new EmployeeTimesheetDTO();
-//                    employeeTimesheetDTO.setLogDate(LocalDate.parse(csvData[0], DateTimeFormatter.ofPattern("yyyy/MM/dd")));
-//                    employeeTimesheetDTO.setLogTimeIn(csvData[6].equals("-") ? null : LocalTime.parse(csvData[6], csvData[6].contains("(+1)") ? DateTimeFormatter.ofPattern("H:mm:ss (+1)") : DateTimeFormatter.ofPattern("H:mm:ss")));
-//                    employeeTimesheetDTO.setLogTimeOut(csvData[7].equals("-") ? null : LocalTime.parse(csvData[7], csvData[7].contains("(+1)") ? DateTimeFormatter.ofPattern("H:mm:ss (+1)") : DateTimeFormatter.ofPattern("H:mm:ss")));
-//                    employeeTimesheetDTO.setShiftSchedule(csvData[4]);
-//                    employeeTimesheetDTO.setExceptionRemarks(csvData[8].equals("-") ? null : csvData[8]);
-//                    employeeTimesheetDTO.setLeaveRemarks(csvData[5].equals("-") ? null : csvData[5]);
-//                    employeeTimesheetDTO.setRegularWorkedHours(!csvData[6].equals("-") && !csvData[7].equals("-") ? this.getWorkedHours(csvData[4], csvData[6], csvData[7]) : LocalTime.parse("00:00:00"));
-//                    employeeTimesheetDTO.setOvertimeWorkedHours(!csvData[6].equals("-") && !csvData[7].equals("-") ? this.getOvertimeHours(csvData[4], csvData[6], csvData[7]) : LocalTime.parse("00:00:00"));
-//                    employeeTimesheetDTO.setTotalWorkedHours(LocalTime.parse(csvData[11], csvData[11].contains("(+1)") ? DateTimeFormatter.ofPattern("H:mm:ss (+1)") : DateTimeFormatter.ofPattern("H:mm:ss")));
-//                    employeeTimesheetDTO.setStatus("PENDING");
-//                    employeeTimesheetDTO.setCreatedBy(loggedInUser);
-//                    employeeTimesheetDTO.setUpdatedBy(loggedInUser);
-//
-//                    employeeTimesheetService.saveOrUpdate(employeeTimesheetDTO);
-//                }
-//                // Close the dialog.
-//                dialog.close();
-//
-//                // Update the data grid.
-//                this.updateTimesheetDTOGrid();
-//
-//                // Show the notification message.
-//                Notification notification = Notification.show("Timesheet successfully uploaded.");
-//                notification.setPosition(Notification.Position.TOP_CENTER);
-//                notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
-//                notification.setDuration(5000);
-//            }
-//        });
-//
-//        Button cancelButton = new Button("Cancel", e -> dialog.close());
-//
-//        dialog.getFooter().add(cancelButton);
-//        dialog.getFooter().add(saveButton);
-//
-//        return dialog;
-//    }
+    /**
+     * Sets the pending timesheets as the lazy items of the grid. The grid fetches only the page that is being shown
+     * and gets its size from a count query, both filtered by the selected log date range.
+     */
+    private void setPendingTimesheetItems() {
+        LocalDate startDate = startDateFilterDatePicker.getValue();
+        LocalDate endDate = endDateFilterDatePicker.getValue();
+
+        timesheetDTOGrid.setItems(query -> employeeTimesheetService.getTimesheetListByStatus("PENDING", startDate, endDate, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                  query -> (int) employeeTimesheetService.countTimesheetByStatus("PENDING", startDate, endDate));
+    }
+
+    private Dialog buildUploadTimesheetDialog() {
+        // The uploaded file is written to a temporary file, so that it is streamed from the disk during the import.
+        FileBuffer fileBuffer = new FileBuffer();
+        Upload upload = new Upload(fileBuffer);
+        upload.setAcceptedFileTypes(".csv");
+        upload.setMaxFiles(1);
+
+        Span uploadHintSpan = new Span("Columns: Log Date (yyyy/MM/dd), Employee No., Log Time (H:mm:ss), Log Detail (IN or OUT).");
+        uploadHintSpan.getStyle().set("font-size", "var(--lumo-font-size-s)");
+
+        Grid<EmployeeTimesheetImportErrorDTO> importErrorDTOGrid = new Grid<>(EmployeeTimesheetImportErrorDTO.class, false);
+        importErrorDTOGrid.addColumn(EmployeeTimesheetImportErrorDTO::rowNumber).setHeader("Row").setAutoWidth(true).setFlexGrow(0);
+        importErrorDTOGrid.addColumn(EmployeeTimesheetImportErrorDTO::message).setHeader("Error");
+        importErrorDTOGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES,
+                                            GridVariant.LUMO_COLUMN_BORDERS,
+                                            GridVariant.LUMO_WRAP_CELL_CONTENT);
+        importErrorDTOGrid.setHeight("300px");
+        importErrorDTOGrid.setVisible(false);
+
+        VerticalLayout uploadTimesheetLayout = new VerticalLayout();
+        uploadTimesheetLayout.setSpacing(false);
+        uploadTimesheetLayout.setPadding(false);
+        uploadTimesheetLayout.setAlignItems(Alignment.STRETCH);
+        uploadTimesheetLayout.getStyle().set("width", "720px").set("max-width", "100%");
+        uploadTimesheetLayout.add(upload, uploadHintSpan, importErrorDTOGrid);
+
+        Dialog dialog = new Dialog();
+        dialog.setModal(true);
+        dialog.setResizable(false);
+        dialog.setHeaderTitle("Upload Timesheet");
+        dialog.setCloseOnOutsideClick(false);
+        dialog.add(uploadTimesheetLayout);
+
+        Button saveButton = new Button("Save");
+        saveButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+        saveButton.setEnabled(false);
+
+        upload.addSucceededListener(succeededEvent -> saveButton.setEnabled(true));
+        upload.addFileRemovedListener(fileRemovedEvent -> saveButton.setEnabled(false));
+
+        saveButton.addClickListener(buttonClickEvent -> {
+            EmployeeTimesheetImportResultDTO employeeTimesheetImportResultDTO = employeeTimesheetImportService.importTimesheets(fileBuffer.getInputStream(), loggedInUser);
+
+            // Remove the temporary file of the upload.
+            fileBuffer.getFileData().getFile().delete();
+            saveButton.setEnabled(false);
+            upload.clearFileList();
+
+            // Update the data grid.
+            this.updateTimesheetDTOGrid();
+
+            if (employeeTimesheetImportResultDTO.errorRowCount() == 0) {
+                dialog.close();
+
+                Notification notification = Notification.show(String.format("%s timesheet record(s) successfully uploaded.", employeeTimesheetImportResultDTO.importedRowCount()),
+                                                              5000,
+                                                              Notification.Position.TOP_CENTER);
+                notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+            } else {
+                // Keep the dialog open with the rows that were not imported.
+                importErrorDTOGrid.setItems(employeeTimesheetImportResultDTO.errors());
+                importErrorDTOGrid.setVisible(true);
+
+                Notification notification = Notification.show(String.format("%s of %s timesheet record(s) uploaded, %s record(s) have errors.",
+                                                                            employeeTimesheetImportResultDTO.importedRowCount(),
+                                                                            employeeTimesheetImportResultDTO.totalRowCount(),
+                                                                            employeeTimesheetImportResultDTO.errorRowCount()),
+                                                              5000,
+                                                              Notification.Position.TOP_CENTER);
+                notification.addThemeVariants(NotificationVariant.LUMO_WARNING);
+            }
+        });
+
+        Button cancelButton = new Button("Close", e -> dialog.close());
+
+        dialog.getFooter().add(cancelButton);
+        dialog.getFooter().add(saveButton);
+
+        return dialog;
+    }
 
 //    private Dialog buildViewTimesheetDialog(EmployeeTimesheetDTO employeeTimesheetDTO) {
 //        FormLayout timesheetDetailsLayout = new FormLayout();
@@ -16,19 +16,18 @@ import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteAlias;
 
-import io.distributechsolutions.hris.configs.SecurityConfig;
 import io.distributechsolutions.hris.dtos.admin.UserDTO;
 import io.distributechsolutions.hris.dtos.compenben.LeaveBenefitsDTO;
 import io.distributechsolutions.hris.dtos.info.AddressInfoDTO;
 import io.distributechsolutions.hris.dtos.info.DependentInfoDTO;
 import io.distributechsolutions.hris.dtos.info.PersonalInfoDTO;
+import io.distributechsolutions.hris.services.admin.AuthenticatedUserService;
 import io.distributechsolutions.hris.services.admin.UserService;
 import io.distributechsolutions.hris.services.compenben.LeaveBenefitsService;
 import io.distributechsolutions.hris.services.info.AddressInfoService;
 import io.distributechsolutions.hris.services.info.DependentInfoService;
 import io.distributechsolutions.hris.services.info.PersonalInfoService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
-import io.distributechsolutions.hris.utils.StringUtil;
 import io.distributechsolutions.hris.views.MainLayout;
 
 import jakarta.annotation.Resource;
@@ -38,6 +37,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
 
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @PermitAll
@@ -45,11 +45,13 @@ import org.vaadin.lineawesome.LineAwesomeIcon;
 @Route(value = "dashboard", layout = MainLayout.class)
 @RouteAlias(value = "", layout = MainLayout.class)
 public class DashboardView extends VerticalLayout {
+    @Resource private final AuthenticatedUserService authenticatedUserService;
     @Resource private final UserService userService;
     @Resource private final PersonalInfoService personalInfoService;
     @Resource private final AddressInfoService addressInfoService;
     @Resource private final DependentInfoService dependentInfoService;
     @Resource private final LeaveBenefitsService leaveBenefitsService;
+    @Resource private final PasswordEncoder passwordEncoder;
 
     private UserDTO userDTO;
 
@@ -60,23 +62,23 @@ public class DashboardView extends VerticalLayout {
         DANGER
     }
 
-    public DashboardView(UserService userService,
+    public DashboardView(AuthenticatedUserService authenticatedUserService,
+                         UserService userService,
                          PersonalInfoService personalService,
                          AddressInfoService addressInfoService,
                          DependentInfoService dependentInfoService,
-                         LeaveBenefitsService leaveBenefitsService) {
+                         LeaveBenefitsService leaveBenefitsService,
+                         PasswordEncoder passwordEncoder) {
+        this.authenticatedUserService = authenticatedUserService;
         this.userService = userService;
         this.personalInfoService = personalService;
         this.addressInfoService = addressInfoService;
         this.dependentInfoService = dependentInfoService;
         this.leaveBenefitsService = leaveBenefitsService;
+        this.passwordEncoder = passwordEncoder;
 
-        // Gets the user data transfer object based from the logged-in user.
-        String loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
-
-        if (SecurityUtil.getAuthenticatedUser() != null) {
-            userDTO = userService.getByUsername(loggedInUser);
-        }
+        // Gets the user data transfer object of the logged-in user, which is kept in the session.
+        userDTO = authenticatedUserService.getUserDTO();
 
         // Shows the change password dialog if the user has not changed its password for the first time.
         if (userDTO != null && !userDTO.isPasswordChanged()) {
@@ -156,11 +158,11 @@ public class DashboardView extends VerticalLayout {
         saveButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
         saveButton.addClickListener(clickEvent -> {
             Notification successNotification, errorNotification;
-            boolean isCurrentPasswordMatch = new SecurityConfig().passwordEncoder().matches(currentPasswordField.getValue(), userDTO.getPassword());
+            boolean isCurrentPasswordMatch = passwordEncoder.matches(currentPasswordField.getValue(), userDTO.getPassword());
 
             if (isCurrentPasswordMatch) {
                 if (newPasswordField.getValue().equals(confirmNewPasswordField.getValue())) {
-                    userDTO.setPassword(StringUtil.encryptPassword(newPasswordField.getValue()));
+                    userDTO.setPassword(passwordEncoder.encode(newPasswordField.getValue()));
                     userDTO.setPasswordChanged(true);
                     userDTO.setUpdatedBy(Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername());
                     userDTO.setDateAndTimeUpdated(LocalDateTime.now(ZoneId.of("Asia/Manila")));
@@ -5,7 +5,7 @@ import com.vaadin.flow.component.tabs.*;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 
-import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.services.admin.AuthenticatedUserService;
 import io.distributechsolutions.hris.services.info.AddressInfoService;
 import io.distributechsolutions.hris.services.info.DependentInfoService;
 import io.distributechsolutions.hris.services.info.PersonalInfoService;
@@ -30,7 +30,7 @@ public class EmployeeInfoView extends Div {
     @Resource private final PersonalInfoService personalInfoService;
     @Resource private final AddressInfoService addressInfoService;
     @Resource private final DependentInfoService dependentInfoService;
-    @Resource private final UserService userService;
+    @Resource private final AuthenticatedUserService authenticatedUserService;
     @Resource private final EmployeeService employeeService;
     @Resource private final RegionService regionService;
     @Resource private final ProvinceService provinceService;
@@ -42,7 +42,7 @@ public class EmployeeInfoView extends Div {
     public EmployeeInfoView(PersonalInfoService personalInfoService,
                             AddressInfoService addressInfoService,
                             DependentInfoService dependentInfoService,
-                            UserService userService,
+                            AuthenticatedUserService authenticatedUserService,
                             EmployeeService employeeService,
                             RegionService regionService,
                             ProvinceService provinceService,
@@ -51,7 +51,7 @@ public class EmployeeInfoView extends Div {
         this.personalInfoService = personalInfoService;
         this.addressInfoService = addressInfoService;
         this.dependentInfoService = dependentInfoService;
-        this.userService = userService;
+        this.authenticatedUserService = authenticatedUserService;
         this.employeeService = employeeService;
         this.regionService = regionService;
         this.provinceService = provinceService;
@@ -65,17 +65,17 @@ public class EmployeeInfoView extends Div {
 
     public void createInfoTabSheets() {
         PersonalInfoForm personalInfoForm = new PersonalInfoForm(personalInfoService,
-                                                                 userService,
+                                                                 authenticatedUserService,
                                                                  employeeService);
         AddressInfoForm addressInfoForm = new AddressInfoForm(addressInfoService,
-                                                              userService,
+                                                              authenticatedUserService,
                                                               employeeService,
                                                               regionService,
                                                               provinceService,
                                                               municipalityService,
                                                               barangayService);
         DependentInfoForm dependentInfoForm = new DependentInfoForm(dependentInfoService,
-                                                                    userService,
+                                                                    authenticatedUserService,
                                                                     employeeService);
 
         infoTabSheets.add("Personal", personalInfoForm);
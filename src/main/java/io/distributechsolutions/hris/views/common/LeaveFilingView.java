@@ -19,7 +19,6 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.IntegerField;
 import com.vaadin.flow.component.textfield.TextField;
-import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.renderer.ComponentRenderer;
 import com.vaadin.flow.data.renderer.LocalDateTimeRenderer;
 import com.vaadin.flow.router.PageTitle;
@@ -29,10 +28,10 @@ import io.distributechsolutions.hris.dtos.admin.UserDTO;
 import io.distributechsolutions.hris.dtos.compenben.LeaveBenefitsDTO;
 import io.distributechsolutions.hris.dtos.attendance.EmployeeLeaveFilingDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
-import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.services.admin.AuthenticatedUserService;
 import io.distributechsolutions.hris.services.compenben.LeaveBenefitsService;
 import io.distributechsolutions.hris.services.attendance.EmployeeLeaveFilingService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.views.MainLayout;
 
@@ -51,8 +50,8 @@ import org.vaadin.lineawesome.LineAwesomeIcon;
 public class LeaveFilingView extends VerticalLayout {
     @Resource private final EmployeeLeaveFilingService employeeLeaveFilingService;
     @Resource private final LeaveBenefitsService leaveBenefitsService;
-    @Resource private final EmployeeService employeeService;
-    @Resource private final UserService userService;
+    @Resource private final EmployeeDirectoryService employeeDirectoryService;
+    @Resource private final AuthenticatedUserService authenticatedUserService;
 
     private UserDTO userDTO;
     private EmployeeDTO employeeDTO;
@@ -60,7 +59,6 @@ public class LeaveFilingView extends VerticalLayout {
 
     private List<EmployeeLeaveFilingDTO> employeeLeaveFilingDTOList;
     private List<LeaveBenefitsDTO> leaveBenefitsDTOList;
-    private List<EmployeeDTO> approverEmployeeDTOList;
 
     private String loggedInUser;
 
@@ -75,17 +73,17 @@ public class LeaveFilingView extends VerticalLayout {
 
     public LeaveFilingView(EmployeeLeaveFilingService employeeLeaveFilingService,
                            LeaveBenefitsService leaveBenefitsService,
-                           EmployeeService employeeService,
-                           UserService userService) {
+                           EmployeeDirectoryService employeeDirectoryService,
+                           AuthenticatedUserService authenticatedUserService) {
         this.employeeLeaveFilingService = employeeLeaveFilingService;
         this.leaveBenefitsService = leaveBenefitsService;
-        this.employeeService = employeeService;
-        this.userService = userService;
+        this.employeeDirectoryService = employeeDirectoryService;
+        this.authenticatedUserService = authenticatedUserService;
 
         loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
 
         if (loggedInUser != null) {
-            userDTO = userService.getByUsername(loggedInUser);
+            userDTO = authenticatedUserService.getUserDTO();
         }
 
         if (userDTO != null) {
@@ -119,13 +117,8 @@ public class LeaveFilingView extends VerticalLayout {
         leaveBenefitsDTOComboBox.setRequiredIndicatorVisible(true);
 
         employeeApproverDTOComboBox = new ComboBox<>("Approver");
-        // Create the query object that will do the pagination of employee records in the combo box component.
-        Query<EmployeeDTO, Void> query = new Query<>();
-        approverEmployeeDTOList = employeeService.getEmployeesWhoAreApprovers();
-        employeeApproverDTOComboBox.setItems((employeeDTO, filterString) -> employeeDTO.getEmployeeFullName()
-                                                                                       .toLowerCase()
-                                                                                       .contains(filterString.toLowerCase()),
-                                                                            approverEmployeeDTOList);
+        employeeApproverDTOComboBox.setItems(query -> employeeDirectoryService.findEmployees(query.getFilter().orElse(""), true, query.getOffset(), query.getLimit()).stream(),
+                                             query -> employeeDirectoryService.countEmployees(query.getFilter().orElse(""), true));
         employeeApproverDTOComboBox.setItemLabelGenerator(employeeDTO -> employeeDTO.getFirstName().concat(" ").concat(employeeDTO.getLastName()));
         employeeApproverDTOComboBox.setRequired(true);
         employeeApproverDTOComboBox.setRequiredIndicatorVisible(true);
@@ -11,13 +11,12 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.BigDecimalField;
-import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.router.*;
 
 import io.distributechsolutions.hris.dtos.compenben.AllowanceDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.services.compenben.AllowanceService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.utils.StringUtil;
 import io.distributechsolutions.hris.views.MainLayout;
@@ -35,7 +34,7 @@ import java.util.UUID;
 @Route(value = "allowance-form", layout = MainLayout.class)
 public class AllowanceFormView extends VerticalLayout implements HasUrlParameter<String> {
     @Resource private final AllowanceService allowanceService;
-    @Resource private final EmployeeService employeeService;
+    @Resource private final EmployeeDirectoryService employeeDirectoryService;
 
     private AllowanceDTO allowanceDTO;
     private UUID parameterId;
@@ -46,9 +45,9 @@ public class AllowanceFormView extends VerticalLayout implements HasUrlParameter
     private BigDecimalField allowanceAmountField;
 
     public AllowanceFormView(AllowanceService allowanceService,
-                             EmployeeService employeeService) {
+                             EmployeeDirectoryService employeeDirectoryService) {
         this.allowanceService = allowanceService;
-        this.employeeService = employeeService;
+        this.employeeDirectoryService = employeeDirectoryService;
 
         add(allowanceDTOFormLayout);
 
@@ -69,12 +68,9 @@ public class AllowanceFormView extends VerticalLayout implements HasUrlParameter
     }
 
     private void buildAllowanceFormLayout() {
-        // Create the query object that will do the pagination of employee records in the combo box component.
-        Query<EmployeeDTO, Void> employeeQuery = new Query<>();
-
         employeeDTOComboBox = new ComboBox<>("Employee");
-        employeeDTOComboBox.setItems((employeeDTO, filterString) -> employeeDTO.getEmployeeFullName().toLowerCase().contains(filterString.toLowerCase()),
-                                                                                       employeeService.getAll(employeeQuery.getPage(), employeeQuery.getPageSize()));
+        employeeDTOComboBox.setItems(query -> employeeDirectoryService.findEmployees(query.getFilter().orElse(""), false, query.getOffset(), query.getLimit()).stream(),
+                                     query -> employeeDirectoryService.countEmployees(query.getFilter().orElse(""), false));
         employeeDTOComboBox.setItemLabelGenerator(EmployeeDTO::getEmployeeFullName);
         employeeDTOComboBox.setClearButtonVisible(true);
         employeeDTOComboBox.setRequired(true);
@@ -18,6 +18,7 @@ import io.distributechsolutions.hris.views.MainLayout;
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN",
@@ -129,7 +130,10 @@ public class AllowanceListView extends VerticalLayout {
 
     private void updateAllowanceDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            allowanceDTOGrid.setItems(allowanceService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            allowanceDTOGrid.setItems(query -> allowanceService.findByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                      query -> (int) allowanceService.countByParameter(searchParameter));
         } else {
             allowanceDTOGrid.setItems(query -> allowanceService.getAll(query.getPage(), query.getPageSize()).stream());
         }
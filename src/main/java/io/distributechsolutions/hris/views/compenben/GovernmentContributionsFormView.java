@@ -11,13 +11,12 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.BigDecimalField;
-import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.router.*;
 
 import io.distributechsolutions.hris.dtos.compenben.GovernmentContributionsDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.services.compenben.GovernmentContributionsService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.views.MainLayout;
 
@@ -34,7 +33,7 @@ import java.util.UUID;
 @Route(value = "government-contributions-form", layout = MainLayout.class)
 public class GovernmentContributionsFormView extends VerticalLayout implements HasUrlParameter<String> {
     @Resource private final GovernmentContributionsService governmentContributionsService;
-    @Resource private final EmployeeService employeeService;
+    @Resource private final EmployeeDirectoryService employeeDirectoryService;
 
     private GovernmentContributionsDTO governmentContributionsDTO;
     private UUID parameterId;
@@ -43,9 +42,9 @@ public class GovernmentContributionsFormView extends VerticalLayout implements H
     private ComboBox<EmployeeDTO> employeeDTOComboBox;
     private BigDecimalField sssAmountField, hdmfAmountField, philhealthAmountField;
 
-    public GovernmentContributionsFormView(GovernmentContributionsService governmentContributionsService, EmployeeService employeeService) {
+    public GovernmentContributionsFormView(GovernmentContributionsService governmentContributionsService, EmployeeDirectoryService employeeDirectoryService) {
         this.governmentContributionsService = governmentContributionsService;
-        this.employeeService = employeeService;
+        this.employeeDirectoryService = employeeDirectoryService;
 
         add(governmentContributionsDTOFormLayout);
 
@@ -66,12 +65,9 @@ public class GovernmentContributionsFormView extends VerticalLayout implements H
     }
 
     private void buildGovernmentContributionsFormLayout() {
-        // Create the query object that will do the pagination of employee records in the combo box component.
-        Query<EmployeeDTO, Void> employeeQuery = new Query<>();
-
         employeeDTOComboBox = new ComboBox<>("Employee");
-        employeeDTOComboBox.setItems((employeeDTO, filterString) -> employeeDTO.getEmployeeFullName().toLowerCase().contains(filterString.toLowerCase()),
-                                                                                       employeeService.getAll(employeeQuery.getPage(), employeeQuery.getPageSize()));
+        employeeDTOComboBox.setItems(query -> employeeDirectoryService.findEmployees(query.getFilter().orElse(""), false, query.getOffset(), query.getLimit()).stream(),
+                                     query -> employeeDirectoryService.countEmployees(query.getFilter().orElse(""), false));
         employeeDTOComboBox.setItemLabelGenerator(EmployeeDTO::getEmployeeFullName);
         employeeDTOComboBox.setClearButtonVisible(true);
         employeeDTOComboBox.setRequired(true);
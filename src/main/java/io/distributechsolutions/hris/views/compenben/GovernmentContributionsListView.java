@@ -19,6 +19,7 @@ import io.distributechsolutions.hris.views.MainLayout;
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN",
@@ -132,7 +133,10 @@ public class GovernmentContributionsListView extends VerticalLayout {
 
     private void updateGovernmentContributionsDTOGrid() {
         if (searchFilterTextField.getValue() != null || !searchFilterTextField.getValue().isBlank()) {
-            governmentContributionsDTOGrid.setItems(governmentContributionsService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            governmentContributionsDTOGrid.setItems(query -> governmentContributionsService.findByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                                    query -> (int) governmentContributionsService.countByParameter(searchParameter));
         } else {
             governmentContributionsDTOGrid.setItems(query -> governmentContributionsService.getAll(query.getPage(), query.getPageSize()).stream());
         }
@@ -11,13 +11,12 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.IntegerField;
-import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.router.*;
 
 import io.distributechsolutions.hris.dtos.compenben.LeaveBenefitsDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.services.compenben.LeaveBenefitsService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.utils.StringUtil;
 
@@ -36,7 +35,7 @@ import java.util.UUID;
 @Route(value = "leave-benefits-form", layout = MainLayout.class)
 public class LeaveBenefitsFormView extends VerticalLayout implements HasUrlParameter<String> {
     @Resource private final LeaveBenefitsService leaveBenefitsService;
-    @Resource private final EmployeeService employeeService;
+    @Resource private final EmployeeDirectoryService employeeDirectoryService;
 
     private LeaveBenefitsDTO leaveBenefitsDTO;
     private UUID parameterId;
@@ -49,9 +48,9 @@ public class LeaveBenefitsFormView extends VerticalLayout implements HasUrlParam
     private Checkbox leaveActiveCheckbox;
 
     public LeaveBenefitsFormView(LeaveBenefitsService leaveBenefitsService,
-                                 EmployeeService employeeService) {
+                                 EmployeeDirectoryService employeeDirectoryService) {
         this.leaveBenefitsService = leaveBenefitsService;
-        this.employeeService = employeeService;
+        this.employeeDirectoryService = employeeDirectoryService;
 
         add(leaveBenefitsDTOFormLayout);
 
@@ -72,12 +71,9 @@ public class LeaveBenefitsFormView extends VerticalLayout implements HasUrlParam
     }
 
     private void buildLeaveBenefitsFormLayout() {
-        // Create the query object that will do the pagination of employee records in the combo box component.
-        Query<EmployeeDTO, Void> employeeQuery = new Query<>();
-
         employeeDTOComboBox = new ComboBox<>("Employee");
-        employeeDTOComboBox.setItems((employeeDTO, filterString) -> employeeDTO.getEmployeeFullName().toLowerCase().contains(filterString.toLowerCase()),
-                                                                    employeeService.getAll(employeeQuery.getPage(), employeeQuery.getPageSize()));
+        employeeDTOComboBox.setItems(query -> employeeDirectoryService.findEmployees(query.getFilter().orElse(""), false, query.getOffset(), query.getLimit()).stream(),
+                                     query -> employeeDirectoryService.countEmployees(query.getFilter().orElse(""), false));
         employeeDTOComboBox.setItemLabelGenerator(EmployeeDTO::getEmployeeFullName);
         employeeDTOComboBox.setClearButtonVisible(true);
         employeeDTOComboBox.setRequired(true);
@@ -20,6 +20,7 @@ import io.distributechsolutions.hris.views.MainLayout;
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN",
@@ -146,7 +147,10 @@ public class LeaveBenefitsListView extends VerticalLayout {
 
     private void updateLeaveBenefitsDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            leaveBenefitsDTOGrid.setItems(leaveBenefitsService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            leaveBenefitsDTOGrid.setItems(query -> leaveBenefitsService.findByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                          query -> (int) leaveBenefitsService.countByParameter(searchParameter));
         } else {
             leaveBenefitsDTOGrid.setItems(query -> leaveBenefitsService.getAll(query.getPage(), query.getPageSize()).stream());
         }
@@ -11,13 +11,14 @@ import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 
-import io.distributechsolutions.hris.dtos.compenben.LoanDeductionDTO;
+import io.distributechsolutions.hris.dtos.compenben.LoanDeductionListDTO;
 import io.distributechsolutions.hris.services.compenben.LoanDeductionService;
 import io.distributechsolutions.hris.views.MainLayout;
 
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN",
@@ -29,7 +30,7 @@ public class LoanDeductionListView extends VerticalLayout {
     @Resource
     private final LoanDeductionService loanDeductionService;
 
-    private Grid<LoanDeductionDTO> loanDeductionDTOGrid;
+    private Grid<LoanDeductionListDTO> loanDeductionDTOGrid;
     private TextField searchFilterTextField;
 
     public LoanDeductionListView(LoanDeductionService loanDeductionService) {
@@ -62,43 +63,43 @@ public class LoanDeductionListView extends VerticalLayout {
         return headerToolbarLayout;
     }
 
-    private Grid<LoanDeductionDTO> buildLoanDeductionDTOGrid() {
-        loanDeductionDTOGrid = new Grid<>(LoanDeductionDTO.class, false);
+    private Grid<LoanDeductionListDTO> buildLoanDeductionDTOGrid() {
+        loanDeductionDTOGrid = new Grid<>(LoanDeductionListDTO.class, false);
 
-        loanDeductionDTOGrid.addColumn(loanDeductionDTO -> loanDeductionDTO.getEmployeeDTO().getEmployeeNumber())
+        loanDeductionDTOGrid.addColumn(LoanDeductionListDTO::employeeNumber)
                             .setHeader("Employee No.")
                             .setSortable(true);
-        loanDeductionDTOGrid.addColumn(loanDeductionDTO -> loanDeductionDTO.getEmployeeDTO().getFirstName()
-                                                                                                             .concat(" ")
-                                                                                                             .concat(loanDeductionDTO.getEmployeeDTO().getLastName())
-                                                                                                             .concat(loanDeductionDTO.getEmployeeDTO().getSuffix() != null ?
-                                                                                                                     loanDeductionDTO.getEmployeeDTO().getSuffix() :
-                                                                                                                     ""))
+        loanDeductionDTOGrid.addColumn(loanDeductionListDTO -> loanDeductionListDTO.firstName()
+                                                                                   .concat(" ")
+                                                                                   .concat(loanDeductionListDTO.lastName())
+                                                                                   .concat(loanDeductionListDTO.suffix() != null ?
+                                                                                           loanDeductionListDTO.suffix() :
+                                                                                           ""))
                             .setHeader("Employee Name")
                             .setSortable(true);
-        loanDeductionDTOGrid.addColumn(LoanDeductionDTO::getLoanType)
+        loanDeductionDTOGrid.addColumn(LoanDeductionListDTO::loanType)
                             .setHeader("Type")
                             .setSortable(true);
-        loanDeductionDTOGrid.addColumn(LoanDeductionDTO::getLoanDescription)
+        loanDeductionDTOGrid.addColumn(LoanDeductionListDTO::loanDescription)
                             .setHeader("Description")
                             .setSortable(true);
-        loanDeductionDTOGrid.addColumn(loanDeductionDTO -> loanDeductionDTO.getLoanStartDate() + " to " + loanDeductionDTO.getLoanEndDate())
+        loanDeductionDTOGrid.addColumn(loanDeductionListDTO -> loanDeductionListDTO.loanStartDate() + " to " + loanDeductionListDTO.loanEndDate())
                             .setHeader("Date Duration")
                             .setSortable(true);
-        loanDeductionDTOGrid.addColumn(loanDeductionDTO -> "PHP " + loanDeductionDTO.getLoanAmount())
+        loanDeductionDTOGrid.addColumn(loanDeductionListDTO -> "PHP " + loanDeductionListDTO.loanAmount())
                             .setHeader("Amount")
                             .setSortable(true);
-        loanDeductionDTOGrid.addColumn(loanDeductionDTO -> "PHP " + loanDeductionDTO.getMonthlyDeduction())
+        loanDeductionDTOGrid.addColumn(loanDeductionListDTO -> "PHP " + loanDeductionListDTO.monthlyDeduction())
                             .setHeader("Monthly Deduction")
                             .setSortable(true);
-        loanDeductionDTOGrid.addComponentColumn(loanDeductionDTO -> buildRowToolbar()).setHeader("Action");
+        loanDeductionDTOGrid.addComponentColumn(loanDeductionListDTO -> buildRowToolbar()).setHeader("Action");
         loanDeductionDTOGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES,
                                               GridVariant.LUMO_COLUMN_BORDERS,
                                               GridVariant.LUMO_WRAP_CELL_CONTENT);
         loanDeductionDTOGrid.setSelectionMode(Grid.SelectionMode.SINGLE);
         loanDeductionDTOGrid.setMultiSort(true, Grid.MultiSortPriority.APPEND);
         loanDeductionDTOGrid.setEmptyStateText("No benefit records found.");
-        loanDeductionDTOGrid.setItems((query -> loanDeductionService.getAll(query.getPage(), query.getPageSize()).stream()));
+        loanDeductionDTOGrid.setItems((query -> loanDeductionService.getLoanDeductionList(query.getPage(), query.getPageSize()).stream()));
 
         return loanDeductionDTOGrid;
     }
@@ -112,8 +113,8 @@ public class LoanDeductionListView extends VerticalLayout {
         viewButton.addThemeVariants(ButtonVariant.LUMO_CONTRAST);
         viewButton.addClickListener(buttonClickEvent -> viewButton.getUI().ifPresent(ui -> {
             if (loanDeductionDTOGrid.getSelectionModel().getFirstSelectedItem().isPresent()) {
-                LoanDeductionDTO selectedLoanDeductionDTO = loanDeductionDTOGrid.getSelectionModel().getFirstSelectedItem().get();
-                ui.navigate(LoanDeductionDetailsView.class, selectedLoanDeductionDTO.getId().toString());
+                LoanDeductionListDTO selectedLoanDeductionListDTO = loanDeductionDTOGrid.getSelectionModel().getFirstSelectedItem().get();
+                ui.navigate(LoanDeductionDetailsView.class, selectedLoanDeductionListDTO.id().toString());
             }
         }));
 
@@ -123,8 +124,8 @@ public class LoanDeductionListView extends VerticalLayout {
         editButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY, ButtonVariant.LUMO_SUCCESS);
         editButton.addClickListener(buttonClickEvent -> editButton.getUI().ifPresent(ui -> {
             if (loanDeductionDTOGrid.getSelectionModel().getFirstSelectedItem().isPresent()) {
-                LoanDeductionDTO selectedLoanDeductionDTO = loanDeductionDTOGrid.getSelectionModel().getFirstSelectedItem().get();
-                ui.navigate(LoanDeductionFormView.class, selectedLoanDeductionDTO.getId().toString());
+                LoanDeductionListDTO selectedLoanDeductionListDTO = loanDeductionDTOGrid.getSelectionModel().getFirstSelectedItem().get();
+                ui.navigate(LoanDeductionFormView.class, selectedLoanDeductionListDTO.id().toString());
             }
         }));
 
@@ -137,9 +138,12 @@ public class LoanDeductionListView extends VerticalLayout {
 
     private void updateLoanDeductionDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            loanDeductionDTOGrid.setItems(loanDeductionService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            loanDeductionDTOGrid.setItems(query -> loanDeductionService.findLoanDeductionListByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                          query -> (int) loanDeductionService.countByParameter(searchParameter));
         } else {
-            loanDeductionDTOGrid.setItems(query -> loanDeductionService.getAll(query.getPage(), query.getPageSize()).stream());
+            loanDeductionDTOGrid.setItems(query -> loanDeductionService.getLoanDeductionList(query.getPage(), query.getPageSize()).stream());
         }
     }
 }
@@ -12,7 +12,6 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.radiobutton.RadioButtonGroup;
 import com.vaadin.flow.component.textfield.BigDecimalField;
-import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.router.BeforeEvent;
 import com.vaadin.flow.router.HasUrlParameter;
 import com.vaadin.flow.router.OptionalParameter;
@@ -23,7 +22,7 @@ import io.distributechsolutions.hris.dtos.compenben.RatesDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.services.compenben.AllowanceService;
 import io.distributechsolutions.hris.services.compenben.RatesService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.views.MainLayout;
 
@@ -41,7 +40,7 @@ import java.util.UUID;
 @Route(value = "rates-form", layout = MainLayout.class)
 public class RatesFormView extends VerticalLayout implements HasUrlParameter<String> {
     @Resource private final RatesService ratesService;
-    @Resource private final EmployeeService employeeService;
+    @Resource private final EmployeeDirectoryService employeeDirectoryService;
     @Resource private final AllowanceService allowanceService;
 
     private RatesDTO ratesDTO;
@@ -60,10 +59,10 @@ public class RatesFormView extends VerticalLayout implements HasUrlParameter<Str
                             absentDailyRateDecimalField;
 
     public RatesFormView(RatesService ratesService,
-                         EmployeeService employeeService,
+                         EmployeeDirectoryService employeeDirectoryService,
                          AllowanceService allowanceService) {
         this.ratesService = ratesService;
-        this.employeeService = employeeService;
+        this.employeeDirectoryService = employeeDirectoryService;
         this.allowanceService = allowanceService;
 
         loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
@@ -87,12 +86,9 @@ public class RatesFormView extends VerticalLayout implements HasUrlParameter<Str
     }
 
     private void buildRatesFormLayout() {
-        // Create the query object that will do the pagination of employee records in the combo box component.
-        Query<EmployeeDTO, Void> employeeQuery = new Query<>();
-
         employeeDTOComboBox = new ComboBox<>("Employee");
-        employeeDTOComboBox.setItems((employeeDTO, filterString) -> employeeDTO.getEmployeeFullName().toLowerCase().contains(filterString.toLowerCase()),
-                                                                                       employeeService.getAll(employeeQuery.getPage(), employeeQuery.getPageSize()));
+        employeeDTOComboBox.setItems(query -> employeeDirectoryService.findEmployees(query.getFilter().orElse(""), false, query.getOffset(), query.getLimit()).stream(),
+                                     query -> employeeDirectoryService.countEmployees(query.getFilter().orElse(""), false));
         employeeDTOComboBox.setItemLabelGenerator(EmployeeDTO::getEmployeeFullName);
         employeeDTOComboBox.setClearButtonVisible(true);
         employeeDTOComboBox.setRequired(true);
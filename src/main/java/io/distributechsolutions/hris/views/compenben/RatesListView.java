@@ -11,13 +11,14 @@ import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 
-import io.distributechsolutions.hris.dtos.compenben.RatesDTO;
+import io.distributechsolutions.hris.dtos.compenben.RatesListDTO;
 import io.distributechsolutions.hris.services.compenben.RatesService;
 import io.distributechsolutions.hris.views.MainLayout;
 
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN",
@@ -29,7 +30,7 @@ public class RatesListView extends VerticalLayout {
     @Resource
     private final RatesService ratesService;
 
-    private Grid<RatesDTO> ratesDTOGrid;
+    private Grid<RatesListDTO> ratesDTOGrid;
     private TextField searchFilterTextField;
 
     public RatesListView(RatesService ratesService) {
@@ -62,30 +63,30 @@ public class RatesListView extends VerticalLayout {
         return headerToolbarLayout;
     }
 
-    private Grid<RatesDTO> buildRatesDTOGrid() {
-        ratesDTOGrid = new Grid<>(RatesDTO.class, false);
+    private Grid<RatesListDTO> buildRatesDTOGrid() {
+        ratesDTOGrid = new Grid<>(RatesListDTO.class, false);
 
-        ratesDTOGrid.addColumn(ratesDTO -> ratesDTO.getEmployeeDTO().getEmployeeNumber())
+        ratesDTOGrid.addColumn(RatesListDTO::employeeNumber)
                     .setHeader("Employee No.")
                     .setSortable(true);
-        ratesDTOGrid.addColumn(ratesDTO -> ratesDTO.getEmployeeDTO().getFirstName()
-                                                                    .concat(" ")
-                                                                    .concat(ratesDTO.getEmployeeDTO().getMiddleName())
-                                                                    .concat(" ")
-                                                            .concat(ratesDTO.getEmployeeDTO().getLastName())
-                                                            .concat(ratesDTO.getEmployeeDTO().getSuffix() != null ? ratesDTO.getEmployeeDTO().getSuffix() : ""))
+        ratesDTOGrid.addColumn(ratesListDTO -> ratesListDTO.firstName()
+                                                           .concat(" ")
+                                                           .concat(ratesListDTO.middleName())
+                                                           .concat(" ")
+                                                           .concat(ratesListDTO.lastName())
+                                                           .concat(ratesListDTO.suffix() != null ? ratesListDTO.suffix() : ""))
                     .setHeader("Employee Name")
                     .setSortable(true);
-        ratesDTOGrid.addColumn(RatesDTO::getRateType)
+        ratesDTOGrid.addColumn(RatesListDTO::rateType)
                     .setHeader("Rate Type")
                     .setSortable(true);
-        ratesDTOGrid.addColumn(ratesDTO -> "PHP ".concat(String.valueOf(ratesDTO.getBasicCompensationRate())))
+        ratesDTOGrid.addColumn(ratesListDTO -> "PHP ".concat(String.valueOf(ratesListDTO.basicCompensationRate())))
                     .setHeader("Basic Rate")
                     .setSortable(true);
-        ratesDTOGrid.addColumn(ratesDTO -> "PHP ".concat(String.valueOf(ratesDTO.getDailyCompensationRate())))
+        ratesDTOGrid.addColumn(ratesListDTO -> "PHP ".concat(String.valueOf(ratesListDTO.dailyCompensationRate())))
                     .setHeader("Daily Rate")
                     .setSortable(true);
-        ratesDTOGrid.addColumn(ratesDTO -> "PHP ".concat(String.valueOf(ratesDTO.getHourlyCompensationRate())))
+        ratesDTOGrid.addColumn(ratesListDTO -> "PHP ".concat(String.valueOf(ratesListDTO.hourlyCompensationRate())))
                     .setHeader("Hourly Rate")
                     .setSortable(true);
         ratesDTOGrid.addComponentColumn(userDTO -> buildRowToolbar()).setHeader("Action");
@@ -96,7 +97,7 @@ public class RatesListView extends VerticalLayout {
         ratesDTOGrid.setMultiSort(true, Grid.MultiSortPriority.APPEND);
         ratesDTOGrid.setAllRowsVisible(true);
         ratesDTOGrid.setEmptyStateText("No rate records found.");
-        ratesDTOGrid.setItems((query -> ratesService.getAll(query.getPage(), query.getPageSize()).stream()));
+        ratesDTOGrid.setItems((query -> ratesService.getRatesList(query.getPage(), query.getPageSize()).stream()));
 
         return ratesDTOGrid;
     }
@@ -110,8 +111,8 @@ public class RatesListView extends VerticalLayout {
         viewButton.addThemeVariants(ButtonVariant.LUMO_CONTRAST);
         viewButton.addClickListener(buttonClickEvent -> viewButton.getUI().ifPresent(ui -> {
             if (ratesDTOGrid.getSelectionModel().getFirstSelectedItem().isPresent()) {
-                RatesDTO selectedRatesDTO = ratesDTOGrid.getSelectionModel().getFirstSelectedItem().get();
-                ui.navigate(RatesDetailsView.class, selectedRatesDTO.getId().toString());
+                RatesListDTO selectedRatesListDTO = ratesDTOGrid.getSelectionModel().getFirstSelectedItem().get();
+                ui.navigate(RatesDetailsView.class, selectedRatesListDTO.id().toString());
             }
         }));
 
@@ -121,8 +122,8 @@ public class RatesListView extends VerticalLayout {
         editButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY, ButtonVariant.LUMO_SUCCESS);
         editButton.addClickListener(buttonClickEvent -> editButton.getUI().ifPresent(ui -> {
             if (ratesDTOGrid.getSelectionModel().getFirstSelectedItem().isPresent()) {
-                RatesDTO selectedRatesDTO = ratesDTOGrid.getSelectionModel().getFirstSelectedItem().get();
-                ui.navigate(RatesFormView.class, selectedRatesDTO.getId().toString());
+                RatesListDTO selectedRatesListDTO = ratesDTOGrid.getSelectionModel().getFirstSelectedItem().get();
+                ui.navigate(RatesFormView.class, selectedRatesListDTO.id().toString());
             }
         }));
 
@@ -135,9 +136,12 @@ public class RatesListView extends VerticalLayout {
 
     private void updateRatesDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            ratesDTOGrid.setItems(ratesService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            ratesDTOGrid.setItems(query -> ratesService.findRatesListByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                  query -> (int) ratesService.countByParameter(searchParameter));
         } else {
-            ratesDTOGrid.setItems(query -> ratesService.getAll(query.getPage(), query.getPageSize()).stream());
+            ratesDTOGrid.setItems(query -> ratesService.getRatesList(query.getPage(), query.getPageSize()).stream());
         }
     }
 }
@@ -25,7 +25,7 @@ import io.distributechsolutions.hris.dtos.reference.BarangayDTO;
 import io.distributechsolutions.hris.dtos.reference.MunicipalityDTO;
 import io.distributechsolutions.hris.dtos.reference.ProvinceDTO;
 import io.distributechsolutions.hris.dtos.reference.RegionDTO;
-import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.services.admin.AuthenticatedUserService;
 import io.distributechsolutions.hris.services.info.AddressInfoService;
 import io.distributechsolutions.hris.services.profile.EmployeeService;
 import io.distributechsolutions.hris.services.reference.BarangayService;
@@ -44,7 +44,7 @@ import org.vaadin.lineawesome.LineAwesomeIcon;
 
 public class AddressInfoForm extends VerticalLayout {
     @Resource private final AddressInfoService addressInfoService;
-    @Resource private final UserService userService;
+    @Resource private final AuthenticatedUserService authenticatedUserService;
     @Resource private final EmployeeService employeeService;
     @Resource private final RegionService regionService;
     @Resource private final ProvinceService provinceService;
@@ -72,14 +72,14 @@ public class AddressInfoForm extends VerticalLayout {
 
 
     public AddressInfoForm(AddressInfoService addressInfoService,
-                           UserService userService,
+                           AuthenticatedUserService authenticatedUserService,
                            EmployeeService employeeService,
                            RegionService regionService,
                            ProvinceService provinceService,
                            MunicipalityService municipalityService,
                            BarangayService barangayService) {
         this.addressInfoService = addressInfoService;
-        this.userService = userService;
+        this.authenticatedUserService = authenticatedUserService;
         this.employeeService = employeeService;
         this.regionService = regionService;
         this.provinceService = provinceService;
@@ -89,7 +89,7 @@ public class AddressInfoForm extends VerticalLayout {
         loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
 
         if (loggedInUser != null) {
-            userDTO = userService.getByUsername(loggedInUser);
+            userDTO = authenticatedUserService.getUserDTO();
         }
 
         if (userDTO != null) {
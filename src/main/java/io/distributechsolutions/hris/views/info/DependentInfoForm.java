@@ -21,7 +21,7 @@ import com.vaadin.flow.data.renderer.LocalDateRenderer;
 import io.distributechsolutions.hris.dtos.admin.UserDTO;
 import io.distributechsolutions.hris.dtos.info.DependentInfoDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
-import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.services.admin.AuthenticatedUserService;
 import io.distributechsolutions.hris.services.info.DependentInfoService;
 import io.distributechsolutions.hris.services.profile.EmployeeService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
@@ -37,7 +37,7 @@ import org.vaadin.lineawesome.LineAwesomeIcon;
 
 public class DependentInfoForm extends VerticalLayout {
     @Resource private final DependentInfoService dependentInfoService;
-    @Resource private final UserService userService;
+    @Resource private final AuthenticatedUserService authenticatedUserService;
     @Resource private final EmployeeService employeeService;
 
     private List<DependentInfoDTO> dependentInfoDTOList;
@@ -55,16 +55,16 @@ public class DependentInfoForm extends VerticalLayout {
     private Button saveButton, cancelButton, viewButton, editButton, deleteButton;
 
     public DependentInfoForm(DependentInfoService dependentInfoService,
-                             UserService userService,
+                             AuthenticatedUserService authenticatedUserService,
                              EmployeeService employeeService) {
         this.dependentInfoService = dependentInfoService;
-        this.userService = userService;
+        this.authenticatedUserService = authenticatedUserService;
         this.employeeService = employeeService;
 
         loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
 
         if (loggedInUser != null) {
-            userDTO = userService.getByUsername(loggedInUser);
+            userDTO = authenticatedUserService.getUserDTO();
         }
 
         if (userDTO != null) {
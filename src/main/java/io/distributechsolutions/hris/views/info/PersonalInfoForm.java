@@ -16,7 +16,7 @@ import com.vaadin.flow.component.textfield.TextField;
 import io.distributechsolutions.hris.dtos.admin.UserDTO;
 import io.distributechsolutions.hris.dtos.info.PersonalInfoDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
-import io.distributechsolutions.hris.services.admin.UserService;
+import io.distributechsolutions.hris.services.admin.AuthenticatedUserService;
 import io.distributechsolutions.hris.services.info.PersonalInfoService;
 import io.distributechsolutions.hris.services.profile.EmployeeService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
@@ -31,7 +31,7 @@ import org.vaadin.lineawesome.LineAwesomeIcon;
 
 public class PersonalInfoForm extends FormLayout {
     @Resource private final PersonalInfoService personalInfoService;
-    @Resource private final UserService userService;
+    @Resource private final AuthenticatedUserService authenticatedUserService;
     @Resource private final EmployeeService employeeService;
 
     private EmployeeDTO employeeDTO;
@@ -56,16 +56,16 @@ public class PersonalInfoForm extends FormLayout {
     private Button cancelButton;
 
     public PersonalInfoForm(PersonalInfoService personalInfoService,
-                            UserService userService,
+                            AuthenticatedUserService authenticatedUserService,
                             EmployeeService employeeService) {
         this.personalInfoService = personalInfoService;
-        this.userService = userService;
+        this.authenticatedUserService = authenticatedUserService;
         this.employeeService = employeeService;
 
         loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
 
         if (loggedInUser != null) {
-            userDTO = userService.getByUsername(loggedInUser);
+            userDTO = authenticatedUserService.getUserDTO();
         }
 
         if (userDTO != null) {
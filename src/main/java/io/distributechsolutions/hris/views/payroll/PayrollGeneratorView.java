@@ -1,5 +1,8 @@
 package io.distributechsolutions.hris.views.payroll;
 
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.confirmdialog.ConfirmDialog;
@@ -11,33 +14,30 @@ import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.component.progressbar.ProgressBar;
 import com.vaadin.flow.data.renderer.ComponentRenderer;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoIcon;
 
-import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetDTO;
-import io.distributechsolutions.hris.dtos.compenben.RatesDTO;
-import io.distributechsolutions.hris.dtos.payroll.EmployeePayrollDTO;
+import io.distributechsolutions.hris.dtos.attendance.EmployeeTimesheetListDTO;
+import io.distributechsolutions.hris.dtos.payroll.PayrollRunDTO;
 import io.distributechsolutions.hris.services.attendance.EmployeeTimesheetService;
-import io.distributechsolutions.hris.services.compenben.AllowanceService;
-import io.distributechsolutions.hris.services.compenben.RatesService;
-import io.distributechsolutions.hris.services.payroll.EmployeePayrollService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
-import io.distributechsolutions.hris.utils.PayrollComputationUtil;
+import io.distributechsolutions.hris.services.payroll.PayrollEngineService;
+import io.distributechsolutions.hris.services.payroll.PayrollRunService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.views.MainLayout;
 
 import jakarta.annotation.security.RolesAllowed;
 
-import java.math.BigDecimal;
-import java.util.List;
-import java.util.Map;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Objects;
-import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @RolesAllowed({"ROLE_ADMIN",
                "ROLE_HR_MANAGER",
@@ -45,33 +45,30 @@ import java.util.stream.Collectors;
 @PageTitle("Payroll Generator")
 @Route(value = "payroll-generator", layout = MainLayout.class)
 public class PayrollGeneratorView extends VerticalLayout {
-    private final EmployeeService employeeService;
-    private final EmployeePayrollService employeePayrollService;
     private final EmployeeTimesheetService employeeTimesheetService;
-    private final RatesService ratesService;
-    private final AllowanceService allowanceService;
+    private final PayrollEngineService payrollEngineService;
+    private final PayrollRunService payrollRunService;
 
     private DatePicker cutOffFromDatePicker, cutOffToDatePicker;
     private Button searchCutOffButton, generatePayrollButton;
-    private Grid<EmployeeTimesheetDTO> timesheetDTOGrid;
+    private Grid<EmployeeTimesheetListDTO> timesheetDTOGrid;
+    private Span payrollRunStatusSpan;
+    private ProgressBar payrollRunProgressBar;
+    private Consumer<PayrollRunDTO> payrollRunListener;
 
     private String loggedInUser;
 
-    public PayrollGeneratorView(EmployeeService employeeService,
-                                EmployeePayrollService employeePayrollService,
-                                EmployeeTimesheetService employeeTimesheetService,
-                                RatesService ratesService,
-                                AllowanceService allowanceService) {
-        this.employeeService = employeeService;
-        this.employeePayrollService = employeePayrollService;
+    public PayrollGeneratorView(EmployeeTimesheetService employeeTimesheetService,
+                                PayrollEngineService payrollEngineService,
+                                PayrollRunService payrollRunService) {
         this.employeeTimesheetService = employeeTimesheetService;
-        this.ratesService = ratesService;
-        this.allowanceService = allowanceService;
+        this.payrollEngineService = payrollEngineService;
+        this.payrollRunService = payrollRunService;
 
         // Get the logged-in user of the system.
         loggedInUser = Objects.requireNonNull(SecurityUtil.getAuthenticatedUser()).getUsername();
 
-        this.add(buildFilterToolbar(), buildTimesheetDTOGrid());
+        this.add(buildFilterToolbar(), buildPayrollRunProgressLayout(), buildTimesheetDTOGrid());
         this.setSizeFull();
         this.setAlignItems(Alignment.STRETCH);
     }
@@ -92,16 +89,17 @@ public class PayrollGeneratorView extends VerticalLayout {
         searchCutOffButton.setIcon(LumoIcon.SEARCH.create());
         searchCutOffButton.addClickListener(e -> {
             if (cutOffFromDatePicker.getValue() != null && cutOffToDatePicker.getValue() != null) {
-                timesheetDTOGrid.setItems(employeeTimesheetService.findByLogDateRange(cutOffFromDatePicker.getValue(), cutOffToDatePicker.getValue()));
+                this.setApprovedTimesheetItems();
             }
         });
 
         generatePayrollButton = new Button("Generate Payroll");
         generatePayrollButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
         generatePayrollButton.addClickListener(buttonClickEvent -> {
-            ListDataProvider<EmployeeTimesheetDTO> timesheetDTOListDataProvider = (ListDataProvider<EmployeeTimesheetDTO>) timesheetDTOGrid.getDataProvider();
+            LocalDate cutOffFromDate = cutOffFromDatePicker.getValue();
+            LocalDate cutOffToDate = cutOffToDatePicker.getValue();
 
-            if (!timesheetDTOListDataProvider.getItems().isEmpty()) {
+            if (cutOffFromDate != null && cutOffToDate != null && employeeTimesheetService.countTimesheetByStatus("APPROVED", cutOffFromDate, cutOffToDate) > 0) {
                 ConfirmDialog confirmDialog = new ConfirmDialog();
                 confirmDialog.setHeader("Generate Payroll");
                 confirmDialog.setText("""
@@ -110,34 +108,25 @@ public class PayrollGeneratorView extends VerticalLayout {
                                       Are you sure you want to generate the payroll?
                                       """);
                 confirmDialog.addConfirmListener(confirmEvent -> {
-                    Map<UUID, List<EmployeeTimesheetDTO>> groupedByEmployee = timesheetDTOListDataProvider.getItems()
-                                                                                                  .stream()
-                                                                                                  .collect(Collectors.groupingBy(employeeTimesheetDTO -> employeeTimesheetDTO.getEmployeeDTO().getId()));
-                    groupedByEmployee.forEach((uuid, timesheetDTOs) -> {
-                        RatesDTO ratesDTO = ratesService.findByEmployeeDTO(employeeService.getById(uuid));
-                        BigDecimal totalAllowanceAmount = allowanceService.getSumOfAllowanceByEmployeeDTO(employeeService.getById(uuid));
-                        AtomicInteger absentCount = new AtomicInteger(0);
-
-//                        timesheetDTOs.forEach(employeeTimesheetDTO -> {
-//                            if (employeeTimesheetDTO.getLeaveRemarks().equalsIgnoreCase("Absent")) {
-//                                absentCount.set(absentCount.get() + 1);
-//                            }
-//                        });
-
-                        EmployeePayrollDTO employeePayrollDTO = new EmployeePayrollDTO();
-                        employeePayrollDTO.setEmployeeDTO(employeeService.getById(uuid));
-                        employeePayrollDTO.setCutOffFromDate(cutOffFromDatePicker.getValue());
-                        employeePayrollDTO.setCutOffToDate(cutOffToDatePicker.getValue());
-                        employeePayrollDTO.setPayrollFrequency(PayrollComputationUtil.getPayrollFrequency(cutOffFromDatePicker.getValue(), cutOffToDatePicker.getValue()));
-                        employeePayrollDTO.setBasicPayAmount(ratesDTO.getBasicCompensationRate());
-                        employeePayrollDTO.setAllowancePayAmount(totalAllowanceAmount);
-                        employeePayrollDTO.setAbsentDeductionAmount(ratesDTO.getDailyAbsentDeductionRate().multiply(BigDecimal.valueOf(absentCount.get())));
-
-                        employeePayrollDTO.setCreatedBy(loggedInUser);
-                        employeePayrollDTO.setUpdatedBy(loggedInUser);
-
-                        employeePayrollService.saveOrUpdate(employeePayrollDTO);
-                    });
+                    PayrollRunDTO payrollRunDTO;
+
+                    try {
+                        payrollRunDTO = payrollEngineService.submitPayrollRun(cutOffFromDatePicker.getValue(),
+                                                                              cutOffToDatePicker.getValue(),
+                                                                              loggedInUser);
+                    } catch (IllegalArgumentException exception) {
+                        Notification notification = Notification.show(exception.getMessage(), 5000, Notification.Position.TOP_CENTER);
+                        notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
+                        return;
+                    }
+
+                    if (payrollRunDTO.getRunStatus().equals("FAILED")) {
+                        Notification notification = Notification.show(payrollRunDTO.getErrorMessage(), 5000, Notification.Position.TOP_CENTER);
+                        notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
+                    } else {
+                        Notification notification = Notification.show("Payroll generation has been submitted.", 5000, Notification.Position.TOP_CENTER);
+                        notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+                    }
                 });
                 confirmDialog.setRejectable(true);
                 confirmDialog.addRejectListener(rejectEvent -> confirmDialog.close());
@@ -161,38 +150,105 @@ public class PayrollGeneratorView extends VerticalLayout {
         return toolbar; 
     }
 
-    public Grid<EmployeeTimesheetDTO> buildTimesheetDTOGrid() {
-        timesheetDTOGrid = new Grid<>(EmployeeTimesheetDTO.class, false);
+    public VerticalLayout buildPayrollRunProgressLayout() {
+        VerticalLayout payrollRunProgressLayout = new VerticalLayout();
+        payrollRunProgressLayout.setPadding(false);
+        payrollRunProgressLayout.setSpacing(false);
+
+        payrollRunStatusSpan = new Span("No payroll has been generated yet.");
+
+        payrollRunProgressBar = new ProgressBar();
+        payrollRunProgressBar.setVisible(false);
+
+        payrollRunProgressLayout.add(payrollRunStatusSpan, payrollRunProgressBar);
+
+        return payrollRunProgressLayout;
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+
+        // Push the payroll run progress to the browser, since it comes from the payroll threads.
+        UI ui = attachEvent.getUI();
+        payrollRunListener = payrollRunDTO -> ui.access(() -> this.updatePayrollRunProgress(payrollRunDTO));
+        payrollEngineService.addPayrollRunListener(payrollRunListener);
+
+        // Show the latest payroll run, so an ongoing run can still be followed after a page reload.
+        PayrollRunDTO latestPayrollRunDTO = payrollRunService.getLatestPayrollRun();
+
+        if (latestPayrollRunDTO != null) {
+            this.updatePayrollRunProgress(latestPayrollRunDTO);
+        }
+    }
 
-        timesheetDTOGrid.addColumn(employeeTimesheetDTO -> employeeTimesheetDTO.getEmployeeDTO().getEmployeeNumber())
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        payrollEngineService.removePayrollRunListener(payrollRunListener);
+        super.onDetach(detachEvent);
+    }
+
+    private void updatePayrollRunProgress(PayrollRunDTO payrollRunDTO) {
+        boolean payrollRunActive = payrollRunDTO.getRunStatus().equals("QUEUED") || payrollRunDTO.getRunStatus().equals("RUNNING");
+        int totalEmployeeCount = payrollRunDTO.getTotalEmployeeCount();
+        int finishedEmployeeCount = payrollRunDTO.getProcessedEmployeeCount() + payrollRunDTO.getFailedEmployeeCount();
+
+        String payrollRunStatus = String.format("Payroll run for cut-off %s to %s: %s - %s of %s employee(s) processed",
+                                                payrollRunDTO.getCutOffFromDate(),
+                                                payrollRunDTO.getCutOffToDate(),
+                                                payrollRunDTO.getRunStatus(),
+                                                payrollRunDTO.getProcessedEmployeeCount(),
+                                                totalEmployeeCount);
+
+        if (payrollRunDTO.getFailedEmployeeCount() > 0) {
+            payrollRunStatus = payrollRunStatus.concat(String.format(", %s failed", payrollRunDTO.getFailedEmployeeCount()));
+        }
+
+        if (payrollRunDTO.getDateAndTimeStarted() != null) {
+            LocalDateTime endDateAndTime = payrollRunDTO.getDateAndTimeFinished() != null ? payrollRunDTO.getDateAndTimeFinished() : LocalDateTime.now(ZoneId.of("Asia/Manila"));
+            double elapsedSeconds = Math.max(Duration.between(payrollRunDTO.getDateAndTimeStarted(), endDateAndTime).toMillis() / 1000.0, 1.0);
+            payrollRunStatus = payrollRunStatus.concat(String.format(" (%.1f employees/sec)", finishedEmployeeCount / elapsedSeconds));
+        }
+
+        payrollRunStatusSpan.setText(payrollRunStatus.concat("."));
+        payrollRunProgressBar.setVisible(payrollRunActive);
+        payrollRunProgressBar.setIndeterminate(totalEmployeeCount == 0);
+        payrollRunProgressBar.setValue(totalEmployeeCount == 0 ? 0 : (double) finishedEmployeeCount / totalEmployeeCount);
+        generatePayrollButton.setEnabled(!payrollRunActive);
+    }
+
+    public Grid<EmployeeTimesheetListDTO> buildTimesheetDTOGrid() {
+        timesheetDTOGrid = new Grid<>(EmployeeTimesheetListDTO.class, false);
+
+        timesheetDTOGrid.addColumn(EmployeeTimesheetListDTO::employeeNumber)
                         .setHeader("Employee No.")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(employeeTimesheetDTO -> employeeTimesheetDTO.getEmployeeDTO().getFirstName()
-                                                                             .concat(" ")
-                                                                             .concat(employeeTimesheetDTO.getEmployeeDTO().getMiddleName())
-                                                                             .concat(" ")
-                                                                             .concat(employeeTimesheetDTO.getEmployeeDTO().getLastName())
-                                                                             .concat(employeeTimesheetDTO.getEmployeeDTO().getSuffix() != null ? employeeTimesheetDTO.getEmployeeDTO().getSuffix() : ""))
+        timesheetDTOGrid.addColumn(employeeTimesheetListDTO -> employeeTimesheetListDTO.firstName()
+                                                                                       .concat(" ")
+                                                                                       .concat(employeeTimesheetListDTO.middleName())
+                                                                                       .concat(" ")
+                                                                                       .concat(employeeTimesheetListDTO.lastName())
+                                                                                       .concat(employeeTimesheetListDTO.suffix() != null ? employeeTimesheetListDTO.suffix() : ""))
                         .setHeader("Employee Name")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(EmployeeTimesheetDTO::getLogDate)
+        timesheetDTOGrid.addColumn(EmployeeTimesheetListDTO::logDate)
                         .setHeader("Log Date")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(employeeTimesheetDTO -> employeeTimesheetDTO.getShiftScheduleDTO().getShiftSchedule())
+        timesheetDTOGrid.addColumn(EmployeeTimesheetListDTO::shiftSchedule)
                         .setHeader("Shift Schedule")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(EmployeeTimesheetDTO::getLogTime)
+        timesheetDTOGrid.addColumn(EmployeeTimesheetListDTO::logTime)
                         .setHeader("Log Time")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(EmployeeTimesheetDTO::getLogDetail)
+        timesheetDTOGrid.addColumn(EmployeeTimesheetListDTO::logDetail)
                         .setHeader("Log Detail")
                         .setSortable(true);
-        timesheetDTOGrid.addColumn(new ComponentRenderer<>(HorizontalLayout::new, (layout, employeeTimesheetDTO) -> {
-                            String theme = String.format("badge %s", employeeTimesheetDTO.getStatus().equalsIgnoreCase("APPROVED") ? "success" : "tertiary");
+        timesheetDTOGrid.addColumn(new ComponentRenderer<>(HorizontalLayout::new, (layout, employeeTimesheetListDTO) -> {
+                            String theme = String.format("badge %s", employeeTimesheetListDTO.status().equalsIgnoreCase("APPROVED") ? "success" : "tertiary");
 
                             Span activeSpan = new Span();
                             activeSpan.getElement().setAttribute("theme", theme);
-                            activeSpan.setText(employeeTimesheetDTO.getStatus());
+                            activeSpan.setText(employeeTimesheetListDTO.status());
 
                             layout.setJustifyContentMode(JustifyContentMode.CENTER);
                             layout.add(activeSpan);
@@ -208,4 +264,16 @@ public class PayrollGeneratorView extends VerticalLayout {
 
         return timesheetDTOGrid;
     }
+
+    /**
+     * Sets the approved timesheets of the cut-off as the lazy items of the grid. The grid fetches only the page that
+     * is being shown and gets its size from a count query, so the punches of the whole cut-off are never loaded at once.
+     */
+    private void setApprovedTimesheetItems() {
+        LocalDate cutOffFromDate = cutOffFromDatePicker.getValue();
+        LocalDate cutOffToDate = cutOffToDatePicker.getValue();
+
+        timesheetDTOGrid.setItems(query -> employeeTimesheetService.getTimesheetListByStatus("APPROVED", cutOffFromDate, cutOffToDate, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                  query -> (int) employeeTimesheetService.countTimesheetByStatus("APPROVED", cutOffFromDate, cutOffToDate));
+    }
 }
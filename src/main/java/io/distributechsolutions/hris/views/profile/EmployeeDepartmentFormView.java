@@ -22,7 +22,7 @@ import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeeDepartmentDTO;
 import io.distributechsolutions.hris.services.reference.DepartmentService;
 import io.distributechsolutions.hris.services.profile.EmployeeDepartmentService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.views.MainLayout;
 
@@ -42,7 +42,7 @@ public class EmployeeDepartmentFormView extends VerticalLayout implements HasUrl
     @Resource
     private final EmployeeDepartmentService employeeDepartmentService;
     @Resource
-    private final EmployeeService employeeService;
+    private final EmployeeDirectoryService employeeDirectoryService;
     @Resource
     private final DepartmentService departmentService;
 
@@ -55,10 +55,10 @@ public class EmployeeDepartmentFormView extends VerticalLayout implements HasUrl
     private Checkbox currentDepartmentCheckbox;
 
     public EmployeeDepartmentFormView(EmployeeDepartmentService employeeDepartmentService,
-                                    EmployeeService employeeService,
+                                    EmployeeDirectoryService employeeDirectoryService,
                                     DepartmentService departmentService) {
         this.employeeDepartmentService = employeeDepartmentService;
-        this.employeeService = employeeService;
+        this.employeeDirectoryService = employeeDirectoryService;
         this.departmentService = departmentService;
 
         add(employeeDepartmentDTOFormLayout);
@@ -80,12 +80,9 @@ public class EmployeeDepartmentFormView extends VerticalLayout implements HasUrl
     }
 
     private void buildEmployeeDepartmentFormLayout() {
-        // Create the query object that will do the pagination of employee records in the combo box component.
-        Query<EmployeeDTO, Void> employeeQuery = new Query<>();
-
         employeeDTOComboBox = new ComboBox<>("Employee");
-        employeeDTOComboBox.setItems((employeeDTO, filterString) -> employeeDTO.getEmployeeFullName().toLowerCase().contains(filterString.toLowerCase()),
-                employeeService.getAll(employeeQuery.getPage(), employeeQuery.getPageSize()));
+        employeeDTOComboBox.setItems(query -> employeeDirectoryService.findEmployees(query.getFilter().orElse(""), false, query.getOffset(), query.getLimit()).stream(),
+                                     query -> employeeDirectoryService.countEmployees(query.getFilter().orElse(""), false));
         employeeDTOComboBox.setItemLabelGenerator(EmployeeDTO::getEmployeeFullName);
         employeeDTOComboBox.setClearButtonVisible(true);
         employeeDTOComboBox.setRequired(true);
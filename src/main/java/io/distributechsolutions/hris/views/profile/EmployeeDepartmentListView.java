@@ -20,6 +20,7 @@ import io.distributechsolutions.hris.views.MainLayout;
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN",
@@ -138,7 +139,10 @@ public class EmployeeDepartmentListView extends VerticalLayout {
 
     private void updateEmployeeDepartmentDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            employeeDepartmentDTOGrid.setItems(employeeDepartmentService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            employeeDepartmentDTOGrid.setItems(query -> employeeDepartmentService.findByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                               query -> (int) employeeDepartmentService.countByParameter(searchParameter));
         } else {
             employeeDepartmentDTOGrid.setItems(query -> employeeDepartmentService.getAll(query.getPage(), query.getPageSize()).stream());
         }
@@ -12,13 +12,14 @@ import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 
-import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
+import io.distributechsolutions.hris.dtos.profile.EmployeeListDTO;
 import io.distributechsolutions.hris.services.profile.EmployeeService;
 import io.distributechsolutions.hris.views.MainLayout;
 
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN",
@@ -31,7 +32,7 @@ public class EmployeeListView extends VerticalLayout {
     @Resource
     private final EmployeeService employeeService;
 
-    private Grid<EmployeeDTO> employeeDTOGrid;
+    private Grid<EmployeeListDTO> employeeDTOGrid;
     private TextField searchFilterTextField;
 
     public EmployeeListView(EmployeeService employeeService) {
@@ -64,20 +65,20 @@ public class EmployeeListView extends VerticalLayout {
         return headerToolbarLayout;
     }
 
-    private Grid<EmployeeDTO> buildEmployeeDTOGrid() {
-        employeeDTOGrid = new Grid<>(EmployeeDTO.class, false);
+    private Grid<EmployeeListDTO> buildEmployeeDTOGrid() {
+        employeeDTOGrid = new Grid<>(EmployeeListDTO.class, false);
 
-        employeeDTOGrid.addColumn(EmployeeDTO::getEmployeeNumber)
+        employeeDTOGrid.addColumn(EmployeeListDTO::employeeNumber)
                        .setHeader("Employee No.")
                        .setSortable(true);
-        employeeDTOGrid.addColumn(employeeDTO -> employeeDTO.getFirstName().concat(" ")
-                                                                           .concat(employeeDTO.getMiddleName())
-                                                                           .concat(" ")
-                                                                           .concat(employeeDTO.getLastName())
-                                                                           .concat(employeeDTO.getSuffix() != null ? employeeDTO.getSuffix() : ""))
+        employeeDTOGrid.addColumn(employeeListDTO -> employeeListDTO.firstName().concat(" ")
+                                                                                .concat(employeeListDTO.middleName())
+                                                                                .concat(" ")
+                                                                                .concat(employeeListDTO.lastName())
+                                                                                .concat(employeeListDTO.suffix() != null ? employeeListDTO.suffix() : ""))
                        .setHeader("Employee Name")
                        .setSortable(true);
-        employeeDTOGrid.addColumn(new LocalDateRenderer<>(EmployeeDTO::getDateHired, "MMM dd, yyyy"))
+        employeeDTOGrid.addColumn(new LocalDateRenderer<>(EmployeeListDTO::dateHired, "MMM dd, yyyy"))
                        .setHeader("Date Hired")
                        .setSortable(true);
         employeeDTOGrid.addComponentColumn(userDTO -> buildRowToolbar()).setHeader("Action");
@@ -88,7 +89,7 @@ public class EmployeeListView extends VerticalLayout {
         employeeDTOGrid.setMultiSort(true, Grid.MultiSortPriority.APPEND);
         employeeDTOGrid.setAllRowsVisible(true);
         employeeDTOGrid.setEmptyStateText("No employee records found.");
-        employeeDTOGrid.setItems((query -> employeeService.getAll(query.getPage(), query.getPageSize()).stream()));
+        employeeDTOGrid.setItems((query -> employeeService.getEmployeeList(query.getPage(), query.getPageSize()).stream()));
 
         return employeeDTOGrid;
     }
@@ -102,8 +103,8 @@ public class EmployeeListView extends VerticalLayout {
         viewEmployeeButton.addThemeVariants(ButtonVariant.LUMO_CONTRAST);
         viewEmployeeButton.addClickListener(buttonClickEvent -> viewEmployeeButton.getUI().ifPresent(ui -> {
             if (employeeDTOGrid.getSelectionModel().getFirstSelectedItem().isPresent()) {
-                EmployeeDTO selectedEmployeeDTO = employeeDTOGrid.getSelectionModel().getFirstSelectedItem().get();
-                ui.navigate(EmployeeDetailsView.class, selectedEmployeeDTO.getId().toString());
+                EmployeeListDTO selectedEmployeeListDTO = employeeDTOGrid.getSelectionModel().getFirstSelectedItem().get();
+                ui.navigate(EmployeeDetailsView.class, selectedEmployeeListDTO.id().toString());
             }
         }));
 
@@ -113,8 +114,8 @@ public class EmployeeListView extends VerticalLayout {
         editEmployeeButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY, ButtonVariant.LUMO_SUCCESS);
         editEmployeeButton.addClickListener(buttonClickEvent -> editEmployeeButton.getUI().ifPresent(ui -> {
             if (employeeDTOGrid.getSelectionModel().getFirstSelectedItem().isPresent()) {
-                EmployeeDTO selectedEmployeeDTO = employeeDTOGrid.getSelectionModel().getFirstSelectedItem().get();
-                ui.navigate(EmployeeFormView.class, selectedEmployeeDTO.getId().toString());
+                EmployeeListDTO selectedEmployeeListDTO = employeeDTOGrid.getSelectionModel().getFirstSelectedItem().get();
+                ui.navigate(EmployeeFormView.class, selectedEmployeeListDTO.id().toString());
             }
         }));
 
@@ -124,8 +125,8 @@ public class EmployeeListView extends VerticalLayout {
         documentEmployeeButton.addThemeVariants(ButtonVariant.LUMO_CONTRAST, ButtonVariant.LUMO_PRIMARY);
         documentEmployeeButton.addClickListener(buttonClickEvent -> documentEmployeeButton.getUI().ifPresent(ui -> {
             if (employeeDTOGrid.getSelectionModel().getFirstSelectedItem().isPresent()) {
-                EmployeeDTO selectedEmployeeDTO = employeeDTOGrid.getSelectionModel().getFirstSelectedItem().get();
-                ui.navigate(EmployeeDocumentFormView.class, selectedEmployeeDTO.getId().toString());
+                EmployeeListDTO selectedEmployeeListDTO = employeeDTOGrid.getSelectionModel().getFirstSelectedItem().get();
+                ui.navigate(EmployeeDocumentFormView.class, selectedEmployeeListDTO.id().toString());
             }
         }));
 
@@ -138,9 +139,12 @@ public class EmployeeListView extends VerticalLayout {
 
     private void updateEmployeeDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            employeeDTOGrid.setItems(employeeService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            employeeDTOGrid.setItems(query -> employeeService.findEmployeeListByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                     query -> (int) employeeService.countByParameter(searchParameter));
         } else {
-            employeeDTOGrid.setItems(query -> employeeService.getAll(query.getPage(), query.getPageSize()).stream());
+            employeeDTOGrid.setItems(query -> employeeService.getEmployeeList(query.getPage(), query.getPageSize()).stream());
         }
     }
 }
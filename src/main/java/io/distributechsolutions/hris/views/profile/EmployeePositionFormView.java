@@ -18,7 +18,7 @@ import io.distributechsolutions.hris.dtos.profile.EmployeeDTO;
 import io.distributechsolutions.hris.dtos.profile.EmployeePositionDTO;
 import io.distributechsolutions.hris.services.reference.PositionService;
 import io.distributechsolutions.hris.services.profile.EmployeePositionService;
-import io.distributechsolutions.hris.services.profile.EmployeeService;
+import io.distributechsolutions.hris.services.profile.EmployeeDirectoryService;
 import io.distributechsolutions.hris.utils.SecurityUtil;
 import io.distributechsolutions.hris.views.MainLayout;
 
@@ -38,7 +38,7 @@ public class EmployeePositionFormView extends VerticalLayout implements HasUrlPa
     @Resource
     private final EmployeePositionService employeePositionService;
     @Resource
-    private final EmployeeService employeeService;
+    private final EmployeeDirectoryService employeeDirectoryService;
     @Resource
     private final PositionService positionService;
 
@@ -51,10 +51,10 @@ public class EmployeePositionFormView extends VerticalLayout implements HasUrlPa
     private Checkbox currentPositionCheckbox;
 
     public EmployeePositionFormView(EmployeePositionService employeePositionService,
-                                    EmployeeService employeeService,
+                                    EmployeeDirectoryService employeeDirectoryService,
                                     PositionService positionService) {
         this.employeePositionService = employeePositionService;
-        this.employeeService = employeeService;
+        this.employeeDirectoryService = employeeDirectoryService;
         this.positionService = positionService;
 
         add(employeePositionDTOFormLayout);
@@ -76,12 +76,9 @@ public class EmployeePositionFormView extends VerticalLayout implements HasUrlPa
     }
 
     private void buildEmployeePositionFormLayout() {
-        // Create the query object that will do the pagination of employee records in the combo box component.
-        Query<EmployeeDTO, Void> employeeQuery = new Query<>();
-
         employeeDTOComboBox = new ComboBox<>("Employee");
-        employeeDTOComboBox.setItems((employeeDTO, filterString) -> employeeDTO.getEmployeeFullName().toLowerCase().contains(filterString.toLowerCase()),
-                employeeService.getAll(employeeQuery.getPage(), employeeQuery.getPageSize()));
+        employeeDTOComboBox.setItems(query -> employeeDirectoryService.findEmployees(query.getFilter().orElse(""), false, query.getOffset(), query.getLimit()).stream(),
+                                     query -> employeeDirectoryService.countEmployees(query.getFilter().orElse(""), false));
         employeeDTOComboBox.setItemLabelGenerator(EmployeeDTO::getEmployeeFullName);
         employeeDTOComboBox.setClearButtonVisible(true);
         employeeDTOComboBox.setRequired(true);
@@ -20,6 +20,7 @@ import io.distributechsolutions.hris.views.MainLayout;
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN",
@@ -137,7 +138,10 @@ public class EmployeePositionListView extends VerticalLayout {
 
     private void updateEmployeePositionDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            employeePositionDTOGrid.setItems(employeePositionService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            employeePositionDTOGrid.setItems(query -> employeePositionService.findByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                             query -> (int) employeePositionService.countByParameter(searchParameter));
         } else {
             employeePositionDTOGrid.setItems(query -> employeePositionService.getAll(query.getPage(), query.getPageSize()).stream());
         }
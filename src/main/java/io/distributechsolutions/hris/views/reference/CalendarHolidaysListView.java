@@ -19,6 +19,7 @@ import io.distributechsolutions.hris.views.MainLayout;
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 import java.time.format.DateTimeFormatter;
@@ -119,7 +120,10 @@ public class CalendarHolidaysListView extends VerticalLayout {
 
     private void updateCalendarHolidaysDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            calendarHolidaysDTOGrid.setItems(calendarHolidaysService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            calendarHolidaysDTOGrid.setItems(query -> calendarHolidaysService.findByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                             query -> (int) calendarHolidaysService.countByParameter(searchParameter));
         } else {
             calendarHolidaysDTOGrid.setItems(query -> calendarHolidaysService.getAll(query.getPage(), query.getPageSize()).stream());
         }
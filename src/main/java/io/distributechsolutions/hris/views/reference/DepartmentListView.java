@@ -19,6 +19,7 @@ import io.distributechsolutions.hris.views.MainLayout;
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN", "ROLE_HR_MANAGER", "ROLE_HR_SUPERVISOR"})
@@ -112,7 +113,10 @@ public class DepartmentListView extends VerticalLayout {
 
     private void updateDepartmentDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            departmentDTOGrid.setItems(departmentService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            departmentDTOGrid.setItems(query -> departmentService.findByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                       query -> (int) departmentService.countByParameter(searchParameter));
         } else {
             departmentDTOGrid.setItems(query -> departmentService.getAll(query.getPage(), query.getPageSize()).stream());
         }
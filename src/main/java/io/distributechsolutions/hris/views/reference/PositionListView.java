@@ -19,6 +19,7 @@ import io.distributechsolutions.hris.views.MainLayout;
 import jakarta.annotation.Resource;
 
 import jakarta.annotation.security.RolesAllowed;
+import org.springframework.data.domain.PageRequest;
 import org.vaadin.lineawesome.LineAwesomeIcon;
 
 @RolesAllowed({"ROLE_ADMIN", "ROLE_HR_MANAGER", "ROLE_HR_SUPERVISOR"})
@@ -112,7 +113,10 @@ public class PositionListView extends VerticalLayout {
 
     private void updatePositionDTOGrid() {
         if (searchFilterTextField.getValue() != null || searchFilterTextField.getValue().isBlank()) {
-            positionDTOGrid.setItems(positionService.findByParameter(searchFilterTextField.getValue()));
+            String searchParameter = searchFilterTextField.getValue();
+
+            positionDTOGrid.setItems(query -> positionService.findByParameter(searchParameter, PageRequest.of(query.getPage(), query.getPageSize())).stream(),
+                                     query -> (int) positionService.countByParameter(searchParameter));
         } else {
             positionDTOGrid.setItems(query -> positionService.getAll(query.getPage(), query.getPageSize()).stream());
         }